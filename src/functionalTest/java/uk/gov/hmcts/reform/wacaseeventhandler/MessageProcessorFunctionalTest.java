@@ -134,7 +134,7 @@ public class MessageProcessorFunctionalTest extends MessagingTests {
 
     /**
      * SQL query to lock and retrieve the next case event message.
-     * CaseEventMessageRepository.LOCK_AND_GET_NEXT_MESSAGE_SQL
+     * CaseEventMessageRepository.READY_TO_PROCESS_CRITERIA
      * or exists (select 1 from wa_case_event_messages d "
      *     where d.event_timestamp > msg.event_timestamp + interval '30 minutes' "
      *     and not d.from_dlq "
@@ -194,7 +194,7 @@ public class MessageProcessorFunctionalTest extends MessagingTests {
 
     /**
      * SQL query to find the next message for a case with a more recent event timestamp.
-     * CaseEventMessageRepository.LOCK_AND_GET_NEXT_MESSAGE_SQL
+     * CaseEventMessageRepository.READY_TO_PROCESS_CRITERIA
      * exists (select 1 from wa_case_event_messages d "
      *     where d.case_id = msg.case_id "
      *     and d.event_timestamp > msg.event_timestamp "
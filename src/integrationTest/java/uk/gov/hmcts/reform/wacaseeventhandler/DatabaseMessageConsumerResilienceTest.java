@@ -21,6 +21,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.executors.CcdMessageProcessorExecutor;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.ClaimedMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.DeadLetterQueuePeekService;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -28,6 +29,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 
@@ -60,6 +62,8 @@ public class DatabaseMessageConsumerResilienceTest {
     private DeadLetterQueuePeekService deadLetterQueuePeekService;
     @MockBean
     CaseEventMessageRepository caseEventMessageRepository;
+    @MockBean
+    ClaimedMessageRepository claimedMessageRepository;
     @Mock
     private PlatformTransactionManager platformTransactionManager;
     @Mock
@@ -86,8 +90,8 @@ public class DatabaseMessageConsumerResilienceTest {
     void should_handle_database_outage_and_log_issue_when_database_message_consumer_running(CapturedOutput output) {
 
         doThrow(new JDBCConnectionException("An error occurred when running database message consumer.", null))
-            .when(caseEventMessageRepository)
-            .getNextAvailableMessageReadyToProcess();
+            .when(claimedMessageRepository)
+            .claimNextMessagesReadyToProcess(anyInt(), anyInt());
 
         await().ignoreException(Exception.class)
             .pollInterval(5, SECONDS)
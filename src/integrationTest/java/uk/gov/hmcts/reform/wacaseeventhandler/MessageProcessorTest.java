@@ -34,6 +34,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.DatabaseMessageConsumer;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.LaunchDarklyFeatureFlagProvider;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventMessageQueryResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.CcdEventProcessor;
@@ -98,7 +99,7 @@ class MessageProcessorTest {
     private ListAppender<ILoggingEvent> listAppender;
 
     @Captor
-    private ArgumentCaptor<CaseEventMessage> messageArgumentCaptor;
+    private ArgumentCaptor<ClaimedMessage> messageArgumentCaptor;
 
     private static final String STATE_TEMPLATE = "states=%s";
 
@@ -136,9 +137,9 @@ class MessageProcessorTest {
 
         await()
             .atMost(20, SECONDS)
-            .untilAsserted(() -> verify(ccdEventProcessor, never()).processMessage(any(CaseEventMessage.class)));
+            .untilAsserted(() -> verify(ccdEventProcessor, never()).processMessage(any(ClaimedMessage.class)));
 
-        verify(ccdEventProcessor, never()).processMessage(any(CaseEventMessage.class));
+        verify(ccdEventProcessor, never()).processMessage(any(ClaimedMessage.class));
         assertTrue(getMessagesInDbFromQuery(READY_STATE_QUERY).isEmpty());
     }
 
@@ -149,10 +150,10 @@ class MessageProcessorTest {
         await()
             .atMost(20, SECONDS)
             .untilAsserted(
-                () -> assertLogMessageContains("Selecting next message for processing from the database")
+                () -> assertLogMessageContains("Selecting next messages for processing from the database")
             );
 
-        verify(ccdEventProcessor, never()).processMessage(any(CaseEventMessage.class));
+        verify(ccdEventProcessor, never()).processMessage(any(ClaimedMessage.class));
         assertTrue(getMessagesInDbFromQuery(READY_STATE_QUERY).isEmpty());
     }
 
@@ -164,10 +165,10 @@ class MessageProcessorTest {
         await()
                 .atMost(20, SECONDS)
                 .untilAsserted(() ->
-                    assertLogMessageContains("Selecting next message for processing from the database")
+                    assertLogMessageContains("Selecting next messages for processing from the database")
             );
 
-        verify(ccdEventProcessor, never()).processMessage(any(CaseEventMessage.class));
+        verify(ccdEventProcessor, never()).processMessage(any(ClaimedMessage.class));
         assertTrue(getMessagesInDbFromQuery(READY_STATE_QUERY).isEmpty());
     }
 
@@ -190,7 +191,7 @@ class MessageProcessorTest {
 
         doThrow(retryableFeignException)
                 .when(ccdEventProcessor)
-                .processMessage(any(CaseEventMessage.class));
+                .processMessage(any(ClaimedMessage.class));
         await()
                 .atMost(20, SECONDS)
                 .untilAsserted(() -> {
@@ -208,7 +209,7 @@ class MessageProcessorTest {
     @MethodSource("exceptionProvider")
     void should_set_message_state_to_unprocessable_when_non_retryable_error_occurs(Class<? extends Throwable> ex)
         throws JsonProcessingException {
-        doThrow(ex).when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        doThrow(ex).when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         await().atMost(20, SECONDS)
             .untilAsserted(() -> {
                     assertLogMessageContains(format("Processing message with id: %s and caseId: %s from the database",
@@ -230,7 +231,7 @@ class MessageProcessorTest {
                 "classpath:sql/insert_case_event_messages_for_processing_ready_msgs.sql"})
     @Test
     void should_set_message_state_to_unprocessable_when_exception_occurs() throws JsonProcessingException {
-        doThrow(JsonProcessingException.class).when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        doThrow(JsonProcessingException.class).when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         await().atMost(20, SECONDS)
             .untilAsserted(() -> {
                     assertLogMessageContains(format("Processing message with id: %s and caseId: %s from the database",
@@ -245,7 +246,7 @@ class MessageProcessorTest {
                 "classpath:sql/insert_case_event_messages_for_processing_ready_msgs.sql"})
     @Test
     void should_set_message_state_to_processed_when_message_processed_succesfully() throws JsonProcessingException {
-        doNothing().when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        doNothing().when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         await().atMost(20, SECONDS)
             .untilAsserted(() -> {
                     assertLogMessageContains(format("Processing message with id: %s and caseId: %s from the database",
@@ -261,7 +262,7 @@ class MessageProcessorTest {
     @Test
     void should_set_message_state_to_processed_when_message_exist_ltr_than_30min_and_dlq_message_processed_succesfully()
         throws JsonProcessingException {
-        doNothing().when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        doNothing().when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         await().atMost(20, SECONDS)
             .untilAsserted(() -> {
                     assertLogMessageContains(format("Processing message with id: %s and caseId: %s from the database",
@@ -277,7 +278,7 @@ class MessageProcessorTest {
     @Test
     void should_set_message_state_to_processed_when_message_exist_with_same_case_id_and_dlq_message_processed()
         throws JsonProcessingException {
-        doNothing().when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        doNothing().when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         await().atMost(20, SECONDS)
             .untilAsserted(() -> {
                     assertLogMessageContains(format("Processing message with id: %s and caseId: %s from the database",
@@ -294,7 +295,7 @@ class MessageProcessorTest {
     void should_set_lock_message_row_on_selection_to_Process_and_should_not_return_the_same_message_to_another_process()
         throws JsonProcessingException {
         doAnswer(new AnswersWithDelay(5000, invocation -> null))
-            .when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+            .when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
 
         final ExecutorService executorService = Executors.newFixedThreadPool(2);
         executorService.execute(databaseMessageConsumer);
@@ -310,7 +311,7 @@ class MessageProcessorTest {
 
         verify(ccdEventProcessor, times(2)).processMessage(messageArgumentCaptor.capture());
         Set<String> messageIds = messageArgumentCaptor.getAllValues().stream()
-            .map(CaseEventMessage::getCaseId)
+            .map(ClaimedMessage::caseId)
             .collect(Collectors.toSet());
         assertEquals(2, messageIds.size());
 
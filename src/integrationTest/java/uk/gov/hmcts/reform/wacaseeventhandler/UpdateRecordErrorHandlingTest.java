@@ -23,6 +23,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.TransactionTimedOutException;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.executors.CcdMessageProcessorExecutor;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventMessageQueryResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
@@ -90,7 +91,7 @@ public class UpdateRecordErrorHandlingTest {
     @Test
     void should_set_message_state_to_processed_when_message_update_failed_in_first_time()
         throws JsonProcessingException {
-        doNothing().when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        doNothing().when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         doThrow(new TransactionTimedOutException("Time out")).when(caseEventMessageRepository)
             .updateMessageState(eq(MessageState.PROCESSED), Mockito.<String>anyList());
         await()
@@ -110,7 +111,7 @@ public class UpdateRecordErrorHandlingTest {
             .RetryableFeignException(504, "Gateway Timeout");
         doThrow(retryableFeignException)
             .when(ccdEventProcessor)
-            .processMessage(any(CaseEventMessage.class));
+            .processMessage(any(ClaimedMessage.class));
         doThrow(new TransactionTimedOutException("Time out")).when(caseEventMessageRepository)
             .updateMessageWithRetryDetails(eq(1), any(LocalDateTime.class), eq(MESSAGE_ID));
 
@@ -131,7 +132,7 @@ public class UpdateRecordErrorHandlingTest {
         throws JsonProcessingException {
         String caseId = "9140931237014412";
 
-        doNothing().when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        doNothing().when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         doThrow(new TransactionTimedOutException("Time out")).when(caseEventMessageRepository)
             .updateMessageState(eq(MessageState.PROCESSED), Mockito.<String>anyList());
 
@@ -148,7 +149,7 @@ public class UpdateRecordErrorHandlingTest {
             "classpath:sql/insert_case_event_messages_for_processing_ready_msgs.sql"})
     @Test
     void should_set_message_state_to_unprocessable_when_non_retryable_error_occurs() throws JsonProcessingException {
-        doThrow(FeignException.NotFound.class).when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        doThrow(FeignException.NotFound.class).when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         doThrow(new TransactionTimedOutException("Time out")).when(caseEventMessageRepository)
             .updateMessageState(eq(MessageState.UNPROCESSABLE), Mockito.<String>anyList());
         await()
@@ -15,14 +15,17 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.DatabaseMessageConsumer;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.LaunchDarklyFeatureFlagProvider;
-import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.ClaimedMessageRepository;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
@@ -34,7 +37,7 @@ class CcdMessageProcessorExecutorTest {
 
     private static final String CASE_ID = "case id";
 
-    private static final String SELECT_LOG_MESSAGE = "Selecting next message for processing from the database";
+    private static final String SELECT_LOG_MESSAGE = "Selecting next messages for processing from the database";
 
     private static final String PROCESS_LOG_MESSAGE = "Processing message with id: "
         + MESSAGE_ID + " and caseId: " + CASE_ID + " from the database";
@@ -45,6 +48,9 @@ class CcdMessageProcessorExecutorTest {
     @MockBean
     private CaseEventMessageRepository caseEventMessageRepository;
 
+    @MockBean
+    private ClaimedMessageRepository claimedMessageRepository;
+
     @MockBean
     private LaunchDarklyFeatureFlagProvider featureFlagProvider;
 
@@ -63,10 +69,10 @@ class CcdMessageProcessorExecutorTest {
 
         logger.addAppender(listAppender);
 
-        CaseEventMessageEntity caseEventMessageEntity = new CaseEventMessageEntity();
-        caseEventMessageEntity.setMessageId(MESSAGE_ID);
-        caseEventMessageEntity.setCaseId(CASE_ID);
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess()).thenReturn(caseEventMessageEntity);
+        ClaimedMessage claimedMessage =
+            new ClaimedMessage(MESSAGE_ID, CASE_ID, MessageState.READY, 0, null, "messageContent", null, null);
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(claimedMessage));
         when(featureFlagProvider.getBooleanValue(any(), any())).thenReturn(true);
         lenient().when(telemetryContext.getOperation()).thenReturn(operationContext);
     }
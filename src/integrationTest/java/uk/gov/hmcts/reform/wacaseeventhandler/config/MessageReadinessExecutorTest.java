@@ -12,7 +12,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.MessageReadinessConsumer;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.executors.MessageReadinessExecutor;
-import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.DeadLetterQueuePeekService;
 
@@ -27,7 +26,7 @@ class MessageReadinessExecutorTest {
 
     private static final String MESSAGE_ID = "message id";
 
-    private static final String PROCESS_LOG_MESSAGE = "Updating following message to READY state " + MESSAGE_ID;
+    private static final String PROCESS_LOG_MESSAGE = "Moved 1 messages to READY state";
 
     private ListAppender<ILoggingEvent> listAppender;
 
@@ -46,25 +45,21 @@ class MessageReadinessExecutorTest {
 
         logger.addAppender(listAppender);
 
-        CaseEventMessageEntity caseEventMessageEntity = new CaseEventMessageEntity();
-        caseEventMessageEntity.setMessageId(MESSAGE_ID);
-        when(caseEventMessageRepository.getAllMessagesInNewState()).thenReturn(List.of(caseEventMessageEntity));
+        when(caseEventMessageRepository.getNumberOfMessagesInNewState()).thenReturn(1);
     }
 
     @Test
     void should_create_executor_that_repeatedly_calls_message_readiness_consumer() {
         MessageReadinessExecutor messageReadinessExecutor = new MessageReadinessExecutor();
         MessageReadinessConsumer messageReadinessConsumer =
-                new MessageReadinessConsumer(deadLetterQueuePeekService, caseEventMessageRepository);
+                new MessageReadinessConsumer(deadLetterQueuePeekService, caseEventMessageRepository, 1000);
         ReflectionTestUtils.setField(messageReadinessExecutor, "messageReadinessConsumer",
                                      messageReadinessConsumer);
         ReflectionTestUtils.setField(messageReadinessExecutor, "messageReadinessExecutorService",
                                      Executors.newScheduledThreadPool(1));
         ReflectionTestUtils.setField(messageReadinessExecutor, "pollInterval", 2);
 
-        CaseEventMessageEntity caseEventMessageEntity = new CaseEventMessageEntity();
-        caseEventMessageEntity.setMessageId(MESSAGE_ID);
-        when(caseEventMessageRepository.getAllMessagesInNewState()).thenReturn(List.of(caseEventMessageEntity));
+        when(caseEventMessageRepository.promoteNewMessagesToReady(1000)).thenReturn(List.of(MESSAGE_ID));
         when(deadLetterQueuePeekService.isDeadLetterQueueEmpty()).thenReturn(true);
         messageReadinessExecutor.start();
 
@@ -15,6 +15,9 @@ import uk.gov.hmcts.reform.wacaseeventhandler.handlers.InitiationCaseEventHandle
 import uk.gov.hmcts.reform.wacaseeventhandler.handlers.ReconfigurationCaseEventHandler;
 import uk.gov.hmcts.reform.wacaseeventhandler.handlers.WarningCaseEventHandler;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.EventMessageReceiverService;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.CaseEventHandlerPipeline;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,10 +27,12 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
 
 @SpringBootTest(classes = {
     CaseEventHandlerController.class,
+    CaseEventHandlerPipeline.class,
     CancellationCaseEventHandler.class,
     InitiationCaseEventHandler.class,
     WarningCaseEventHandler.class,
@@ -51,6 +56,9 @@ class CaseEventHandlerControllerHandlersOrderTest {
     @MockBean
     private EventMessageReceiverService eventMessageReceiverService;
 
+    @MockBean
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
+
     @Autowired
     private CaseEventHandlerController controller;
 
@@ -58,8 +66,6 @@ class CaseEventHandlerControllerHandlersOrderTest {
     void given_message_then_apply_handlers_in_order() {
 
         DmnValue<String> cancelAction = dmnStringValue("Cancel");
-        DmnValue<String> warnAction = dmnStringValue("Warn");
-        DmnValue<String> reconfigureAction = dmnStringValue("Reconfigure");
         DmnValue<String> taskCategory = dmnStringValue("Time extension");
 
         EvaluateDmnResponse<CancellationEvaluateResponse> cancellationDmnResponse =
@@ -67,27 +73,13 @@ class CaseEventHandlerControllerHandlersOrderTest {
                 cancelAction, null, null, taskCategory, null)));
 
         doReturn(cancellationDmnResponse.getResults())
-            .when(cancellationTaskHandlerService).evaluateDmn(any(EventInformation.class));
-
-        EvaluateDmnResponse<CancellationEvaluateResponse> warningDmnResponse =
-            new EvaluateDmnResponse<>(List.of(new CancellationEvaluateResponse(
-                warnAction, null, null, taskCategory, null)));
-
-        doReturn(warningDmnResponse.getResults())
-            .when(warningTaskHandlerService).evaluateDmn(any(EventInformation.class));
-
-        EvaluateDmnResponse<CancellationEvaluateResponse> reconfigureDmnResponse =
-            new EvaluateDmnResponse<>(List.of(new CancellationEvaluateResponse(
-                reconfigureAction, null, null, taskCategory, null)));
-
-        doReturn(cancellationDmnResponse.getResults())
-            .when(reconfigurationHandlerService).evaluateDmn(any(EventInformation.class));
+            .when(cancellationDmnEvaluator).evaluate(any(EventProcessingContext.class));
 
         EvaluateDmnResponse<InitiateEvaluateResponse> initiationDmnResponse =
             new EvaluateDmnResponse<>(List.of(InitiateEvaluateResponse.builder().build()));
 
         doReturn(initiationDmnResponse.getResults())
-            .when(initiationTaskHandlerService).evaluateDmn(any(EventInformation.class));
+            .when(initiationTaskHandlerService).evaluateDmn(any(EventProcessingContext.class));
 
 
         EventInformation eventInformation = EventInformation.builder()
@@ -99,6 +91,7 @@ class CaseEventHandlerControllerHandlersOrderTest {
             .build();
 
         controller.caseEventHandler(eventInformation);
+        EventProcessingContext context = new EventProcessingContext(eventInformation);
 
         InOrder inOrder = inOrder(
             cancellationTaskHandlerService,
@@ -108,17 +101,12 @@ class CaseEventHandlerControllerHandlersOrderTest {
         );
 
 
-        inOrder.verify(cancellationTaskHandlerService).evaluateDmn(any(EventInformation.class));
-        inOrder.verify(cancellationTaskHandlerService).handle(anyList(), eq(eventInformation));
-
-        inOrder.verify(warningTaskHandlerService).evaluateDmn(any(EventInformation.class));
-        inOrder.verify(warningTaskHandlerService).handle(anyList(), eq(eventInformation));
-
-        inOrder.verify(reconfigurationHandlerService).evaluateDmn(any(EventInformation.class));
-        inOrder.verify(reconfigurationHandlerService).handle(anyList(), eq(eventInformation));
-
-        inOrder.verify(initiationTaskHandlerService).evaluateDmn(any(EventInformation.class));
-        inOrder.verify(initiationTaskHandlerService).handle(anyList(), eq(eventInformation));
+        inOrder.verify(cancellationTaskHandlerService).handle(anyList(), eq(context));
+        inOrder.verify(warningTaskHandlerService).handle(anyList(), eq(context));
+        inOrder.verify(reconfigurationHandlerService).handle(anyList(), eq(context));
+        inOrder.verify(initiationTaskHandlerService).handle(anyList(), eq(context));
 
+        verify(cancellationDmnEvaluator).evaluate(context);
+        verify(initiationTaskHandlerService).evaluateDmn(context);
     }
 }
@@ -23,19 +23,22 @@ import uk.gov.hmcts.reform.wacaseeventhandler.services.DueDateService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.IdempotencyKeyGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.calendar.DelayUntilConfigurator;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.calendar.DelayUntilRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.dates.IsoDateFormatter;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnEvaluationService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates.HolidayService;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,6 +54,7 @@ class InitiationCaseEventHandlerForDelayUntilTest {
     private static final String SERVICE_AUTH_TOKEN = "s2s token";
     private static final String INITIATE_TASK_MESSAGE_NAME = "createTaskMessage";
     private static final String EVENT_DATE = "2022-07-19T09:00:00.000000";
+    private static final LocalDate HOLIDAY = LocalDate.of(2022, 7, 21);
     private String eventInstanceId;
 
     @Mock
@@ -64,10 +68,6 @@ class InitiationCaseEventHandlerForDelayUntilTest {
     @Mock
     private ObjectMapper objectMapper;
 
-
-    @Mock
-    HolidayService holidayService;
-
     @Captor
     private ArgumentCaptor<SendMessageRequest> sendMessageRequestCaptor;
 
@@ -79,11 +79,13 @@ class InitiationCaseEventHandlerForDelayUntilTest {
 
     @BeforeEach
     void setup() {
-        dueDateService = new DueDateService(holidayService);
+        dueDateService = new DueDateService(new HolidayService(List.of(HOLIDAY)));
 
         initiationTaskHandlerService = new InitiationCaseEventHandler(
             serviceAuthGenerator,
             workflowApiClient,
+            new DmnEvaluationService(
+                serviceAuthGenerator, workflowApiClient, Optional.empty(), Optional.empty(), Optional.empty()),
             idempotencyKeyGenerator,
             isoDateFormatter,
             dueDateService,
@@ -92,8 +94,6 @@ class InitiationCaseEventHandlerForDelayUntilTest {
         );
 
         eventInstanceId = UUID.randomUUID().toString();
-
-        when(holidayService.isWeekend(any(ZonedDateTime.class))).thenCallRealMethod();
     }
 
     @DisplayName(" (No delayDuration, No delayUntil)")
@@ -120,12 +120,6 @@ class InitiationCaseEventHandlerForDelayUntilTest {
         when(isoDateFormatter.formatToZone(LocalDateTime.parse(EVENT_DATE)))
             .thenReturn(eventDateTime);
 
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration)))
-            .thenReturn(true);
-
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration + 1)))
-            .thenReturn(false);
-
         when(serviceAuthGenerator.generate())
             .thenReturn(SERVICE_AUTH_TOKEN);
 
@@ -142,7 +136,7 @@ class InitiationCaseEventHandlerForDelayUntilTest {
 
         List<InitiateEvaluateResponse> results = List.of(initiateEvaluateResponse);
 
-        initiationTaskHandlerService.handle(results, eventInformation);
+        initiationTaskHandlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, Mockito.times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -183,12 +177,6 @@ class InitiationCaseEventHandlerForDelayUntilTest {
         when(isoDateFormatter.formatToZone(LocalDateTime.parse(EVENT_DATE)))
             .thenReturn(eventDateTime);
 
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration)))
-            .thenReturn(true);
-
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration + 1)))
-            .thenReturn(false);
-
         when(serviceAuthGenerator.generate())
             .thenReturn(SERVICE_AUTH_TOKEN);
 
@@ -205,7 +193,7 @@ class InitiationCaseEventHandlerForDelayUntilTest {
 
         List<InitiateEvaluateResponse> results = List.of(initiateEvaluateResponse);
 
-        initiationTaskHandlerService.handle(results, eventInformation);
+        initiationTaskHandlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, Mockito.times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -253,12 +241,6 @@ class InitiationCaseEventHandlerForDelayUntilTest {
         when(isoDateFormatter.formatToZone(LocalDateTime.parse(EVENT_DATE)))
             .thenReturn(eventDateTime);
 
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration)))
-            .thenReturn(true);
-
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration + 1)))
-            .thenReturn(false);
-
         when(serviceAuthGenerator.generate())
             .thenReturn(SERVICE_AUTH_TOKEN);
 
@@ -275,7 +257,7 @@ class InitiationCaseEventHandlerForDelayUntilTest {
 
         List<InitiateEvaluateResponse> results = List.of(initiateEvaluateResponse);
 
-        initiationTaskHandlerService.handle(results, eventInformation);
+        initiationTaskHandlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, Mockito.times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -319,12 +301,6 @@ class InitiationCaseEventHandlerForDelayUntilTest {
         when(isoDateFormatter.formatToZone(LocalDateTime.parse(EVENT_DATE)))
             .thenReturn(eventDateTime);
 
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration)))
-            .thenReturn(true);
-
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration + 1)))
-            .thenReturn(false);
-
         when(serviceAuthGenerator.generate())
             .thenReturn(SERVICE_AUTH_TOKEN);
 
@@ -341,7 +317,7 @@ class InitiationCaseEventHandlerForDelayUntilTest {
 
         List<InitiateEvaluateResponse> results = List.of(initiateEvaluateResponse);
 
-        initiationTaskHandlerService.handle(results, eventInformation);
+        initiationTaskHandlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, Mockito.times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
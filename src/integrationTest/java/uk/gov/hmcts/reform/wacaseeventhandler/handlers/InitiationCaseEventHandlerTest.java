@@ -19,19 +19,22 @@ import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformatio
 import uk.gov.hmcts.reform.wacaseeventhandler.services.DueDateService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.IdempotencyKeyGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.calendar.DelayUntilConfigurator;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.dates.IsoDateFormatter;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnEvaluationService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates.HolidayService;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,6 +48,7 @@ class InitiationCaseEventHandlerTest {
     private static final String SERVICE_AUTH_TOKEN = "s2s token";
     private static final String INITIATE_TASK_MESSAGE_NAME = "createTaskMessage";
     private static final String EVENT_DATE = "2022-07-19T09:00:00.000000";
+    private static final LocalDate HOLIDAY = LocalDate.of(2022, 7, 21);
     private String eventInstanceId;
 
     @Mock
@@ -61,9 +65,6 @@ class InitiationCaseEventHandlerTest {
     @Mock
     private DelayUntilConfigurator delayUntilConfigurator;
 
-    @Mock
-    HolidayService holidayService;
-
     @Captor
     private ArgumentCaptor<SendMessageRequest> sendMessageRequestCaptor;
 
@@ -73,11 +74,13 @@ class InitiationCaseEventHandlerTest {
 
     @BeforeEach
     void setup() {
-        dueDateService = new DueDateService(holidayService);
+        dueDateService = new DueDateService(new HolidayService(List.of(HOLIDAY)));
 
         initiationTaskHandlerService = new InitiationCaseEventHandler(
             serviceAuthGenerator,
             workflowApiClient,
+            new DmnEvaluationService(
+                serviceAuthGenerator, workflowApiClient, Optional.empty(), Optional.empty(), Optional.empty()),
             idempotencyKeyGenerator,
             isoDateFormatter,
             dueDateService,
@@ -86,8 +89,6 @@ class InitiationCaseEventHandlerTest {
         );
 
         eventInstanceId = UUID.randomUUID().toString();
-
-        when(holidayService.isWeekend(any(ZonedDateTime.class))).thenCallRealMethod();
     }
 
     @Test
@@ -112,10 +113,6 @@ class InitiationCaseEventHandlerTest {
         when(isoDateFormatter.formatToZone(LocalDateTime.parse(EVENT_DATE)))
             .thenReturn(eventDateTime);
 
-        when(holidayService.isHoliday(any(ZonedDateTime.class))).thenReturn(false);
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration)))
-            .thenReturn(true);
-
         when(serviceAuthGenerator.generate())
             .thenReturn(SERVICE_AUTH_TOKEN);
 
@@ -132,7 +129,7 @@ class InitiationCaseEventHandlerTest {
 
         List<InitiateEvaluateResponse> results = List.of(initiateEvaluateResponse);
 
-        initiationTaskHandlerService.handle(results, eventInformation);
+        initiationTaskHandlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, Mockito.times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
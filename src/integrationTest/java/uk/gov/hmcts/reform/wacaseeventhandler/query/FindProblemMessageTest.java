@@ -15,8 +15,10 @@ import org.springframework.test.context.jdbc.Sql;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageMapper;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.jobservices.FindProblemMessageJob;
 
 import java.time.LocalDateTime;
@@ -24,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.Mockito.mock;
 
 
 @ActiveProfiles("integration")
@@ -35,7 +38,8 @@ public class FindProblemMessageTest {
 
 
     private final ObjectMapper objectMapper =  new ObjectMapper();
-    private final CaseEventMessageMapper caseEventMessageMapper = new CaseEventMessageMapper(objectMapper);
+    private final CaseEventMessageMapper caseEventMessageMapper = new CaseEventMessageMapper(
+        objectMapper, mock(CaseEventMessageParser.class), mock(CaseEventMessageDefinitionRepository.class));
 
     @Autowired
     private CaseEventMessageRepository caseEventMessageRepository;
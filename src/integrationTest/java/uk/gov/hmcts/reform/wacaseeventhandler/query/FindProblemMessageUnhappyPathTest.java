@@ -11,12 +11,16 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageMapper;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.jobservices.FindProblemMessageJob;
 
 import java.util.List;
 
+import static org.mockito.Mockito.mock;
+
 
 @ActiveProfiles("integration")
 @DataJpaTest
@@ -27,7 +31,8 @@ public class FindProblemMessageUnhappyPathTest {
     @Mock
     private ObjectMapper objectMapper;
 
-    private final CaseEventMessageMapper caseEventMessageMapper =  new CaseEventMessageMapper(objectMapper);
+    private final CaseEventMessageMapper caseEventMessageMapper =  new CaseEventMessageMapper(
+        objectMapper, mock(CaseEventMessageParser.class), mock(CaseEventMessageDefinitionRepository.class));
 
     @Autowired
     private CaseEventMessageRepository caseEventMessageRepository;
@@ -13,8 +13,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.jobs.JobName;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageMapper;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.jobservices.FindProblemMessageJob;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.jobservices.ProblemMessageService;
 
@@ -23,6 +25,7 @@ import java.util.List;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
 
 @SpringBootTest
 @ActiveProfiles("integration")
@@ -45,7 +48,8 @@ class ProblemMessageServiceTest {
     void setUp() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.configure(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION.mappedFeature(), true);
-        CaseEventMessageMapper caseEventMessageMapper = new CaseEventMessageMapper(objectMapper);
+        CaseEventMessageMapper caseEventMessageMapper = new CaseEventMessageMapper(
+            objectMapper, mock(CaseEventMessageParser.class), mock(CaseEventMessageDefinitionRepository.class));
         FindProblemMessageJob findProblemMessageJob = new FindProblemMessageJob(
             caseEventMessageRepository,
             caseEventMessageMapper,
@@ -17,6 +17,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.job.CleanUpJobConfiguration;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.jobservices.CleanUpMessageJob;
 
@@ -27,7 +28,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 @Slf4j
 @ActiveProfiles("integration")
 @ExtendWith(SpringExtension.class)
-@Import(CleanUpJobConfiguration.class)
+@Import({CleanUpJobConfiguration.class, CaseEventMessageDefinitionRepository.class})
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Testcontainers
@@ -43,6 +44,9 @@ public class CleanUpMessageJobTest {
     @Autowired
     private CaseEventMessageRepository caseEventMessageRepository;
 
+    @Autowired
+    private CaseEventMessageDefinitionRepository caseEventMessageDefinitionRepository;
+
     @Autowired
     private CleanUpJobConfiguration cleanUpJobConfiguration;
 
@@ -52,6 +56,7 @@ public class CleanUpMessageJobTest {
     void setUp() {
         cleanUpMessageJob = new CleanUpMessageJob(
             caseEventMessageRepository,
+            caseEventMessageDefinitionRepository,
             cleanUpJobConfiguration
         );
     }
@@ -1,36 +1,18 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.services;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates.HolidayService;
 
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 class DueDateServiceTest {
 
-    @Mock
-    HolidayService holidayService;
-
-    private DueDateService dueDateService;
-
-    @BeforeEach
-    void setUp() {
-        dueDateService = new DueDateService(holidayService);
-    }
-
     @Test
     void should_return_next_working_day_4_pm_when_calculated_due_date_matches_holiday() {
         ZonedDateTime eventDateTime =
@@ -42,9 +24,7 @@ class DueDateServiceTest {
 
         int workingDaysAllowed = 2;
 
-        when(holidayService.isHoliday(any(ZonedDateTime.class))).thenReturn(false);
-        when(holidayService.isHoliday(eventDateTime.plusDays(1)))
-            .thenReturn(true);
+        DueDateService dueDateService = dueDateServiceWithHoliday(eventDateTime.plusDays(1));
 
         ZonedDateTime expectedDueDate = eventDateTime.plusDays(workingDaysAllowed + 1);
         ZonedDateTime expectedDueDateTime = expectedDueDate.with(
@@ -53,7 +33,6 @@ class DueDateServiceTest {
         ZonedDateTime actualDateTime = dueDateService.calculateDueDate(eventDateTime, workingDaysAllowed);
 
         assertThat(actualDateTime, is(expectedDueDateTime));
-        verify(holidayService, times(3)).isHoliday(any(ZonedDateTime.class));
     }
 
     @Test
@@ -67,17 +46,16 @@ class DueDateServiceTest {
 
         int delayDuration = 2;
 
-        when(holidayService.isHoliday(any(ZonedDateTime.class))).thenReturn(false);
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration)))
-            .thenReturn(true);
+        DueDateService dueDateService = dueDateServiceWithHoliday(eventDateTime.plusDays(delayDuration));
 
         ZonedDateTime expectedDelayDate = eventDateTime.plusDays(delayDuration + 1);
         ZonedDateTime expectedDelayDateTime = expectedDelayDate.with(LocalTime.of(16, 0, 0, 0));
         ZonedDateTime actualDateTime = dueDateService.calculateDelayUntil(eventDateTime, delayDuration);
 
         assertThat(actualDateTime, is(expectedDelayDateTime));
-        verify(holidayService, times(3)).isHoliday(any(ZonedDateTime.class));
     }
 
-
+    private static DueDateService dueDateServiceWithHoliday(ZonedDateTime holiday) {
+        return new DueDateService(new HolidayService(List.of(holiday.toLocalDate())));
+    }
 }
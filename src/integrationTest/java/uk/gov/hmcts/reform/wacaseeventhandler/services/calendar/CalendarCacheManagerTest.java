@@ -6,8 +6,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -20,6 +22,9 @@ import java.time.LocalDateTime;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.wacaseeventhandler.services.calendar.DelayUntilCalculator.DATE_FORMATTER;
@@ -33,12 +38,20 @@ public class CalendarCacheManagerTest {
     @Autowired
     private DelayUntilConfigurator delayUntilConfigurator;
 
+    @Autowired
+    @Qualifier("calendarCacheManager")
+    private CacheManager calendarCacheManager;
+
     @SpyBean
     private PublicHolidayService publicHolidayService;
 
+    @SpyBean
+    private PublicHolidayLoader publicHolidayLoader;
+
     @DisplayName("(Access calendars successfully and retrieve results which are also cached)")
     @Test
     public void shouldCacheThePublicHolidayCalendarResponse() {
+        calendarCacheManager.getCache("calendar_cache").clear();
         String givenDelayUntilOrigin = LocalDate.of(2026, 12, 25).format(DATE_FORMATTER);
 
         DelayUntilRequest delayUntilRequest = DelayUntilRequest.builder()
@@ -56,13 +69,11 @@ public class CalendarCacheManagerTest {
         verify(publicHolidayService, times(1)).getPublicHolidays(DEFAULT_NON_WORKING_CALENDAR);
     }
 
-    @DisplayName("(Access calendars successfully if cached information is not available)")
+    @DisplayName("(Keep serving cached calendars while they are refreshed in the background)")
     @Test
-    public void shouldCallHolidayServiceIfCashExpires() {
+    public void shouldRefreshCalendarInBackgroundOnceDueForRefresh() {
         String givenDelayUntilOrigin = LocalDate.of(2026, 12, 25).format(DATE_FORMATTER);
 
-        TestConfiguration.fakeTicker.advance(25, TimeUnit.HOURS);
-
         DelayUntilRequest delayUntilRequest = DelayUntilRequest.builder()
             .delayUntilOrigin(givenDelayUntilOrigin + "T00:30")
             .delayUntilIntervalDays(4)
@@ -73,9 +84,12 @@ public class CalendarCacheManagerTest {
             .delayUntilTime(null)
             .build();
 
+        delayUntilConfigurator.calculateDelayUntil(delayUntilRequest);
+        TestConfiguration.fakeTicker.advance(25, TimeUnit.HOURS);
+
         LocalDateTime localDateTime = delayUntilConfigurator.calculateDelayUntil(delayUntilRequest);
         assertThat(localDateTime).isEqualTo("2027-01-04T00:30");
-        verify(publicHolidayService, times(1)).getPublicHolidays(DEFAULT_NON_WORKING_CALENDAR);
+        verify(publicHolidayLoader, timeout(20_000)).reload(eq(DEFAULT_NON_WORKING_CALENDAR), any());
     }
 
     @Configuration
@@ -19,8 +19,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 @SpringBootTest
 @ActiveProfiles({"integration"})
@@ -89,7 +91,7 @@ class PublicHolidaysCollectionTest {
     }
 
     @Test
-    public void should_change_after_cache_expiry_external_api() {
+    public void should_refresh_in_background_once_due_for_refresh() {
         BankHolidays resultFromApi = publicHolidayService.getPublicHolidays(CALENDAR_URI);
 
         TestConfiguration.fakeTicker.advance(10, TimeUnit.HOURS);
@@ -100,9 +102,12 @@ class PublicHolidaysCollectionTest {
 
         TestConfiguration.fakeTicker.advance(25, TimeUnit.HOURS);
 
-        BankHolidays resultFromRenewedCache = publicHolidayService.getPublicHolidays(CALENDAR_URI);
+        BankHolidays resultWhileRefreshing = publicHolidayService.getPublicHolidays(CALENDAR_URI);
 
-        assertThat(resultFromApi).isSameAs(resultFromCache).isNotSameAs(resultFromRenewedCache);
+        assertThat(resultWhileRefreshing).isSameAs(resultFromApi);
+        await()
+            .atMost(20, SECONDS)
+            .until(() -> publicHolidayService.getPublicHolidays(CALENDAR_URI) != resultFromApi);
     }
 
     @Configuration
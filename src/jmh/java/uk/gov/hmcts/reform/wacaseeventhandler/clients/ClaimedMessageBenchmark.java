@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.clients;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageMapper;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per message work done once a message is claimed: materialising the entity with its jsonb properties,
+ * cloning it with Java serialization and mapping it to {@link CaseEventMessage}, against reading the processing
+ * columns into a {@link ClaimedMessage}. The column values stand in for the JDBC result. Run with
+ * {@code ./gradlew jmh}; the gc profiler reports the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClaimedMessageBenchmark {
+
+    private static final String MESSAGE_PROPERTIES =
+        "{\"messageProperty1\":\"value1\",\"messageProperty2\":\"value2\"}";
+    private static final EventColumns EVENT_COLUMNS =
+        new EventColumns("IA", "Asylum", "submitAppeal", "eventInstanceId", null, "appealSubmitted", "userId");
+
+    @Param({"1024", "16384", "131072"})
+    private int messageContentLength;
+
+    private ObjectMapper objectMapper;
+    private CaseEventMessageMapper caseEventMessageMapper;
+    private String messageContent;
+    private LocalDateTime timestamp;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        caseEventMessageMapper = new CaseEventMessageMapper(objectMapper);
+        messageContent = "{\"AdditionalData\":\"" + "x".repeat(messageContentLength) + "\"}";
+        timestamp = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public CaseEventMessage entityCloneAndMap() throws JsonProcessingException {
+        CaseEventMessageEntity entity = new CaseEventMessageEntity();
+        entity.setMessageId("messageId");
+        entity.setSequence(1L);
+        entity.setCaseId("caseId");
+        entity.setEventTimestamp(timestamp);
+        entity.setFromDlq(false);
+        entity.setState(MessageState.READY);
+        entity.setMessageProperties(objectMapper.readTree(MESSAGE_PROPERTIES));
+        entity.setMessageContent(messageContent);
+        entity.setReceived(timestamp);
+        entity.setDeliveryCount(0);
+        entity.setHoldUntil(timestamp);
+        entity.setRetryCount(0);
+
+        return caseEventMessageMapper.mapToCaseEventMessage(SerializationUtils.clone(entity));
+    }
+
+    @Benchmark
+    public ClaimedMessage recordProjection() {
+        return new ClaimedMessage("messageId", "caseId", MessageState.READY, 0, timestamp, messageContent, timestamp,
+                                  EVENT_COLUMNS);
+    }
+}
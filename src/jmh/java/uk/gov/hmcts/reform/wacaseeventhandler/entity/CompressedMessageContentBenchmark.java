@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures compressing and decompressing message content shaped like CCD case events, with the definition of every
+ * additional data field. The {@code messageContentBytes} and {@code compressedBytes} counters of the compress
+ * benchmark give the bytes stored per message as text and compressed. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CompressedMessageContentBenchmark {
+
+    @Param({"0", "10", "100", "1000"})
+    private int additionalDataFields;
+
+    private String messageContent;
+    private byte[] compressedMessageContent;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        messageContent = objectMapper.writeValueAsString(message(objectMapper, additionalDataFields));
+        compressedMessageContent = CompressedMessageContentConverter.compress(messageContent);
+    }
+
+    @Benchmark
+    public byte[] compress(StoredBytes storedBytes) {
+        byte[] compressed = CompressedMessageContentConverter.compress(messageContent);
+        storedBytes.messageContentBytes += messageContent.getBytes(UTF_8).length;
+        storedBytes.compressedBytes += compressed.length;
+        return compressed;
+    }
+
+    @Benchmark
+    public String decompress() {
+        return CompressedMessageContentConverter.decompress(compressedMessageContent);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredBytes {
+        public long messageContentBytes;
+        public long compressedBytes;
+    }
+
+    private static ObjectNode message(ObjectMapper objectMapper, int fields) {
+        ObjectNode message = objectMapper.createObjectNode()
+            .put("EventInstanceId", "170948742")
+            .put("EventTimeStamp", "2024-09-26T08:20:13.435806")
+            .put("CaseId", "1715160767806678")
+            .put("JurisdictionId", "PUBLICLAW")
+            .put("CaseTypeId", "CARE_SUPERVISION_EPO")
+            .put("EventId", "listGatekeepingHearing")
+            .put("PreviousStateId", "GATEKEEPING_LISTING")
+            .put("NewStateId", "PREPARE_FOR_HEARING")
+            .put("UserId", "eac9f0f1-94c8-4f47-b0ef-ca4614cfd7b4");
+
+        ObjectNode data = objectMapper.createObjectNode();
+        ObjectNode definition = objectMapper.createObjectNode();
+        for (int field = 0; field < fields; field++) {
+            data.putObject("court" + field)
+                .put("code", String.valueOf(262 + field))
+                .put("name", "Family Court sitting at Manchester")
+                .put("region", "North West")
+                .put("epimmsId", String.valueOf(701_411 + field))
+                .put("regionId", "4")
+                .putNull("dateTransferred");
+
+            ObjectNode typeDef = definition.putObject("court" + field)
+                .put("type", "Complex")
+                .put("subtype", "Court")
+                .put("originalId", "court" + field)
+                .putObject("typeDef");
+            for (String subField : new String[]{"code", "name", "region", "epimmsId", "regionId"}) {
+                typeDef.putObject(subField)
+                    .put("type", "SimpleText")
+                    .put("subtype", "Text")
+                    .putNull("typeDef")
+                    .put("originalId", subField);
+            }
+            typeDef.putObject("dateTransferred")
+                .put("type", "SimpleDateTime")
+                .put("subtype", "DateTime")
+                .putNull("typeDef")
+                .put("originalId", "dateTransferred");
+        }
+        ObjectNode additionalData = message.putObject("AdditionalData");
+        additionalData.set("Data", data);
+        additionalData.set("Definition", definition);
+        return message;
+    }
+}
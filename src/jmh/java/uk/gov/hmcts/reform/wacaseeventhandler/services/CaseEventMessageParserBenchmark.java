@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformationRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a received message with the {@link CaseEventMessageParser} to binding it twice, as
+ * {@link EventInformation} and {@link EventInformationRequest}, and round tripping the message properties through a
+ * string. Run with {@code ./gradlew jmh}; the gc profiler reports the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CaseEventMessageParserBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int additionalDataFields;
+
+    private ObjectMapper objectMapper;
+    private CaseEventMessageParser caseEventMessageParser;
+    private String message;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        caseEventMessageParser = new CaseEventMessageParser(objectMapper);
+        message = objectMapper.writeValueAsString(message(additionalDataFields));
+    }
+
+    @Benchmark
+    public void twoPassBinding(Blackhole blackhole) throws JsonProcessingException {
+        EventInformation eventInformation = objectMapper.readValue(message, EventInformation.class);
+        EventInformationRequest eventInformationRequest = objectMapper.readValue(
+            message,
+            EventInformationRequest.class
+        );
+        String messageProperties = objectMapper.writeValueAsString(
+            eventInformationRequest.getEventInformationMetadata().getMessageProperties()
+        );
+        blackhole.consume(eventInformation.getCaseId());
+        blackhole.consume(eventInformation.getEventTimeStamp());
+        blackhole.consume(objectMapper.readTree(messageProperties));
+        blackhole.consume(eventInformationRequest.getEventInformationMetadata().getHoldUntil());
+    }
+
+    @Benchmark
+    public CaseEventMessageParser.ParsedMessage streamingPass() throws JsonProcessingException {
+        return caseEventMessageParser.parse(message);
+    }
+
+    private ObjectNode message(int fields) {
+        ObjectNode message = objectMapper.createObjectNode()
+            .put("EventInstanceId", "3bc668cd-3da3-4968-9936-7a679f9f084a")
+            .put("EventTimeStamp", "2022-01-04T12:41:16.162368")
+            .put("CaseId", "6761065058131570")
+            .put("JurisdictionId", "IA")
+            .put("CaseTypeId", "Asylum")
+            .put("EventId", "submitAppeal")
+            .put("PreviousStateId", "appealStarted")
+            .put("NewStateId", "appealSubmitted")
+            .put("UserId", "6a2a0c4e-b8f4-4b5a-9a6b-3c8c1b1d2e3f");
+
+        ObjectNode data = objectMapper.createObjectNode();
+        ObjectNode definition = objectMapper.createObjectNode();
+        for (int field = 0; field < fields; field++) {
+            data.putObject("field" + field)
+                .put("uniqueId", "id-" + field)
+                .put("directionType", "sendDirection")
+                .put("dateDue", "2022-02-01")
+                .putArray("parties").add("appellant").add("respondent");
+            definition.putObject("field" + field)
+                .put("type", "Complex")
+                .put("subtype", "Direction")
+                .put("typeDef", (String) null);
+        }
+        ObjectNode additionalData = message.putObject("AdditionalData");
+        additionalData.set("Data", data);
+        additionalData.set("Definition", definition);
+
+        message.putObject("MessageProperties")
+            .put("jurisdiction_id", "ia")
+            .put("case_type_id", "asylum");
+        return message;
+    }
+}
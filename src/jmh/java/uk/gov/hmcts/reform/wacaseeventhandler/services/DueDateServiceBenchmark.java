@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates.HolidayService;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares working out a due date with the indexed holidays of the {@link HolidayService} to stepping one day at a
+ * time and looking each day up in the list of holidays, for ten years of England and Wales sized holiday lists.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DueDateServiceBenchmark {
+
+    @Param({"1", "5", "20", "60", "365"})
+    private int workingDaysAllowed;
+
+    private List<LocalDate> holidays;
+    private DueDateService dueDateService;
+    private ZonedDateTime delayUntil;
+
+    @Setup
+    public void setUp() {
+        holidays = new ArrayList<>();
+        for (int year = 2020; year < 2030; year++) {
+            holidays.add(LocalDate.of(year, 1, 1));
+            holidays.add(LocalDate.of(year, 4, 7));
+            holidays.add(LocalDate.of(year, 4, 10));
+            holidays.add(LocalDate.of(year, 5, 1));
+            holidays.add(LocalDate.of(year, 5, 29));
+            holidays.add(LocalDate.of(year, 8, 28));
+            holidays.add(LocalDate.of(year, 12, 25));
+            holidays.add(LocalDate.of(year, 12, 26));
+        }
+        dueDateService = new DueDateService(new HolidayService(holidays));
+        delayUntil = ZonedDateTime.of(2026, 3, 27, 9, 0, 0, 0, ZoneId.of("Europe/London"));
+    }
+
+    @Benchmark
+    public ZonedDateTime indexed() {
+        return dueDateService.calculateDueDate(delayUntil, workingDaysAllowed);
+    }
+
+    @Benchmark
+    public ZonedDateTime dayByDay() {
+        ZonedDateTime dueDate = delayUntil;
+        int remaining = workingDaysAllowed;
+        while (remaining > 0) {
+            dueDate = dueDate.plusDays(1);
+            DayOfWeek dayOfWeek = dueDate.getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY
+                && !holidays.contains(dueDate.toLocalDate())) {
+                remaining--;
+            }
+        }
+        return dueDate;
+    }
+}
@@ -1,16 +1,23 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.clients;
 
 import com.azure.messaging.servicebus.ServiceBusException;
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceiverClient;
 import com.azure.messaging.servicebus.ServiceBusSessionReceiverClient;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.ServiceBusConfiguration;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ReceivedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.EventMessageReceiverService;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Component
 @Scope("prototype")
@@ -21,12 +28,23 @@ public class CcdCaseEventsConsumer implements Runnable {
 
     private final ServiceBusConfiguration serviceBusConfiguration;
     private final EventMessageReceiverService eventMessageReceiverService;
-    private boolean keepRun = true;
+    private final int receiveBatchSize;
+    private final Duration receiveBatchMaxWait;
+    private final Duration sessionIdleTimeout;
+    private volatile boolean keepRun = true;
 
     public CcdCaseEventsConsumer(ServiceBusConfiguration serviceBusConfiguration,
-                                 EventMessageReceiverService eventMessageReceiverService) {
+                                 EventMessageReceiverService eventMessageReceiverService,
+                                 @Value("${azure.servicebus.receive-batch-size}") int receiveBatchSize,
+                                 @Value("${azure.servicebus.receive-batch-max-wait-milliseconds}")
+                                 long receiveBatchMaxWaitMilliseconds,
+                                 @Value("${azure.servicebus.session-idle-timeout-milliseconds}")
+                                 long sessionIdleTimeoutMilliseconds) {
         this.serviceBusConfiguration = serviceBusConfiguration;
         this.eventMessageReceiverService = eventMessageReceiverService;
+        this.receiveBatchSize = receiveBatchSize;
+        this.receiveBatchMaxWait = Duration.ofMillis(receiveBatchMaxWaitMilliseconds);
+        this.sessionIdleTimeout = Duration.ofMillis(sessionIdleTimeoutMilliseconds);
     }
 
     @Override
@@ -50,25 +68,16 @@ public class CcdCaseEventsConsumer implements Runnable {
 
             }
 
-            receiver.receiveMessages(1).forEach(
-                message -> {
-                    try {
-                        String messageId = message.getMessageId();
-                        String sessionId = message.getSessionId();
-                        log.info("Received CCD Case Event message with id '{}' and case id '{}'",
-                            messageId, sessionId);
-
-                        eventMessageReceiverService.handleCcdCaseEventAsbMessage(messageId, sessionId,
-                            new String(message.getBody().toBytes()));
-                        receiver.complete(message);
-
-                        log.info("CCD Case Event message with id '{}' handled successfully", messageId);
-                    } catch (Exception ex) {
-                        log.error("Error processing CCD Case Event message with id '{}' - "
-                                  + "abandon the processing and ASB will re-deliver it", message.getMessageId());
-                        receiver.abandon(message);
-                    }
-                });
+            if (sessionIdleTimeout.isZero()) {
+                if (receiveBatchSize > 1) {
+                    consumeMessageBatch(receiver, receiver.receiveMessages(receiveBatchSize, receiveBatchMaxWait));
+                } else {
+                    receiver.receiveMessages(1).forEach(message -> consumeSingleMessage(receiver, message));
+                }
+                return;
+            }
+
+            drainSession(receiver);
         } catch (IllegalStateException ex) {
             log.error("Timeout: No CCD Case Event messages received waiting for next session {}", ex.getMessage());
         } catch (ServiceBusException ex) {
@@ -78,6 +87,91 @@ public class CcdCaseEventsConsumer implements Runnable {
         }
     }
 
+    /**
+     * Keeps receiving messages from the accepted session until no message arrives within the session idle timeout,
+     * so the session is only accepted and closed once for all the messages of the case that are waiting.
+     */
+    private void drainSession(ServiceBusReceiverClient receiver) {
+        int maxMessages = Math.max(receiveBatchSize, 1);
+        int drained = 0;
+        while (keepRun) {
+            List<ServiceBusReceivedMessage> messages =
+                receiver.receiveMessages(maxMessages, sessionIdleTimeout).stream().toList();
+            if (messages.isEmpty()) {
+                break;
+            }
+
+            if (receiveBatchSize > 1) {
+                consumeMessageBatch(receiver, messages);
+            } else {
+                messages.forEach(message -> consumeSingleMessage(receiver, message));
+            }
+            drained += messages.size();
+        }
+        log.info("Drained {} CCD Case Event messages from session '{}'", drained, receiver.getSessionId());
+    }
+
+    private void consumeSingleMessage(ServiceBusReceiverClient receiver, ServiceBusReceivedMessage message) {
+        try {
+            String messageId = message.getMessageId();
+            String sessionId = message.getSessionId();
+            log.info("Received CCD Case Event message with id '{}' and case id '{}'",
+                messageId, sessionId);
+
+            eventMessageReceiverService.handleCcdCaseEventAsbMessage(messageId, sessionId,
+                new String(message.getBody().toBytes()));
+            receiver.complete(message);
+
+            log.info("CCD Case Event message with id '{}' handled successfully", messageId);
+        } catch (Exception ex) {
+            log.error("Error processing CCD Case Event message with id '{}' - "
+                      + "abandon the processing and ASB will re-deliver it", message.getMessageId());
+            receiver.abandon(message);
+        }
+    }
+
+    /**
+     * Stores the received messages with a single upsert and then completes them. When the batch cannot be stored
+     * every message of the batch is abandoned and ASB will re-deliver them.
+     */
+    private void consumeMessageBatch(ServiceBusReceiverClient receiver,
+                                     Iterable<ServiceBusReceivedMessage> receivedMessages) {
+        List<ServiceBusReceivedMessage> messages = new ArrayList<>();
+        receivedMessages.forEach(messages::add);
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        log.info("Received batch of {} CCD Case Event messages", messages.size());
+        try {
+            eventMessageReceiverService.handleCcdCaseEventAsbMessages(
+                messages.stream()
+                    .map(message -> new ReceivedMessage(
+                        message.getMessageId(),
+                        message.getSessionId(),
+                        new String(message.getBody().toBytes())
+                    ))
+                    .toList()
+            );
+        } catch (Exception ex) {
+            log.error("Error processing batch of {} CCD Case Event messages - "
+                      + "abandon the processing and ASB will re-deliver them", messages.size());
+            messages.forEach(receiver::abandon);
+            return;
+        }
+
+        messages.forEach(message -> {
+            try {
+                receiver.complete(message);
+            } catch (Exception ex) {
+                log.error("Error completing CCD Case Event message with id '{}' - "
+                          + "abandon the processing and ASB will re-deliver it", message.getMessageId());
+                receiver.abandon(message);
+            }
+        });
+        log.info("Batch of {} CCD Case Event messages handled successfully", messages.size());
+    }
+
     public void stop() {
         keepRun = false;
     }
@@ -1,14 +1,20 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.clients;
 
+import com.azure.messaging.servicebus.ServiceBusReceivedMessage;
 import com.azure.messaging.servicebus.ServiceBusReceiverClient;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.ServiceBusConfiguration;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ReceivedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.EventMessageReceiverService;
 
+import java.time.Duration;
+import java.util.List;
+
 @Slf4j
 @Component
 @Scope("prototype")
@@ -19,12 +25,19 @@ public class CcdCaseEventsDeadLetterQueueConsumer implements Runnable {
 
     private final ServiceBusConfiguration serviceBusConfiguration;
     private final EventMessageReceiverService eventMessageReceiverService;
+    private final int receiveBatchSize;
+    private final Duration receiveBatchMaxWait;
     private boolean keepRun = true;
 
     public CcdCaseEventsDeadLetterQueueConsumer(ServiceBusConfiguration serviceBusConfiguration,
-                                                EventMessageReceiverService eventMessageReceiverService) {
+                                                EventMessageReceiverService eventMessageReceiverService,
+                                                @Value("${azure.servicebus.receive-batch-size}") int receiveBatchSize,
+                                                @Value("${azure.servicebus.receive-batch-max-wait-milliseconds}")
+                                                long receiveBatchMaxWaitMilliseconds) {
         this.serviceBusConfiguration = serviceBusConfiguration;
         this.eventMessageReceiverService = eventMessageReceiverService;
+        this.receiveBatchSize = receiveBatchSize;
+        this.receiveBatchMaxWait = Duration.ofMillis(receiveBatchMaxWaitMilliseconds);
     }
 
     @Override
@@ -41,6 +54,11 @@ public class CcdCaseEventsDeadLetterQueueConsumer implements Runnable {
     @SuppressWarnings({"PMD.DataflowAnomalyAnalysis"})
     protected void consumeMessage(ServiceBusReceiverClient receiver) {
         try {
+            if (receiveBatchSize > 1) {
+                consumeMessageBatch(receiver);
+                return;
+            }
+
             receiver.receiveMessages(1).forEach(
                 message -> {
                     final String messageId = message.getMessageId();
@@ -70,6 +88,47 @@ public class CcdCaseEventsDeadLetterQueueConsumer implements Runnable {
         }
     }
 
+    /**
+     * Receives up to {@code receiveBatchSize} messages, stores them with a single upsert and then completes them.
+     * When the batch cannot be stored every message of the batch is abandoned and ASB will re-deliver them.
+     */
+    private void consumeMessageBatch(ServiceBusReceiverClient receiver) {
+        List<ServiceBusReceivedMessage> messages =
+            receiver.receiveMessages(receiveBatchSize, receiveBatchMaxWait).stream().toList();
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        log.info("Received batch of {} CCD Case Event Dead Letter Queue messages", messages.size());
+        try {
+            eventMessageReceiverService.handleDlqMessages(
+                messages.stream()
+                    .map(message -> new ReceivedMessage(
+                        message.getMessageId(),
+                        message.getSessionId(),
+                        new String(message.getBody().toBytes())
+                    ))
+                    .toList()
+            );
+        } catch (Exception ex) {
+            log.error("Error processing batch of {} CCD Case Event Dead Letter Queue messages - "
+                      + "abandon the processing and ASB will re-deliver them", messages.size());
+            messages.forEach(receiver::abandon);
+            return;
+        }
+
+        messages.forEach(message -> {
+            try {
+                receiver.complete(message);
+            } catch (Exception ex) {
+                log.error("Error completing CCD Case Event Dead Letter Queue message with id '{}' - "
+                          + "abandon the processing and ASB will re-deliver it", message.getMessageId());
+                receiver.abandon(message);
+            }
+        });
+        log.info("Batch of {} CCD Case Event Dead Letter Queue messages handled successfully", messages.size());
+    }
+
     public void stop() {
         keepRun = false;
     }
@@ -4,7 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import feign.FeignException;
 import feign.RetryableException;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.SerializationUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.retry.annotation.Backoff;
@@ -13,26 +14,30 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.MessageUpdateRetry;
-import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
-import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageMapper;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.ClaimedMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.UpdateRecordErrorHandlingService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.CcdEventProcessor;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+import static uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.NONE;
 
 @Slf4j
 @Component
-@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.DataflowAnomalyAnalysis", "PMD.UnusedPrivateField", "PMD.SingularField"})
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.DataflowAnomalyAnalysis"})
 @Transactional(propagation = NOT_SUPPORTED)
 @Profile("!functional & !local")
 public class DatabaseMessageConsumer implements Runnable {
@@ -50,21 +55,34 @@ public class DatabaseMessageConsumer implements Runnable {
     }
 
     private final CaseEventMessageRepository caseEventMessageRepository;
-    private final CaseEventMessageMapper caseEventMessageMapper;
+    private final ClaimedMessageRepository claimedMessageRepository;
     private final CcdEventProcessor ccdEventProcessor;
     private final UpdateRecordErrorHandlingService updateRecordErrorHandlingService;
     private final TransactionTemplate transactionTemplate;
+    private final Executor databaseMessageBatchExecutorService;
+    private final MessageProcessingMetrics messageProcessingMetrics;
+
+    @Value("${scheduledExecutors.messageProcessing.leaseDurationSeconds}")
+    private int leaseDurationSeconds;
+
+    @Value("${scheduledExecutors.messageProcessing.batchSize}")
+    private int batchSize;
 
     public DatabaseMessageConsumer(CaseEventMessageRepository caseEventMessageRepository,
-                                   CaseEventMessageMapper caseEventMessageMapper,
+                                   ClaimedMessageRepository claimedMessageRepository,
                                    CcdEventProcessor ccdEventProcessor,
                                    UpdateRecordErrorHandlingService updateRecordErrorHandlingService,
-                                   PlatformTransactionManager transactionManager) {
+                                   PlatformTransactionManager transactionManager,
+                                   @Qualifier("databaseMessageBatchExecutorService")
+                                   Executor databaseMessageBatchExecutorService,
+                                   MessageProcessingMetrics messageProcessingMetrics) {
         this.caseEventMessageRepository = caseEventMessageRepository;
-        this.caseEventMessageMapper = caseEventMessageMapper;
+        this.claimedMessageRepository = claimedMessageRepository;
         this.ccdEventProcessor = ccdEventProcessor;
         this.updateRecordErrorHandlingService = updateRecordErrorHandlingService;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.databaseMessageBatchExecutorService = databaseMessageBatchExecutorService;
+        this.messageProcessingMetrics = messageProcessingMetrics;
     }
 
 
@@ -84,31 +102,68 @@ public class DatabaseMessageConsumer implements Runnable {
     @Override
     @SuppressWarnings("squid:S2189")
     public void run() {
+        consumeNextBatch();
+    }
+
+    /**
+     * Keeps claiming and processing batches until no message is ready. Used when the consumer is woken up by a
+     * database notification, as the following messages of a case become ready without a notification.
+     */
+    public void drain() {
+        while (!Thread.currentThread().isInterrupted() && consumeNextBatch() > 0) {
+            log.trace("Draining messages ready to process from the database");
+        }
+    }
+
+    private int consumeNextBatch() {
         try {
-            Optional<MessageUpdateRetry> updateRetry = transactionTemplate.execute(status -> {
-                CaseEventMessageEntity caseEventMessageEntity = selectNextMessage();
-
-                if (caseEventMessageEntity == null) {
-                    return Optional.empty();
-                }
-
-                log.info(
-                    "Starting database message processing for messageId='{}', caseId='{}', state='{}', "
-                        + "retryCount={}, holdUntil={}",
-                    caseEventMessageEntity.getMessageId(),
-                    caseEventMessageEntity.getCaseId(),
-                    caseEventMessageEntity.getState(),
-                    caseEventMessageEntity.getRetryCount(),
-                    caseEventMessageEntity.getHoldUntil()
-                );
-                final CaseEventMessage caseEventMessage = caseEventMessageMapper
-                    .mapToCaseEventMessage(SerializationUtils.clone(caseEventMessageEntity));
-                Optional<MessageUpdateRetry> updatable = processMessage(caseEventMessage);
-
-                //if record state update failed, Rollback the transaction
-                updatable.ifPresent(r -> status.setRollbackOnly());
-                return updatable;
-            });
+            List<ClaimedMessage> claimedMessages = messageProcessingMetrics.time(
+                Stage.CLAIM, NONE, NONE, NONE, () -> transactionTemplate.execute(status -> claimNextMessages()));
+
+            if (claimedMessages == null || claimedMessages.isEmpty()) {
+                return 0;
+            }
+            messageProcessingMetrics.recordClaimed(claimedMessages.size());
+
+            // claimed messages belong to distinct cases, so they can be processed in parallel without
+            // breaking the per case ordering. The next poll starts once the whole batch has finished.
+            CompletableFuture.allOf(claimedMessages.stream()
+                    .map(message -> CompletableFuture.runAsync(() -> processClaimedMessage(message),
+                                                               databaseMessageBatchExecutorService))
+                    .toArray(CompletableFuture[]::new))
+                .join();
+            return claimedMessages.size();
+        } catch (Exception ex) {
+            log.warn("An error occurred when running database message consumer. "
+                     + "Catching exception continuing execution", ex);
+            return 0;
+        }
+    }
+
+    /**
+     * The claim is committed straight away so that no row lock or connection is held while the messages are
+     * being processed. The lease keeps other consumers away from a message until its outcome is recorded.
+     * Only the columns needed to process a message are read, straight into an immutable {@link ClaimedMessage}.
+     */
+    private List<ClaimedMessage> claimNextMessages() {
+        log.trace("Selecting next messages for processing from the database");
+
+        return claimedMessageRepository.claimNextMessagesReadyToProcess(batchSize, leaseDurationSeconds);
+    }
+
+    private void processClaimedMessage(ClaimedMessage claimedMessage) {
+        long start = System.nanoTime();
+        try {
+            log.info(
+                "Starting database message processing for messageId='{}', caseId='{}', state='{}', "
+                    + "retryCount={}, holdUntil={}",
+                claimedMessage.messageId(),
+                claimedMessage.caseId(),
+                claimedMessage.state(),
+                claimedMessage.retryCount(),
+                claimedMessage.holdUntil()
+            );
+            Optional<MessageUpdateRetry> updateRetry = processMessage(claimedMessage);
 
             //Retry updating the record state
             updateRetry.ifPresent(msg ->
@@ -120,32 +175,28 @@ public class DatabaseMessageConsumer implements Runnable {
         } catch (Exception ex) {
             log.warn("An error occurred when running database message consumer. "
                      + "Catching exception continuing execution", ex);
+        } finally {
+            messageProcessingMetrics.recordProcessing(
+                jurisdictionId(claimedMessage), caseTypeId(claimedMessage), System.nanoTime() - start);
         }
-
     }
 
-    private CaseEventMessageEntity selectNextMessage() {
-        log.trace("Selecting next message for processing from the database");
-
-        return caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-    }
-
-    private Optional<MessageUpdateRetry> processMessage(CaseEventMessage caseEventMessage) {
+    private Optional<MessageUpdateRetry> processMessage(ClaimedMessage caseEventMessage) {
         if (caseEventMessage == null) {
             return Optional.empty();
         }
-        final String caseEventMessageId = caseEventMessage.getMessageId();
+        final String caseEventMessageId = caseEventMessage.messageId();
         log.info("Processing message with id: {} and caseId: {} from the database",
             caseEventMessageId,
-            caseEventMessage.getCaseId()
+            caseEventMessage.caseId()
         );
         try {
             ccdEventProcessor.processMessage(caseEventMessage);
             log.info("Message with id:{} and caseId:{} processed successfully, setting message state to PROCESSED",
                 caseEventMessageId,
-                caseEventMessage.getCaseId()
+                caseEventMessage.caseId()
             );
-            return updateMessageState(MessageState.PROCESSED, caseEventMessageId, 0, null);
+            return updateMessageState(MessageState.PROCESSED, caseEventMessage, 0, null);
         } catch (FeignException fe) {
             log.error("FeignException while processing message. caseEventMessage:{} exception: ",
                 caseEventMessage, fe);
@@ -160,14 +211,14 @@ public class DatabaseMessageConsumer implements Runnable {
         }
     }
 
-    private Optional<MessageUpdateRetry> processException(FeignException fce, CaseEventMessage caseEventMessage) {
+    private Optional<MessageUpdateRetry> processException(FeignException fce, ClaimedMessage caseEventMessage) {
         boolean isNonRetryableError = true;
         try {
             final HttpStatus httpStatus = HttpStatus.valueOf(fce.status());
             isNonRetryableError = UnprocessableHttpErrors.isNonRetryableError(httpStatus);
             log.error("Received HTTP status {} while processing message for caseId {}",
                 httpStatus,
-                caseEventMessage.getCaseId()
+                caseEventMessage.caseId()
             );
         } catch (IllegalArgumentException iae) {
             if (fce instanceof RetryableException) {
@@ -185,10 +236,10 @@ public class DatabaseMessageConsumer implements Runnable {
         }
     }
 
-    private Optional<MessageUpdateRetry> processRetryableError(CaseEventMessage caseEventMessage) {
-        int retryCount = caseEventMessage.getRetryCount() + 1;
+    private Optional<MessageUpdateRetry> processRetryableError(ClaimedMessage caseEventMessage) {
+        int retryCount = caseEventMessage.retryCount() + 1;
         Integer newHoldUntilIncrement = RETRY_COUNT_TO_DELAY_MAP.get(retryCount);
-        String messageId = caseEventMessage.getMessageId();
+        String messageId = caseEventMessage.messageId();
 
         if (newHoldUntilIncrement != null) {
             LocalDateTime newHoldUntil = LocalDateTime.now().plusSeconds(newHoldUntilIncrement);
@@ -196,28 +247,36 @@ public class DatabaseMessageConsumer implements Runnable {
                 retryCount,
                 newHoldUntil,
                 messageId);
-            return updateMessageState(null, messageId, retryCount, newHoldUntil);
+            return updateMessageState(null, caseEventMessage, retryCount, newHoldUntil);
         }
-        return updateMessageState(MessageState.UNPROCESSABLE, messageId, 0, null);
+        return updateMessageState(MessageState.UNPROCESSABLE, caseEventMessage, 0, null);
     }
 
-    private Optional<MessageUpdateRetry> processError(CaseEventMessage caseEventMessage) {
-        String caseEventMessageId = caseEventMessage.getMessageId();
+    private Optional<MessageUpdateRetry> processError(ClaimedMessage caseEventMessage) {
         log.warn("Could not process message with caseEventMessage: {}, setting state to Unprocessable.",
             caseEventMessage
         );
 
-        return updateMessageState(MessageState.UNPROCESSABLE, caseEventMessageId, 0, null);
+        return updateMessageState(MessageState.UNPROCESSABLE, caseEventMessage, 0, null);
     }
 
-    private Optional<MessageUpdateRetry> updateMessageState(MessageState state, String messageId,
+    private Optional<MessageUpdateRetry> updateMessageState(MessageState state, ClaimedMessage caseEventMessage,
                                                             int retryCount, LocalDateTime holdUntil) {
+        String messageId = caseEventMessage.messageId();
+        String jurisdictionId = jurisdictionId(caseEventMessage);
+        String caseTypeId = caseTypeId(caseEventMessage);
+        messageProcessingMetrics.recordOutcome(jurisdictionId, caseTypeId, state);
         try {
-            if (state == null) {
-                caseEventMessageRepository.updateMessageWithRetryDetails(retryCount, holdUntil, messageId);
-            } else {
-                caseEventMessageRepository.updateMessageState(state, List.of(messageId));
-            }
+            messageProcessingMetrics.time(Stage.STATE_UPDATE, NONE, jurisdictionId, caseTypeId, () -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (state == null) {
+                        caseEventMessageRepository.updateMessageWithRetryDetails(retryCount, holdUntil, messageId);
+                    } else {
+                        caseEventMessageRepository.updateMessageState(state, List.of(messageId));
+                    }
+                });
+                return null;
+            });
         } catch (RuntimeException e) {
             log.error("Error in updating message with id {}, retrying to update", messageId);
             return Optional.of(MessageUpdateRetry.builder()
@@ -229,4 +288,12 @@ public class DatabaseMessageConsumer implements Runnable {
         }
         return Optional.empty();
     }
+
+    private static String jurisdictionId(ClaimedMessage claimedMessage) {
+        return claimedMessage.eventColumns() == null ? null : claimedMessage.eventColumns().jurisdictionId();
+    }
+
+    private static String caseTypeId(ClaimedMessage claimedMessage) {
+        return claimedMessage.eventColumns() == null ? null : claimedMessage.eventColumns().caseTypeId();
+    }
 }
@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.clients;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+
+/**
+ * Listens on the wa_case_event_messages notification channel, which is notified by database triggers when a
+ * message is received or becomes ready to process, and wakes up the subscribed consumers straight away.
+ * Consumers keep polling, every notification timeout, as a safety net for missed notifications and for messages that
+ * become ready to process as time passes, which no trigger notifies.
+ * The listener keeps its connection open for as long as it runs, so it opens a connection of its own outside of the
+ * connection pool, which would otherwise be short of a connection and recycle it at its maximum lifetime.
+ */
+@Slf4j
+@Component
+@SuppressWarnings("PMD.DoNotUseThreads")
+@ConditionalOnProperty("scheduledExecutors.messageProcessing.notifications.enabled")
+@Profile("!functional & !local")
+public class DatabaseMessageNotificationListener implements Runnable {
+
+    static final String CHANNEL = "wa_case_event_messages";
+
+    private final DataSource listenerDataSource;
+    private final ExecutorService databaseNotificationExecutorService;
+    private final Map<MessageState, Runnable> subscribers = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    @Value("${scheduledExecutors.messageProcessing.notifications.timeoutMilliSeconds}")
+    private int notificationTimeout;
+
+    @Value("${scheduledExecutors.messageProcessing.notifications.reconnectDelayMilliSeconds}")
+    private long reconnectDelay;
+
+    public DatabaseMessageNotificationListener(DataSourceProperties dataSourceProperties,
+                                               @Qualifier("databaseNotificationExecutorService")
+                                               ExecutorService databaseNotificationExecutorService) {
+        // opens a new physical connection on every call, the listener reconnects through it after a failure
+        this.listenerDataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(SimpleDriverDataSource.class)
+            .build();
+        this.databaseNotificationExecutorService = databaseNotificationExecutorService;
+    }
+
+    /**
+     * Runs the task on the executor whenever a message moves to the given state. Wake-ups received while a
+     * previous one is still waiting for the executor are folded into it.
+     */
+    public void subscribe(MessageState state, Executor executor, Runnable task) {
+        AtomicBoolean pending = new AtomicBoolean();
+        subscribers.put(state, () -> {
+            if (pending.compareAndSet(false, true)) {
+                executor.execute(() -> {
+                    pending.set(false);
+                    task.run();
+                });
+            }
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Starting database message notification listener");
+        running = true;
+        databaseNotificationExecutorService.execute(this);
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping database message notification listener");
+        running = false;
+        databaseNotificationExecutorService.shutdownNow();
+    }
+
+    @Override
+    public void run() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try (Connection connection = listenerDataSource.getConnection()) {
+                listen(connection);
+            } catch (SQLException ex) {
+                log.warn("Database message notification listener lost its connection, reconnecting", ex);
+                pauseBeforeReconnecting();
+            } catch (RuntimeException ex) {
+                log.warn("An error occurred in database message notification listener. "
+                         + "Catching exception continuing execution", ex);
+                pauseBeforeReconnecting();
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("Listening for notifications on channel {}", CHANNEL);
+
+        // catch up with anything that happened while not listening
+        subscribers.values().forEach(Runnable::run);
+
+        while (running && !Thread.currentThread().isInterrupted()) {
+            PGNotification[] notifications = pgConnection.getNotifications(notificationTimeout);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    dispatch(notification.getParameter());
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            Runnable subscriber = subscribers.get(MessageState.valueOf(payload));
+            if (subscriber != null) {
+                subscriber.run();
+            }
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring notification with unknown payload {}", payload);
+        }
+    }
+
+    private void pauseBeforeReconnecting() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
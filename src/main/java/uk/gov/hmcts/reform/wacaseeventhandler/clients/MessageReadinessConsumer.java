@@ -1,14 +1,13 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.clients;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
-import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.DeadLetterQueuePeekService;
 
@@ -22,11 +21,14 @@ import java.util.List;
 public class MessageReadinessConsumer implements Runnable {
     private final DeadLetterQueuePeekService deadLetterQueuePeekService;
     private final CaseEventMessageRepository caseEventMessageRepository;
+    private final int batchSize;
 
     public MessageReadinessConsumer(DeadLetterQueuePeekService deadLetterQueuePeekService,
-                                    CaseEventMessageRepository caseEventMessageRepository) {
+                                    CaseEventMessageRepository caseEventMessageRepository,
+                                    @Value("${scheduledExecutors.messageReadiness.batchSize}") int batchSize) {
         this.deadLetterQueuePeekService = deadLetterQueuePeekService;
         this.caseEventMessageRepository = caseEventMessageRepository;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -46,14 +48,19 @@ public class MessageReadinessConsumer implements Runnable {
     @Transactional
     public void run() {
         try {
-            final List<CaseEventMessageEntity> allMessageInNewState =
-                caseEventMessageRepository.getAllMessagesInNewState();
-
-            if (!allMessageInNewState.isEmpty()) {
-                log.info("Number of messages to check the readiness {}", allMessageInNewState.size());
+            final int numberOfMessagesInNewState = caseEventMessageRepository.getNumberOfMessagesInNewState();
+            if (numberOfMessagesInNewState == 0) {
+                return;
             }
 
-            allMessageInNewState.forEach(this::checkMessageToMoveToReadyState);
+            log.info("Number of messages to check the readiness {}", numberOfMessagesInNewState);
+
+            // the dead letter queue is peeked once per run, whatever the number of messages in NEW state
+            if (deadLetterQueuePeekService.isDeadLetterQueueEmpty()) {
+                final List<String> readyMessageIds = caseEventMessageRepository.promoteNewMessagesToReady(batchSize);
+                log.info("Moved {} messages to READY state", readyMessageIds.size());
+                log.debug("Messages moved to READY state {}", readyMessageIds);
+            }
 
         } catch (Exception ex) {
             log.warn("An error occurred when running message readiness check. "
@@ -61,12 +68,4 @@ public class MessageReadinessConsumer implements Runnable {
         }
 
     }
-
-    private void checkMessageToMoveToReadyState(CaseEventMessageEntity messageInNewState) {
-        if (deadLetterQueuePeekService.isDeadLetterQueueEmpty()) {
-            log.info("Updating following message to READY state {}", messageInNewState.getMessageId());
-            caseEventMessageRepository.updateMessageState(MessageState.READY,
-                List.of(messageInNewState.getMessageId()));
-        }
-    }
 }
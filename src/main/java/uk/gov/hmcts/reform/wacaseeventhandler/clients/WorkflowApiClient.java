@@ -1,15 +1,21 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.clients;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.DecisionDefinition;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.DecisionDefinitionXml;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 
+import java.util.List;
+
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @SuppressWarnings("PMD.UseObjectForClearerAPI")
@@ -53,5 +59,34 @@ public interface WorkflowApiClient {
         EvaluateDmnRequest evaluateDmnRequest
     );
 
-}
+    @GetMapping(
+        value = "/workflow/decision-definition/key/{key}/tenant-id/{tenant-id}",
+        produces = APPLICATION_JSON_VALUE
+    )
+    DecisionDefinition getDecisionDefinition(
+        @RequestHeader(SERVICE_AUTHORIZATION) String serviceAuthorisation,
+        @PathVariable("key") String key,
+        @PathVariable("tenant-id") String tenantId
+    );
 
+    @GetMapping(
+        value = "/workflow/decision-definition/key/{key}/tenant-id/{tenant-id}/xml",
+        produces = APPLICATION_JSON_VALUE
+    )
+    DecisionDefinitionXml getDecisionDefinitionXml(
+        @RequestHeader(SERVICE_AUTHORIZATION) String serviceAuthorisation,
+        @PathVariable("key") String key,
+        @PathVariable("tenant-id") String tenantId
+    );
+
+    @GetMapping(
+        value = "/workflow/decision-definition",
+        produces = APPLICATION_JSON_VALUE
+    )
+    List<DecisionDefinition> getDecisionDefinitions(
+        @RequestHeader(SERVICE_AUTHORIZATION) String serviceAuthorisation,
+        @RequestParam("tenantIdIn") String tenantId,
+        @RequestParam("latestVersion") boolean latestVersion
+    );
+
+}
@@ -0,0 +1,191 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out a cached S2S token and fetches the next one on a background thread ahead of the expiry decoded from the
+ * token, so callers only wait for a fetch when there is no valid token at all, like on the first call. No lock is held
+ * while a token is fetched: the first caller to find no valid token fetches one and publishes it, and callers arriving
+ * in the meantime wait for that fetch instead of starting their own. A token whose expiry cannot be decoded is kept for
+ * a fixed time. Fetches are timed with their outcome as a tag.
+ */
+@Slf4j
+@SuppressWarnings({"PMD.DoNotUseThreads", "PMD.DataflowAnomalyAnalysis"})
+public class CachingAuthTokenGenerator implements AuthTokenGenerator {
+
+    static final String FETCH_TIMER = "wa.case.event.handler.s2s.token.fetch";
+    static final Duration UNKNOWN_EXPIRY_LIFETIME = Duration.ofMinutes(10);
+    static final Duration EXPIRY_MARGIN = Duration.ofSeconds(30);
+    static final Duration RETRY_DELAY = Duration.ofSeconds(10);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenGenerator delegate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration refreshAhead;
+    private final ScheduledExecutorService refreshExecutor;
+    private final Timer successfulFetches;
+    private final Timer failedFetches;
+    private final AtomicReference<CompletableFuture<CachedToken>> fetchInProgress = new AtomicReference<>();
+    private final Object refreshLock = new Object();
+
+    private volatile CachedToken cachedToken;
+    private ScheduledFuture<?> scheduledRefresh;
+
+    public CachingAuthTokenGenerator(AuthTokenGenerator delegate,
+                                     ObjectMapper objectMapper,
+                                     Clock clock,
+                                     Duration refreshAhead,
+                                     ScheduledExecutorService refreshExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.refreshAhead = refreshAhead;
+        this.refreshExecutor = refreshExecutor;
+        this.successfulFetches = fetchTimer(meterRegistry, "success");
+        this.failedFetches = fetchTimer(meterRegistry, "failure");
+    }
+
+    @Override
+    public String generate() {
+        CachedToken token = cachedToken;
+        if (token != null && token.isValidAt(clock.instant())) {
+            return token.value();
+        }
+        return fetchOnce().value();
+    }
+
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refresh() {
+        try {
+            fetchOnce();
+        } catch (RuntimeException ex) {
+            // the current token is still handed out until it expires, the refresh is retried in the meantime
+            log.warn("Could not refresh S2S token, retrying in {}", RETRY_DELAY, ex);
+            scheduleRefresh(RETRY_DELAY);
+        }
+    }
+
+    /**
+     * Fetches a token, or waits for the fetch another thread already started and shares its outcome.
+     */
+    private CachedToken fetchOnce() {
+        CompletableFuture<CachedToken> fetch = new CompletableFuture<>();
+        CompletableFuture<CachedToken> fetchAlreadyInProgress = fetchInProgress.compareAndExchange(null, fetch);
+        if (fetchAlreadyInProgress != null) {
+            return join(fetchAlreadyInProgress);
+        }
+        try {
+            CachedToken token = fetch();
+            fetch.complete(token);
+            return token;
+        } catch (RuntimeException ex) {
+            fetch.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            fetchInProgress.set(null);
+        }
+    }
+
+    private static CachedToken join(CompletableFuture<CachedToken> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private CachedToken fetch() {
+        long start = System.nanoTime();
+        String value;
+        try {
+            value = delegate.generate();
+        } catch (RuntimeException ex) {
+            failedFetches.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+        successfulFetches.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        Instant now = clock.instant();
+        Instant expiresAt = expiresAt(value, now);
+        CachedToken token = new CachedToken(value, expiresAt);
+        cachedToken = token;
+
+        // a token living for less than twice the refresh ahead time is refreshed half way through its life,
+        // never sooner than a retry would be so a token that is already expired does not cause a busy loop
+        Duration lifetime = Duration.between(now, expiresAt);
+        Duration refreshIn = lifetime.minus(refreshAhead);
+        if (refreshIn.compareTo(lifetime.dividedBy(2)) < 0) {
+            refreshIn = lifetime.dividedBy(2);
+        }
+        if (refreshIn.compareTo(RETRY_DELAY) < 0) {
+            refreshIn = RETRY_DELAY;
+        }
+        scheduleRefresh(refreshIn);
+        return token;
+    }
+
+    private void scheduleRefresh(Duration delay) {
+        synchronized (refreshLock) {
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+            }
+            scheduledRefresh = refreshExecutor.schedule(this::refresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Instant expiresAt(String value, Instant now) {
+        String jwt = value.startsWith(BEARER_PREFIX) ? value.substring(BEARER_PREFIX.length()) : value;
+        String[] parts = jwt.split("\\.");
+        if (parts.length == 3) {
+            try {
+                JsonNode expiry = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+                if (expiry != null && expiry.canConvertToLong()) {
+                    return Instant.ofEpochSecond(expiry.asLong());
+                }
+            } catch (IOException | IllegalArgumentException ex) {
+                log.warn("Could not decode the expiry of the S2S token", ex);
+            }
+        }
+        return now.plus(UNKNOWN_EXPIRY_LIFETIME);
+    }
+
+    private static Timer fetchTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(FETCH_TIMER)
+            .description("Time taken to fetch an S2S token")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private record CachedToken(String value, Instant expiresAt) {
+
+        boolean isValidAt(Instant instant) {
+            return instant.isBefore(expiresAt.minus(EXPIRY_MARGIN));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.calendar.PublicHolidayLoader;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -54,17 +55,23 @@ public class CaffeineConfiguration {
         return caffeineCacheManager;
     }
 
+    /**
+     * Calendars are not expired, once the timeout has passed a calendar is reloaded in the background by the
+     * {@link PublicHolidayLoader} and the cached calendar is served until the reload succeeds.
+     */
     @Bean
     public Caffeine<Object, Object> calendarCaffeineConfig(Ticker ticker) {
         return Caffeine.newBuilder()
-            .expireAfterWrite(calendarCacheDuration, calendarCacheDurationUnit)
+            .refreshAfterWrite(calendarCacheDuration, calendarCacheDurationUnit)
             .ticker(ticker);
     }
 
     @Bean
-    public CacheManager calendarCacheManager(Caffeine<Object, Object> calendarCaffeineConfig) {
+    public CacheManager calendarCacheManager(Caffeine<Object, Object> calendarCaffeineConfig,
+                                             PublicHolidayLoader publicHolidayLoader) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
         caffeineCacheManager.setCaffeine(calendarCaffeineConfig);
+        caffeineCacheManager.setCacheLoader(publicHolidayLoader);
         caffeineCacheManager.setCacheNames(List.of("calendar_cache"));
         return caffeineCacheManager;
     }
@@ -27,6 +27,8 @@ public class ServiceBusConfiguration {
     private String ccdCaseEventsSubscriptionName;
     @Value("${azure.servicebus.retry-duration}")
     private int retryTime;
+    @Value("${azure.servicebus.prefetch-count}")
+    private int prefetchCount;
 
     public ServiceBusSessionReceiverClient createCcdCaseEventsSessionReceiver() {
         log.info("Creating CCD Case Events Session receiver");
@@ -34,6 +36,7 @@ public class ServiceBusConfiguration {
                 .connectionString(connectionString)
                 .retryOptions(retryOptions())
                 .sessionReceiver()
+                .prefetchCount(prefetchCount)
                 .topicName(topicName)
                 .subscriptionName(ccdCaseEventsSubscriptionName)
                 .buildClient();
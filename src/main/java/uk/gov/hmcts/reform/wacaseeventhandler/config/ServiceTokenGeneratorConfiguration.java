@@ -1,25 +1,40 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.hmcts.reform.authorisation.ServiceAuthorisationApi;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGeneratorFactory;
+import uk.gov.hmcts.reform.authorisation.generators.ServiceAuthTokenGenerator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 
 @Configuration
+@SuppressWarnings("PMD.DoNotUseThreads")
 public class ServiceTokenGeneratorConfiguration {
 
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     public AuthTokenGenerator authTokenGenerator(
         @Value("${idam.s2s-auth.secret}") String secret,
         @Value("${idam.s2s-auth.name}") String microService,
-        ServiceAuthorisationApi serviceAuthorisationApi
+        @Value("${idam.s2s-auth.refreshAheadSeconds}") long refreshAheadSeconds,
+        ServiceAuthorisationApi serviceAuthorisationApi,
+        ObjectMapper objectMapper,
+        Clock clock,
+        MeterRegistry meterRegistry
     ) {
-        return AuthTokenGeneratorFactory.createDefaultGenerator(
-            secret,
-            microService,
-            serviceAuthorisationApi
+        return new CachingAuthTokenGenerator(
+            new ServiceAuthTokenGenerator(secret, microService, serviceAuthorisationApi),
+            objectMapper,
+            clock,
+            Duration.ofSeconds(refreshAheadSeconds),
+            Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("s2s-token-refresh").daemon().factory()),
+            meterRegistry
         );
     }
 }
@@ -8,6 +8,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.DatabaseMessageConsumer;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.DatabaseMessageNotificationListener;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -20,18 +22,31 @@ public class CcdMessageProcessorExecutor {
     @Value("${scheduledExecutors.messageProcessing.pollIntervalMilliSeconds}")
     private int pollInterval;
 
+    @Value("${scheduledExecutors.messageProcessing.notifications.timeoutMilliSeconds}")
+    private int notificationTimeout;
+
     @Autowired
     private DatabaseMessageConsumer databaseMessageConsumer;
 
     @Autowired
     private ScheduledExecutorService databaseMessageExecutorService;
 
+    @Autowired(required = false)
+    private DatabaseMessageNotificationListener databaseMessageNotificationListener;
+
     @PostConstruct
     public void start() {
         log.info("Starting Database message executor");
+        if (databaseMessageNotificationListener != null) {
+            // woken up as soon as a message becomes ready, polling only as a safety net for missed notifications
+            // and for messages whose hold_until or DLQ gate passes, which get no notification
+            databaseMessageNotificationListener.subscribe(MessageState.READY,
+                databaseMessageExecutorService,
+                databaseMessageConsumer::drain);
+        }
         databaseMessageExecutorService.scheduleWithFixedDelay(databaseMessageConsumer,
             5000,
-            pollInterval,
+            databaseMessageNotificationListener == null ? pollInterval : notificationTimeout,
             TimeUnit.MILLISECONDS);
     }
 
@@ -1,13 +1,19 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.config.executors;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @Profile("!functional & !local")
@@ -19,6 +25,12 @@ public class ExecutorServiceConfig {
     @Value("${scheduledExecutors.messageProcessing.threadPoolSize}")
     private int processingThreadPoolSize;
 
+    @Value("${scheduledExecutors.messageProcessing.workers.count}")
+    private int processingWorkerCount;
+
+    @Value("${scheduledExecutors.messageProcessing.workers.queueDepth}")
+    private int processingWorkerQueueDepth;
+
     @Value("${scheduledExecutors.messageReadiness.threadPoolSize}")
     private int readinessThreadPoolSize;
 
@@ -42,6 +54,31 @@ public class ExecutorServiceConfig {
         return Executors.newScheduledThreadPool(processingThreadPoolSize);
     }
 
+    /**
+     * Processes the messages of a claimed batch in parallel. The queue is bounded, and once it is full the consumer
+     * thread runs the message itself, so it stops claiming more messages until the workers catch up. Pool size, queue
+     * size and task timings are published under the wa.case.event.handler prefix.
+     */
+    @Bean("databaseMessageBatchExecutorService")
+    public ExecutorService createDatabaseMessageBatchExecutorService(MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            processingWorkerCount,
+            processingWorkerCount,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(processingWorkerQueueDepth),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        return ExecutorServiceMetrics.monitor(
+            meterRegistry, executor, "databaseMessageBatch", "wa.case.event.handler");
+    }
+
+    @Bean("databaseNotificationExecutorService")
+    @ConditionalOnProperty("scheduledExecutors.messageProcessing.notifications.enabled")
+    public ExecutorService createDatabaseNotificationExecutorService() {
+        return Executors.newSingleThreadExecutor();
+    }
+
     @Bean("messageReadinessExecutorService")
     public ScheduledExecutorService createMessageReadinessExecutorService() {
         return Executors.newScheduledThreadPool(readinessThreadPoolSize);
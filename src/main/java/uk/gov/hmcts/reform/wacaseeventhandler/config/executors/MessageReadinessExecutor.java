@@ -8,7 +8,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.DatabaseMessageNotificationListener;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.MessageReadinessConsumer;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -27,11 +29,18 @@ public class MessageReadinessExecutor {
     @Autowired
     private ScheduledExecutorService messageReadinessExecutorService;
 
+    @Autowired(required = false)
+    private DatabaseMessageNotificationListener databaseMessageNotificationListener;
 
     @PostConstruct
     public void start() {
         log.info("Starting message readiness executor");
         try {
+            if (databaseMessageNotificationListener != null) {
+                databaseMessageNotificationListener.subscribe(MessageState.NEW,
+                    messageReadinessExecutorService,
+                    messageReadinessConsumer);
+            }
             messageReadinessExecutorService.scheduleWithFixedDelay(messageReadinessConsumer, 9000, pollInterval,
                                                                    TimeUnit.MILLISECONDS);
             log.info("Readiness check thread started successfully");
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.config.job;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "job.compress-message-content")
+@Getter
+@Setter
+@ToString
+public class CompressMessageContentJobConfiguration {
+    private int batchSize;
+    private int batchLimit;
+
+}
@@ -13,21 +13,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
-import uk.gov.hmcts.reform.wacaseeventhandler.handlers.CaseEventHandler;
-
-import java.util.List;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.CaseEventHandlerPipeline;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
 
 import static org.springframework.http.ResponseEntity.noContent;
 
 @RestController
 @Slf4j
 public class CaseEventHandlerController {
-    private final List<CaseEventHandler> handlerServices;
+    private final CaseEventHandlerPipeline caseEventHandlerPipeline;
 
-    public CaseEventHandlerController(List<CaseEventHandler> handlerServices) {
-        this.handlerServices = handlerServices;
+    public CaseEventHandlerController(CaseEventHandlerPipeline caseEventHandlerPipeline) {
+        this.caseEventHandlerPipeline = caseEventHandlerPipeline;
     }
 
     @Operation(summary = "Handles the CCD case event message")
@@ -43,12 +41,7 @@ public class CaseEventHandlerController {
             eventInformation.getCaseId(),
             eventInformation.getEventId()
         );
-        for (CaseEventHandler handler : handlerServices) {
-            List<? extends EvaluateResponse> results = handler.evaluateDmn(eventInformation);
-            if (!results.isEmpty()) {
-                handler.handle(results, eventInformation);
-            }
-        }
+        caseEventHandlerPipeline.process(new EventProcessingContext(eventInformation));
 
         return noContent().build();
 
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnEvaluationCache;
+
+@RestController
+@Slf4j
+@ConditionalOnProperty("dmn.cache.enabled")
+public class DmnEvaluationCacheController {
+
+    private final DmnEvaluationCache dmnEvaluationCache;
+
+    public DmnEvaluationCacheController(DmnEvaluationCache dmnEvaluationCache) {
+        this.dmnEvaluationCache = dmnEvaluationCache;
+    }
+
+    @Operation(description = "Invalidate the cached DMN evaluation results of a table, or of every table when no "
+                             + "table key is given")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "No Content")
+    })
+    @DeleteMapping(path = "/dmn/evaluation-cache")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void invalidateEvaluationCache(@RequestParam(name = "tableKey", required = false) String tableKey) {
+        log.info("Received request to invalidate DMN evaluation cache for table '{}'", tableKey);
+        if (tableKey == null) {
+            dmnEvaluationCache.invalidateAll();
+        } else {
+            dmnEvaluationCache.invalidate(tableKey);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@ToString
+@EqualsAndHashCode
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class DecisionDefinition {
+
+    private final String id;
+    private final String key;
+    private final Integer version;
+    private final String tenantId;
+
+    @JsonCreator
+    public DecisionDefinition(@JsonProperty("id") String id,
+                              @JsonProperty("key") String key,
+                              @JsonProperty("version") Integer version,
+                              @JsonProperty("tenantId") String tenantId) {
+        this.id = id;
+        this.key = key;
+        this.version = version;
+        this.tenantId = tenantId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@ToString(exclude = "dmnXml")
+@EqualsAndHashCode
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class DecisionDefinitionXml {
+
+    private final String id;
+    private final String dmnXml;
+
+    @JsonCreator
+    public DecisionDefinitionXml(@JsonProperty("id") String id,
+                                 @JsonProperty("dmnXml") String dmnXml) {
+        this.id = id;
+        this.dmnXml = dmnXml;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDmnXml() {
+        return dmnXml;
+    }
+}
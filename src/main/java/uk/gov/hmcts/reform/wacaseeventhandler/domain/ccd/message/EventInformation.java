@@ -12,8 +12,8 @@ import lombok.EqualsAndHashCode;
 
 import java.time.LocalDateTime;
 import java.util.Locale;
+import java.util.function.Supplier;
 
-@Builder
 @EqualsAndHashCode
 @SuppressWarnings("PMD.ExcessiveParameterList")
 public final class EventInformation {
@@ -36,8 +36,16 @@ public final class EventInformation {
     @NotEmpty
     private final String userId;
 
-    private final AdditionalData additionalData;
+    // filled in lazily, so equality and the hash code read it through getAdditionalData rather than the field
+    private AdditionalData additionalData;
+    @EqualsAndHashCode.Exclude
+    private final Supplier<AdditionalData> additionalDataSupplier;
+    @EqualsAndHashCode.Exclude
+    private boolean additionalDataRead;
+    @EqualsAndHashCode.Exclude
+    private final Object additionalDataLock = new Object();
 
+    @Builder
     @JsonCreator
     public EventInformation(@JsonProperty("EventInstanceId") String eventInstanceId,
                             @JsonProperty("EventTimeStamp") LocalDateTime eventTimeStamp,
@@ -49,6 +57,22 @@ public final class EventInformation {
                             @JsonProperty("NewStateId") String newStateId,
                             @JsonProperty("UserId") String userId,
                             @JsonProperty("AdditionalData") AdditionalData additionalData) {
+        this(eventInstanceId, eventTimeStamp, caseId, jurisdictionId, caseTypeId, eventId, previousStateId,
+             newStateId, userId, () -> additionalData);
+        this.additionalData = additionalData;
+        this.additionalDataRead = true;
+    }
+
+    private EventInformation(String eventInstanceId,
+                             LocalDateTime eventTimeStamp,
+                             String caseId,
+                             String jurisdictionId,
+                             String caseTypeId,
+                             String eventId,
+                             String previousStateId,
+                             String newStateId,
+                             String userId,
+                             Supplier<AdditionalData> additionalDataSupplier) {
         this.eventInstanceId = eventInstanceId;
         this.eventTimeStamp = eventTimeStamp;
         this.caseId = caseId;
@@ -58,7 +82,25 @@ public final class EventInformation {
         this.previousStateId = previousStateId;
         this.newStateId = newStateId;
         this.userId = userId;
-        this.additionalData = additionalData;
+        this.additionalDataSupplier = additionalDataSupplier;
+    }
+
+    /**
+     * Creates event information whose additional data is only read, with the given supplier, the first time it is
+     * asked for. Handlers evaluate the same event information in parallel, so the supplier is called at most once.
+     */
+    public static EventInformation withAdditionalDataSupplier(String eventInstanceId,
+                                                              LocalDateTime eventTimeStamp,
+                                                              String caseId,
+                                                              String jurisdictionId,
+                                                              String caseTypeId,
+                                                              String eventId,
+                                                              String previousStateId,
+                                                              String newStateId,
+                                                              String userId,
+                                                              Supplier<AdditionalData> additionalDataSupplier) {
+        return new EventInformation(eventInstanceId, eventTimeStamp, caseId, jurisdictionId, caseTypeId, eventId,
+                                    previousStateId, newStateId, userId, additionalDataSupplier);
     }
 
     public String getEventInstanceId() {
@@ -97,8 +139,20 @@ public final class EventInformation {
         return userId;
     }
 
+    public boolean hasReadAdditionalData() {
+        synchronized (additionalDataLock) {
+            return additionalDataRead;
+        }
+    }
+
     public AdditionalData getAdditionalData() {
-        return additionalData;
+        synchronized (additionalDataLock) {
+            if (!additionalDataRead) {
+                additionalData = additionalDataSupplier.get();
+                additionalDataRead = true;
+            }
+            return additionalData;
+        }
     }
 
     @Override
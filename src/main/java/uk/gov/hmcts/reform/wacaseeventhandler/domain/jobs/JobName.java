@@ -5,5 +5,6 @@ public enum JobName {
     RESET_PROBLEM_MESSAGES,
     RESET_NULL_EVENT_TIMESTAMP_MESSAGES,
     SET_STATE_TO_PROCESSED_ON_MESSAGES,
-    CLEAN_UP_MESSAGES
+    CLEAN_UP_MESSAGES,
+    COMPRESS_MESSAGE_CONTENT
 }
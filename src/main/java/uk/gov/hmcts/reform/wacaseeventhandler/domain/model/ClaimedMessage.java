@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.domain.model;
+
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a claimed case event message that are needed to process it.
+ */
+public record ClaimedMessage(String messageId,
+                             String caseId,
+                             MessageState state,
+                             int retryCount,
+                             LocalDateTime holdUntil,
+                             String messageContent,
+                             LocalDateTime eventTimestamp,
+                             EventColumns eventColumns) {
+
+    // the message content is left out as it holds case data
+    @Override
+    public String toString() {
+        return "ClaimedMessage{"
+               + "messageId=" + messageId
+               + ", caseId=" + caseId
+               + ", state=" + state
+               + ", retryCount=" + retryCount
+               + ", holdUntil=" + holdUntil
+               + ", eventTimestamp=" + eventTimestamp
+               + ", eventColumns=" + eventColumns
+               + "}";
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.domain.model;
+
+/**
+ * The fields of a CCD case event message that are stored in their own columns when the message is received, so the
+ * message content does not need to be parsed again to read them.
+ */
+public record EventColumns(String jurisdictionId,
+                           String caseTypeId,
+                           String eventId,
+                           String eventInstanceId,
+                           String previousStateId,
+                           String newStateId,
+                           String userId) {
+}
@@ -0,0 +1,4 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.domain.model;
+
+public record ReceivedMessage(String messageId, String sessionId, String messageContent) {
+}
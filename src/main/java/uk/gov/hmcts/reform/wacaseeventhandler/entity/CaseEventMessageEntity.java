@@ -34,9 +34,18 @@ public class CaseEventMessageEntity implements Serializable {
     private static final String FROM_DLQ = "from_dlq";
     private static final String MESSAGE_PROPERTIES = "message_properties";
     private static final String MESSAGE_CONTENT = "message_content";
+    private static final String MESSAGE_CONTENT_COMPRESSED = "message_content_compressed";
     private static final String DELIVERY_COUNT = "delivery_count";
     private static final String HOLD_UNTIL = "hold_until";
     private static final String RETRY_COUNT = "retry_count";
+    private static final String JURISDICTION_ID = "jurisdiction_id";
+    private static final String CASE_TYPE_ID = "case_type_id";
+    private static final String EVENT_ID = "event_id";
+    private static final String EVENT_INSTANCE_ID = "event_instance_id";
+    private static final String PREVIOUS_STATE_ID = "previous_state_id";
+    private static final String NEW_STATE_ID = "new_state_id";
+    private static final String USER_ID = "user_id";
+    private static final String DEFINITION_HASH = "definition_hash";
     private static final long serialVersionUID = 6682644496535002875L;
 
 
@@ -70,6 +79,12 @@ public class CaseEventMessageEntity implements Serializable {
     @Column(name = MESSAGE_CONTENT)
     private String messageContent;
 
+    @Column(name = MESSAGE_CONTENT_COMPRESSED)
+    @Convert(converter = CompressedMessageContentConverter.class)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String compressedMessageContent;
+
     @Column(nullable = false)
     private LocalDateTime received;
 
@@ -82,6 +97,30 @@ public class CaseEventMessageEntity implements Serializable {
     @Column(name = RETRY_COUNT, nullable = false)
     private Integer retryCount;
 
+    @Column(name = JURISDICTION_ID)
+    private String jurisdictionId;
+
+    @Column(name = CASE_TYPE_ID)
+    private String caseTypeId;
+
+    @Column(name = EVENT_ID)
+    private String eventId;
+
+    @Column(name = EVENT_INSTANCE_ID)
+    private String eventInstanceId;
+
+    @Column(name = PREVIOUS_STATE_ID)
+    private String previousStateId;
+
+    @Column(name = NEW_STATE_ID)
+    private String newStateId;
+
+    @Column(name = USER_ID)
+    private String userId;
+
+    @Column(name = DEFINITION_HASH)
+    private String definitionHash;
+
     public String getMessageId() {
         return messageId;
     }
@@ -141,11 +180,28 @@ public class CaseEventMessageEntity implements Serializable {
     }
 
     public String getMessageContent() {
-        return messageContent;
+        return messageContent == null ? compressedMessageContent : messageContent;
     }
 
     public void setMessageContent(String messageContent) {
         this.messageContent = messageContent;
+        this.compressedMessageContent = null;
+    }
+
+    /**
+     * Stores the message content in the compressed column instead of as text. The message content read back is
+     * unchanged.
+     */
+    public void compressMessageContent() {
+        if (messageContent != null) {
+            compressedMessageContent = messageContent;
+            messageContent = null;
+        }
+    }
+
+    @JsonIgnore
+    public boolean isMessageContentCompressed() {
+        return compressedMessageContent != null;
     }
 
     public LocalDateTime getReceived() {
@@ -180,6 +236,70 @@ public class CaseEventMessageEntity implements Serializable {
         this.retryCount = retryCount;
     }
 
+    public String getJurisdictionId() {
+        return jurisdictionId;
+    }
+
+    public void setJurisdictionId(String jurisdictionId) {
+        this.jurisdictionId = jurisdictionId;
+    }
+
+    public String getCaseTypeId() {
+        return caseTypeId;
+    }
+
+    public void setCaseTypeId(String caseTypeId) {
+        this.caseTypeId = caseTypeId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getEventInstanceId() {
+        return eventInstanceId;
+    }
+
+    public void setEventInstanceId(String eventInstanceId) {
+        this.eventInstanceId = eventInstanceId;
+    }
+
+    public String getPreviousStateId() {
+        return previousStateId;
+    }
+
+    public void setPreviousStateId(String previousStateId) {
+        this.previousStateId = previousStateId;
+    }
+
+    public String getNewStateId() {
+        return newStateId;
+    }
+
+    public void setNewStateId(String newStateId) {
+        this.newStateId = newStateId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getDefinitionHash() {
+        return definitionHash;
+    }
+
+    public void setDefinitionHash(String definitionHash) {
+        this.definitionHash = definitionHash;
+    }
+
     @JsonIgnore
     public CaseEventMessageEntity buildMessage(String id, MessageState state) {
         this.messageId = id;
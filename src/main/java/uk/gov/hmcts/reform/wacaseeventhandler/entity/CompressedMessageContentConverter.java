@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Stores message content as deflated UTF-8 in a {@code bytea} column. The static methods are used by the JDBC
+ * repositories, which read and write the column without the entity.
+ */
+@Converter
+@SuppressWarnings("PMD.ReturnEmptyArrayRatherThanNull")
+public class CompressedMessageContentConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String messageContent) {
+        return compress(messageContent);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] compressedMessageContent) {
+        return decompress(compressedMessageContent);
+    }
+
+    public static byte[] compress(String messageContent) {
+        if (messageContent == null) {
+            return null;
+        }
+
+        byte[] bytes = messageContent.getBytes(UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        Deflater deflater = new Deflater();
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(compressed, deflater)) {
+            deflaterOutputStream.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            deflater.end();
+        }
+        return compressed.toByteArray();
+    }
+
+    public static String decompress(byte[] compressedMessageContent) {
+        if (compressedMessageContent == null) {
+            return null;
+        }
+
+        try (InflaterInputStream inflaterInputStream =
+                 new InflaterInputStream(new ByteArrayInputStream(compressedMessageContent))) {
+            return new String(inflaterInputStream.readAllBytes(), UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not decompress message content", ex);
+        }
+    }
+}
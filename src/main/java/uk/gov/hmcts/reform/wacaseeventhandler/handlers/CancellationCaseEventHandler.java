@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.handlers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
@@ -8,13 +7,12 @@ import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.CancellationActions;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
-import uk.gov.hmcts.reform.wacaseeventhandler.util.AdditionalDataReader;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.util.HashSet;
 import java.util.List;
@@ -26,54 +24,33 @@ import java.util.stream.Stream;
 import static java.util.Arrays.asList;
 import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnAndMessageNames.TASK_CANCELLATION;
 import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnBooleanValue;
-import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnMapValue;
 import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
 
 @Slf4j
 @Service
 @Order(1)
 @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "unchecked"})
-public class CancellationCaseEventHandler implements CaseEventHandler {
+public class CancellationCaseEventHandler implements CancellationDmnCaseEventHandler {
 
     private final AuthTokenGenerator serviceAuthGenerator;
     private final WorkflowApiClient workflowApiClient;
-    private final ObjectMapper objectMapper;
+    private final CancellationDmnEvaluator cancellationDmnEvaluator;
 
     public CancellationCaseEventHandler(AuthTokenGenerator serviceAuthGenerator, WorkflowApiClient workflowApiClient,
-                                        ObjectMapper objectMapper) {
+                                        CancellationDmnEvaluator cancellationDmnEvaluator) {
         this.serviceAuthGenerator = serviceAuthGenerator;
         this.workflowApiClient = workflowApiClient;
-        this.objectMapper = objectMapper;
+        this.cancellationDmnEvaluator = cancellationDmnEvaluator;
     }
 
     @Override
-    public List<? extends EvaluateResponse> evaluateDmn(EventInformation eventInformation) {
-        String tableKey = TASK_CANCELLATION.getTableKey(
-            eventInformation.getJurisdictionId(),
-            eventInformation.getCaseTypeId()
-        );
-
-        String tenantId = eventInformation.getJurisdictionId();
-
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest(
-            eventInformation.getPreviousStateId(),
-            eventInformation.getEventId(),
-            eventInformation.getNewStateId(),
-            AdditionalDataReader.readValue(objectMapper,eventInformation.getAdditionalData())
-        );
-
-        EvaluateDmnResponse<CancellationEvaluateResponse> response = workflowApiClient.evaluateCancellationDmn(
-            serviceAuthGenerator.generate(),
-            tableKey,
-            tenantId,
-            evaluateDmnRequest);
-
-        return response.getResults();
+    public List<? extends EvaluateResponse> evaluateDmn(EventProcessingContext context) {
+        return cancellationDmnEvaluator.evaluate(context);
     }
 
     @Override
-    public void handle(List<? extends EvaluateResponse> results, EventInformation eventInformation) {
-        log.info("CancellationCaseEventHandler eventInformation:{}", eventInformation);
+    public void handle(List<? extends EvaluateResponse> results, EventProcessingContext context) {
+        log.info("CancellationCaseEventHandler eventInformation:{}", context.getEventInformation());
         results.stream()
             .filter(CancellationEvaluateResponse.class::isInstance)
             .map(CancellationEvaluateResponse.class::cast)
@@ -82,39 +59,25 @@ public class CancellationCaseEventHandler implements CaseEventHandler {
                 DmnValue<String> taskCategories = cancellationEvaluateResponse.getTaskCategories();
                 DmnValue<String> processCategories = cancellationEvaluateResponse.getProcessCategories();
                 sendCancellationMessage(
-                    eventInformation.getCaseId(),
+                    context,
                     taskCategories,
                     processCategories
                 );
             });
     }
 
-    private EvaluateDmnRequest buildEvaluateDmnRequest(
-        String previousStateId,
-        String eventId,
-        String newStateId,
-        Map<String, Object> additionalData
-    ) {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue(eventId),
-            "state", dmnStringValue(newStateId),
-            "fromState", dmnStringValue(previousStateId),
-            "additionalData", dmnMapValue(additionalData)
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
-    private void sendCancellationMessage(String caseReference,
+    private void sendCancellationMessage(EventProcessingContext context,
                                          DmnValue<String> categories,
                                          DmnValue<String> processCategories) {
         Set<SendMessageRequest> cancellationMessageRequests =
-            buildCancellationMessageRequest(caseReference, categories, processCategories);
+            buildCancellationMessageRequest(context.getEventInformation().getCaseId(), categories, processCategories);
 
         cancellationMessageRequests.forEach(message -> {
                 if (message != null) {
                     log.info("sendCancellationMessage message:{}", message);
-                    workflowApiClient.sendMessage(serviceAuthGenerator.generate(), message);
+                    String serviceAuthorisation = context.getServiceAuthorisation(serviceAuthGenerator);
+                    context.runTimed(Stage.SEND_MESSAGE, this,
+                        () -> workflowApiClient.sendMessage(serviceAuthorisation, message));
                 }
             }
         );
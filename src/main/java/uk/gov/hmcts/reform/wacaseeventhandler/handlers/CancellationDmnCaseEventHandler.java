@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.handlers;
+
+/**
+ * A case event handler acting on the results of the shared wa-task-cancellation DMN table.
+ * When processing a message the table is evaluated once per event by
+ * {@link uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator}
+ * and the same results are handed to every handler of this type. Their own {@code evaluateDmn} delegates to the same
+ * evaluator, so a direct caller goes through the same evaluation path.
+ */
+public interface CancellationDmnCaseEventHandler extends CaseEventHandler {
+}
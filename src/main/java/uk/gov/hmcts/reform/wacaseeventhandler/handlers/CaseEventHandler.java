@@ -1,13 +1,13 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.handlers;
 
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
 
 import java.util.List;
 
 
 public interface CaseEventHandler {
-    List<? extends EvaluateResponse> evaluateDmn(EventInformation eventInformation);
+    List<? extends EvaluateResponse> evaluateDmn(EventProcessingContext context);
 
-    void handle(List<? extends EvaluateResponse> results, EventInformation eventInformation);
+    void handle(List<? extends EvaluateResponse> results, EventProcessingContext context);
 }
@@ -11,7 +11,6 @@ import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.WarningValues;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
@@ -20,13 +19,14 @@ import uk.gov.hmcts.reform.wacaseeventhandler.services.DueDateService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.IdempotencyKeyGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.calendar.DelayUntilConfigurator;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.calendar.DelayUntilRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.dates.IsoDateFormatter;
-import uk.gov.hmcts.reform.wacaseeventhandler.util.AdditionalDataReader;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnEvaluationService;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -52,6 +52,7 @@ public class InitiationCaseEventHandler implements CaseEventHandler {
 
     private final AuthTokenGenerator serviceAuthGenerator;
     private final WorkflowApiClient workflowApiClient;
+    private final DmnEvaluationService dmnEvaluationService;
     private final IdempotencyKeyGenerator idempotencyKeyGenerator;
     private final IsoDateFormatter isoDateFormatter;
     private final DueDateService dueDateService;
@@ -61,6 +62,7 @@ public class InitiationCaseEventHandler implements CaseEventHandler {
     @Autowired
     public InitiationCaseEventHandler(AuthTokenGenerator serviceAuthGenerator,
                                       WorkflowApiClient workflowApiClient,
+                                      DmnEvaluationService dmnEvaluationService,
                                       IdempotencyKeyGenerator idempotencyKeyGenerator,
                                       IsoDateFormatter isoDateFormatter,
                                       DueDateService dueDateService,
@@ -68,6 +70,7 @@ public class InitiationCaseEventHandler implements CaseEventHandler {
                                       DelayUntilConfigurator delayUntilConfigurator) {
         this.serviceAuthGenerator = serviceAuthGenerator;
         this.workflowApiClient = workflowApiClient;
+        this.dmnEvaluationService = dmnEvaluationService;
         this.idempotencyKeyGenerator = idempotencyKeyGenerator;
         this.isoDateFormatter = isoDateFormatter;
         this.dueDateService = dueDateService;
@@ -76,11 +79,9 @@ public class InitiationCaseEventHandler implements CaseEventHandler {
     }
 
     @Override
-    public List<? extends EvaluateResponse> evaluateDmn(EventInformation eventInformation) {
-        String tableKey = TASK_INITIATION.getTableKey(
-            eventInformation.getJurisdictionId(),
-            eventInformation.getCaseTypeId()
-        );
+    public List<? extends EvaluateResponse> evaluateDmn(EventProcessingContext context) {
+        EventInformation eventInformation = context.getEventInformation();
+        String tableKey = context.getTableKey(TASK_INITIATION);
         log.debug("tableKey : {}", tableKey);
         String tenantId = eventInformation.getJurisdictionId();
         String directionDueDate = extractDirectionDueDate(eventInformation.getAdditionalData());
@@ -89,8 +90,8 @@ public class InitiationCaseEventHandler implements CaseEventHandler {
         EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest(
             eventInformation.getEventId(),
             eventInformation.getNewStateId(),
-            AdditionalDataReader.readValue(objectMapper, eventInformation.getAdditionalData()),
-            LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE),
+            context.getAdditionalData(objectMapper),
+            context.getToday(),
             directionDueDate
         );
         log.info(
@@ -98,34 +99,32 @@ public class InitiationCaseEventHandler implements CaseEventHandler {
             eventInformation.getEventId(),
             eventInformation.getNewStateId(),
             directionDueDate,
-            LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE)
+            context.getToday()
         );
-        EvaluateDmnResponse<InitiateEvaluateResponse> response = workflowApiClient.evaluateInitiationDmn(
-            serviceAuthGenerator.generate(),
+        List<InitiateEvaluateResponse> results = dmnEvaluationService.evaluateInitiationDmn(
             tableKey,
             tenantId,
             evaluateDmnRequest
         );
-        log.debug("Workflow api response : {}", response);
-        return response.getResults();
+        log.debug("DMN evaluation results : {}", results);
+        return results;
     }
 
     @Override
-    public void handle(List<? extends EvaluateResponse> results, EventInformation eventInformation) {
-        log.info("InitiationCaseEventHandler eventInformation:{}", eventInformation);
+    public void handle(List<? extends EvaluateResponse> results, EventProcessingContext context) {
+        log.info("InitiationCaseEventHandler eventInformation:{}", context.getEventInformation());
         results.stream()
             .filter(InitiateEvaluateResponse.class::isInstance)
             .map(InitiateEvaluateResponse.class::cast)
             .forEach(initiateEvaluateResponse -> {
                 log.info("initiateEvaluateResponse is {}", initiateEvaluateResponse);
                 SendMessageRequest request =
-                    buildInitiateTaskMessageRequest(initiateEvaluateResponse, eventInformation);
+                    buildInitiateTaskMessageRequest(initiateEvaluateResponse, context);
 
                 log.info("sendInitiationMessage message:{}", request);
-                workflowApiClient.sendMessage(
-                    serviceAuthGenerator.generate(),
-                    request
-                );
+                String serviceAuthorisation = context.getServiceAuthorisation(serviceAuthGenerator);
+                context.runTimed(Stage.SEND_MESSAGE, this,
+                    () -> workflowApiClient.sendMessage(serviceAuthorisation, request));
             });
     }
 
@@ -163,11 +162,11 @@ public class InitiationCaseEventHandler implements CaseEventHandler {
 
     private SendMessageRequest buildInitiateTaskMessageRequest(
         InitiateEvaluateResponse initiateEvaluateResponse,
-        EventInformation eventInformation
+        EventProcessingContext context
     ) {
         Map<String, DmnValue<?>> initialProcessVariables = buildProcessVariables(
             initiateEvaluateResponse,
-            eventInformation
+            context
         );
 
         log.debug("Initiation send message process variables {}", initialProcessVariables);
@@ -180,9 +179,10 @@ public class InitiationCaseEventHandler implements CaseEventHandler {
 
     private Map<String, DmnValue<?>> buildProcessVariables(
         InitiateEvaluateResponse initiateEvaluateResponse,
-        EventInformation eventInformation
+        EventProcessingContext context
     ) {
-        final ZonedDateTime zonedDateTime = isoDateFormatter.formatToZone(eventInformation.getEventTimeStamp());
+        EventInformation eventInformation = context.getEventInformation();
+        final ZonedDateTime zonedDateTime = context.getZonedEventTimeStamp(isoDateFormatter);
 
         ZonedDateTime delayUntilBasedOnDelayDuration = dueDateService.calculateDelayUntil(
             zonedDateTime,
@@ -5,73 +5,50 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.TaskManagementApiClient;
-import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.CancellationActions;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.MarkTaskToReconfigureTaskFilter;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.TaskFilter;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.TaskFilterOperator;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.TaskOperation;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.TaskOperationName;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.TaskOperationRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
-import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnAndMessageNames.TASK_CANCELLATION;
-import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
 
 @Slf4j
 @Service
 @Order(3)
 @SuppressWarnings({"PMD.DataflowAnomalyAnalysis"})
-public class ReconfigurationCaseEventHandler implements CaseEventHandler {
+public class ReconfigurationCaseEventHandler implements CancellationDmnCaseEventHandler {
 
     private final AuthTokenGenerator serviceAuthGenerator;
-    private final WorkflowApiClient workflowApiClient;
     private final TaskManagementApiClient taskManagementApiClient;
+    private final CancellationDmnEvaluator cancellationDmnEvaluator;
 
-    public ReconfigurationCaseEventHandler(AuthTokenGenerator serviceAuthGenerator, WorkflowApiClient workflowApiClient,
-                                           TaskManagementApiClient taskManagementApiClient) {
+    public ReconfigurationCaseEventHandler(AuthTokenGenerator serviceAuthGenerator,
+                                           TaskManagementApiClient taskManagementApiClient,
+                                           CancellationDmnEvaluator cancellationDmnEvaluator) {
         this.serviceAuthGenerator = serviceAuthGenerator;
-        this.workflowApiClient = workflowApiClient;
         this.taskManagementApiClient = taskManagementApiClient;
+        this.cancellationDmnEvaluator = cancellationDmnEvaluator;
     }
 
     @Override
-    public List<? extends EvaluateResponse> evaluateDmn(EventInformation reconfigurationEventInformation) {
-        String tableKey = TASK_CANCELLATION.getTableKey(
-            reconfigurationEventInformation.getJurisdictionId(),
-            reconfigurationEventInformation.getCaseTypeId()
-        );
-        log.debug("tableKey : {}", tableKey);
-        String tenantId = reconfigurationEventInformation.getJurisdictionId();
-
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest(
-            reconfigurationEventInformation.getPreviousStateId(),
-            reconfigurationEventInformation.getEventId(),
-            reconfigurationEventInformation.getNewStateId()
-        );
-
-        EvaluateDmnResponse<CancellationEvaluateResponse> response = workflowApiClient.evaluateCancellationDmn(
-            serviceAuthGenerator.generate(),
-            tableKey,
-            tenantId,
-            evaluateDmnRequest);
-
-        return response.getResults();
+    public List<? extends EvaluateResponse> evaluateDmn(EventProcessingContext context) {
+        return cancellationDmnEvaluator.evaluate(context);
     }
 
     @Override
-    public void handle(List<? extends EvaluateResponse> results, EventInformation reconfigurationEventInformation) {
-        log.info("ReconfigurationCaseEventHandler eventInformation:{}", reconfigurationEventInformation);
+    public void handle(List<? extends EvaluateResponse> results, EventProcessingContext context) {
+        log.info("ReconfigurationCaseEventHandler eventInformation:{}", context.getEventInformation());
         results.stream()
             .filter(CancellationEvaluateResponse.class::isInstance)
             .map(CancellationEvaluateResponse.class::cast)
@@ -81,7 +58,7 @@ public class ReconfigurationCaseEventHandler implements CaseEventHandler {
             .forEach(reconfigureResponse -> {
                 log.info("sendReconfigurationRequest request:{}", reconfigureResponse);
                 evaluateReconfigureActionResponse(reconfigureResponse);
-                sendReconfigurationRequest(reconfigurationEventInformation.getCaseId());
+                sendReconfigurationRequest(context);
             });
     }
 
@@ -98,23 +75,12 @@ public class ReconfigurationCaseEventHandler implements CaseEventHandler {
         }
     }
 
-    private EvaluateDmnRequest buildEvaluateDmnRequest(
-        String previousStateId,
-        String eventId,
-        String newStateId
-    ) {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue(eventId),
-            "state", dmnStringValue(newStateId),
-            "fromState", dmnStringValue(previousStateId)
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
-    private void sendReconfigurationRequest(String caseReference) {
+    private void sendReconfigurationRequest(EventProcessingContext context) {
+        String caseReference = context.getEventInformation().getCaseId();
+        String serviceAuthorisation = context.getServiceAuthorisation(serviceAuthGenerator);
         TaskOperationRequest taskOperationRequest = buildTaskOperationRequest(caseReference);
-        taskManagementApiClient.performOperation(serviceAuthGenerator.generate(), taskOperationRequest);
+        context.runTimed(Stage.PERFORM_OPERATION, this,
+            () -> taskManagementApiClient.performOperation(serviceAuthorisation, taskOperationRequest));
         log.info("Reconfiguration completed caseReference:{}", caseReference);
     }
 
@@ -10,12 +10,12 @@ import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.CancellationActions
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.Warning;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.WarningValues;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -34,44 +34,28 @@ import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmn
 @Order(2)
 @Slf4j
 @SuppressWarnings({"PMD.DataflowAnomalyAnalysis"})
-public class WarningCaseEventHandler implements CaseEventHandler {
+public class WarningCaseEventHandler implements CancellationDmnCaseEventHandler {
 
     private final AuthTokenGenerator serviceAuthGenerator;
     private final WorkflowApiClient workflowApiClient;
+    private final CancellationDmnEvaluator cancellationDmnEvaluator;
 
-    public WarningCaseEventHandler(AuthTokenGenerator serviceAuthGenerator, WorkflowApiClient workflowApiClient) {
+    public WarningCaseEventHandler(AuthTokenGenerator serviceAuthGenerator, WorkflowApiClient workflowApiClient,
+                                   CancellationDmnEvaluator cancellationDmnEvaluator) {
         this.serviceAuthGenerator = serviceAuthGenerator;
         this.workflowApiClient = workflowApiClient;
+        this.cancellationDmnEvaluator = cancellationDmnEvaluator;
     }
 
     @Override
-    public List<? extends EvaluateResponse> evaluateDmn(EventInformation eventInformation) {
-        String tableKey = TASK_WARN.getTableKey(
-            eventInformation.getJurisdictionId(),
-            eventInformation.getCaseTypeId()
-        );
-
-        String tenantId = eventInformation.getJurisdictionId();
-
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest(
-            eventInformation.getPreviousStateId(),
-            eventInformation.getEventId(),
-            eventInformation.getNewStateId()
-        );
-
-        EvaluateDmnResponse<CancellationEvaluateResponse> response = workflowApiClient.evaluateCancellationDmn(
-            serviceAuthGenerator.generate(),
-            tableKey,
-            tenantId,
-            evaluateDmnRequest);
-
-        return response.getResults();
+    public List<? extends EvaluateResponse> evaluateDmn(EventProcessingContext context) {
+        return cancellationDmnEvaluator.evaluate(context);
     }
 
     @SuppressWarnings("PMD.ConfusingTernary")
     @Override
-    public void handle(List<? extends EvaluateResponse> results, EventInformation eventInformation) {
-        log.info("WarningCaseEventHandler eventInformation:{}", eventInformation);
+    public void handle(List<? extends EvaluateResponse> results, EventProcessingContext context) {
+        log.info("WarningCaseEventHandler eventInformation:{}", context.getEventInformation());
         Set<CancellationEvaluateResponse> emptyWarnings = new LinkedHashSet<>();
         Set<CancellationEvaluateResponse> ctgWarnings = new LinkedHashSet<>();
         Set<Warning> warnings = new LinkedHashSet<>();
@@ -103,20 +87,20 @@ public class WarningCaseEventHandler implements CaseEventHandler {
                 }
             });
 
-        processWarningResponse(emptyWarnings, warnings, ctgWarnings, eventInformation);
+        processWarningResponse(emptyWarnings, warnings, ctgWarnings, context);
     }
 
     private void processWarningResponse(
         Set<CancellationEvaluateResponse> emptyWarnings,
         Set<Warning> warnings,
         Set<CancellationEvaluateResponse> ctgWarnings,
-        EventInformation eventInformation
+        EventProcessingContext context
 
     ) {
         // scenario: event without warning attributes
         if (!emptyWarnings.isEmpty()) {
             emptyWarnings.forEach(response -> sendWarningMessage(
-                eventInformation.getCaseId(),
+                context,
                 response.getTaskCategories(),
                 response.getProcessCategories(),
                 null)
@@ -129,7 +113,7 @@ public class WarningCaseEventHandler implements CaseEventHandler {
             warnings.forEach(warning -> warningValues.getValues().add(warning));
 
             sendWarningMessage(
-                eventInformation.getCaseId(),
+                context,
                 null,
                 null,
                 warningValues.getValuesAsJson()
@@ -145,7 +129,7 @@ public class WarningCaseEventHandler implements CaseEventHandler {
                 warningValues.getValues().add(warning);
 
                 sendWarningMessage(
-                    eventInformation.getCaseId(),
+                    context,
                     response.getTaskCategories(),
                     response.getProcessCategories(),
                     warningValues.getValuesAsJson()
@@ -154,18 +138,20 @@ public class WarningCaseEventHandler implements CaseEventHandler {
         }
     }
 
-    private void sendWarningMessage(String caseReference,
+    private void sendWarningMessage(EventProcessingContext context,
                                     DmnValue<String> categories,
                                     DmnValue<String> processCategories,
                                     String warningVariables) {
         Set<SendMessageRequest> warningMessageRequest =
-            buildWarningMessageRequest(caseReference, categories,
+            buildWarningMessageRequest(context.getEventInformation().getCaseId(), categories,
                                        processCategories, warningVariables);
 
         warningMessageRequest.forEach(message -> {
                 if (message != null) {
                     log.info("sendWarningMessage message:{}", message);
-                    workflowApiClient.sendMessage(serviceAuthGenerator.generate(), message);
+                    String serviceAuthorisation = context.getServiceAuthorisation(serviceAuthGenerator);
+                    context.runTimed(Stage.SEND_MESSAGE, this,
+                        () -> workflowApiClient.sendMessage(serviceAuthorisation, message));
                 }
             }
         );
@@ -270,20 +256,6 @@ public class WarningCaseEventHandler implements CaseEventHandler {
 
     }
 
-    private EvaluateDmnRequest buildEvaluateDmnRequest(
-        String previousStateId,
-        String eventId,
-        String newStateId
-    ) {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue(eventId),
-            "state", dmnStringValue(newStateId),
-            "fromState", dmnStringValue(previousStateId)
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
     private SendMessageRequest addWarningsToProcessVariables(
         Map<String, DmnValue<?>> correlationKeys,
         String warningVariables) {
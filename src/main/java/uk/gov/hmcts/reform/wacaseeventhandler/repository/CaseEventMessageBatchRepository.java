@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CompressedMessageContentConverter;
+
+import java.sql.Types;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Stores a batch of received messages with a single multi-row upsert. A message that is already stored only has its
+ * delivery count incremented, as it would have when the messages were stored one by one.
+ * The triggers maintaining the case heads take an advisory lock per case. A batch spans several cases, so it takes
+ * all of its case locks up front in one order shared by every batch, and concurrent batches cannot deadlock on them.
+ */
+@Repository
+public class CaseEventMessageBatchRepository {
+
+    private static final String INSERT_MESSAGES =
+        "INSERT INTO public.wa_case_event_messages (message_id, case_id, event_timestamp, from_dlq, state, "
+        + "message_properties, message_content, message_content_compressed, received, delivery_count, hold_until, "
+        + "retry_count, jurisdiction_id, case_type_id, event_id, event_instance_id, previous_state_id, new_state_id, "
+        + "user_id, definition_hash) VALUES ";
+
+    private static final String VALUES_ROW =
+        "(:messageId%1$d, :caseId%1$d, :eventTimestamp%1$d, :fromDlq%1$d, "
+        + "cast(:state%1$d as message_state_enum), cast(:messageProperties%1$d as jsonb), :messageContent%1$d, "
+        + ":messageContentCompressed%1$d, :received%1$d, :deliveryCount%1$d, :holdUntil%1$d, :retryCount%1$d, "
+        + ":jurisdictionId%1$d, :caseTypeId%1$d, :eventId%1$d, :eventInstanceId%1$d, :previousStateId%1$d, "
+        + ":newStateId%1$d, :userId%1$d, :definitionHash%1$d)";
+
+    // the locks are taken after sorting, a volatile function in the select list being evaluated after the order by
+    private static final String LOCK_CASES =
+        "SELECT count(*) FROM (SELECT pg_advisory_xact_lock(case_lock) FROM "
+        + "(SELECT DISTINCT hashtext(case_id) AS case_lock FROM unnest(cast(array[:caseIds] as text[])) AS case_id) "
+        + "AS case_locks ORDER BY case_lock) AS locked_cases";
+
+    // excluded.delivery_count holds the redeliveries of the message within the batch
+    private static final String ON_CONFLICT_INCREMENT_DELIVERY_COUNT =
+        " ON CONFLICT (message_id) DO UPDATE "
+        + "SET delivery_count = wa_case_event_messages.delivery_count + excluded.delivery_count + 1";
+
+    private static final Comparator<CaseEventMessageEntity> BATCH_ORDER = Comparator
+        .comparing(CaseEventMessageEntity::getCaseId, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(CaseEventMessageEntity::getMessageId);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CaseEventMessageBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public int upsertMessages(List<CaseEventMessageEntity> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        // a row can only be upserted once per statement, so redeliveries within the batch are folded
+        Map<String, CaseEventMessageEntity> messagesById = new LinkedHashMap<>();
+        Map<String, Integer> redeliveriesById = new LinkedHashMap<>();
+        messages.forEach(message -> {
+            if (messagesById.putIfAbsent(message.getMessageId(), message) != null) {
+                redeliveriesById.merge(message.getMessageId(), 1, Integer::sum);
+            }
+        });
+
+        // rows are written in case and message id order, so concurrent batches also lock the index entries in order
+        List<CaseEventMessageEntity> sortedMessages = messagesById.values().stream()
+            .sorted(BATCH_ORDER)
+            .toList();
+        lockCases(sortedMessages);
+
+        StringBuilder sql = new StringBuilder(INSERT_MESSAGES);
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        int row = 0;
+        for (CaseEventMessageEntity message : sortedMessages) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append(String.format(VALUES_ROW, row));
+            addParameters(parameters, row, message, redeliveriesById.getOrDefault(message.getMessageId(), 0));
+            row++;
+        }
+        sql.append(ON_CONFLICT_INCREMENT_DELIVERY_COUNT);
+
+        return jdbcTemplate.update(sql.toString(), parameters);
+    }
+
+    private void lockCases(List<CaseEventMessageEntity> messages) {
+        List<String> caseIds = messages.stream()
+            .map(CaseEventMessageEntity::getCaseId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (!caseIds.isEmpty()) {
+            jdbcTemplate.queryForObject(LOCK_CASES, new MapSqlParameterSource("caseIds", caseIds), Long.class);
+        }
+    }
+
+    private void addParameters(MapSqlParameterSource parameters,
+                               int row,
+                               CaseEventMessageEntity message,
+                               int redeliveries) {
+        parameters
+            .addValue("messageId" + row, message.getMessageId(), Types.VARCHAR)
+            .addValue("caseId" + row, message.getCaseId(), Types.VARCHAR)
+            .addValue("eventTimestamp" + row, message.getEventTimestamp(), Types.TIMESTAMP)
+            .addValue("fromDlq" + row, message.getFromDlq(), Types.BOOLEAN)
+            .addValue("state" + row, message.getState().name(), Types.VARCHAR)
+            .addValue("messageProperties" + row,
+                      message.getMessageProperties() == null ? null : message.getMessageProperties().toString(),
+                      Types.VARCHAR)
+            .addValue("messageContent" + row,
+                      message.isMessageContentCompressed() ? null : message.getMessageContent(),
+                      Types.VARCHAR)
+            .addValue("messageContentCompressed" + row,
+                      message.isMessageContentCompressed()
+                          ? CompressedMessageContentConverter.compress(message.getMessageContent())
+                          : null,
+                      Types.BINARY)
+            .addValue("received" + row, message.getReceived(), Types.TIMESTAMP)
+            .addValue("deliveryCount" + row, message.getDeliveryCount() + redeliveries, Types.INTEGER)
+            .addValue("holdUntil" + row, message.getHoldUntil(), Types.TIMESTAMP)
+            .addValue("retryCount" + row, message.getRetryCount(), Types.INTEGER)
+            .addValue("jurisdictionId" + row, message.getJurisdictionId(), Types.VARCHAR)
+            .addValue("caseTypeId" + row, message.getCaseTypeId(), Types.VARCHAR)
+            .addValue("eventId" + row, message.getEventId(), Types.VARCHAR)
+            .addValue("eventInstanceId" + row, message.getEventInstanceId(), Types.VARCHAR)
+            .addValue("previousStateId" + row, message.getPreviousStateId(), Types.VARCHAR)
+            .addValue("newStateId" + row, message.getNewStateId(), Types.VARCHAR)
+            .addValue("userId" + row, message.getUserId(), Types.VARCHAR)
+            .addValue("definitionHash" + row, message.getDefinitionHash(), Types.VARCHAR);
+    }
+}
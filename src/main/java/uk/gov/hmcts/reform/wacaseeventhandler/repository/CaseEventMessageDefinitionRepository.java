@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Stores the additional data definitions stripped from messages, once per content hash.
+ * A definition that no message references any more can be removed. Storing definitions takes a shared advisory lock
+ * and removing them an exclusive one, so a definition is never removed while a message referencing it is being stored.
+ */
+@Repository
+@Transactional
+public class CaseEventMessageDefinitionRepository {
+
+    // two key form, so the lock cannot clash with the case locks taken on a single key
+    private static final String DEFINITIONS_LOCK_KEY = "hashtext('wa_case_event_message_definitions'), 0";
+
+    private static final String LOCK_DEFINITIONS_FOR_INSERT =
+        "select pg_advisory_xact_lock_shared(" + DEFINITIONS_LOCK_KEY + ")";
+
+    private static final String LOCK_DEFINITIONS_FOR_DELETE =
+        "select pg_advisory_xact_lock(" + DEFINITIONS_LOCK_KEY + ")";
+
+    private static final String INSERT_DEFINITION =
+        "insert into public.wa_case_event_message_definitions (definition_hash, definition) "
+        + "values (:definitionHash, :definition) "
+        + "on conflict (definition_hash) do nothing";
+
+    private static final String FIND_DEFINITION =
+        "select definition from public.wa_case_event_message_definitions where definition_hash = :definitionHash";
+
+    private static final String DELETE_UNREFERENCED_DEFINITIONS =
+        "delete from public.wa_case_event_message_definitions "
+        + "where definition_hash in ( "
+        + "  select d.definition_hash "
+        + "  from public.wa_case_event_message_definitions d "
+        + "  where not exists (select 1 from public.wa_case_event_messages msg "
+        + "                    where msg.definition_hash = d.definition_hash) "
+        + "  limit :limit)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CaseEventMessageDefinitionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void saveDefinitions(Map<String, String> definitionsByHash) {
+        if (definitionsByHash.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.getJdbcOperations().execute(LOCK_DEFINITIONS_FOR_INSERT);
+        // inserted in hash order, so concurrent batches sharing definitions wait on each other instead of deadlocking
+        SqlParameterSource[] parameters = new TreeMap<>(definitionsByHash).entrySet().stream()
+            .map(definition -> new MapSqlParameterSource()
+                .addValue("definitionHash", definition.getKey())
+                .addValue("definition", definition.getValue()))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_DEFINITION, parameters);
+    }
+
+    public int removeUnreferencedDefinitions(int limit) {
+        jdbcTemplate.getJdbcOperations().execute(LOCK_DEFINITIONS_FOR_DELETE);
+        return jdbcTemplate.update(DELETE_UNREFERENCED_DEFINITIONS, new MapSqlParameterSource("limit", limit));
+    }
+
+    public Optional<String> findDefinition(String definitionHash) {
+        return jdbcTemplate.queryForList(
+            FIND_DEFINITION,
+            new MapSqlParameterSource("definitionHash", definitionHash),
+            String.class
+        ).stream().findFirst();
+    }
+}
@@ -14,16 +14,12 @@ import java.util.List;
 @Repository
 public interface CaseEventMessageRepository extends CrudRepository<CaseEventMessageEntity, Long> {
 
-    String LOCK_AND_GET_NEXT_MESSAGE_SQL =
-        "select * "
-        + "from public.wa_case_event_messages msg "
-        + "where msg.state = 'READY' "
-        // earliest event message unprocessed message for the case
-        + "and (msg.case_id, msg.event_timestamp) in ( "
-        + "  select case_id, min(event_timestamp) "
-        + "  from wa_case_event_messages "
-        + "  where state != 'PROCESSED' "
-        + "  group by case_id) "
+    String READY_TO_PROCESS_CRITERIA =
+        "where msg.state = 'READY' "
+        // earliest event message unprocessed message for the case, maintained by triggers
+        + "and exists (select 1 from wa_case_event_message_heads h "
+        + "            where h.case_id = msg.case_id "
+        + "            and h.event_timestamp = msg.event_timestamp) "
         // there is no event message for the same case with timestamp null
         + "and not exists (select 1 from wa_case_event_messages e "
         + "                where e.case_id = msg.case_id "
@@ -47,23 +43,56 @@ public interface CaseEventMessageRepository extends CrudRepository<CaseEventMess
         + "                 where d.event_timestamp > msg.event_timestamp + interval '30 minutes' "
         + "                 and not d.from_dlq "
         + "                 and d.state in ('READY', 'PROCESSED'))))) "
-        + "and (current_timestamp > hold_until or hold_until is null)"
-        + "for update skip locked "
-        + "limit 1 ";
+        + "and (current_timestamp > hold_until or hold_until is null) "
+        // not currently claimed by a consumer, or the claim has expired
+        + "and (msg.lease_expires_at is null or msg.lease_expires_at < current_timestamp) ";
+
+    String CLAIM_NEXT_MESSAGES_CTE =
+        "with candidates as ( "
+        + "  select msg.message_id, msg.case_id, msg.sequence "
+        + "  from public.wa_case_event_messages msg "
+        + READY_TO_PROCESS_CRITERIA
+        + "  for update skip locked "
+        + "  limit :limit), "
+        // only one message per case, in case two head messages share the same event timestamp
+        + "next_messages as ( "
+        + "  select distinct on (case_id) message_id "
+        + "  from candidates "
+        + "  order by case_id, sequence), "
+        + "claimed as ( "
+        + "  update public.wa_case_event_messages claimed_msg "
+        + "  set lease_expires_at = current_timestamp + :leaseSeconds * interval '1 second' "
+        + "  from next_messages "
+        + "  where claimed_msg.message_id = next_messages.message_id ";
 
     String UPDATE_CASE_MESSAGE_STATE =
         "UPDATE public.wa_case_event_messages"
-        + " SET state = cast(:#{#messageState.toString()} as message_state_enum)"
+        + " SET state = cast(:#{#messageState.toString()} as message_state_enum), lease_expires_at = null"
         + " WHERE message_id in (:messageIds)";
 
     String UPDATE_CASE_MESSAGE_RETRY_DETAILS =
         "UPDATE public.wa_case_event_messages SET retry_count = :retryCount, "
-        + "hold_until = :holdUntil WHERE message_id = :messageId";
+        + "hold_until = :holdUntil, lease_expires_at = null WHERE message_id = :messageId";
 
     String SELECT_NEW_MESSAGES =
         "SELECT * from public.wa_case_event_messages msg where msg.state = 'NEW' "
         + "order by sequence DESC for update skip locked";
 
+    String PROMOTE_NEW_MESSAGES_TO_READY =
+        "with promoted as ( "
+        + "  select msg.message_id "
+        + "  from public.wa_case_event_messages msg "
+        + "  where msg.state = 'NEW' "
+        + "  order by msg.sequence "
+        + "  for update skip locked "
+        + "  limit :limit), "
+        + "ready as ( "
+        + "  update public.wa_case_event_messages ready_msg "
+        + "  set state = 'READY' "
+        + "  from promoted "
+        + "  where ready_msg.message_id = promoted.message_id "
+        + "  returning ready_msg.message_id) "
+        + "select message_id from ready";
 
     String FIND_PROBLEM_MESSAGES = """
         SELECT message_id,
@@ -74,10 +103,19 @@ public interface CaseEventMessageRepository extends CrudRepository<CaseEventMess
         state,
         message_properties,
         message_content,
+        message_content_compressed,
         received,
         delivery_count,
         hold_until,
-        retry_count
+        retry_count,
+        jurisdiction_id,
+        case_type_id,
+        event_id,
+        event_instance_id,
+        previous_state_id,
+        new_state_id,
+        user_id,
+        definition_hash
         from wa_case_event_messages msg
         where msg.state IN ('UNPROCESSABLE', 'READY')
         and case when msg.state='READY' then
@@ -104,9 +142,6 @@ public interface CaseEventMessageRepository extends CrudRepository<CaseEventMess
     @Query("FROM CaseEventMessageEntity cem WHERE cem.messageId IN (:messageIds)")
     List<CaseEventMessageEntity> findByMessageId(List<String> messageIds);
 
-    @Query(value = LOCK_AND_GET_NEXT_MESSAGE_SQL, nativeQuery = true)
-    CaseEventMessageEntity getNextAvailableMessageReadyToProcess();
-
     @Modifying
     @Query(value = UPDATE_CASE_MESSAGE_STATE, nativeQuery = true)
     int updateMessageState(@Param("messageState") MessageState messageState,
@@ -121,6 +156,14 @@ public interface CaseEventMessageRepository extends CrudRepository<CaseEventMess
     @Query(value = SELECT_NEW_MESSAGES, nativeQuery = true)
     List<CaseEventMessageEntity> getAllMessagesInNewState();
 
+    /**
+     * Moves up to {@code limit} messages from NEW to READY state, oldest first, in a single statement.
+     *
+     * @return the ids of the messages moved to READY state
+     */
+    @Query(value = PROMOTE_NEW_MESSAGES_TO_READY, nativeQuery = true)
+    List<String> promoteNewMessagesToReady(@Param("limit") int limit);
+
     @Query(value = FIND_PROBLEM_MESSAGES, nativeQuery = true)
     List<CaseEventMessageEntity> findProblemMessages(int messageTimeLimit);
 
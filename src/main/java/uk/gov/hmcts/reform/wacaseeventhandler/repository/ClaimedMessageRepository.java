@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CompressedMessageContentConverter;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository.CLAIM_NEXT_MESSAGES_CTE;
+
+/**
+ * Leases up to {@code limit} messages ready to process, at most one per case, so they can be processed outside of a
+ * database transaction. A lease is released when the message state or retry details are updated, or once it expires.
+ * Only the columns needed to process a message are read, straight into {@link ClaimedMessage}, without loading a
+ * managed entity.
+ */
+@Repository
+public class ClaimedMessageRepository {
+
+    private static final String CLAIM_NEXT_MESSAGES_SQL =
+        CLAIM_NEXT_MESSAGES_CTE
+        + "  returning claimed_msg.message_id, claimed_msg.case_id, claimed_msg.event_timestamp, claimed_msg.state, "
+        + "  claimed_msg.retry_count, claimed_msg.hold_until, claimed_msg.message_content, "
+        + "  claimed_msg.message_content_compressed, claimed_msg.jurisdiction_id, claimed_msg.case_type_id, "
+        + "  claimed_msg.event_id, claimed_msg.event_instance_id, claimed_msg.previous_state_id, "
+        + "  claimed_msg.new_state_id, claimed_msg.user_id) "
+        + "select * "
+        + "from claimed "
+        + "order by event_timestamp";
+
+    private static final RowMapper<ClaimedMessage> CLAIMED_MESSAGE_ROW_MAPPER = (rs, rowNum) -> new ClaimedMessage(
+        rs.getString("message_id"),
+        rs.getString("case_id"),
+        MessageState.valueOf(rs.getString("state")),
+        rs.getInt("retry_count"),
+        rs.getObject("hold_until", LocalDateTime.class),
+        messageContent(rs),
+        rs.getObject("event_timestamp", LocalDateTime.class),
+        new EventColumns(
+            rs.getString("jurisdiction_id"),
+            rs.getString("case_type_id"),
+            rs.getString("event_id"),
+            rs.getString("event_instance_id"),
+            rs.getString("previous_state_id"),
+            rs.getString("new_state_id"),
+            rs.getString("user_id")
+        )
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ClaimedMessageRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<ClaimedMessage> claimNextMessagesReadyToProcess(int limit, int leaseSeconds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("limit", limit)
+            .addValue("leaseSeconds", leaseSeconds);
+
+        return jdbcTemplate.query(CLAIM_NEXT_MESSAGES_SQL, parameters, CLAIMED_MESSAGE_ROW_MAPPER);
+    }
+
+    private static String messageContent(ResultSet rs) throws SQLException {
+        byte[] compressedMessageContent = rs.getBytes("message_content_compressed");
+        return compressedMessageContent == null
+            ? rs.getString("message_content")
+            : CompressedMessageContentConverter.decompress(compressedMessageContent);
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Stores the holiday dates last fetched from gov.uk. The dates are replaced as a whole, so the stored dates always
+ * come from a single fetch.
+ */
+@Repository
+public class HolidayDateRepository {
+
+    private static final String FIND_HOLIDAY_DATES =
+        "select holiday_date from public.wa_holiday_dates order by holiday_date";
+
+    private static final String DELETE_HOLIDAY_DATES = "delete from public.wa_holiday_dates";
+
+    private static final String INSERT_HOLIDAY_DATE =
+        "insert into public.wa_holiday_dates (holiday_date) values (:holidayDate) "
+        + "on conflict (holiday_date) do nothing";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public HolidayDateRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<LocalDate> findHolidayDates() {
+        return jdbcTemplate.query(
+            FIND_HOLIDAY_DATES,
+            (rs, rowNum) -> rs.getObject("holiday_date", LocalDate.class)
+        );
+    }
+
+    @Transactional
+    public void replaceHolidayDates(List<LocalDate> holidayDates) {
+        jdbcTemplate.update(DELETE_HOLIDAY_DATES, new MapSqlParameterSource());
+        SqlParameterSource[] parameters = holidayDates.stream()
+            .map(holidayDate -> new MapSqlParameterSource("holidayDate", holidayDate))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_HOLIDAY_DATE, parameters);
+    }
+}
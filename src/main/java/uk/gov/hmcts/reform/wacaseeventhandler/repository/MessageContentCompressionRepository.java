@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CompressedMessageContentConverter;
+
+import java.sql.Types;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Moves the message content of stored messages that are no longer processed into the compressed column, a batch at a
+ * time. Batches are taken in sequence order, so a run can carry on from the last message of the previous batch.
+ */
+@Repository
+public class MessageContentCompressionRepository {
+
+    private static final String FIND_UNCOMPRESSED_MESSAGES =
+        "select sequence, message_content from wa_case_event_messages "
+        + "where sequence > :afterSequence "
+        + "and message_content is not null "
+        + "and state in ('PROCESSED', 'UNPROCESSABLE') "
+        + "order by sequence "
+        + "limit :limit "
+        + "for update skip locked";
+
+    private static final String COMPRESS_MESSAGE_CONTENT =
+        "update wa_case_event_messages "
+        + "set message_content_compressed = :messageContentCompressed, message_content = null "
+        + "where sequence = :sequence";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public MessageContentCompressionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public CompressedBatch compressMessageContent(long afterSequence, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("afterSequence", afterSequence)
+            .addValue("limit", limit);
+
+        List<UncompressedMessage> uncompressedMessages = jdbcTemplate.query(
+            FIND_UNCOMPRESSED_MESSAGES,
+            parameters,
+            (rs, rowNum) -> new UncompressedMessage(rs.getLong("sequence"), rs.getString("message_content"))
+        );
+        if (uncompressedMessages.isEmpty()) {
+            return new CompressedBatch(0, afterSequence, 0, 0);
+        }
+
+        SqlParameterSource[] updates = new SqlParameterSource[uncompressedMessages.size()];
+        long messageContentBytes = 0;
+        long compressedBytes = 0;
+        for (int i = 0; i < updates.length; i++) {
+            UncompressedMessage uncompressedMessage = uncompressedMessages.get(i);
+            byte[] compressed = CompressedMessageContentConverter.compress(uncompressedMessage.messageContent());
+            messageContentBytes += uncompressedMessage.messageContent().getBytes(UTF_8).length;
+            compressedBytes += compressed.length;
+            updates[i] = new MapSqlParameterSource()
+                .addValue("sequence", uncompressedMessage.sequence())
+                .addValue("messageContentCompressed", compressed, Types.BINARY);
+        }
+        jdbcTemplate.batchUpdate(COMPRESS_MESSAGE_CONTENT, updates);
+
+        return new CompressedBatch(
+            updates.length,
+            uncompressedMessages.get(updates.length - 1).sequence(),
+            messageContentBytes,
+            compressedBytes
+        );
+    }
+
+    private record UncompressedMessage(long sequence, String messageContent) {
+    }
+
+    public record CompressedBatch(int messages,
+                                  long lastSequence,
+                                  long messageContentBytes,
+                                  long compressedBytes) {
+    }
+}
@@ -8,15 +8,24 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ProblemMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
+
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class CaseEventMessageMapper {
 
     private final ObjectMapper objectMapper;
+    private final CaseEventMessageParser messageParser;
+    private final CaseEventMessageDefinitionRepository definitionRepository;
 
-    public CaseEventMessageMapper(ObjectMapper objectMapper) {
+    public CaseEventMessageMapper(ObjectMapper objectMapper,
+                                  CaseEventMessageParser messageParser,
+                                  CaseEventMessageDefinitionRepository definitionRepository) {
         this.objectMapper = objectMapper;
+        this.messageParser = messageParser;
+        this.definitionRepository = definitionRepository;
     }
 
     public CaseEventMessage mapToCaseEventMessage(CaseEventMessageEntity entity) {
@@ -32,15 +41,43 @@ public class CaseEventMessageMapper {
             entity.getFromDlq(),
             entity.getState(),
             entity.getMessageProperties(),
-            entity.getMessageContent(),
+            getMessageContent(entity),
             entity.getReceived(),
             entity.getDeliveryCount(),
             entity.getHoldUntil(),
             entity.getRetryCount());
     }
 
+    /**
+     * Returns the message content as it was received, with the additional data definition put back when it was
+     * stored separately.
+     */
+    private String getMessageContent(CaseEventMessageEntity entity) {
+        if (entity.getDefinitionHash() == null) {
+            return entity.getMessageContent();
+        }
+
+        Optional<String> definition = definitionRepository.findDefinition(entity.getDefinitionHash());
+        if (definition.isEmpty()) {
+            log.warn("Could not find definition '{}' of message with id '{}'",
+                entity.getDefinitionHash(), entity.getMessageId());
+            return entity.getMessageContent();
+        }
+        try {
+            return messageParser.restoreDefinition(entity.getMessageContent(), definition.get());
+        } catch (JsonProcessingException jsonProcessingException) {
+            log.warn("Could not restore definition of message with id '{}'", entity.getMessageId(),
+                jsonProcessingException);
+            return entity.getMessageContent();
+        }
+    }
+
     @SuppressWarnings("PMD.ConfusingTernary")
     private String getCaseTypeId(CaseEventMessageEntity entity) {
+        if (entity.getCaseTypeId() != null) {
+            return entity.getCaseTypeId();
+        }
+
         String caseTypeId = null;
         if (entity.getMessageContent() != null && !entity.getMessageContent().isBlank()) {
             try {
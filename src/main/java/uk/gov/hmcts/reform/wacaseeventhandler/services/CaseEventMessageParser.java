@@ -0,0 +1,365 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Extracts the fields stored alongside a received CCD case event message in a single streaming pass over the message
+ * body. Everything else in the body, including the additional data, is skipped without being bound. A body that
+ * could not be read as {@code EventInformation} is rejected the same way, with a {@link JsonProcessingException}.
+ */
+@Component
+public class CaseEventMessageParser {
+
+    private static final String CASE_ID = "CaseId";
+    private static final String EVENT_TIME_STAMP = "EventTimeStamp";
+    private static final String JURISDICTION_ID = "JurisdictionId";
+    private static final String CASE_TYPE_ID = "CaseTypeId";
+    private static final String EVENT_ID = "EventId";
+    private static final String EVENT_INSTANCE_ID = "EventInstanceId";
+    private static final String PREVIOUS_STATE_ID = "PreviousStateId";
+    private static final String NEW_STATE_ID = "NewStateId";
+    private static final String USER_ID = "UserId";
+    private static final String ADDITIONAL_DATA = "AdditionalData";
+    private static final String DATA = "Data";
+    private static final String DEFINITION = "Definition";
+    private static final String MESSAGE_PROPERTIES = "MessageProperties";
+    private static final String HOLD_UNTIL = "HoldUntil";
+    private static final Set<String> STORED_FIELDS = Set.of(
+        CASE_ID, EVENT_TIME_STAMP, JURISDICTION_ID, CASE_TYPE_ID, EVENT_ID, EVENT_INSTANCE_ID, PREVIOUS_STATE_ID,
+        NEW_STATE_ID, USER_ID, MESSAGE_PROPERTIES, HOLD_UNTIL
+    );
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader dateTimeReader;
+    private final ObjectReader messagePropertiesReader;
+    private final ObjectReader additionalDataReader;
+    private final ObjectReader dataReader;
+
+    public CaseEventMessageParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.dateTimeReader = objectMapper.readerFor(LocalDateTime.class);
+        this.messagePropertiesReader = objectMapper.readerFor(new TypeReference<Map<String, String>>() {
+        });
+        this.additionalDataReader = objectMapper.readerFor(AdditionalData.class);
+        this.dataReader = objectMapper.readerFor(new TypeReference<Map<String, Object>>() {
+        });
+    }
+
+    @SuppressWarnings("PMD.AvoidRethrowingException")
+    public ParsedMessage parse(String message) throws JsonProcessingException {
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            return read(parser, null).parsedMessage();
+        } catch (JsonProcessingException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new JsonParseException(null, "Could not read case event message", ex);
+        }
+    }
+
+    /**
+     * Parses a message like {@link #parse(String)} and, in the same pass, copies it without the definition of its
+     * additional data, which is returned separately with the SHA-256 hash of its content. A message without a
+     * definition is returned as it is.
+     */
+    @SuppressWarnings("PMD.AvoidRethrowingException")
+    public StrippedMessage parseAndStripDefinition(String message) throws JsonProcessingException {
+        StringWriter messageContent = new StringWriter(message.length());
+        ReadMessage readMessage;
+        try (JsonParser parser = objectMapper.createParser(message);
+             JsonGenerator generator = objectMapper.createGenerator(messageContent)) {
+            readMessage = read(parser, generator);
+        } catch (JsonProcessingException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new JsonParseException(null, "Could not read case event message", ex);
+        }
+
+        String definition = readMessage.definition();
+        if (definition == null) {
+            return new StrippedMessage(readMessage.parsedMessage(), message, null, null);
+        }
+        return new StrippedMessage(readMessage.parsedMessage(), messageContent.toString(), sha256(definition),
+                                   definition);
+    }
+
+    /**
+     * Binds only the data of the additional data of a stored message, skipping the other fields. Handlers do not read
+     * the definition, so it is skipped too and left out of the returned additional data.
+     */
+    @SuppressWarnings("PMD.AvoidRethrowingException")
+    public AdditionalData parseAdditionalData(String message) throws JsonProcessingException {
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Case event message is not a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token != JsonToken.VALUE_NULL && ADDITIONAL_DATA.equals(fieldName)) {
+                    return token == JsonToken.START_OBJECT
+                        ? readAdditionalDataWithoutDefinition(parser)
+                        : additionalDataReader.readValue(parser);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (JsonProcessingException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new JsonParseException(null, "Could not read case event message", ex);
+        }
+    }
+
+    /**
+     * Copies a stored message with the given definition put back into its additional data, undoing
+     * {@link #parseAndStripDefinition(String)}. A message without additional data is returned as it is.
+     */
+    @SuppressWarnings("PMD.AvoidRethrowingException")
+    public String restoreDefinition(String message, String definition) throws JsonProcessingException {
+        StringWriter messageContent = new StringWriter(message.length() + definition.length());
+        boolean restored = false;
+        try (JsonParser parser = objectMapper.createParser(message);
+             JsonGenerator generator = objectMapper.createGenerator(messageContent)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Case event message is not a JSON object");
+            }
+
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                generator.writeFieldName(fieldName);
+                if (token == JsonToken.START_OBJECT && ADDITIONAL_DATA.equals(fieldName)) {
+                    copyWithDefinition(parser, generator, definition);
+                    restored = true;
+                } else {
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            generator.writeEndObject();
+        } catch (JsonProcessingException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new JsonParseException(null, "Could not read case event message", ex);
+        }
+
+        return restored ? messageContent.toString() : message;
+    }
+
+    /**
+     * Reads the stored fields of a message and, when given a generator, copies the message to it without the
+     * definition of its additional data. Only the values of the stored fields are buffered, to be both copied and read.
+     */
+    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.CognitiveComplexity", "PMD.NPathComplexity",
+        "PMD.DataflowAnomalyAnalysis", "PMD.CloseResource"})
+    private ReadMessage read(JsonParser parser, JsonGenerator generator) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Case event message is not a JSON object");
+        }
+
+        String caseId = null;
+        LocalDateTime eventTimestamp = null;
+        String jurisdictionId = null;
+        String caseTypeId = null;
+        String eventId = null;
+        String eventInstanceId = null;
+        String previousStateId = null;
+        String newStateId = null;
+        String userId = null;
+        JsonNode messageProperties = NullNode.getInstance();
+        LocalDateTime holdUntil = null;
+        String definition = null;
+
+        if (generator != null) {
+            generator.writeStartObject();
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            JsonParser value = parser;
+            if (generator != null) {
+                generator.writeFieldName(fieldName);
+                if (token == JsonToken.START_OBJECT && ADDITIONAL_DATA.equals(fieldName)) {
+                    definition = copyWithoutDefinition(parser, generator);
+                    continue;
+                }
+                if (!STORED_FIELDS.contains(fieldName)) {
+                    generator.copyCurrentStructure(parser);
+                    continue;
+                }
+                value = copyValue(parser, generator);
+            }
+            switch (fieldName) {
+                case CASE_ID -> caseId = readString(value);
+                case EVENT_TIME_STAMP -> eventTimestamp = readDateTime(value);
+                case JURISDICTION_ID -> jurisdictionId = readString(value);
+                case CASE_TYPE_ID -> caseTypeId = readString(value);
+                case EVENT_ID -> eventId = readString(value);
+                case EVENT_INSTANCE_ID -> eventInstanceId = readString(value);
+                case PREVIOUS_STATE_ID -> previousStateId = readString(value);
+                case NEW_STATE_ID -> newStateId = readString(value);
+                case USER_ID -> userId = readString(value);
+                case MESSAGE_PROPERTIES -> messageProperties = readMessageProperties(value);
+                case HOLD_UNTIL -> holdUntil = readDateTime(value);
+                default -> value.skipChildren();
+            }
+        }
+        if (generator != null) {
+            generator.writeEndObject();
+        }
+
+        // EventInformation cannot be created without them
+        if (jurisdictionId == null || caseTypeId == null) {
+            throw new JsonParseException(parser, "Case event message has no jurisdiction id or case type id");
+        }
+
+        ParsedMessage parsedMessage = new ParsedMessage(
+            caseId, eventTimestamp, messageProperties, holdUntil,
+            new EventColumns(jurisdictionId, caseTypeId, eventId, eventInstanceId, previousStateId, newStateId, userId)
+        );
+        return new ReadMessage(parsedMessage, definition);
+    }
+
+    private static JsonParser copyValue(JsonParser parser, JsonGenerator generator) throws IOException {
+        TokenBuffer value = TokenBuffer.asCopyOfValue(parser);
+        value.serialize(generator);
+        return value.asParserOnFirstToken();
+    }
+
+    private AdditionalData readAdditionalDataWithoutDefinition(JsonParser parser) throws IOException {
+        Map<String, Object> data = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            if (parser.nextToken() != JsonToken.VALUE_NULL && DATA.equals(fieldName)) {
+                data = dataReader.readValue(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new AdditionalData(data, null);
+    }
+
+    private String copyWithoutDefinition(JsonParser parser, JsonGenerator generator) throws IOException {
+        String definition = null;
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            if (parser.nextToken() != JsonToken.VALUE_NULL && DEFINITION.equals(fieldName)) {
+                definition = copyCurrentStructure(parser);
+            } else {
+                generator.writeFieldName(fieldName);
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        generator.writeEndObject();
+        return definition;
+    }
+
+    private void copyWithDefinition(JsonParser parser, JsonGenerator generator, String definition) throws IOException {
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (DEFINITION.equals(fieldName)) {
+                parser.skipChildren();
+            } else {
+                generator.writeFieldName(fieldName);
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        generator.writeFieldName(DEFINITION);
+        try (JsonParser definitionParser = objectMapper.createParser(definition)) {
+            definitionParser.nextToken();
+            generator.copyCurrentStructure(definitionParser);
+        }
+        generator.writeEndObject();
+    }
+
+    private String copyCurrentStructure(JsonParser parser) throws IOException {
+        StringWriter structure = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(structure)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return structure.toString();
+    }
+
+    private static String sha256(String definition) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(definition.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a scalar value for " + parser.currentName());
+        }
+        return parser.getValueAsString();
+    }
+
+    private LocalDateTime readDateTime(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return dateTimeReader.readValue(parser);
+    }
+
+    // Message properties are stored as string values, like they are bound to EventInformationMetadata
+    private JsonNode readMessageProperties(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return NullNode.getInstance();
+        }
+        Map<String, String> properties = messagePropertiesReader.readValue(parser);
+        ObjectNode messageProperties = JsonNodeFactory.instance.objectNode();
+        properties.forEach(messageProperties::put);
+        return messageProperties;
+    }
+
+    public record ParsedMessage(String caseId,
+                                LocalDateTime eventTimestamp,
+                                JsonNode messageProperties,
+                                LocalDateTime holdUntil,
+                                EventColumns eventColumns) {
+    }
+
+    public record StrippedMessage(ParsedMessage parsedMessage,
+                                  String messageContent,
+                                  String definitionHash,
+                                  String definition) {
+    }
+
+    private record ReadMessage(ParsedMessage parsedMessage, String definition) {
+    }
+}
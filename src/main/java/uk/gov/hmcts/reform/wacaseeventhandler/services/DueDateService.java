@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.wacaseeventhandler.services;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates.HolidayService;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 
@@ -20,7 +21,7 @@ public class DueDateService {
             return eventDateTime;
         }
 
-        final ZonedDateTime zonedDateTime = addWorkingDaysForDelayDuration(eventDateTime, delayDuration);
+        final ZonedDateTime zonedDateTime = addWorkingDays(eventDateTime, delayDuration);
 
         return resetTo4PmTime(zonedDateTime);
     }
@@ -31,30 +32,12 @@ public class DueDateService {
         return resetTo4PmTime(zonedDateTime);
     }
 
-    private ZonedDateTime addWorkingDays(ZonedDateTime dueDate, int numberOfDays) {
-        if (numberOfDays == 0) {
-            return dueDate;
+    private ZonedDateTime addWorkingDays(ZonedDateTime date, int workingDays) {
+        if (workingDays == 0) {
+            return date;
         }
-
-        ZonedDateTime newDate = dueDate.plusDays(1);
-        if (holidayService.isWeekend(newDate) || holidayService.isHoliday(newDate)) {
-            return addWorkingDays(newDate, numberOfDays);
-        } else {
-            return addWorkingDays(newDate, numberOfDays - 1);
-        }
-    }
-
-    private ZonedDateTime addWorkingDaysForDelayDuration(ZonedDateTime eventDate, int delayDuration) {
-        ZonedDateTime newDate = eventDate;
-        int remaining = delayDuration;
-        while (remaining > 0) {
-            newDate = newDate.plusDays(1);
-            if (!(holidayService.isWeekend(newDate) || holidayService.isHoliday(newDate))) {
-                remaining--;
-            }
-        }
-
-        return newDate;
+        LocalDate workingDay = holidayService.addWorkingDays(date.toLocalDate(), workingDays);
+        return ZonedDateTime.of(workingDay, date.toLocalTime(), date.getZone());
     }
 
     private ZonedDateTime resetTo4PmTime(ZonedDateTime eventDateTime) {
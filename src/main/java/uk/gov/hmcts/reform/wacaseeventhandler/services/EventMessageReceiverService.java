@@ -1,24 +1,28 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.services;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformationMetadata;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformationRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ReceivedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 import uk.gov.hmcts.reform.wacaseeventhandler.exceptions.CaseEventMessageDuplicateMessageIdException;
 import uk.gov.hmcts.reform.wacaseeventhandler.exceptions.CaseEventMessageNotFoundException;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageBatchRepository;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser.ParsedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser.StrippedMessage;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.Boolean.TRUE;
@@ -34,16 +38,29 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 public class EventMessageReceiverService {
     protected static final String MESSAGE_PROPERTIES = "MessageProperties";
 
-    private final ObjectMapper objectMapper;
+    private final CaseEventMessageParser messageParser;
     private final CaseEventMessageRepository repository;
     private final CaseEventMessageMapper mapper;
+    private final CaseEventMessageBatchRepository batchRepository;
+    private final CaseEventMessageDefinitionRepository definitionRepository;
+    private final boolean compressMessageContent;
+    private final boolean externaliseDefinitions;
 
-    public EventMessageReceiverService(ObjectMapper objectMapper,
+    public EventMessageReceiverService(CaseEventMessageParser messageParser,
                                        CaseEventMessageRepository repository,
-                                       CaseEventMessageMapper caseEventMessageMapper) {
-        this.objectMapper = objectMapper;
+                                       CaseEventMessageMapper caseEventMessageMapper,
+                                       CaseEventMessageBatchRepository batchRepository,
+                                       CaseEventMessageDefinitionRepository definitionRepository,
+                                       @Value("${messageContentCompression.enabled}") boolean compressMessageContent,
+                                       @Value("${messageDefinitionExternalisation.enabled}")
+                                       boolean externaliseDefinitions) {
+        this.messageParser = messageParser;
         this.repository = repository;
         this.mapper = caseEventMessageMapper;
+        this.batchRepository = batchRepository;
+        this.definitionRepository = definitionRepository;
+        this.compressMessageContent = compressMessageContent;
+        this.externaliseDefinitions = externaliseDefinitions;
     }
 
     public CaseEventMessage handleDlqMessage(String messageId, String sessionId, String message) {
@@ -62,6 +79,20 @@ public class EventMessageReceiverService {
         return handleMessage(messageId, sessionId, message, false);
     }
 
+    /**
+     * Stores a batch of CCD case event messages with a single upsert, so a batch received from the service bus
+     * costs one database round trip instead of two per message.
+     */
+    public void handleCcdCaseEventAsbMessages(List<ReceivedMessage> messages) {
+        log.debug("Received batch of {} CCD Case Events ASB messages", messages.size());
+        handleMessages(messages, false);
+    }
+
+    public void handleDlqMessages(List<ReceivedMessage> messages) {
+        log.info("Received batch of {} Case Event Dead Letter Queue messages", messages.size());
+        handleMessages(messages, true);
+    }
+
     public CaseEventMessage getMessage(String messageId) {
         CaseEventMessageEntity messageEntity = repository.findByMessageId(singletonList(messageId)).stream().findFirst()
             .orElseThrow(() -> new CaseEventMessageNotFoundException(
@@ -98,9 +129,12 @@ public class EventMessageReceiverService {
             Optional<CaseEventMessageEntity> messageEntityOptional = byMessageId.stream().findFirst();
             if (messageEntityOptional.isPresent()) {
                 try {
-                    CaseEventMessageEntity messageEntity = buildCaseEventMessageEntity(messageId, message, fromDlq);
+                    Map<String, String> definitions = new HashMap<>();
+                    CaseEventMessageEntity messageEntity =
+                        buildCaseEventMessageEntity(messageId, message, fromDlq, definitions);
                     messageEntityOptional.ifPresent(eventMessageEntity -> messageEntity
                         .setSequence(eventMessageEntity.getSequence()));
+                    definitionRepository.saveDefinitions(definitions);
                     repository.save(messageEntity);
 
                     log.info("Message with id '{}' successfully updated and saved into DB", messageId);
@@ -125,7 +159,10 @@ public class EventMessageReceiverService {
     private CaseEventMessage handleMessage(String messageId, String sessionId, String message, Boolean fromDlq) {
 
         try {
-            CaseEventMessageEntity messageEntity = buildCaseEventMessageEntity(messageId, message, fromDlq);
+            Map<String, String> definitions = new HashMap<>();
+            CaseEventMessageEntity messageEntity =
+                buildCaseEventMessageEntity(messageId, message, fromDlq, definitions);
+            definitionRepository.saveDefinitions(definitions);
             CaseEventMessageEntity savedEntity = insertMessage(messageEntity);
 
             log.info("Message with id '{}' successfully stored into the DB", messageId);
@@ -147,63 +184,96 @@ public class EventMessageReceiverService {
         }
     }
 
+    private void handleMessages(List<ReceivedMessage> messages, boolean fromDlq) {
+        Map<String, String> definitions = new HashMap<>();
+        List<CaseEventMessageEntity> messageEntities = messages.stream()
+            .map(message -> buildCaseEventMessageEntity(message, fromDlq, definitions))
+            .toList();
+
+        definitionRepository.saveDefinitions(definitions);
+        batchRepository.upsertMessages(messageEntities);
+
+        log.info("Batch of {} messages successfully stored into the DB", messageEntities.size());
+    }
+
+    private CaseEventMessageEntity buildCaseEventMessageEntity(ReceivedMessage message,
+                                                               boolean fromDlq,
+                                                               Map<String, String> definitions) {
+        try {
+            return buildCaseEventMessageEntity(message.messageId(), message.messageContent(), fromDlq, definitions);
+        } catch (JsonProcessingException e) {
+            log.error("Could not parse the message with id '{}' case id '{}'",
+                      message.messageId(), message.sessionId());
+
+            return build(message.messageId(), message.sessionId(), message.messageContent(), fromDlq,
+                         MessageState.UNPROCESSABLE);
+        }
+    }
+
+    /**
+     * Builds the entity of a message that could be parsed. When definitions are externalised, the definition is
+     * stripped from the stored message content and added to the given definitions, by content hash, to be stored
+     * alongside the message.
+     */
     private CaseEventMessageEntity buildCaseEventMessageEntity(String messageId,
                                                                String message,
-                                                               Boolean fromDlq)
+                                                               Boolean fromDlq,
+                                                               Map<String, String> definitions)
         throws JsonProcessingException {
 
-        EventInformation eventInformation = objectMapper.readValue(message, EventInformation.class);
-        boolean isValid = validate(messageId, eventInformation, fromDlq);
+        StrippedMessage strippedMessage = externaliseDefinitions
+            ? messageParser.parseAndStripDefinition(message)
+            : new StrippedMessage(messageParser.parse(message), message, null, null);
+        ParsedMessage parsedMessage = strippedMessage.parsedMessage();
+        boolean isValid = validate(messageId, parsedMessage, fromDlq);
 
         CaseEventMessageEntity messageEntity;
         if (isValid) {
             log.info("Message validation successful for message id {}", messageId);
-            messageEntity = build(messageId, message, fromDlq, eventInformation, MessageState.NEW);
+            messageEntity = build(messageId, strippedMessage.messageContent(), fromDlq, parsedMessage,
+                                  MessageState.NEW);
         } else {
             log.info("Message validation failed for message id {}", messageId);
-            messageEntity = build(messageId, message, fromDlq, eventInformation, MessageState.UNPROCESSABLE);
+            messageEntity = build(messageId, strippedMessage.messageContent(), fromDlq, parsedMessage,
+                                  MessageState.UNPROCESSABLE);
         }
 
-        EventInformationRequest eventInformationRequest = objectMapper.readValue(
-            message,
-            EventInformationRequest.class
-        );
-        EventInformationMetadata eventInformationMetadata = eventInformationRequest.getEventInformationMetadata();
-        updateMessageEntity(messageEntity, eventInformationMetadata);
+        messageEntity.setMessageProperties(parsedMessage.messageProperties());
+        messageEntity.setHoldUntil(parsedMessage.holdUntil());
 
-        return messageEntity;
-    }
-
-    private void updateMessageEntity(CaseEventMessageEntity messageEntity,
-                                     EventInformationMetadata eventInformationMetadata) throws JsonProcessingException {
-        JsonNode actualObj = convertMapToJsonNode(eventInformationMetadata);
-        messageEntity.setMessageProperties(actualObj);
-        messageEntity.setHoldUntil(eventInformationMetadata.getHoldUntil());
-    }
-
-    private JsonNode convertMapToJsonNode(EventInformationMetadata eventInformationMetadata)
-        throws JsonProcessingException {
+        if (strippedMessage.definitionHash() != null) {
+            messageEntity.setDefinitionHash(strippedMessage.definitionHash());
+            definitions.put(strippedMessage.definitionHash(), strippedMessage.definition());
+        }
 
-        String json = objectMapper.writeValueAsString(eventInformationMetadata.getMessageProperties());
-        return objectMapper.readTree(json);
+        return messageEntity;
     }
 
     private CaseEventMessageEntity build(String messageId,
                                          String message,
                                          Boolean fromDlq,
-                                         EventInformation eventInformation,
+                                         ParsedMessage parsedMessage,
                                          MessageState state) {
         CaseEventMessageEntity caseEventMessageEntity = new CaseEventMessageEntity();
         caseEventMessageEntity.setMessageId(messageId);
-        caseEventMessageEntity.setCaseId(eventInformation.getCaseId());
-        caseEventMessageEntity.setEventTimestamp(eventInformation.getEventTimeStamp());
+        caseEventMessageEntity.setCaseId(parsedMessage.caseId());
+        caseEventMessageEntity.setEventTimestamp(parsedMessage.eventTimestamp());
         caseEventMessageEntity.setFromDlq(fromDlq);
         caseEventMessageEntity.setState(state);
-        caseEventMessageEntity.setMessageContent(message);
+        setMessageContent(caseEventMessageEntity, message);
         caseEventMessageEntity.setReceived(LocalDateTime.now());
         caseEventMessageEntity.setDeliveryCount(0);
         caseEventMessageEntity.setRetryCount(0);
 
+        EventColumns eventColumns = parsedMessage.eventColumns();
+        caseEventMessageEntity.setJurisdictionId(eventColumns.jurisdictionId());
+        caseEventMessageEntity.setCaseTypeId(eventColumns.caseTypeId());
+        caseEventMessageEntity.setEventId(eventColumns.eventId());
+        caseEventMessageEntity.setEventInstanceId(eventColumns.eventInstanceId());
+        caseEventMessageEntity.setPreviousStateId(eventColumns.previousStateId());
+        caseEventMessageEntity.setNewStateId(eventColumns.newStateId());
+        caseEventMessageEntity.setUserId(eventColumns.userId());
+
         return caseEventMessageEntity;
     }
 
@@ -217,7 +287,7 @@ public class EventMessageReceiverService {
         caseEventMessageEntity.setCaseId(sessionId);
         caseEventMessageEntity.setFromDlq(fromDlq);
         caseEventMessageEntity.setState(state);
-        caseEventMessageEntity.setMessageContent(message);
+        setMessageContent(caseEventMessageEntity, message);
         caseEventMessageEntity.setReceived(LocalDateTime.now());
         caseEventMessageEntity.setDeliveryCount(0);
         caseEventMessageEntity.setRetryCount(0);
@@ -225,14 +295,21 @@ public class EventMessageReceiverService {
         return caseEventMessageEntity;
     }
 
-    private boolean validate(String messageId, EventInformation eventInformation, Boolean fromDlq) {
+    private void setMessageContent(CaseEventMessageEntity caseEventMessageEntity, String message) {
+        caseEventMessageEntity.setMessageContent(message);
+        if (compressMessageContent) {
+            caseEventMessageEntity.compressMessageContent();
+        }
+    }
+
+    private boolean validate(String messageId, ParsedMessage parsedMessage, Boolean fromDlq) {
 
         log.info("Message validation for message id {} - [case id : {}, event timestamp : {}, from DLQ {}]",
-                 messageId, eventInformation.getCaseId(), eventInformation.getEventTimeStamp(), fromDlq);
-        return isNotBlank(eventInformation.getCaseId())
+                 messageId, parsedMessage.caseId(), parsedMessage.eventTimestamp(), fromDlq);
+        return isNotBlank(parsedMessage.caseId())
             && isNotBlank(messageId)
-            && eventInformation.getEventTimeStamp() != null
-            && isNotBlank(eventInformation.getEventTimeStamp().toString())
+            && parsedMessage.eventTimestamp() != null
+            && isNotBlank(parsedMessage.eventTimestamp().toString())
             && fromDlq != null;
     }
 
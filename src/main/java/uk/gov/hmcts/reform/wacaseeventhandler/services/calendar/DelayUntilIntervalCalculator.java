@@ -41,59 +41,31 @@ public class DelayUntilIntervalCalculator implements DelayUntilCalculator {
 
         LocalDateTime referenceDate = delayUntilIntervalData.getReferenceDate();
         LocalDate localDate = referenceDate.toLocalDate();
+        WorkingDayCalendar calendar = workingDayIndicator.getCalendar(
+            delayUntilIntervalData.getNonWorkingCalendars(),
+            delayUntilIntervalData.getNonWorkingDaysOfWeek()
+        );
         if (delayUntilIntervalData.isSkipNonWorkingDays()) {
-            localDate = skipNonWorkingDays(delayUntilIntervalData, localDate);
+            localDate = calendar.addWorkingDays(localDate, delayUntilIntervalData.getIntervalDays());
         } else {
-            localDate = considerAllDaysAsWorking(delayUntilIntervalData, localDate);
+            localDate = considerAllDaysAsWorking(delayUntilIntervalData, calendar, localDate);
         }
 
         return calculateTime(delayUntilIntervalData.getDelayUntilTime(), referenceDate, localDate);
     }
 
-    private LocalDate considerAllDaysAsWorking(DelayUntilIntervalData delayUntilIntervalData, LocalDate localDate) {
+    private LocalDate considerAllDaysAsWorking(DelayUntilIntervalData delayUntilIntervalData,
+                                               WorkingDayCalendar calendar,
+                                               LocalDate localDate) {
         LocalDate calculatedDate = localDate.plusDays(delayUntilIntervalData.getIntervalDays());
-        boolean workingDay = workingDayIndicator.isWorkingDay(
-            calculatedDate,
-            delayUntilIntervalData.getNonWorkingCalendars(),
-            delayUntilIntervalData.getNonWorkingDaysOfWeek()
-        );
-        if (delayUntilIntervalData.getMustBeWorkingDay()
-            .equalsIgnoreCase(MUST_BE_WORKING_DAY_NEXT) && !workingDay) {
-            calculatedDate = workingDayIndicator.getNextWorkingDay(
-                calculatedDate,
-                delayUntilIntervalData.getNonWorkingCalendars(),
-                delayUntilIntervalData.getNonWorkingDaysOfWeek()
-            );
+        if (calendar.isWorkingDay(calculatedDate)) {
+            return calculatedDate;
         }
-        if (delayUntilIntervalData.getMustBeWorkingDay()
-            .equalsIgnoreCase(MUST_BE_WORKING_DAY_PREVIOUS) && !workingDay) {
-            calculatedDate = workingDayIndicator.getPreviousWorkingDay(
-                calculatedDate,
-                delayUntilIntervalData.getNonWorkingCalendars(),
-                delayUntilIntervalData.getNonWorkingDaysOfWeek()
-            );
+        if (delayUntilIntervalData.getMustBeWorkingDay().equalsIgnoreCase(MUST_BE_WORKING_DAY_NEXT)) {
+            return calendar.getNextWorkingDay(calculatedDate);
         }
-        return calculatedDate;
-    }
-
-    private LocalDate skipNonWorkingDays(DelayUntilIntervalData delayUntilIntervalData, LocalDate localDate) {
-        LocalDate calculatedDate = localDate;
-        if (delayUntilIntervalData.getIntervalDays() < 0) {
-            for (long counter = delayUntilIntervalData.getIntervalDays(); counter < 0; counter++) {
-                calculatedDate = workingDayIndicator.getPreviousWorkingDay(
-                    calculatedDate,
-                    delayUntilIntervalData.getNonWorkingCalendars(),
-                    delayUntilIntervalData.getNonWorkingDaysOfWeek()
-                );
-            }
-        } else {
-            for (int counter = 0; counter < delayUntilIntervalData.getIntervalDays(); counter++) {
-                calculatedDate = workingDayIndicator.getNextWorkingDay(
-                    calculatedDate,
-                    delayUntilIntervalData.getNonWorkingCalendars(),
-                    delayUntilIntervalData.getNonWorkingDaysOfWeek()
-                );
-            }
+        if (delayUntilIntervalData.getMustBeWorkingDay().equalsIgnoreCase(MUST_BE_WORKING_DAY_PREVIOUS)) {
+            return calendar.getPreviousWorkingDay(calculatedDate);
         }
         return calculatedDate;
     }
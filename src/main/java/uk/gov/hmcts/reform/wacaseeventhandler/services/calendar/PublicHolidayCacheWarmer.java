@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.calendar;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Loads the configured calendars into calendar_cache once the application has started, so the first messages with
+ * a delay until interval do not wait for a calendar to be fetched. A calendar that cannot be loaded now is fetched
+ * when a message first needs it.
+ */
+@Slf4j
+@Component
+public class PublicHolidayCacheWarmer {
+
+    private final PublicHolidayService publicHolidayService;
+    private final List<String> calendarUris;
+
+    public PublicHolidayCacheWarmer(PublicHolidayService publicHolidayService,
+                                    @Value("${caffeine.calendar.prewarm}") List<String> calendarUris) {
+        this.publicHolidayService = publicHolidayService;
+        this.calendarUris = calendarUris;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (String uri : calendarUris) {
+            if (uri.isBlank()) {
+                continue;
+            }
+            try {
+                publicHolidayService.getPublicHolidays(uri.trim());
+            } catch (RuntimeException ex) {
+                log.warn("Could not load calendar {} at startup", uri, ex);
+            }
+        }
+    }
+}
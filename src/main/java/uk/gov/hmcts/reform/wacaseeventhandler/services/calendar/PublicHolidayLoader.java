@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.calendar;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Ticker;
+import feign.Feign;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.BankHolidaysApi;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.calendar.BankHolidays;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads calendars into calendar_cache. Once a calendar is due for a refresh it is reloaded in the background while
+ * the cached calendar keeps being served, and a reload that fails leaves the cached calendar in place. Reloads are
+ * counted with their outcome as a tag, and the time since the least recently loaded calendar was loaded is exposed
+ * as a gauge, so a calendar that keeps failing to reload shows up as growing staleness.
+ */
+@Slf4j
+@Component
+public class PublicHolidayLoader implements CacheLoader<Object, Object> {
+
+    static final String REFRESH_COUNTER = "wa.case.event.handler.calendar.refresh";
+    static final String STALENESS_GAUGE = "wa.case.event.handler.calendar.staleness";
+
+    private final Decoder feignDecoder;
+    private final Encoder feignEncoder;
+    private final CalendarUriValidator calendarUriValidator;
+    private final Ticker ticker;
+    private final Counter successfulRefreshes;
+    private final Counter failedRefreshes;
+    private final Map<String, Long> loadedAt = new ConcurrentHashMap<>();
+
+    public PublicHolidayLoader(Decoder feignDecoder,
+                               Encoder feignEncoder,
+                               CalendarUriValidator calendarUriValidator,
+                               Ticker ticker,
+                               MeterRegistry meterRegistry) {
+        this.feignDecoder = feignDecoder;
+        this.feignEncoder = feignEncoder;
+        this.calendarUriValidator = calendarUriValidator;
+        this.ticker = ticker;
+        this.successfulRefreshes = refreshCounter(meterRegistry, "success");
+        this.failedRefreshes = refreshCounter(meterRegistry, "failure");
+        Gauge.builder(STALENESS_GAUGE, this, PublicHolidayLoader::getStalenessSeconds)
+            .description("Seconds since the least recently loaded calendar was loaded")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public BankHolidays load(Object uri) {
+        return fetch((String) uri);
+    }
+
+    @Override
+    public BankHolidays reload(Object uri, Object oldValue) {
+        try {
+            BankHolidays publicHolidays = fetch((String) uri);
+            successfulRefreshes.increment();
+            return publicHolidays;
+        } catch (RuntimeException ex) {
+            // Caffeine logs the failure, keeps the cached calendar and retries the reload on a later read
+            failedRefreshes.increment();
+            throw ex;
+        }
+    }
+
+    public BankHolidays fetch(String uri) {
+        String validatedUri = calendarUriValidator.validateCalendarUri(uri);
+        log.info("Getting public holidays for {}", validatedUri);
+        BankHolidays publicHolidays = retrieve(validatedUri);
+        loadedAt.put(uri, ticker.read());
+        return publicHolidays;
+    }
+
+    public double getStalenessSeconds() {
+        long now = ticker.read();
+        long leastRecentlyLoaded = loadedAt.values().stream()
+            .mapToLong(Long::longValue)
+            .min()
+            .orElse(now);
+        return (double) (now - leastRecentlyLoaded) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    BankHolidays retrieve(String uri) {
+        return Feign.builder()
+            .decoder(feignDecoder)
+            .encoder(feignEncoder)
+            .target(BankHolidaysApi.class, uri)
+            .retrieveAll();
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(REFRESH_COUNTER)
+            .description("Number of background calendar reloads")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
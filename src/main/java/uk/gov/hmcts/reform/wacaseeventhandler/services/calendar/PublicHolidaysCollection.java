@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.services.calendar;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import feign.FeignException;
 import feign.codec.DecodeException;
 import lombok.extern.slf4j.Slf4j;
@@ -11,34 +13,53 @@ import uk.gov.hmcts.reform.wacaseeventhandler.exceptions.CalendarResourceInvalid
 import uk.gov.hmcts.reform.wacaseeventhandler.exceptions.CalendarResourceNotFoundException;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 
 /**
  * Stores all public holidays for england and wales retrieved from Gov uk API: https://www.gov.uk/bank-holidays/england-and-wales.json .
+ * The public holidays merged from a list of calendars are kept and handed out as the same instance until one of the
+ * calendars is reloaded.
  */
 @Slf4j
 @Component
 @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
 @Import(SnakeCaseFeignConfiguration.class)
 public class PublicHolidaysCollection {
+
+    private static final long MAXIMUM_CALENDAR_LISTS = 100;
+
     private final PublicHolidayService publicHolidayService;
+    private final Cache<List<String>, MergedPublicHolidays> mergedPublicHolidays = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_CALENDAR_LISTS)
+        .build();
 
     public PublicHolidaysCollection(PublicHolidayService publicHolidayService) {
         this.publicHolidayService = publicHolidayService;
     }
 
     public Set<LocalDate> getPublicHolidays(List<String> uris) {
-        List<BankHolidays.EventDate> events = new ArrayList<>();
-        BankHolidays allPublicHolidays = BankHolidays.builder().events(events).build();
+        List<BankHolidays> calendars = getCalendars(uris);
+        List<String> key = uris == null ? List.of() : uris;
+        MergedPublicHolidays merged = mergedPublicHolidays.getIfPresent(key);
+        if (merged == null || !merged.isMergedFrom(calendars)) {
+            merged = new MergedPublicHolidays(calendars, merge(calendars));
+            mergedPublicHolidays.put(key, merged);
+        }
+        return merged.publicHolidays();
+    }
+
+    private List<BankHolidays> getCalendars(List<String> uris) {
+        List<BankHolidays> calendars = new ArrayList<>();
         if (uris != null) {
             for (String uri : uris) {
                 try {
-                    BankHolidays publicHolidays = publicHolidayService.getPublicHolidays(uri);
-                    processCalendar(publicHolidays, allPublicHolidays);
+                    calendars.add(publicHolidayService.getPublicHolidays(uri));
                 } catch (DecodeException e) {
                     log.error("Could not read calendar resource {}", uri, e);
                     throw new CalendarResourceInvalidException("Could not read calendar resource " + uri, e);
@@ -48,22 +69,42 @@ public class PublicHolidaysCollection {
                 }
             }
         }
+        return calendars;
+    }
 
-
-        return allPublicHolidays.getEvents().stream()
-            .map(item -> LocalDate.parse(item.getDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd")))
-            .collect(Collectors.toSet());
+    /**
+     * Adds the non-working days of each calendar in turn and takes away one occurrence of each working day, so a later
+     * calendar can override a day of an earlier one.
+     */
+    private Set<LocalDate> merge(List<BankHolidays> calendars) {
+        Map<LocalDate, Integer> occurrences = new HashMap<>();
+        for (BankHolidays calendar : calendars) {
+            for (BankHolidays.EventDate eventDate : calendar.getEvents()) {
+                LocalDate date = LocalDate.parse(eventDate.getDate(), ISO_LOCAL_DATE);
+                if (eventDate.isWorkingDay()) {
+                    occurrences.computeIfPresent(date, (day, count) -> count == 1 ? null : count - 1);
+                } else {
+                    occurrences.merge(date, 1, Integer::sum);
+                }
+            }
+        }
+        return Set.copyOf(occurrences.keySet());
     }
 
-    private void processCalendar(BankHolidays publicHolidays, BankHolidays allPublicHolidays) {
-        for (BankHolidays.EventDate eventDate : publicHolidays.getEvents()) {
-            if (eventDate.isWorkingDay()) {
-                if (allPublicHolidays.getEvents().contains(eventDate)) {
-                    allPublicHolidays.getEvents().remove(eventDate);
+    private record MergedPublicHolidays(List<BankHolidays> calendars, Set<LocalDate> publicHolidays) {
+
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        boolean isMergedFrom(List<BankHolidays> currentCalendars) {
+            if (calendars.size() != currentCalendars.size()) {
+                return false;
+            }
+            for (int i = 0; i < calendars.size(); i++) {
+                // cached calendars are handed out as the same instance until they are reloaded
+                if (calendars.get(i) != currentCalendars.get(i)) {
+                    return false;
                 }
-            } else {
-                allPublicHolidays.getEvents().add(eventDate);
             }
+            return true;
         }
     }
 }
@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Working days compiled from a set of public holidays and the non-working days of the week. The days between the
+ * first and the last public holiday are held in a bit set over their epoch days together with a running count of
+ * working days, days outside of that range only depend on the day of the week. Telling if a day is a working day
+ * takes constant time and moving a number of working days away from a day takes logarithmic time.
+ */
+@SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+public final class WorkingDayCalendar {
+
+    private static final int DAYS_PER_WEEK = 7;
+    // 1970-01-01, epoch day 0, was a Thursday
+    private static final int EPOCH_DAY_OF_WEEK_OFFSET = DayOfWeek.THURSDAY.ordinal();
+
+    private final boolean[] workingDaysOfWeek = new boolean[DAYS_PER_WEEK];
+    private final int workingDaysPerWeek;
+    private final long firstEpochDay;
+    private final int coveredDays;
+    private final BitSet nonWorkingDays;
+    private final int[] workingDaysBefore;
+    private final int publicHolidaysOnWorkingDaysOfWeek;
+
+    private WorkingDayCalendar(Set<LocalDate> publicHolidays, List<String> nonWorkingDaysOfWeek) {
+        int perWeek = 0;
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            boolean workingDayOfWeek = nonWorkingDaysOfWeek == null
+                || !nonWorkingDaysOfWeek.contains(dayOfWeek.toString());
+            workingDaysOfWeek[dayOfWeek.ordinal()] = workingDayOfWeek;
+            if (workingDayOfWeek) {
+                perWeek++;
+            }
+        }
+        workingDaysPerWeek = perWeek;
+
+        long first = 0;
+        long last = -1;
+        for (LocalDate publicHoliday : publicHolidays) {
+            long epochDay = publicHoliday.toEpochDay();
+            if (last < first) {
+                first = epochDay;
+                last = epochDay;
+            } else {
+                first = Math.min(first, epochDay);
+                last = Math.max(last, epochDay);
+            }
+        }
+        firstEpochDay = first;
+        coveredDays = Math.toIntExact(last - first + 1);
+
+        nonWorkingDays = new BitSet(coveredDays);
+        for (LocalDate publicHoliday : publicHolidays) {
+            nonWorkingDays.set((int) (publicHoliday.toEpochDay() - firstEpochDay));
+        }
+        workingDaysBefore = new int[coveredDays + 1];
+        int workingDayOfWeekCount = 0;
+        for (int day = 0; day < coveredDays; day++) {
+            boolean workingDayOfWeek = workingDaysOfWeek[dayOfWeekIndex(firstEpochDay + day)];
+            if (workingDayOfWeek) {
+                workingDayOfWeekCount++;
+            } else {
+                nonWorkingDays.set(day);
+            }
+            workingDaysBefore[day + 1] = workingDaysBefore[day] + (nonWorkingDays.get(day) ? 0 : 1);
+        }
+        publicHolidaysOnWorkingDaysOfWeek = workingDayOfWeekCount - workingDaysBefore[coveredDays];
+    }
+
+    public static WorkingDayCalendar compile(Set<LocalDate> publicHolidays, List<String> nonWorkingDaysOfWeek) {
+        return new WorkingDayCalendar(requireNonNull(publicHolidays), nonWorkingDaysOfWeek);
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        long day = epochDay - firstEpochDay;
+        if (day >= 0 && day < coveredDays) {
+            return !nonWorkingDays.get((int) day);
+        }
+        return workingDaysOfWeek[dayOfWeekIndex(epochDay)];
+    }
+
+    public LocalDate getNextWorkingDay(LocalDate date) {
+        return addWorkingDays(date, 1);
+    }
+
+    public LocalDate getPreviousWorkingDay(LocalDate date) {
+        return addWorkingDays(date, -1);
+    }
+
+    /**
+     * Moves the given number of working days away from a date, backwards when the number is negative. The date itself
+     * does not count, so moving one working day from a Friday lands on the next Monday in a calendar without working
+     * weekends.
+     */
+    public LocalDate addWorkingDays(LocalDate date, long workingDays) {
+        requireNonNull(date);
+        if (workingDays == 0) {
+            return date;
+        }
+        if (workingDaysPerWeek == 0) {
+            throw new IllegalStateException("Calendar has no working days");
+        }
+        long epochDay = date.toEpochDay();
+        long count = Math.abs(workingDays);
+        // every full week outside of the public holidays holds workingDaysPerWeek working days, so this many days are
+        // bound to reach the working day being looked for
+        long searchDays = ((count + publicHolidaysOnWorkingDaysOfWeek) / workingDaysPerWeek + 1) * DAYS_PER_WEEK;
+
+        if (workingDays > 0) {
+            // the first day after the date by which count working days have gone by
+            long target = workingDaysBefore(epochDay + 1) + count;
+            long low = epochDay + 1;
+            long high = epochDay + searchDays;
+            while (low < high) {
+                long middle = low + (high - low) / 2;
+                if (workingDaysBefore(middle + 1) >= target) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return LocalDate.ofEpochDay(low);
+        }
+
+        // the last day before the date from which count working days go by up to the date
+        long target = workingDaysBefore(epochDay) - count;
+        long low = epochDay - searchDays;
+        long high = epochDay - 1;
+        while (low < high) {
+            long middle = high - (high - low) / 2;
+            if (workingDaysBefore(middle) <= target) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return LocalDate.ofEpochDay(low);
+    }
+
+    /**
+     * Counts the working days from the first covered day up to, but excluding, the given epoch day. The count is
+     * negative for days before the covered range.
+     */
+    private long workingDaysBefore(long epochDay) {
+        if (epochDay <= firstEpochDay) {
+            return -workingDaysOfWeekBetween(epochDay, firstEpochDay);
+        }
+        long lastEpochDay = firstEpochDay + coveredDays;
+        if (epochDay <= lastEpochDay) {
+            return workingDaysBefore[(int) (epochDay - firstEpochDay)];
+        }
+        return workingDaysBefore[coveredDays] + workingDaysOfWeekBetween(lastEpochDay, epochDay);
+    }
+
+    private long workingDaysOfWeekBetween(long fromEpochDay, long toEpochDay) {
+        long days = toEpochDay - fromEpochDay;
+        long count = days / DAYS_PER_WEEK * workingDaysPerWeek;
+        int dayOfWeek = dayOfWeekIndex(fromEpochDay);
+        for (long day = 0; day < days % DAYS_PER_WEEK; day++) {
+            if (workingDaysOfWeek[dayOfWeek]) {
+                count++;
+            }
+            dayOfWeek = (dayOfWeek + 1) % DAYS_PER_WEEK;
+        }
+        return count;
+    }
+
+    private static int dayOfWeekIndex(long epochDay) {
+        return Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK_OFFSET, DAYS_PER_WEEK);
+    }
+}
@@ -1,60 +1,72 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.services.calendar;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Tells if given day is a working day.
+ * Tells if given day is a working day. The public holidays of a list of calendars and the non-working days of the
+ * week are compiled into a {@link WorkingDayCalendar} once and the compiled calendar is reused for as long as the
+ * public holidays of the calendars stay the same.
  */
 @Component
 public class WorkingDayIndicator {
 
+    private static final long MAXIMUM_CALENDARS = 100;
+
     private final PublicHolidaysCollection publicHolidaysCollection;
+    private final Cache<CalendarKey, CompiledCalendar> calendars = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_CALENDARS)
+        .build();
 
     public WorkingDayIndicator(PublicHolidaysCollection publicHolidaysApiClient) {
         this.publicHolidaysCollection = publicHolidaysApiClient;
     }
 
     /**
-     * Verifies if given date is a working day in UK (England and Wales only).
+     * Compiles the working days of the given calendars and non-working days of the week, or reuses the calendar
+     * compiled before as long as the public holidays it was compiled from have not been reloaded since.
      */
-    public boolean isWorkingDay(LocalDate date, List<String> uri, List<String> nonWorkingDaysOfWeek) {
-        return !isPublicHoliday(date, uri)
-            && !isCustomNonWorkingDay(nonWorkingDaysOfWeek, date);
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public WorkingDayCalendar getCalendar(List<String> uri, List<String> nonWorkingDaysOfWeek) {
+        Set<LocalDate> publicHolidays = publicHolidaysCollection.getPublicHolidays(uri);
+        CalendarKey key = new CalendarKey(uri, nonWorkingDaysOfWeek);
+        CompiledCalendar compiled = calendars.getIfPresent(key);
+        // the holidays are handed out as the same instance until a calendar is reloaded
+        if (compiled == null || compiled.publicHolidays() != publicHolidays) {
+            compiled = new CompiledCalendar(
+                publicHolidays,
+                WorkingDayCalendar.compile(publicHolidays, nonWorkingDaysOfWeek)
+            );
+            calendars.put(key, compiled);
+        }
+        return compiled.calendar();
     }
 
-    private boolean isPublicHoliday(LocalDate date, List<String> uri) {
-        return publicHolidaysCollection.getPublicHolidays(uri).contains(date);
+    /**
+     * Verifies if given date is a working day in UK (England and Wales only).
+     */
+    public boolean isWorkingDay(LocalDate date, List<String> uri, List<String> nonWorkingDaysOfWeek) {
+        return getCalendar(uri, nonWorkingDaysOfWeek).isWorkingDay(requireNonNull(date));
     }
 
     public LocalDate getNextWorkingDay(LocalDate date, List<String> uri, List<String> nonWorkingDaysOfWeek) {
-        requireNonNull(date);
-        LocalDate updated = date.plusDays(1);
-
-        return isWorkingDay(updated, uri, nonWorkingDaysOfWeek)
-            ? updated
-            : getNextWorkingDay(updated, uri, nonWorkingDaysOfWeek);
+        return getCalendar(uri, nonWorkingDaysOfWeek).getNextWorkingDay(date);
     }
 
     public LocalDate getPreviousWorkingDay(LocalDate date, List<String> uri, List<String> nonWorkingDaysOfWeek) {
-        requireNonNull(date);
-        LocalDate updated = date.minusDays(1);
+        return getCalendar(uri, nonWorkingDaysOfWeek).getPreviousWorkingDay(date);
+    }
 
-        return isWorkingDay(updated, uri, nonWorkingDaysOfWeek)
-            ? updated
-            : getPreviousWorkingDay(updated, uri, nonWorkingDaysOfWeek);
+    private record CalendarKey(List<String> uri, List<String> nonWorkingDaysOfWeek) {
     }
 
-    private boolean isCustomNonWorkingDay(List<String> nonWorkingDaysOfWeek, LocalDate localDate) {
-        if (nonWorkingDaysOfWeek == null || nonWorkingDaysOfWeek.isEmpty()) {
-            return false;
-        }
-        DayOfWeek dayOfWeek = localDate.getDayOfWeek();
-        return nonWorkingDaysOfWeek.contains(dayOfWeek.toString());
+    private record CompiledCalendar(Set<LocalDate> publicHolidays, WorkingDayCalendar calendar) {
     }
 }
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.ccd;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.handlers.CancellationDmnCaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.handlers.CaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs a case event through the handlers. Every DMN evaluation is started straight away on its own virtual
+ * thread, so the latency of an event is roughly that of the slowest evaluation, while the handlers act on
+ * the results strictly in their {@link org.springframework.core.annotation.Order}.
+ * The wa-task-cancellation table shared by several handlers is evaluated once, and the handlers share the
+ * values derived from the event through its {@link EventProcessingContext}.
+ */
+@Slf4j
+@Service
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class CaseEventHandlerPipeline {
+
+    private final List<CaseEventHandler> handlerServices;
+    private final CancellationDmnEvaluator cancellationDmnEvaluator;
+    private final ExecutorService evaluationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CaseEventHandlerPipeline(List<CaseEventHandler> handlerServices,
+                                    CancellationDmnEvaluator cancellationDmnEvaluator) {
+        this.handlerServices = handlerServices;
+        this.cancellationDmnEvaluator = cancellationDmnEvaluator;
+    }
+
+    public void process(EventProcessingContext context) {
+        List<CompletableFuture<List<? extends EvaluateResponse>>> evaluations =
+            new ArrayList<>(handlerServices.size());
+        CompletableFuture<List<? extends EvaluateResponse>> cancellationDmnEvaluation = null;
+
+        for (CaseEventHandler handler : handlerServices) {
+            if (handler instanceof CancellationDmnCaseEventHandler) {
+                if (cancellationDmnEvaluation == null) {
+                    cancellationDmnEvaluation = evaluateAsync(() -> context.timed(
+                        Stage.DMN_EVALUATE,
+                        cancellationDmnEvaluator,
+                        () -> cancellationDmnEvaluator.evaluate(context)
+                    ));
+                }
+                evaluations.add(cancellationDmnEvaluation);
+            } else {
+                evaluations.add(evaluateAsync(
+                    () -> context.timed(Stage.DMN_EVALUATE, handler, () -> handler.evaluateDmn(context))));
+            }
+        }
+
+        for (int i = 0; i < handlerServices.size(); i++) {
+            List<? extends EvaluateResponse> results = await(evaluations.get(i));
+            if (!results.isEmpty()) {
+                handlerServices.get(i).handle(results, context);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evaluationExecutor.shutdown();
+    }
+
+    private CompletableFuture<List<? extends EvaluateResponse>> evaluateAsync(
+        Supplier<List<? extends EvaluateResponse>> evaluation) {
+        return CompletableFuture.supplyAsync(evaluation, evaluationExecutor);
+    }
+
+    /**
+     * Rethrows the evaluation failure as it is, so callers keep mapping Feign errors the same way as when
+     * the evaluations ran on the calling thread.
+     */
+    private static List<? extends EvaluateResponse> await(
+        CompletableFuture<List<? extends EvaluateResponse>> evaluation) {
+        try {
+            return evaluation.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
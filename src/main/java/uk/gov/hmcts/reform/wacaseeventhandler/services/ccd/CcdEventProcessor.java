@@ -4,43 +4,134 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
-import uk.gov.hmcts.reform.wacaseeventhandler.handlers.CaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
 
+import java.io.UncheckedIOException;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @Service
 public class CcdEventProcessor {
 
-    private final List<CaseEventHandler> handlerServices;
+    private final CaseEventHandlerPipeline caseEventHandlerPipeline;
     private final ObjectMapper objectMapper;
+    private final CaseEventMessageParser caseEventMessageParser;
+    private final MessageProcessingMetrics messageProcessingMetrics;
 
 
-    public CcdEventProcessor(List<CaseEventHandler> handlerServices,
-                             ObjectMapper objectMapper) {
-        this.handlerServices = handlerServices;
+    public CcdEventProcessor(CaseEventHandlerPipeline caseEventHandlerPipeline,
+                             ObjectMapper objectMapper,
+                             CaseEventMessageParser caseEventMessageParser,
+                             MessageProcessingMetrics messageProcessingMetrics) {
+        this.caseEventHandlerPipeline = caseEventHandlerPipeline;
         this.objectMapper = objectMapper;
+        this.caseEventMessageParser = caseEventMessageParser;
+        this.messageProcessingMetrics = messageProcessingMetrics;
     }
 
 
     public void processMessage(String message) throws JsonProcessingException {
-        EventInformation eventInformation = objectMapper.readValue(message, EventInformation.class);
-        processMessage(eventInformation);
+        processMessage(readEventInformation(message));
     }
 
     public void processMessage(CaseEventMessage caseEventMessage) throws JsonProcessingException {
-        log.info("Mapping message content for messageId: {} and caseId: {}",
-            caseEventMessage.getMessageId(),
-            caseEventMessage.getCaseId());
+        processMessageContent(caseEventMessage.getMessageId(),
+                              caseEventMessage.getCaseId(),
+                              caseEventMessage.getMessageContent());
+    }
+
+    /**
+     * Builds the event information from the columns stored when the message was received. The message content is
+     * only parsed if a handler needs the additional data. Messages stored before the columns were added are parsed
+     * in full.
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    public void processMessage(ClaimedMessage claimedMessage) throws JsonProcessingException {
+        EventColumns eventColumns = claimedMessage.eventColumns();
+        if (eventColumns == null || eventColumns.jurisdictionId() == null || eventColumns.caseTypeId() == null) {
+            processMessageContent(claimedMessage.messageId(), claimedMessage.caseId(), claimedMessage.messageContent());
+            return;
+        }
+
+        log.info("Mapping event columns for messageId: {} and caseId: {}",
+            claimedMessage.messageId(),
+            claimedMessage.caseId());
+
+        EventInformation eventInformation = EventInformation.withAdditionalDataSupplier(
+            eventColumns.eventInstanceId(),
+            claimedMessage.eventTimestamp(),
+            claimedMessage.caseId(),
+            eventColumns.jurisdictionId(),
+            eventColumns.caseTypeId(),
+            eventColumns.eventId(),
+            eventColumns.previousStateId(),
+            eventColumns.newStateId(),
+            eventColumns.userId(),
+            () -> readAdditionalData(claimedMessage.messageContent(), eventColumns)
+        );
+
+        try {
+            processMessage(eventInformation);
+        } catch (UncheckedIOException ex) {
+            // additional data that cannot be read makes the message unprocessable, as it did when parsed up front
+            if (ex.getCause() instanceof JsonProcessingException jsonProcessingException) {
+                throw jsonProcessingException;
+            }
+            throw ex;
+        }
+    }
+
+    private AdditionalData readAdditionalData(String messageContent, EventColumns eventColumns) {
+        try {
+            return messageProcessingMetrics.time(
+                Stage.PARSE,
+                MessageProcessingMetrics.NONE,
+                eventColumns.jurisdictionId(),
+                eventColumns.caseTypeId(),
+                () -> caseEventMessageParser.parseAdditionalData(messageContent)
+            );
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void processMessageContent(String messageId, String caseId, String messageContent)
+        throws JsonProcessingException {
+        log.info("Mapping message content for messageId: {} and caseId: {}", messageId, caseId);
+
+        processMessage(readEventInformation(messageContent));
+    }
 
-        EventInformation eventInformation =
-            objectMapper.readValue(caseEventMessage.getMessageContent(), EventInformation.class);
-        processMessage(eventInformation);
+    /**
+     * Parses the whole message, timed with the jurisdiction and case type read from it when it could be parsed.
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private EventInformation readEventInformation(String messageContent) throws JsonProcessingException {
+        long start = System.nanoTime();
+        EventInformation eventInformation;
+        try {
+            eventInformation = objectMapper.readValue(messageContent, EventInformation.class);
+        } catch (JsonProcessingException ex) {
+            messageProcessingMetrics.recordStage(
+                Stage.PARSE, MessageProcessingMetrics.NONE, null, null, false, System.nanoTime() - start);
+            throw ex;
+        }
+        messageProcessingMetrics.recordStage(
+            Stage.PARSE,
+            MessageProcessingMetrics.NONE,
+            eventInformation.getJurisdictionId(),
+            eventInformation.getCaseTypeId(),
+            true,
+            System.nanoTime() - start
+        );
+        return eventInformation;
     }
 
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
@@ -57,7 +148,10 @@ public class CcdEventProcessor {
         message.put("Timestamp", eventInformation.getEventTimeStamp().toString());
         message.put("User id", eventInformation.getUserId());
 
-        if (eventInformation.getAdditionalData() != null && eventInformation.getAdditionalData().getData() != null) {
+        // additional data that has not been read yet is left to the handlers that need it
+        if (eventInformation.hasReadAdditionalData()
+            && eventInformation.getAdditionalData() != null
+            && eventInformation.getAdditionalData().getData() != null) {
             message.put("Additional data", null);
 
             for (Map.Entry<String, Object> pair : eventInformation.getAdditionalData().getData().entrySet()) {
@@ -76,12 +170,7 @@ public class CcdEventProcessor {
 
         log.info(logInfo.toString());
 
-        handlerServices.forEach(handler -> {
-            List<? extends EvaluateResponse> results = handler.evaluateDmn(eventInformation);
-            if (!results.isEmpty()) {
-                handler.handle(results, eventInformation);
-            }
-        });
+        caseEventHandlerPipeline.process(new EventProcessingContext(eventInformation, messageProcessingMetrics));
     }
 
 }
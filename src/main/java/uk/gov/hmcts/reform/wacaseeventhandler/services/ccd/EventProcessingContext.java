@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.ccd;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnAndMessageNames;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dates.DateFormatter;
+import uk.gov.hmcts.reform.wacaseeventhandler.util.AdditionalDataReader;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+
+/**
+ * A case event together with the values derived from it that more than one handler needs. It is created once per
+ * event and each value is worked out the first time a handler asks for it. The DMN tables are evaluated in parallel,
+ * so every value is computed under a lock of its own. The calls handlers make for the event are timed through it,
+ * tagged with its jurisdiction and case type.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+public final class EventProcessingContext {
+
+    @Getter
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private final EventInformation eventInformation;
+
+    private final MessageProcessingMetrics messageProcessingMetrics;
+    private final Map<DmnAndMessageNames, String> tableKeys = new ConcurrentHashMap<>();
+    private final Memo<Map<String, Object>> additionalData = new Memo<>();
+    private final Memo<String> serviceAuthorisation = new Memo<>();
+    private final Memo<String> today = new Memo<>();
+    private final Memo<ZonedDateTime> zonedEventTimeStamp = new Memo<>();
+
+    public EventProcessingContext(EventInformation eventInformation) {
+        this(eventInformation, MessageProcessingMetrics.DISABLED);
+    }
+
+    public EventProcessingContext(EventInformation eventInformation,
+                                  MessageProcessingMetrics messageProcessingMetrics) {
+        this.eventInformation = eventInformation;
+        this.messageProcessingMetrics = messageProcessingMetrics;
+    }
+
+    /**
+     * Runs a call a handler makes for the event, timed as the given stage.
+     */
+    public <T> T timed(Stage stage, Object handler, Supplier<T> call) {
+        return messageProcessingMetrics.time(
+            stage,
+            MessageProcessingMetrics.handlerName(handler),
+            eventInformation.getJurisdictionId(),
+            eventInformation.getCaseTypeId(),
+            call::get
+        );
+    }
+
+    public void runTimed(Stage stage, Object handler, Runnable call) {
+        timed(stage, handler, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public String getTableKey(DmnAndMessageNames dmnAndMessageNames) {
+        return tableKeys.computeIfAbsent(
+            dmnAndMessageNames,
+            names -> names.getTableKey(eventInformation.getJurisdictionId(), eventInformation.getCaseTypeId())
+        );
+    }
+
+    public Map<String, Object> getAdditionalData(ObjectMapper objectMapper) {
+        return additionalData.get(() -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> data =
+                AdditionalDataReader.readValue(objectMapper, eventInformation.getAdditionalData());
+            return data;
+        });
+    }
+
+    public String getServiceAuthorisation(AuthTokenGenerator serviceAuthGenerator) {
+        return serviceAuthorisation.get(serviceAuthGenerator::generate);
+    }
+
+    public String getToday() {
+        return today.get(() -> LocalDateTime.now().format(ISO_LOCAL_DATE));
+    }
+
+    public ZonedDateTime getZonedEventTimeStamp(DateFormatter dateFormatter) {
+        return zonedEventTimeStamp.get(() -> dateFormatter.formatToZone(eventInformation.getEventTimeStamp()));
+    }
+
+    private static final class Memo<T> {
+
+        private final Lock lock = new ReentrantLock();
+        private T value;
+        private boolean computed;
+
+        /**
+         * Uses an explicit lock rather than a monitor, as the supplier may make a remote call and a virtual thread
+         * blocked inside a synchronized block would pin its carrier thread for the duration of that call.
+         */
+        T get(Supplier<T> supplier) {
+            lock.lock();
+            try {
+                if (!computed) {
+                    value = supplier.get();
+                    computed = true;
+                }
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.ccd;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every stage of processing a case event message, from claiming it to recording its outcome, so the time of a
+ * slow message can be put down to the stage it was spent in. Stages are tagged with the handler, the jurisdiction,
+ * the case type and whether they succeeded. Only the timer of the whole processing of a message publishes a
+ * percentile histogram, so latency SLOs can be alerted on from its buckets without a set of buckets for every stage.
+ * Claimed messages and the outcome recorded for every message are counted. Jurisdiction and case type tags are lower
+ * case, whichever form the message carried them in, and every meter is registered once and then looked up by its tags.
+ */
+@Component
+public class MessageProcessingMetrics {
+
+    static final String STAGE_TIMER = "wa.case.event.handler.message.stage";
+    static final String PROCESSING_TIMER = "wa.case.event.handler.message.processing";
+    static final String OUTCOME_COUNTER = "wa.case.event.handler.message.outcome";
+    static final String CLAIMED_COUNTER = "wa.case.event.handler.message.claimed";
+
+    public static final String NONE = "none";
+    static final String UNKNOWN = "unknown";
+
+    // registers with no registry, for events processed outside of the database message pipeline
+    static final MessageProcessingMetrics DISABLED = new MessageProcessingMetrics(new CompositeMeterRegistry());
+
+    private static final Duration MINIMUM_EXPECTED_LATENCY = Duration.ofMillis(1);
+    private static final Duration MAXIMUM_EXPECTED_LATENCY = Duration.ofMinutes(1);
+
+    private final MeterRegistry meterRegistry;
+    private final Counter claimedMessages;
+    private final Map<StageKey, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<CaseTypeKey, Timer> processingTimers = new ConcurrentHashMap<>();
+    private final Map<OutcomeKey, Counter> outcomeCounters = new ConcurrentHashMap<>();
+
+    public MessageProcessingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.claimedMessages = Counter.builder(CLAIMED_COUNTER)
+            .description("Number of case event messages claimed for processing")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs a call and times it as the given stage, tagged with whether the call returned or threw.
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public <T, E extends Exception> T time(Stage stage,
+                                           String handler,
+                                           String jurisdictionId,
+                                           String caseTypeId,
+                                           StageCall<T, E> call) throws E {
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T result = call.call();
+            succeeded = true;
+            return result;
+        } finally {
+            recordStage(stage, handler, jurisdictionId, caseTypeId, succeeded, System.nanoTime() - start);
+        }
+    }
+
+    public void recordStage(Stage stage,
+                            String handler,
+                            String jurisdictionId,
+                            String caseTypeId,
+                            boolean succeeded,
+                            long durationNanos) {
+        StageKey key = new StageKey(stage, handler, tagValue(jurisdictionId), tagValue(caseTypeId), succeeded);
+        stageTimers.computeIfAbsent(key, this::registerStageTimer)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordClaimed(int count) {
+        claimedMessages.increment(count);
+    }
+
+    /**
+     * Times a message from the start of its processing until its outcome has been recorded.
+     */
+    public void recordProcessing(String jurisdictionId, String caseTypeId, long durationNanos) {
+        CaseTypeKey key = new CaseTypeKey(tagValue(jurisdictionId), tagValue(caseTypeId));
+        processingTimers.computeIfAbsent(key, this::registerProcessingTimer)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts the outcome of processing a message, where a message without a new state is held for a retry.
+     */
+    public void recordOutcome(String jurisdictionId, String caseTypeId, MessageState state) {
+        String outcome = state == null ? "retry" : state.name().toLowerCase(Locale.ROOT);
+        OutcomeKey key = new OutcomeKey(tagValue(jurisdictionId), tagValue(caseTypeId), outcome);
+        outcomeCounters.computeIfAbsent(key, this::registerOutcomeCounter)
+            .increment();
+    }
+
+    static String handlerName(Object handler) {
+        return ClassUtils.getUserClass(handler).getSimpleName();
+    }
+
+    private Timer registerStageTimer(StageKey key) {
+        return Timer.builder(STAGE_TIMER)
+            .description("Time taken by a stage of processing a case event message")
+            .tag("stage", key.stage().getTagValue())
+            .tag("handler", key.handler())
+            .tag("jurisdiction", key.jurisdiction())
+            .tag("case.type", key.caseType())
+            .tag("outcome", key.succeeded() ? "success" : "failure")
+            .register(meterRegistry);
+    }
+
+    private Timer registerProcessingTimer(CaseTypeKey key) {
+        return Timer.builder(PROCESSING_TIMER)
+            .description("Time taken to process a case event message and record its outcome")
+            .tag("jurisdiction", key.jurisdiction())
+            .tag("case.type", key.caseType())
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MINIMUM_EXPECTED_LATENCY)
+            .maximumExpectedValue(MAXIMUM_EXPECTED_LATENCY)
+            .register(meterRegistry);
+    }
+
+    private Counter registerOutcomeCounter(OutcomeKey key) {
+        return Counter.builder(OUTCOME_COUNTER)
+            .description("Number of case event messages processed by outcome")
+            .tag("jurisdiction", key.jurisdiction())
+            .tag("case.type", key.caseType())
+            .tag("outcome", key.outcome())
+            .register(meterRegistry);
+    }
+
+    // EventInformation lower cases its ids while the stored event columns keep them as received
+    private static String tagValue(String id) {
+        return id == null ? UNKNOWN : id.toLowerCase(Locale.ROOT);
+    }
+
+    private record StageKey(Stage stage, String handler, String jurisdiction, String caseType, boolean succeeded) {
+    }
+
+    private record CaseTypeKey(String jurisdiction, String caseType) {
+    }
+
+    private record OutcomeKey(String jurisdiction, String caseType, String outcome) {
+    }
+
+    public enum Stage {
+        CLAIM("claim"),
+        PARSE("parse"),
+        DMN_EVALUATE("dmn.evaluate"),
+        SEND_MESSAGE("send.message"),
+        PERFORM_OPERATION("perform.operation"),
+        STATE_UPDATE("state.update");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String getTagValue() {
+            return tagValue;
+        }
+    }
+
+    @FunctionalInterface
+    public interface StageCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnAndMessageNames.TASK_CANCELLATION;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnMapValue;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
+
+/**
+ * Evaluates the wa-task-cancellation table shared by the cancellation, warning and reconfiguration handlers.
+ * The request carries the superset of the variables those handlers use, so one evaluation serves all of them.
+ */
+@Slf4j
+@Service
+public class CancellationDmnEvaluator {
+
+    private final DmnEvaluationService dmnEvaluationService;
+    private final ObjectMapper objectMapper;
+
+    public CancellationDmnEvaluator(DmnEvaluationService dmnEvaluationService,
+                                    ObjectMapper objectMapper) {
+        this.dmnEvaluationService = dmnEvaluationService;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<CancellationEvaluateResponse> evaluate(EventProcessingContext context) {
+        EventInformation eventInformation = context.getEventInformation();
+        String tableKey = context.getTableKey(TASK_CANCELLATION);
+        log.debug("Evaluating shared cancellation table {}", tableKey);
+
+        Map<String, DmnValue<?>> variables = Map.of(
+            "event", dmnStringValue(eventInformation.getEventId()),
+            "state", dmnStringValue(eventInformation.getNewStateId()),
+            "fromState", dmnStringValue(eventInformation.getPreviousStateId()),
+            "additionalData", dmnMapValue(context.getAdditionalData(objectMapper))
+        );
+
+        return dmnEvaluationService.evaluateCancellationDmn(
+            tableKey,
+            eventInformation.getJurisdictionId(),
+            new EvaluateDmnRequest(variables)
+        );
+    }
+}
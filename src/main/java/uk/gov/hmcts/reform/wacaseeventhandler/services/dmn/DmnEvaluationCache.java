@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the results of the wa-task-cancellation evaluations, which only depend on the event, the states and the
+ * additional data of the event, so repeated event shapes are not evaluated again. Entries are keyed by table key,
+ * tenant and a hash of the request variables, the cache is bounded in size and entries expire after a fixed time.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("dmn.cache.enabled")
+public class DmnEvaluationCache {
+
+    static final String CACHE_NAME = "dmn_evaluation_cache";
+
+    private final ObjectWriter variablesWriter;
+    private final Cache<EvaluationKey, List<CancellationEvaluateResponse>> cache;
+
+    public DmnEvaluationCache(ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              Ticker ticker,
+                              @Value("${dmn.cache.maximumSize}") long maximumSize,
+                              @Value("${dmn.cache.timeToLiveSeconds}") long timeToLiveSeconds) {
+        this.variablesWriter = objectMapper.writer()
+            .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .without(SerializationFeature.INDENT_OUTPUT);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(timeToLiveSeconds))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public List<CancellationEvaluateResponse> get(String tableKey,
+                                                  String tenantId,
+                                                  EvaluateDmnRequest evaluateDmnRequest,
+                                                  Supplier<List<CancellationEvaluateResponse>> evaluation) {
+        String variablesHash;
+        try {
+            variablesHash = hash(evaluateDmnRequest);
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not hash variables of DMN {} evaluation request, evaluating without cache", tableKey, ex);
+            return evaluation.get();
+        }
+        return cache.get(
+            new EvaluationKey(tableKey, tenantId, variablesHash),
+            key -> List.copyOf(evaluation.get())
+        );
+    }
+
+    public void invalidateAll() {
+        log.info("Invalidating all cached DMN evaluations");
+        cache.invalidateAll();
+    }
+
+    public void invalidate(String tableKey) {
+        log.info("Invalidating cached evaluations of DMN {}", tableKey);
+        cache.asMap().keySet().removeIf(key -> key.tableKey().equals(tableKey));
+    }
+
+    private String hash(EvaluateDmnRequest evaluateDmnRequest) throws JsonProcessingException {
+        return DigestUtils.sha256Hex(variablesWriter.writeValueAsBytes(evaluateDmnRequest.getVariables()));
+    }
+
+    private record EvaluationKey(String tableKey, String tenantId, String variablesHash) {
+    }
+}
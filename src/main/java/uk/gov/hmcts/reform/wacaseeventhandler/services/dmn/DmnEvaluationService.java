@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point for evaluating the task DMN tables. When the table catalogue is enabled, tables that are not
+ * deployed for the tenant are not evaluated at all. When the embedded engine is enabled the tables are evaluated
+ * in process, otherwise, or when a table cannot be evaluated locally, wa-workflow-api evaluates them. A table that
+ * wa-workflow-api does not find is recorded as not deployed and evaluates to no results, like the tables the catalogue
+ * already knows are missing. When the evaluation cache is enabled, repeated wa-task-cancellation evaluations are
+ * answered from the cache.
+ */
+@Slf4j
+@Service
+public class DmnEvaluationService {
+
+    private final AuthTokenGenerator serviceAuthGenerator;
+    private final WorkflowApiClient workflowApiClient;
+    private final Optional<DmnTableCatalog> dmnTableCatalog;
+    private final Optional<EmbeddedDmnEngine> embeddedDmnEngine;
+    private final Optional<DmnEvaluationCache> dmnEvaluationCache;
+
+    public DmnEvaluationService(AuthTokenGenerator serviceAuthGenerator,
+                                WorkflowApiClient workflowApiClient,
+                                Optional<DmnTableCatalog> dmnTableCatalog,
+                                Optional<EmbeddedDmnEngine> embeddedDmnEngine,
+                                Optional<DmnEvaluationCache> dmnEvaluationCache) {
+        this.serviceAuthGenerator = serviceAuthGenerator;
+        this.workflowApiClient = workflowApiClient;
+        this.dmnTableCatalog = dmnTableCatalog;
+        this.embeddedDmnEngine = embeddedDmnEngine;
+        this.dmnEvaluationCache = dmnEvaluationCache;
+    }
+
+    public List<CancellationEvaluateResponse> evaluateCancellationDmn(String tableKey,
+                                                                      String tenantId,
+                                                                      EvaluateDmnRequest evaluateDmnRequest) {
+        if (isNotDeployed(tableKey, tenantId)) {
+            return Collections.emptyList();
+        }
+
+        Supplier<List<CancellationEvaluateResponse>> evaluation = () -> evaluate(
+            tableKey,
+            tenantId,
+            evaluateDmnRequest,
+            CancellationEvaluateResponse.class,
+            () -> workflowApiClient.evaluateCancellationDmn(
+                serviceAuthGenerator.generate(),
+                tableKey,
+                tenantId,
+                evaluateDmnRequest
+            ).getResults()
+        );
+        return dmnEvaluationCache
+            .map(cache -> cache.get(tableKey, tenantId, evaluateDmnRequest, evaluation))
+            .orElseGet(evaluation);
+    }
+
+    public List<InitiateEvaluateResponse> evaluateInitiationDmn(String tableKey,
+                                                                String tenantId,
+                                                                EvaluateDmnRequest evaluateDmnRequest) {
+        if (isNotDeployed(tableKey, tenantId)) {
+            return Collections.emptyList();
+        }
+
+        return evaluate(
+            tableKey,
+            tenantId,
+            evaluateDmnRequest,
+            InitiateEvaluateResponse.class,
+            () -> workflowApiClient.evaluateInitiationDmn(
+                serviceAuthGenerator.generate(),
+                tableKey,
+                tenantId,
+                evaluateDmnRequest
+            ).getResults()
+        );
+    }
+
+    private <T extends EvaluateResponse> List<T> evaluate(String tableKey,
+                                                          String tenantId,
+                                                          EvaluateDmnRequest evaluateDmnRequest,
+                                                          Class<T> responseType,
+                                                          Supplier<List<T>> remoteEvaluation) {
+        Optional<List<T>> localResults = embeddedDmnEngine
+            .flatMap(engine -> engine.evaluate(tableKey, tenantId, evaluateDmnRequest, responseType));
+        if (localResults.isPresent()) {
+            return localResults.get();
+        }
+
+        try {
+            return remoteEvaluation.get();
+        } catch (FeignException.NotFound ex) {
+            if (dmnTableCatalog.isEmpty()) {
+                throw ex;
+            }
+            log.info("DMN {} was not found for tenant {}, skipping evaluation until the catalogue is refreshed",
+                     tableKey, tenantId);
+            dmnTableCatalog.get().markNotDeployed(tableKey, tenantId);
+            return Collections.emptyList();
+        }
+    }
+
+    private boolean isNotDeployed(String tableKey, String tenantId) {
+        if (dmnTableCatalog.isPresent() && !dmnTableCatalog.get().isDeployed(tableKey, tenantId)) {
+            log.debug("DMN {} is not deployed for tenant {}, skipping evaluation", tableKey, tenantId);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.DecisionDefinition;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Remembers which DMN tables are deployed for each tenant, so events of case types without task tables can be
+ * completed without calling wa-workflow-api. The catalogue of a tenant is refreshed in the background once the
+ * refresh interval has passed. While the catalogue of a tenant cannot be loaded every table is assumed to be
+ * deployed, so evaluations carry on as they would without the catalogue.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("dmn.catalog.enabled")
+public class DmnTableCatalog {
+
+    private final AuthTokenGenerator serviceAuthGenerator;
+    private final WorkflowApiClient workflowApiClient;
+    private final LoadingCache<String, Optional<Set<String>>> tableKeysByTenant;
+
+    public DmnTableCatalog(AuthTokenGenerator serviceAuthGenerator,
+                           WorkflowApiClient workflowApiClient,
+                           Ticker ticker,
+                           @Value("${dmn.catalog.refreshIntervalSeconds}") long refreshIntervalSeconds) {
+        this.serviceAuthGenerator = serviceAuthGenerator;
+        this.workflowApiClient = workflowApiClient;
+        this.tableKeysByTenant = Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofSeconds(refreshIntervalSeconds))
+            .ticker(ticker)
+            .build(this::loadTableKeys);
+    }
+
+    public boolean isDeployed(String tableKey, String tenantId) {
+        return tableKeysByTenant.get(tenantId)
+            .map(tableKeys -> tableKeys.contains(tableKey))
+            .orElse(true);
+    }
+
+    /**
+     * Forgets a table wa-workflow-api no longer finds, until the next refresh of the catalogue of the tenant.
+     */
+    public void markNotDeployed(String tableKey, String tenantId) {
+        tableKeysByTenant.get(tenantId).ifPresent(tableKeys -> tableKeys.remove(tableKey));
+    }
+
+    private Optional<Set<String>> loadTableKeys(String tenantId) {
+        try {
+            Set<String> tableKeys = workflowApiClient.getDecisionDefinitions(
+                    serviceAuthGenerator.generate(),
+                    tenantId,
+                    true
+                ).stream()
+                .map(DecisionDefinition::getKey)
+                .collect(Collectors.toCollection(ConcurrentHashMap::newKeySet));
+            log.info("Loaded DMN table catalogue for tenant {} with {} tables", tenantId, tableKeys.size());
+            return Optional.of(tableKeys);
+        } catch (RuntimeException ex) {
+            log.warn("Could not load DMN table catalogue for tenant {}, assuming every table is deployed",
+                     tenantId, ex);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.dmn.engine.DmnDecisionResultEntries;
+import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.DecisionDefinition;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.DecisionDefinitionXml;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Evaluates decision tables in process with the Camunda DMN engine instead of calling wa-workflow-api for every
+ * evaluation. Definitions are downloaded from wa-workflow-api the first time a table is used for a tenant and
+ * are kept in memory. Once the version check interval has passed the deployed definition is checked again in the
+ * background and only downloaded again when a new version has been deployed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("dmn.embedded.enabled")
+public class EmbeddedDmnEngine {
+
+    private final AuthTokenGenerator serviceAuthGenerator;
+    private final WorkflowApiClient workflowApiClient;
+    private final ObjectMapper objectMapper;
+    private final DmnEngine dmnEngine;
+    private final LoadingCache<DecisionKey, DeployedDecision> decisions;
+
+    public EmbeddedDmnEngine(AuthTokenGenerator serviceAuthGenerator,
+                             WorkflowApiClient workflowApiClient,
+                             ObjectMapper objectMapper,
+                             Ticker ticker,
+                             @Value("${dmn.embedded.versionCheckIntervalSeconds}") long versionCheckIntervalSeconds) {
+        this.serviceAuthGenerator = serviceAuthGenerator;
+        this.workflowApiClient = workflowApiClient;
+        this.objectMapper = objectMapper;
+        this.dmnEngine = DmnEngineConfiguration.createDefaultDmnEngineConfiguration().buildEngine();
+        this.decisions = Caffeine.newBuilder()
+            .refreshAfterWrite(Duration.ofSeconds(versionCheckIntervalSeconds))
+            .ticker(ticker)
+            .build(new CacheLoader<>() {
+                @Override
+                public DeployedDecision load(DecisionKey key) {
+                    return download(key);
+                }
+
+                @Override
+                public DeployedDecision reload(DecisionKey key, DeployedDecision current) {
+                    return checkVersion(key, current);
+                }
+            });
+    }
+
+    /**
+     * Evaluates the table locally and maps each matched rule to the same response shape wa-workflow-api returns.
+     * Returns empty when the table could not be loaded or evaluated locally, so the caller can fall back to
+     * the remote evaluation.
+     */
+    public <T extends EvaluateResponse> Optional<List<T>> evaluate(String tableKey,
+                                                                   String tenantId,
+                                                                   EvaluateDmnRequest evaluateDmnRequest,
+                                                                   Class<T> responseType) {
+        try {
+            DeployedDecision deployedDecision = decisions.get(new DecisionKey(tableKey, tenantId));
+            DmnDecisionResult result = dmnEngine.evaluateDecision(
+                deployedDecision.decision(),
+                toVariables(evaluateDmnRequest)
+            );
+            JavaType resultsType = objectMapper.getTypeFactory().constructCollectionType(List.class, responseType);
+            return Optional.of(objectMapper.convertValue(toResults(result), resultsType));
+        } catch (RuntimeException ex) {
+            log.warn("Could not evaluate DMN {} for tenant {} locally, falling back to wa-workflow-api",
+                     tableKey, tenantId, ex);
+            return Optional.empty();
+        }
+    }
+
+    private DeployedDecision download(DecisionKey key) {
+        DecisionDefinitionXml definitionXml = workflowApiClient.getDecisionDefinitionXml(
+            serviceAuthGenerator.generate(),
+            key.tableKey(),
+            key.tenantId()
+        );
+        log.info("Deploying DMN {} for tenant {} with definition id {}",
+                 key.tableKey(), key.tenantId(), definitionXml.getId());
+
+        DmnDecision decision = dmnEngine.parseDecision(
+            key.tableKey(),
+            new ByteArrayInputStream(definitionXml.getDmnXml().getBytes(UTF_8))
+        );
+        return new DeployedDecision(definitionXml.getId(), decision);
+    }
+
+    private DeployedDecision checkVersion(DecisionKey key, DeployedDecision current) {
+        DecisionDefinition definition = workflowApiClient.getDecisionDefinition(
+            serviceAuthGenerator.generate(),
+            key.tableKey(),
+            key.tenantId()
+        );
+        if (current.definitionId().equals(definition.getId())) {
+            return current;
+        }
+        log.info("DMN {} for tenant {} has been redeployed as version {}",
+                 key.tableKey(), key.tenantId(), definition.getVersion());
+        return download(key);
+    }
+
+    private static Map<String, Object> toVariables(EvaluateDmnRequest evaluateDmnRequest) {
+        Map<String, Object> variables = new HashMap<>();
+        if (evaluateDmnRequest.getVariables() != null) {
+            evaluateDmnRequest.getVariables()
+                .forEach((name, dmnValue) -> variables.put(name, dmnValue == null ? null : dmnValue.getValue()));
+        }
+        return variables;
+    }
+
+    /**
+     * Shapes the matched rules like the wa-workflow-api evaluate response, every output being a value and a type.
+     */
+    private static List<Map<String, DmnValue<Object>>> toResults(DmnDecisionResult result) {
+        return result.stream()
+            .map(DmnDecisionResultEntries::getEntryMapTyped)
+            .map(EmbeddedDmnEngine::toOutputs)
+            .toList();
+    }
+
+    private static Map<String, DmnValue<Object>> toOutputs(Map<String, TypedValue> entries) {
+        Map<String, DmnValue<Object>> outputs = new LinkedHashMap<>();
+        entries.forEach((name, typedValue) -> outputs.put(name, new DmnValue<>(
+            typedValue.getValue(),
+            typedValue.getType() == null ? null : StringUtils.capitalize(typedValue.getType().getName())
+        )));
+        return outputs;
+    }
+
+    private record DecisionKey(String tableKey, String tenantId) {
+    }
+
+    private record DeployedDecision(String definitionId, DmnDecision decision) {
+    }
+}
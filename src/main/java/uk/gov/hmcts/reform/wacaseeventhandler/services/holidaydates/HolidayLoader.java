@@ -1,22 +1,79 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.HolidayDateRepository;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * Loads the England and Wales holidays. Start-up does not call gov.uk: it uses the holidays last fetched from gov.uk
+ * and stored in the database, or the bundled snapshot when none have been stored yet. Fetching from gov.uk is left to
+ * the {@link HolidayRefresher}, which stores what it fetched for the next start-up.
+ */
+@Slf4j
 @Component
 public class HolidayLoader {
     private final GovUkHolidayDatesClient govUkHolidayDatesClient;
+    private final HolidayDateRepository holidayDateRepository;
+    private final ObjectMapper objectMapper;
+    private final Resource holidaySnapshot;
 
-    public HolidayLoader(GovUkHolidayDatesClient govUkHolidayDatesClient) {
+    public HolidayLoader(GovUkHolidayDatesClient govUkHolidayDatesClient,
+                         HolidayDateRepository holidayDateRepository,
+                         ObjectMapper objectMapper,
+                         @Value("${govUkHolidays.snapshot}") Resource holidaySnapshot) {
         this.govUkHolidayDatesClient = govUkHolidayDatesClient;
+        this.holidayDateRepository = holidayDateRepository;
+        this.objectMapper = objectMapper;
+        this.holidaySnapshot = holidaySnapshot;
     }
 
     @Bean
     public List<LocalDate> loadHolidays() {
-        UkHolidayDates holidayDates = govUkHolidayDatesClient.getHolidayDates();
+        try {
+            List<LocalDate> storedHolidays = holidayDateRepository.findHolidayDates();
+            if (!storedHolidays.isEmpty()) {
+                log.info("Loaded {} holidays stored from gov.uk", storedHolidays.size());
+                return storedHolidays;
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not read holidays stored from gov.uk, using the bundled snapshot", ex);
+        }
+        List<LocalDate> snapshotHolidays = loadSnapshot();
+        log.info("Loaded {} holidays from snapshot {}", snapshotHolidays.size(), holidaySnapshot.getFilename());
+        return snapshotHolidays;
+    }
+
+    /**
+     * Fetches the holidays from gov.uk and stores them for the next start-up.
+     */
+    public List<LocalDate> fetchHolidays() {
+        List<LocalDate> holidays = toDates(govUkHolidayDatesClient.getHolidayDates());
+        if (holidays.isEmpty()) {
+            throw new IllegalStateException("gov.uk returned no holidays");
+        }
+        holidayDateRepository.replaceHolidayDates(holidays);
+        return holidays;
+    }
+
+    private List<LocalDate> loadSnapshot() {
+        try (InputStream snapshot = holidaySnapshot.getInputStream()) {
+            return toDates(objectMapper.readValue(snapshot, UkHolidayDates.class));
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not read holiday snapshot " + holidaySnapshot.getDescription(), ex);
+        }
+    }
+
+    private static List<LocalDate> toDates(UkHolidayDates holidayDates) {
         return holidayDates.getEnglandAndWales().getEvents().stream()
             .map(HolidayDate::getDate)
             .toList();
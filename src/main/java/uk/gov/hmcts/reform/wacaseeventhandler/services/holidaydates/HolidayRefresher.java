@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches the holidays from gov.uk on a background thread once the application is ready and then at a fixed
+ * interval, replacing the holidays of the {@link HolidayService}. A failed fetch leaves the current holidays in place
+ * until the next attempt.
+ */
+@Slf4j
+@Component
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class HolidayRefresher {
+
+    private final HolidayLoader holidayLoader;
+    private final HolidayService holidayService;
+    private final long refreshIntervalHours;
+    private final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("holiday-refresh").daemon().factory());
+
+    public HolidayRefresher(HolidayLoader holidayLoader,
+                            HolidayService holidayService,
+                            @Value("${govUkHolidays.refreshIntervalHours}") long refreshIntervalHours) {
+        this.holidayLoader = holidayLoader;
+        this.holidayService = holidayService;
+        this.refreshIntervalHours = refreshIntervalHours;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refreshExecutor.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalHours, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refreshExecutor.shutdownNow();
+    }
+
+    void refresh() {
+        try {
+            List<LocalDate> holidays = holidayLoader.fetchHolidays();
+            holidayService.setHolidays(holidays);
+            log.info("Refreshed {} holidays from gov.uk", holidays.size());
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh holidays from gov.uk, keeping the current holidays", ex);
+        }
+    }
+}
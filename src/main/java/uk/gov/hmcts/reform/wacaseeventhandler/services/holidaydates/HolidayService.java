@@ -1,26 +1,41 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates;
 
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.calendar.WorkingDayCalendar;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Tells holidays and weekends from working days. The holidays are indexed once, so looking up a day takes constant
+ * time and adding working days to a date does not have to step through every day in between. The holidays can be
+ * replaced while the service is in use, each call sees either the previous or the new holidays as a whole.
+ */
 @Component
 public class HolidayService {
-    private final List<LocalDate> holidays;
+
+    private static final List<String> WEEKEND = List.of(DayOfWeek.SATURDAY.toString(), DayOfWeek.SUNDAY.toString());
+
+    private volatile IndexedHolidays holidays;
 
     public HolidayService(List<LocalDate> holidays) {
-        this.holidays = holidays;
+        setHolidays(holidays);
+    }
+
+    public final void setHolidays(List<LocalDate> holidays) {
+        Set<LocalDate> holidayDates = Set.copyOf(holidays);
+        this.holidays = new IndexedHolidays(holidayDates, WorkingDayCalendar.compile(holidayDates, WEEKEND));
     }
 
     public boolean isHoliday(ZonedDateTime zonedDateTime) {
-        return holidays.contains(zonedDateTime.toLocalDate());
+        return holidays.dates().contains(zonedDateTime.toLocalDate());
     }
 
     public boolean isHoliday(LocalDate localDate) {
-        return holidays.contains(localDate);
+        return holidays.dates().contains(localDate);
     }
 
     public boolean isWeekend(ZonedDateTime date) {
@@ -30,4 +45,15 @@ public class HolidayService {
     public boolean isWeekend(LocalDate localDate) {
         return localDate.getDayOfWeek() == DayOfWeek.SATURDAY || localDate.getDayOfWeek() == DayOfWeek.SUNDAY;
     }
+
+    /**
+     * Moves the given number of days that are neither weekends nor holidays away from a date, the date itself does
+     * not count.
+     */
+    public LocalDate addWorkingDays(LocalDate date, int workingDays) {
+        return holidays.workingDayCalendar().addWorkingDays(date, workingDays);
+    }
+
+    private record IndexedHolidays(Set<LocalDate> dates, WorkingDayCalendar workingDayCalendar) {
+    }
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.job.CleanUpJobConfiguration;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.jobs.JobName;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 
 import java.time.LocalDateTime;
@@ -20,11 +21,14 @@ import static uk.gov.hmcts.reform.wacaseeventhandler.domain.jobs.JobName.CLEAN_U
 public class CleanUpMessageJob implements MessageJob {
 
     private final CaseEventMessageRepository caseEventMessageRepository;
+    private final CaseEventMessageDefinitionRepository caseEventMessageDefinitionRepository;
     private final CleanUpJobConfiguration cleanUpJobConfiguration;
 
     public CleanUpMessageJob(CaseEventMessageRepository caseEventMessageRepository,
+                             CaseEventMessageDefinitionRepository caseEventMessageDefinitionRepository,
                              CleanUpJobConfiguration cleanUpJobConfiguration) {
         this.caseEventMessageRepository = caseEventMessageRepository;
+        this.caseEventMessageDefinitionRepository = caseEventMessageDefinitionRepository;
         this.cleanUpJobConfiguration = cleanUpJobConfiguration;
     }
 
@@ -56,6 +60,9 @@ public class CleanUpMessageJob implements MessageJob {
             );
         }
 
+        int removedDefinitions = caseEventMessageDefinitionRepository.removeUnreferencedDefinitions(
+            cleanUpJobConfiguration.getDeleteLimit());
+        log.info("Removed {} additional data definitions no longer referenced by any message", removedDefinitions);
 
         log.info("{} job completed", CLEAN_UP_MESSAGES.name());
         return emptyList();
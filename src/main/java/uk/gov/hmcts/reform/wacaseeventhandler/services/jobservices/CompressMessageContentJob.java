@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.jobservices;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.wacaseeventhandler.config.job.CompressMessageContentJobConfiguration;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.jobs.JobName;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.MessageContentCompressionRepository;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.MessageContentCompressionRepository.CompressedBatch;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.jobs.JobName.COMPRESS_MESSAGE_CONTENT;
+
+/**
+ * Compresses the message content of processed and unprocessable messages stored as text, each batch in its own
+ * transaction, until there is nothing left to compress or the batch limit of the run is reached.
+ */
+@Slf4j
+@Service
+public class CompressMessageContentJob implements MessageJob {
+
+    private final MessageContentCompressionRepository messageContentCompressionRepository;
+    private final CompressMessageContentJobConfiguration compressMessageContentJobConfiguration;
+
+    public CompressMessageContentJob(MessageContentCompressionRepository messageContentCompressionRepository,
+                                     CompressMessageContentJobConfiguration compressMessageContentJobConfiguration) {
+        this.messageContentCompressionRepository = messageContentCompressionRepository;
+        this.compressMessageContentJobConfiguration = compressMessageContentJobConfiguration;
+    }
+
+    @Override
+    public boolean canRun(JobName jobName) {
+        return COMPRESS_MESSAGE_CONTENT.equals(jobName);
+    }
+
+    @Override
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public List<String> run() {
+        log.info("Compress message content for job name '{}'. {}",
+            COMPRESS_MESSAGE_CONTENT.name(), compressMessageContentJobConfiguration);
+
+        long afterSequence = 0;
+        long messages = 0;
+        long messageContentBytes = 0;
+        long compressedBytes = 0;
+        for (int batch = 0; batch < compressMessageContentJobConfiguration.getBatchLimit(); batch++) {
+            CompressedBatch compressedBatch = messageContentCompressionRepository.compressMessageContent(
+                afterSequence,
+                compressMessageContentJobConfiguration.getBatchSize()
+            );
+            if (compressedBatch.messages() == 0) {
+                break;
+            }
+            afterSequence = compressedBatch.lastSequence();
+            messages += compressedBatch.messages();
+            messageContentBytes += compressedBatch.messageContentBytes();
+            compressedBytes += compressedBatch.compressedBytes();
+        }
+
+        log.info("{} job completed. Compressed {} messages from {} to {} bytes",
+            COMPRESS_MESSAGE_CONTENT.name(), messages, messageContentBytes, compressedBytes);
+        return emptyList();
+    }
+}
@@ -0,0 +1 @@
+ALTER TABLE public.wa_case_event_messages ADD COLUMN IF NOT EXISTS lease_expires_at timestamp;
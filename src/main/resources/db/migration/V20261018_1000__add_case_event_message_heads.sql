@@ -0,0 +1,86 @@
+-- Earliest unprocessed event timestamp per case, maintained by triggers so the message claim
+-- does not have to aggregate over every unprocessed message.
+create table public.wa_case_event_message_heads
+(
+  case_id         text primary key,
+  event_timestamp timestamp not null
+);
+
+create or replace function public.refresh_case_event_message_head(p_case_id text) returns void as
+$$
+declare
+  head_timestamp timestamp;
+begin
+  -- serialise head maintenance per case, each following statement sees the other writers' committed rows
+  perform pg_advisory_xact_lock(hashtext(p_case_id));
+
+  select min(event_timestamp)
+  into head_timestamp
+  from public.wa_case_event_messages
+  where case_id = p_case_id
+    and state <> 'PROCESSED';
+
+  if head_timestamp is null then
+    delete from public.wa_case_event_message_heads where case_id = p_case_id;
+  else
+    insert into public.wa_case_event_message_heads (case_id, event_timestamp)
+    values (p_case_id, head_timestamp)
+    on conflict (case_id) do update set event_timestamp = excluded.event_timestamp;
+  end if;
+end;
+$$ language plpgsql;
+
+create or replace function public.case_event_message_head_trigger() returns trigger as
+$$
+begin
+  if tg_op in ('UPDATE', 'DELETE') and old.case_id is not null then
+    perform public.refresh_case_event_message_head(old.case_id);
+  end if;
+  if tg_op in ('INSERT', 'UPDATE') and new.case_id is not null
+    and (tg_op = 'INSERT' or new.case_id is distinct from old.case_id) then
+    perform public.refresh_case_event_message_head(new.case_id);
+  end if;
+  return null;
+end;
+$$ language plpgsql;
+
+create or replace function public.case_event_message_heads_truncate_trigger() returns trigger as
+$$
+begin
+  truncate table public.wa_case_event_message_heads;
+  return null;
+end;
+$$ language plpgsql;
+
+create trigger trg_wacem_head_insert
+  after insert on public.wa_case_event_messages
+  for each row
+  when (new.case_id is not null and new.state <> 'PROCESSED')
+execute function public.case_event_message_head_trigger();
+
+create trigger trg_wacem_head_update
+  after update of state, case_id, event_timestamp on public.wa_case_event_messages
+  for each row
+  when (old.case_id is distinct from new.case_id
+    or old.event_timestamp is distinct from new.event_timestamp
+    or ((old.state = 'PROCESSED') <> (new.state = 'PROCESSED')))
+execute function public.case_event_message_head_trigger();
+
+create trigger trg_wacem_head_delete
+  after delete on public.wa_case_event_messages
+  for each row
+  when (old.case_id is not null and old.state <> 'PROCESSED')
+execute function public.case_event_message_head_trigger();
+
+create trigger trg_wacem_head_truncate
+  after truncate on public.wa_case_event_messages
+  for each statement
+execute function public.case_event_message_heads_truncate_trigger();
+
+insert into public.wa_case_event_message_heads (case_id, event_timestamp)
+select case_id, min(event_timestamp)
+from public.wa_case_event_messages
+where case_id is not null
+  and state <> 'PROCESSED'
+group by case_id
+having min(event_timestamp) is not null;
@@ -0,0 +1,21 @@
+-- Wakes up listening consumers as soon as a message is received or becomes ready to process.
+-- The payload is the new message state, notifications with the same payload are folded per transaction.
+create or replace function public.notify_case_event_message_state() returns trigger as
+$$
+begin
+  perform pg_notify('wa_case_event_messages', new.state::text);
+  return null;
+end;
+$$ language plpgsql;
+
+create trigger trg_wacem_notify_insert
+  after insert on public.wa_case_event_messages
+  for each row
+  when (new.state in ('NEW', 'READY'))
+execute function public.notify_case_event_message_state();
+
+create trigger trg_wacem_notify_ready
+  after update of state on public.wa_case_event_messages
+  for each row
+  when (new.state = 'READY' and old.state is distinct from new.state)
+execute function public.notify_case_event_message_state();
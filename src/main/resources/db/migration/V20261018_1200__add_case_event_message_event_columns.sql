@@ -0,0 +1,8 @@
+ALTER TABLE public.wa_case_event_messages
+    ADD COLUMN IF NOT EXISTS jurisdiction_id text,
+    ADD COLUMN IF NOT EXISTS case_type_id text,
+    ADD COLUMN IF NOT EXISTS event_id text,
+    ADD COLUMN IF NOT EXISTS event_instance_id text,
+    ADD COLUMN IF NOT EXISTS previous_state_id text,
+    ADD COLUMN IF NOT EXISTS new_state_id text,
+    ADD COLUMN IF NOT EXISTS user_id text;
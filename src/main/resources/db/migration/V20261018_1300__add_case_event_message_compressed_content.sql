@@ -0,0 +1,2 @@
+ALTER TABLE public.wa_case_event_messages
+    ADD COLUMN IF NOT EXISTS message_content_compressed bytea;
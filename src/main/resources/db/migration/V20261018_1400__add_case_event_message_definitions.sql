@@ -0,0 +1,10 @@
+-- Additional data definitions stripped from messages at ingestion, stored once per distinct content.
+create table if not exists public.wa_case_event_message_definitions
+(
+  definition_hash text primary key,
+  definition      text      not null,
+  created         timestamp not null default current_timestamp
+);
+
+alter table public.wa_case_event_messages
+  add column if not exists definition_hash text;
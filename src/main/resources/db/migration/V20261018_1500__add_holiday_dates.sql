@@ -0,0 +1,6 @@
+-- Holiday dates last fetched from gov.uk, so a restart can start from them without calling gov.uk.
+create table if not exists public.wa_holiday_dates
+(
+  holiday_date date      primary key,
+  fetched      timestamp not null default current_timestamp
+);
@@ -0,0 +1,3 @@
+CREATE INDEX ${concurrently} IF NOT EXISTS idx_wa_case_event_messages_definition_hash
+  ON public.wa_case_event_messages (definition_hash)
+  WHERE definition_hash IS NOT NULL;
@@ -16,14 +16,29 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Schedulers;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.ServiceBusConfiguration;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ReceivedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.EventMessageReceiverService;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,7 +64,94 @@ class CcdCaseEventConsumerTest {
 
     @BeforeEach
     void setUp() {
-        underTest = new CcdCaseEventsConsumer(serviceBusConfiguration, eventMessageReceiverService);
+        underTest = new CcdCaseEventsConsumer(serviceBusConfiguration, eventMessageReceiverService, 1, 1000, 0);
+    }
+
+    @Test
+    void given_batch_size_when_batch_of_messages_is_consumed() {
+        underTest = new CcdCaseEventsConsumer(serviceBusConfiguration, eventMessageReceiverService, 10, 1000, 0);
+        when(sessionReceiverClient.acceptNextSession()).thenReturn(receiverClient);
+        when(receivedMessage.getMessageId()).thenReturn("messageId");
+        when(receivedMessage.getSessionId()).thenReturn("sessionId");
+        when(receivedMessage.getBody()).thenReturn(BinaryData.fromString("TestMessage"));
+        when(receiverClient.receiveMessages(10, Duration.ofMillis(1000)))
+            .thenReturn(new IterableStream<>(List.of(receivedMessage)));
+
+        underTest.consumeMessage(sessionReceiverClient);
+
+        verify(eventMessageReceiverService).handleCcdCaseEventAsbMessages(
+            List.of(new ReceivedMessage("messageId", "sessionId", "TestMessage")));
+        verify(receiverClient, Mockito.times(1)).complete(receivedMessage);
+        verify(receiverClient, Mockito.times(0)).abandon(any());
+    }
+
+    @Test
+    void given_batch_size_when_handling_batch_throws_error() {
+        underTest = new CcdCaseEventsConsumer(serviceBusConfiguration, eventMessageReceiverService, 10, 1000, 0);
+        when(sessionReceiverClient.acceptNextSession()).thenReturn(receiverClient);
+        when(receivedMessage.getBody()).thenReturn(BinaryData.fromString("TestMessage"));
+        when(receiverClient.receiveMessages(10, Duration.ofMillis(1000)))
+            .thenReturn(new IterableStream<>(List.of(receivedMessage)));
+        doThrow(new RuntimeException()).when(eventMessageReceiverService).handleCcdCaseEventAsbMessages(any());
+
+        underTest.consumeMessage(sessionReceiverClient);
+
+        verify(receiverClient, Mockito.times(1)).abandon(receivedMessage);
+        verify(receiverClient, Mockito.times(0)).complete(any());
+    }
+
+    @Test
+    void given_session_idle_timeout_when_session_is_drained_until_idle() {
+        underTest = new CcdCaseEventsConsumer(serviceBusConfiguration, eventMessageReceiverService, 1, 1000, 500);
+        InMemorySessions sessions = new InMemorySessions();
+        sessions.send("case-1", "message-1", "message-2", "message-3");
+        sessions.send("case-2", "message-4", "message-5");
+
+        underTest.consumeMessage(sessions.sessionReceiver);
+        underTest.consumeMessage(sessions.sessionReceiver);
+
+        verify(sessions.sessionReceiver, Mockito.times(2)).acceptNextSession();
+        verify(eventMessageReceiverService).handleCcdCaseEventAsbMessage("message-1", "case-1", "message-1 body");
+        verify(eventMessageReceiverService).handleCcdCaseEventAsbMessage("message-3", "case-1", "message-3 body");
+        verify(eventMessageReceiverService).handleCcdCaseEventAsbMessage("message-5", "case-2", "message-5 body");
+        assertEquals(List.of("message-1", "message-2", "message-3", "message-4", "message-5"), sessions.completed);
+        assertEquals(2, sessions.closed.get());
+        assertTrue(sessions.isEmpty());
+    }
+
+    @Test
+    void given_session_idle_timeout_and_batch_size_when_session_is_drained_in_batches() {
+        underTest = new CcdCaseEventsConsumer(serviceBusConfiguration, eventMessageReceiverService, 2, 1000, 500);
+        InMemorySessions sessions = new InMemorySessions();
+        sessions.send("case-1", "message-1", "message-2", "message-3");
+
+        underTest.consumeMessage(sessions.sessionReceiver);
+
+        verify(eventMessageReceiverService).handleCcdCaseEventAsbMessages(List.of(
+            new ReceivedMessage("message-1", "case-1", "message-1 body"),
+            new ReceivedMessage("message-2", "case-1", "message-2 body")
+        ));
+        verify(eventMessageReceiverService).handleCcdCaseEventAsbMessages(List.of(
+            new ReceivedMessage("message-3", "case-1", "message-3 body")
+        ));
+        assertEquals(List.of("message-1", "message-2", "message-3"), sessions.completed);
+        assertEquals(1, sessions.closed.get());
+    }
+
+    @Test
+    void given_session_idle_timeout_when_consumer_is_stopped_then_session_is_not_drained_further() {
+        underTest = new CcdCaseEventsConsumer(serviceBusConfiguration, eventMessageReceiverService, 1, 1000, 500);
+        InMemorySessions sessions = new InMemorySessions();
+        sessions.send("case-1", "message-1", "message-2");
+        doAnswer(invocation -> {
+            underTest.stop();
+            return null;
+        }).when(eventMessageReceiverService).handleCcdCaseEventAsbMessage(any(), any(), any());
+
+        underTest.consumeMessage(sessions.sessionReceiver);
+
+        assertEquals(List.of("message-1"), sessions.completed);
+        assertEquals(1, sessions.closed.get());
     }
 
     @Test
@@ -180,4 +282,62 @@ class CcdCaseEventConsumerTest {
 
     }
 
+
+    /**
+     * In-process stand-in for the service bus session receiver. Messages are grouped by session, a session is
+     * handed out once and a receive returns nothing once the session has no more messages.
+     */
+    private static class InMemorySessions {
+
+        private final Map<String, Deque<ServiceBusReceivedMessage>> messagesBySession = new LinkedHashMap<>();
+        private final List<String> completed = new ArrayList<>();
+        private final AtomicInteger closed = new AtomicInteger();
+        private final ServiceBusSessionReceiverClient sessionReceiver = mock(ServiceBusSessionReceiverClient.class);
+
+        InMemorySessions() {
+            when(sessionReceiver.acceptNextSession()).thenAnswer(invocation -> acceptNextSession());
+        }
+
+        void send(String sessionId, String... messageIds) {
+            Deque<ServiceBusReceivedMessage> messages =
+                messagesBySession.computeIfAbsent(sessionId, id -> new ArrayDeque<>());
+            for (String messageId : messageIds) {
+                ServiceBusReceivedMessage message = mock(ServiceBusReceivedMessage.class);
+                lenient().when(message.getMessageId()).thenReturn(messageId);
+                lenient().when(message.getSessionId()).thenReturn(sessionId);
+                lenient().when(message.getBody()).thenReturn(BinaryData.fromString(messageId + " body"));
+                messages.add(message);
+            }
+        }
+
+        boolean isEmpty() {
+            return messagesBySession.isEmpty();
+        }
+
+        private ServiceBusReceiverClient acceptNextSession() {
+            if (messagesBySession.isEmpty()) {
+                throw new IllegalStateException("No session available");
+            }
+            String sessionId = messagesBySession.keySet().iterator().next();
+            Deque<ServiceBusReceivedMessage> messages = messagesBySession.remove(sessionId);
+
+            ServiceBusReceiverClient receiver = mock(ServiceBusReceiverClient.class);
+            lenient().when(receiver.getSessionId()).thenReturn(sessionId);
+            lenient().when(receiver.receiveMessages(anyInt(), any(Duration.class))).thenAnswer(invocation -> {
+                int maxMessages = invocation.getArgument(0);
+                List<ServiceBusReceivedMessage> received = new ArrayList<>();
+                while (received.size() < maxMessages && !messages.isEmpty()) {
+                    received.add(messages.poll());
+                }
+                return new IterableStream<>(received);
+            });
+            lenient().doAnswer(invocation -> {
+                ServiceBusReceivedMessage message = invocation.getArgument(0);
+                completed.add(message.getMessageId());
+                return null;
+            }).when(receiver).complete(any());
+            lenient().doAnswer(invocation -> closed.incrementAndGet()).when(receiver).close();
+            return receiver;
+        }
+    }
 }
@@ -15,8 +15,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Schedulers;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.ServiceBusConfiguration;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ReceivedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.EventMessageReceiverService;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
@@ -46,7 +49,42 @@ class CcdCaseEventDeadLetterQueueConsumerTest {
 
     @BeforeEach
     void setUp() {
-        underTest = new CcdCaseEventsDeadLetterQueueConsumer(serviceBusConfiguration, eventMessageReceiverService);
+        underTest = new CcdCaseEventsDeadLetterQueueConsumer(
+            serviceBusConfiguration, eventMessageReceiverService, 1, 1000);
+    }
+
+    @Test
+    void given_batch_size_when_batch_of_messages_is_consumed() {
+        underTest = new CcdCaseEventsDeadLetterQueueConsumer(
+            serviceBusConfiguration, eventMessageReceiverService, 10, 1000);
+        when(receivedMessage.getMessageId()).thenReturn("messageId");
+        when(receivedMessage.getSessionId()).thenReturn("sessionId");
+        when(receivedMessage.getBody()).thenReturn(BinaryData.fromString("TestMessage"));
+        when(receiverClient.receiveMessages(10, Duration.ofMillis(1000)))
+            .thenReturn(new IterableStream<>(List.of(receivedMessage)));
+
+        underTest.consumeMessage(receiverClient);
+
+        verify(eventMessageReceiverService).handleDlqMessages(
+            List.of(new ReceivedMessage("messageId", "sessionId", "TestMessage")));
+        verify(receiverClient, Mockito.times(1)).complete(receivedMessage);
+        verify(receiverClient, Mockito.times(0)).abandon(any());
+    }
+
+    @Test
+    void given_batch_size_when_completing_message_of_batch_throws_error() {
+        underTest = new CcdCaseEventsDeadLetterQueueConsumer(
+            serviceBusConfiguration, eventMessageReceiverService, 10, 1000);
+        when(receivedMessage.getBody()).thenReturn(BinaryData.fromString("TestMessage"));
+        when(receiverClient.receiveMessages(10, Duration.ofMillis(1000)))
+            .thenReturn(new IterableStream<>(List.of(receivedMessage)));
+        doThrow(new ServiceBusException(new Exception(), ServiceBusErrorSource.UNKNOWN))
+            .when(receiverClient).complete(receivedMessage);
+
+        underTest.consumeMessage(receiverClient);
+
+        verify(receiverClient, Mockito.times(1)).complete(receivedMessage);
+        verify(receiverClient, Mockito.times(1)).abandon(receivedMessage);
     }
 
     @Test
@@ -6,8 +6,8 @@ import com.microsoft.applicationinsights.extensibility.context.OperationContext;
 import com.microsoft.applicationinsights.telemetry.TelemetryContext;
 import feign.FeignException;
 import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
-import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,19 +16,19 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionTemplate;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
-import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
-import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageMapper;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.ClaimedMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.UpdateRecordErrorHandlingService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.CcdEventProcessor;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -38,17 +38,16 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createCaseEventMessage;
+import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createClaimedMessage;
 
 @ExtendWith(MockitoExtension.class)
 class DatabaseMessageConsumerTest {
@@ -57,7 +56,7 @@ class DatabaseMessageConsumerTest {
     private CaseEventMessageRepository caseEventMessageRepository;
 
     @Mock
-    private CaseEventMessageMapper caseEventMessageMapper;
+    private ClaimedMessageRepository claimedMessageRepository;
 
     @Mock
     private CcdEventProcessor ccdEventProcessor;
@@ -80,7 +79,8 @@ class DatabaseMessageConsumerTest {
     @Mock
     private OperationContext operationContext;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private DatabaseMessageConsumer databaseMessageConsumer;
 
     @Captor
@@ -91,47 +91,41 @@ class DatabaseMessageConsumerTest {
 
     @BeforeEach
     void setup() {
+        databaseMessageConsumer = new DatabaseMessageConsumer(
+            caseEventMessageRepository,
+            claimedMessageRepository,
+            ccdEventProcessor,
+            updateRecordErrorHandlingService,
+            platformTransactionManager,
+            Runnable::run,
+            new MessageProcessingMetrics(meterRegistry)
+        );
         transactionTemplate.setTransactionManager(platformTransactionManager);
         lenient().when(telemetryContext.getOperation()).thenReturn(operationContext);
     }
 
-    @NotNull
-    private CaseEventMessageEntity createCaseEventMessageEntity() {
-        CaseEventMessageEntity caseEventMessageEntity = new CaseEventMessageEntity();
-        caseEventMessageEntity.setMessageContent("{\"UserId\" : \"databaseMessageConsumerTestUserId\"}");
-        return caseEventMessageEntity;
-    }
-
     @Test
     void should_not_process_message_if_null_message_selected() {
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess()).thenReturn(null);
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(Collections.emptyList());
         databaseMessageConsumer.run();
-        verify(caseEventMessageMapper, never()).mapToCaseEventMessage(any());
         verifyNoInteractions(ccdEventProcessor);
     }
 
     @Test
     void should_process_message_if_message_selected() throws Exception {
-        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess())
-            .thenReturn(caseEventMessageEntity);
-
-        final CaseEventMessage caseEventMessage = createCaseEventMessage();
-        when(caseEventMessageMapper.mapToCaseEventMessage(any(CaseEventMessageEntity.class)))
-            .thenReturn(caseEventMessage);
+        final ClaimedMessage caseEventMessage = createClaimedMessage();
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(caseEventMessage));
         databaseMessageConsumer.run();
-        verify(caseEventMessageMapper).mapToCaseEventMessage(caseEventMessageEntity);
-        verify(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+        verify(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
     }
 
     @Test
     void should_process_message_and_set_as_unprocessable_if_non_retryable_feign_error_occurs() throws Exception {
-        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess()).thenReturn(caseEventMessageEntity);
-
-        final CaseEventMessage caseEventMessage = createCaseEventMessage();
-        when(caseEventMessageMapper.mapToCaseEventMessage(any(CaseEventMessageEntity.class)))
-            .thenReturn(caseEventMessage);
+        final ClaimedMessage caseEventMessage = createClaimedMessage();
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(caseEventMessage));
 
         final Request request = mock(Request.class);
         FeignException.BadRequest internalServerError = new FeignException.BadRequest(
@@ -145,32 +139,27 @@ class DatabaseMessageConsumerTest {
             .when(ccdEventProcessor).processMessage(caseEventMessage);
         databaseMessageConsumer.run();
 
-        verify(caseEventMessageMapper).mapToCaseEventMessage(caseEventMessageEntity);
         verify(ccdEventProcessor).processMessage(caseEventMessage);
         verify(caseEventMessageRepository).updateMessageState(
             MessageState.UNPROCESSABLE,
-            List.of(caseEventMessage.getMessageId())
+            List.of(caseEventMessage.messageId())
         );
     }
 
     @Test
     void should_process_message_and_set_as_unprocessable_if_non_retryable_exception_occurs() throws Exception {
-        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess()).thenReturn(caseEventMessageEntity);
-
-        final CaseEventMessage caseEventMessage = createCaseEventMessage();
-        when(caseEventMessageMapper.mapToCaseEventMessage(any(CaseEventMessageEntity.class)))
-            .thenReturn(caseEventMessage);
+        final ClaimedMessage caseEventMessage = createClaimedMessage();
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(caseEventMessage));
 
         doThrow(mock(JsonProcessingException.class))
             .when(ccdEventProcessor).processMessage(caseEventMessage);
         databaseMessageConsumer.run();
 
-        verify(caseEventMessageMapper).mapToCaseEventMessage(caseEventMessageEntity);
         verify(ccdEventProcessor).processMessage(caseEventMessage);
         verify(caseEventMessageRepository).updateMessageState(
             MessageState.UNPROCESSABLE,
-            List.of(caseEventMessage.getMessageId())
+            List.of(caseEventMessage.messageId())
         );
     }
 
@@ -185,12 +174,9 @@ class DatabaseMessageConsumerTest {
     void should_process_message_and_update_hold_until_and_retry_count_when_non_retryable_errors_occur(
         int retryCount, int holdUntilIncrement) throws Exception {
 
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess())
-            .thenReturn(createCaseEventMessageEntity());
-
-        final CaseEventMessage caseEventMessage = createCaseEventMessage(retryCount - 1);
-        when(caseEventMessageMapper.mapToCaseEventMessage(any(CaseEventMessageEntity.class)))
-            .thenReturn(caseEventMessage);
+        final ClaimedMessage caseEventMessage = createClaimedMessage(retryCount - 1);
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(caseEventMessage));
 
         final Request request = mock(Request.class);
         FeignException.InternalServerError errorMessage = new FeignException.InternalServerError(
@@ -200,7 +186,7 @@ class DatabaseMessageConsumerTest {
         );
 
         doThrow(errorMessage)
-            .when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+            .when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
         LocalDateTime now = LocalDateTime.now();
 
         databaseMessageConsumer.run();
@@ -222,12 +208,9 @@ class DatabaseMessageConsumerTest {
     void should_process_message_and_update_to_unprocessable_when_retry_count_exceed_and_non_retryable_errors_occur()
         throws Exception {
 
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess())
-            .thenReturn(createCaseEventMessageEntity());
-
-        final CaseEventMessage caseEventMessage = createCaseEventMessage(8);
-        when(caseEventMessageMapper.mapToCaseEventMessage(any(CaseEventMessageEntity.class)))
-            .thenReturn(caseEventMessage);
+        final ClaimedMessage caseEventMessage = createClaimedMessage(8);
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(caseEventMessage));
 
         final Request request = mock(Request.class);
         FeignException.NotFound errorMessage = new FeignException.NotFound(
@@ -237,51 +220,44 @@ class DatabaseMessageConsumerTest {
         );
 
         doThrow(errorMessage)
-            .when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+            .when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
 
         databaseMessageConsumer.run();
 
         verify(ccdEventProcessor).processMessage(caseEventMessage);
         verify(caseEventMessageRepository).updateMessageState(
             MessageState.UNPROCESSABLE,
-            List.of(caseEventMessage.getMessageId())
+            List.of(caseEventMessage.messageId())
         );
     }
 
     @Test
     void should_process_message_and_set_as_processed() throws Exception {
-        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess()).thenReturn(caseEventMessageEntity);
-
-        final CaseEventMessage caseEventMessage = createCaseEventMessage();
-        when(caseEventMessageMapper.mapToCaseEventMessage(any(CaseEventMessageEntity.class)))
-            .thenReturn(caseEventMessage);
+        final ClaimedMessage caseEventMessage = createClaimedMessage();
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(caseEventMessage));
 
         databaseMessageConsumer.run();
 
-        verify(caseEventMessageMapper).mapToCaseEventMessage(caseEventMessageEntity);
         verify(ccdEventProcessor).processMessage(caseEventMessage);
         verify(caseEventMessageRepository).updateMessageState(
             MessageState.PROCESSED,
-            List.of(caseEventMessage.getMessageId())
+            List.of(caseEventMessage.messageId())
         );
     }
 
     @Test
     void should_retry_to_update_record_when_update_state_failed() {
-        final CaseEventMessage caseEventMessage = createCaseEventMessage();
-        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+        final ClaimedMessage caseEventMessage = createClaimedMessage();
 
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess()).thenReturn(caseEventMessageEntity);
-        when(caseEventMessageMapper.mapToCaseEventMessage(any(CaseEventMessageEntity.class)))
-            .thenReturn(caseEventMessage);
-        String messageId = caseEventMessage.getMessageId();
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(caseEventMessage));
+        String messageId = caseEventMessage.messageId();
         when(caseEventMessageRepository.updateMessageState(MessageState.PROCESSED,
                                                            List.of(messageId)))
             .thenThrow(new RuntimeException());
 
         when(platformTransactionManager.getTransaction(any())).thenReturn(transactionStatus);
-        doNothing().when(transactionStatus).setRollbackOnly();
 
         databaseMessageConsumer.run();
 
@@ -291,18 +267,15 @@ class DatabaseMessageConsumerTest {
     @Test
     void should_retry_to_update_record_when_update_retry_details_failed() throws JsonProcessingException {
         final int retryCount = 2;
-        final CaseEventMessage caseEventMessage = createCaseEventMessage(retryCount - 1);
-        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
-        String messageId = caseEventMessage.getMessageId();
+        final ClaimedMessage caseEventMessage = createClaimedMessage(retryCount - 1);
+        String messageId = caseEventMessage.messageId();
 
-        when(caseEventMessageRepository.getNextAvailableMessageReadyToProcess()).thenReturn(caseEventMessageEntity);
-        when(caseEventMessageMapper.mapToCaseEventMessage(any(CaseEventMessageEntity.class)))
-            .thenReturn(caseEventMessage);
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(caseEventMessage));
         when(caseEventMessageRepository.updateMessageWithRetryDetails(eq(retryCount), any(), eq(messageId)))
             .thenThrow(new RuntimeException());
 
         when(platformTransactionManager.getTransaction(any())).thenReturn(transactionStatus);
-        doNothing().when(transactionStatus).setRollbackOnly();
 
         final Request request = mock(Request.class);
         FeignException.InternalServerError errorMessage = new FeignException.InternalServerError(
@@ -312,10 +285,63 @@ class DatabaseMessageConsumerTest {
         );
 
         doThrow(errorMessage)
-            .when(ccdEventProcessor).processMessage(any(CaseEventMessage.class));
+            .when(ccdEventProcessor).processMessage(any(ClaimedMessage.class));
 
         databaseMessageConsumer.run();
 
         verify(updateRecordErrorHandlingService).handleUpdateError(eq(null), eq(messageId), eq(retryCount), any());
     }
+
+    @Test
+    void should_process_each_claimed_message_independently() throws Exception {
+        final ClaimedMessage firstMessage =
+            new ClaimedMessage("firstMessageId", "firstCaseId", MessageState.READY, 0, null, "messageContent",
+                               null, null);
+        final ClaimedMessage secondMessage =
+            new ClaimedMessage("secondMessageId", "secondCaseId", MessageState.READY, 0, null, "messageContent",
+                               null, null);
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(firstMessage, secondMessage));
+
+        doThrow(mock(JsonProcessingException.class))
+            .when(ccdEventProcessor).processMessage(firstMessage);
+
+        databaseMessageConsumer.run();
+
+        verify(ccdEventProcessor).processMessage(firstMessage);
+        verify(ccdEventProcessor).processMessage(secondMessage);
+        verify(caseEventMessageRepository).updateMessageState(MessageState.UNPROCESSABLE, List.of("firstMessageId"));
+        verify(caseEventMessageRepository).updateMessageState(MessageState.PROCESSED, List.of("secondMessageId"));
+    }
+
+    @Test
+    void should_record_metrics_for_each_stage_and_outcome() throws Exception {
+        final EventColumns eventColumns =
+            new EventColumns("IA", "Asylum", "eventId", "eventInstanceId", null, null, "userId");
+        final ClaimedMessage firstMessage =
+            new ClaimedMessage("firstMessageId", "firstCaseId", MessageState.READY, 0, null, "messageContent",
+                               null, eventColumns);
+        final ClaimedMessage secondMessage =
+            new ClaimedMessage("secondMessageId", "secondCaseId", MessageState.READY, 0, null, "messageContent",
+                               null, eventColumns);
+        when(claimedMessageRepository.claimNextMessagesReadyToProcess(anyInt(), anyInt()))
+            .thenReturn(List.of(firstMessage, secondMessage));
+
+        doThrow(mock(JsonProcessingException.class))
+            .when(ccdEventProcessor).processMessage(firstMessage);
+
+        databaseMessageConsumer.run();
+
+        assertEquals(2, meterRegistry.get("wa.case.event.handler.message.claimed").counter().count());
+        assertEquals(1, meterRegistry.get("wa.case.event.handler.message.stage")
+            .tag("stage", "claim").tag("outcome", "success").timer().count());
+        assertEquals(2, meterRegistry.get("wa.case.event.handler.message.stage")
+            .tag("stage", "state.update").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("wa.case.event.handler.message.outcome")
+            .tag("jurisdiction", "ia").tag("case.type", "asylum").tag("outcome", "unprocessable").counter().count());
+        assertEquals(1, meterRegistry.get("wa.case.event.handler.message.outcome")
+            .tag("jurisdiction", "ia").tag("case.type", "asylum").tag("outcome", "processed").counter().count());
+        assertEquals(2, meterRegistry.get("wa.case.event.handler.message.processing")
+            .tag("jurisdiction", "ia").tag("case.type", "asylum").timer().count());
+    }
 }
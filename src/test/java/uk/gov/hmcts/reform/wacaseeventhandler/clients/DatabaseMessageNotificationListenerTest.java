@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.clients;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createCaseEventMessageEntity;
+
+@SpringBootTest(properties = "scheduledExecutors.messageProcessing.notifications.enabled=true")
+@ActiveProfiles("db")
+class DatabaseMessageNotificationListenerTest {
+
+    @Autowired
+    private DatabaseMessageNotificationListener databaseMessageNotificationListener;
+
+    @Autowired
+    private CaseEventMessageRepository caseEventMessageRepository;
+
+    @Autowired
+    protected DataSource db;
+
+    @AfterEach
+    void clearDownData() {
+        new JdbcTemplate(db).execute("TRUNCATE TABLE WA_CASE_EVENT_MESSAGES CASCADE");
+    }
+
+    @Test
+    void should_wake_up_subscriber_when_message_becomes_ready() {
+        AtomicInteger newWakeUps = new AtomicInteger();
+        AtomicInteger readyWakeUps = new AtomicInteger();
+        databaseMessageNotificationListener.subscribe(MessageState.NEW, Runnable::run, newWakeUps::incrementAndGet);
+        databaseMessageNotificationListener.subscribe(MessageState.READY, Runnable::run,
+                                                      readyWakeUps::incrementAndGet);
+
+        CaseEventMessageEntity caseEventMessageEntity = caseEventMessageRepository.save(
+            createCaseEventMessageEntity());
+
+        await().atMost(10, SECONDS).until(() -> newWakeUps.get() > 0);
+        int readyWakeUpsBeforeUpdate = readyWakeUps.get();
+
+        caseEventMessageEntity.setState(MessageState.READY);
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        await().atMost(10, SECONDS).until(() -> readyWakeUps.get() > readyWakeUpsBeforeUpdate);
+        assertTrue(newWakeUps.get() > 0);
+    }
+}
@@ -0,0 +1,215 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthTokenGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T10:00:00Z");
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(30);
+
+    @Mock
+    private AuthTokenGenerator delegate;
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private ScheduledExecutorService refreshExecutor;
+
+    @Mock
+    private ScheduledFuture<?> scheduledRefresh;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingAuthTokenGenerator authTokenGenerator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authTokenGenerator = new CachingAuthTokenGenerator(
+            delegate,
+            new ObjectMapper(),
+            clock,
+            REFRESH_AHEAD,
+            refreshExecutor,
+            meterRegistry
+        );
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().doReturn(scheduledRefresh).when(refreshExecutor).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void should_fetch_token_once_and_refresh_it_ahead_of_its_expiry() {
+        String token = token(NOW.plus(Duration.ofHours(4)));
+        when(delegate.generate()).thenReturn(token);
+
+        assertEquals(token, authTokenGenerator.generate());
+        assertEquals(token, authTokenGenerator.generate());
+
+        verify(delegate, times(1)).generate();
+        verify(refreshExecutor).schedule(
+            any(Runnable.class), eq(Duration.ofMinutes(210).toMillis()), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, fetches("success"));
+    }
+
+    @Test
+    void should_hand_out_refreshed_token_once_background_refresh_has_run() {
+        String token = token(NOW.plus(Duration.ofHours(4)));
+        String refreshedToken = token(NOW.plus(Duration.ofHours(8)));
+        when(delegate.generate()).thenReturn(token, refreshedToken);
+
+        authTokenGenerator.generate();
+        scheduledRefresh().run();
+
+        assertEquals(refreshedToken, authTokenGenerator.generate());
+        verify(delegate, times(2)).generate();
+        verify(scheduledRefresh).cancel(false);
+    }
+
+    @Test
+    void should_keep_current_token_and_retry_when_background_refresh_fails() {
+        String token = token(NOW.plus(Duration.ofHours(4)));
+        when(delegate.generate()).thenReturn(token).thenThrow(new IllegalStateException("S2S unavailable"));
+
+        authTokenGenerator.generate();
+        scheduledRefresh().run();
+
+        assertEquals(token, authTokenGenerator.generate());
+        verify(refreshExecutor).schedule(
+            any(Runnable.class), eq(CachingAuthTokenGenerator.RETRY_DELAY.toMillis()), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, fetches("success"));
+        assertEquals(1, fetches("failure"));
+    }
+
+    @Test
+    void should_fetch_on_caller_thread_once_token_has_expired() {
+        String token = token(NOW.plus(Duration.ofMinutes(1)));
+        String nextToken = token(NOW.plus(Duration.ofHours(4)));
+        when(delegate.generate()).thenReturn(token, nextToken);
+
+        authTokenGenerator.generate();
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(1)));
+
+        assertEquals(nextToken, authTokenGenerator.generate());
+    }
+
+    @Test
+    void should_keep_token_without_readable_expiry_for_a_fixed_time() {
+        when(delegate.generate()).thenReturn("Bearer not a jwt");
+
+        assertEquals("Bearer not a jwt", authTokenGenerator.generate());
+        assertEquals("Bearer not a jwt", authTokenGenerator.generate());
+
+        verify(delegate, times(1)).generate();
+        verify(refreshExecutor).schedule(
+            any(Runnable.class),
+            eq(CachingAuthTokenGenerator.UNKNOWN_EXPIRY_LIFETIME.dividedBy(2).toMillis()),
+            eq(TimeUnit.MILLISECONDS)
+        );
+    }
+
+    @Test
+    void should_share_fetch_in_progress_with_callers_arriving_meanwhile() {
+        String token = token(NOW.plus(Duration.ofHours(4)));
+        CompletableFuture<String> waitingCaller = new CompletableFuture<>();
+        when(delegate.generate()).thenAnswer(invocation -> {
+            startCallerAndWaitUntilItWaits(waitingCaller);
+            return token;
+        });
+
+        assertEquals(token, authTokenGenerator.generate());
+        assertEquals(token, waitingCaller.join());
+
+        verify(delegate, times(1)).generate();
+        assertEquals(1, fetches("success"));
+    }
+
+    @Test
+    void should_rethrow_failure_to_callers_sharing_the_fetch() {
+        CompletableFuture<String> waitingCaller = new CompletableFuture<>();
+        when(delegate.generate()).thenAnswer(invocation -> {
+            startCallerAndWaitUntilItWaits(waitingCaller);
+            throw new IllegalStateException("S2S unavailable");
+        });
+
+        assertThrows(IllegalStateException.class, authTokenGenerator::generate);
+        CompletionException failure = assertThrows(CompletionException.class, waitingCaller::join);
+        assertEquals(IllegalStateException.class, failure.getCause().getClass());
+
+        verify(delegate, times(1)).generate();
+    }
+
+    @Test
+    void should_rethrow_failure_when_there_is_no_token() {
+        when(delegate.generate()).thenThrow(new IllegalStateException("S2S unavailable"));
+
+        assertThrows(IllegalStateException.class, authTokenGenerator::generate);
+        assertEquals(1, fetches("failure"));
+    }
+
+    private void startCallerAndWaitUntilItWaits(CompletableFuture<String> result) {
+        Thread caller = new Thread(() -> {
+            try {
+                result.complete(authTokenGenerator.generate());
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        caller.start();
+        while (caller.getState() != Thread.State.WAITING && !result.isDone()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private Runnable scheduledRefresh() {
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        verify(refreshExecutor).schedule(refresh.capture(), anyLong(), any());
+        return refresh.getValue();
+    }
+
+    private long fetches(String outcome) {
+        return meterRegistry.get(CachingAuthTokenGenerator.FETCH_TIMER)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+
+    private static String token(Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "Bearer "
+            + encoder.encodeToString("{\"alg\":\"HS512\"}".getBytes(UTF_8)) + "."
+            + encoder.encodeToString(("{\"sub\":\"wa_case_event_handler\",\"exp\":"
+                                      + expiresAt.getEpochSecond() + "}").getBytes(UTF_8)) + "."
+            + "signature";
+    }
+}
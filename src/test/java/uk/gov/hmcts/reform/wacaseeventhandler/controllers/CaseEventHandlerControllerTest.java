@@ -11,6 +11,9 @@ import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEv
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
 import uk.gov.hmcts.reform.wacaseeventhandler.handlers.CaseEventHandler;
 import uk.gov.hmcts.reform.wacaseeventhandler.handlers.InitiationCaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.CaseEventHandlerPipeline;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.util.List;
 
@@ -27,10 +30,14 @@ class CaseEventHandlerControllerTest {
     @Mock
     private InitiationCaseEventHandler initiationTaskHandler;
 
+    @Mock
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
+
     @Test
     void given_evaluateDmn_returns_nothing_then_caseEventHandler_does_not_handle() {
         List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
-        CaseEventHandlerController controller = new CaseEventHandlerController(handlerServices);
+        CaseEventHandlerController controller = new CaseEventHandlerController(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator));
         ResponseEntity<Void> response = controller.caseEventHandler(
             EventInformation.builder()
                 .jurisdictionId("ia")
@@ -40,7 +47,7 @@ class CaseEventHandlerControllerTest {
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
 
-        verify(initiationTaskHandler).evaluateDmn(any(EventInformation.class));
+        verify(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
     }
 
     @Test
@@ -48,10 +55,11 @@ class CaseEventHandlerControllerTest {
         EvaluateDmnResponse<InitiateEvaluateResponse> dmnResponse =
             new EvaluateDmnResponse<>(List.of(InitiateEvaluateResponse.builder().build()));
 
-        doReturn(dmnResponse.getResults()).when(initiationTaskHandler).evaluateDmn(any(EventInformation.class));
+        doReturn(dmnResponse.getResults()).when(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
 
         List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
-        CaseEventHandlerController controller = new CaseEventHandlerController(handlerServices);
+        CaseEventHandlerController controller = new CaseEventHandlerController(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator));
 
         ResponseEntity<Void> response = controller.caseEventHandler(
             EventInformation.builder()
@@ -62,8 +70,8 @@ class CaseEventHandlerControllerTest {
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
 
-        verify(initiationTaskHandler).evaluateDmn(any(EventInformation.class));
-        verify(initiationTaskHandler).handle(anyList(), any(EventInformation.class));
+        verify(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
+        verify(initiationTaskHandler).handle(anyList(), any(EventProcessingContext.class));
     }
 
 }
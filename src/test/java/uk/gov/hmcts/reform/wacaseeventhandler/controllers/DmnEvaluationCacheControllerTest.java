@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnEvaluationCache;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DmnEvaluationCacheControllerTest {
+
+    @Mock
+    private DmnEvaluationCache dmnEvaluationCache;
+    private DmnEvaluationCacheController controller;
+
+    @BeforeEach
+    void setup() {
+        controller = new DmnEvaluationCacheController(dmnEvaluationCache);
+    }
+
+    @Test
+    void should_invalidate_cached_evaluations_of_the_table() {
+        controller.invalidateEvaluationCache("wa-task-cancellation-ia-asylum");
+
+        verify(dmnEvaluationCache).invalidate("wa-task-cancellation-ia-asylum");
+        verifyNoMoreInteractions(dmnEvaluationCache);
+    }
+
+    @Test
+    void should_invalidate_every_cached_evaluation_when_no_table_is_given() {
+        controller.invalidateEvaluationCache(null);
+
+        verify(dmnEvaluationCache).invalidateAll();
+        verifyNoMoreInteractions(dmnEvaluationCache);
+    }
+}
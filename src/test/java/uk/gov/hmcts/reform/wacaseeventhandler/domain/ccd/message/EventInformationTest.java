@@ -17,6 +17,7 @@ import pl.pojo.tester.api.assertion.Method;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static pl.pojo.tester.api.assertion.Assertions.assertPojoMethodsFor;
@@ -76,6 +77,35 @@ class EventInformationTest {
         assertThat(eventInformationJsonContent).isEqualToJson("valid-event-information-additional-data.json");
     }
 
+    @Test
+    void should_compare_additional_data_read_on_demand() throws JsonProcessingException {
+        AdditionalData additionalData = additionalData();
+        AtomicInteger reads = new AtomicInteger();
+        EventInformation lazyEventInformation = EventInformation.withAdditionalDataSupplier(
+            "some event instance Id",
+            LocalDateTime.parse("2020-12-07T17:39:22.232622"),
+            "some case reference",
+            "ia",
+            "asylum",
+            "some event Id",
+            null,
+            "some new state Id",
+            "some user Id",
+            () -> {
+                reads.incrementAndGet();
+                return additionalData;
+            }
+        );
+        EventInformation eventInformation = eventInformation(additionalData);
+
+        assertThat(lazyEventInformation).isEqualTo(eventInformation).hasSameHashCodeAs(eventInformation);
+        assertThat(reads).hasValue(1);
+        assertThat(lazyEventInformation)
+            .isNotEqualTo(eventInformation(AdditionalData.builder().data(Map.of("appealType", "revocation")).build()))
+            .isNotEqualTo(eventInformation(null));
+        assertThat(reads).hasValue(1);
+    }
+
     private EventInformation eventInformation(AdditionalData additionalData) {
         return EventInformation.builder()
             .eventInstanceId("some event instance Id")
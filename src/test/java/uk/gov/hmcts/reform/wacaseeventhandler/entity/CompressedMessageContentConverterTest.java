@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressedMessageContentConverterTest {
+
+    private static final String MESSAGE_CONTENT = "{\"CaseId\": \"1726140730411100\", \"AdditionalData\": "
+        + "{\"Definition\": {\"code\": {\"type\": \"SimpleText\", \"subtype\": \"Text\", \"typeDef\": null}, "
+        + "\"name\": {\"type\": \"SimpleText\", \"subtype\": \"Text\", \"typeDef\": null}, "
+        + "\"email\": {\"type\": \"SimpleText\", \"subtype\": \"Text\", \"typeDef\": null}}}, "
+        + "\"UserId\": \"a9c6b1d2\"}";
+
+    private final CompressedMessageContentConverter converter = new CompressedMessageContentConverter();
+
+    @Test
+    void should_read_back_compressed_message_content() {
+        byte[] compressed = converter.convertToDatabaseColumn(MESSAGE_CONTENT);
+
+        assertTrue(compressed.length < MESSAGE_CONTENT.getBytes(UTF_8).length);
+        assertEquals(MESSAGE_CONTENT, converter.convertToEntityAttribute(compressed));
+    }
+
+    @Test
+    void should_keep_null_message_content() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void should_keep_empty_message_content() {
+        assertEquals("", converter.convertToEntityAttribute(converter.convertToDatabaseColumn("")));
+    }
+
+    @Test
+    void should_reject_content_that_is_not_compressed() {
+        byte[] messageContent = MESSAGE_CONTENT.getBytes(UTF_8);
+
+        assertThrows(UncheckedIOException.class, () -> converter.convertToEntityAttribute(messageContent));
+    }
+}
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.handlers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,14 +11,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -37,28 +36,25 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnBooleanValue;
-import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnMapValue;
 import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
 
 @SuppressWarnings("unchecked")
 @ExtendWith(MockitoExtension.class)
 class CancellationCaseEventHandlerBackwardsCompatibilityTest {
 
-    public static final String TENANT_ID = "ia";
     public static final String CANCEL_TASKS_MESSAGE_NAME = "cancelTasks";
-    private static final String TASK_CANCELLATION_DMN_TABLE = "wa-task-cancellation-ia-asylum";
     private static final String SERVICE_AUTH_TOKEN = "s2s token";
     private EventInformation eventInformation;
     @Mock
     private WorkflowApiClient workflowApiClient;
     @Mock
     private AuthTokenGenerator serviceAuthGenerator;
+    @Mock
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
     @Captor
     private ArgumentCaptor<SendMessageRequest> sendMessageRequestCaptor;
     @InjectMocks
     private CancellationCaseEventHandler handlerService;
-    @Mock
-    private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
@@ -78,8 +74,6 @@ class CancellationCaseEventHandlerBackwardsCompatibilityTest {
     @Test
     void should_evaluate_the_dmn_table_and_return_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
-
         List<CancellationEvaluateResponse> results = List.of(new CancellationEvaluateResponse(
             dmnStringValue("Cancel"),
             null, null,
@@ -87,54 +81,29 @@ class CancellationCaseEventHandlerBackwardsCompatibilityTest {
             null
         ));
 
-        lenient().when(objectMapper.convertValue(eventInformation.getAdditionalData(), Map.class))
-            .thenReturn(Collections.emptyMap());
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(results));
-
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isSameAs(results);
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
     @Test
     void should_evaluate_the_dmn_table_and_return_empty_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
-
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(Collections.emptyList()));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class)))
+            .thenReturn(Collections.emptyList());
 
-        lenient().when(objectMapper.convertValue(eventInformation.getAdditionalData(), Map.class))
-            .thenReturn(Collections.emptyMap());
-
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isEmpty();
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
@@ -152,7 +121,7 @@ class CancellationCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(result1, result2);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages for each result should be sent
         verify(workflowApiClient, times(4))
@@ -193,7 +162,7 @@ class CancellationCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages for each result should be sent
         verify(workflowApiClient, times(2))
@@ -220,7 +189,7 @@ class CancellationCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages will be created but they are identical hence only sending once.
         verify(workflowApiClient, times(1))
@@ -239,7 +208,7 @@ class CancellationCaseEventHandlerBackwardsCompatibilityTest {
 
         List<InitiateEvaluateResponse> results = List.of(invalidInstanceResults);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(0))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), any());
@@ -254,23 +223,12 @@ class CancellationCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(warningResult);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(0))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), any());
     }
 
-    private EvaluateDmnRequest buildEvaluateDmnRequest() {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue("some event id"),
-            "state", dmnStringValue("some post state"),
-            "fromState", dmnStringValue("some previous state"),
-            "additionalData", dmnMapValue(Collections.emptyMap())
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
     private void assertSendMessageRequestOldFormat(
         SendMessageRequest sendMessageRequest,
         String caseReference,
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.handlers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,14 +12,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -38,16 +37,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnBooleanValue;
-import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnMapValue;
 import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
 
 @SuppressWarnings("unchecked")
 @ExtendWith(MockitoExtension.class)
 class CancellationCaseEventHandlerTest {
 
-    public static final String TENANT_ID = "ia";
     public static final String CANCEL_TASKS_MESSAGE_NAME = "cancelTasks";
-    private static final String TASK_CANCELLATION_DMN_TABLE = "wa-task-cancellation-ia-asylum";
     private static final String SERVICE_AUTH_TOKEN = "s2s token";
 
     private EventInformation eventInformation;
@@ -55,12 +51,12 @@ class CancellationCaseEventHandlerTest {
     private WorkflowApiClient workflowApiClient;
     @Mock
     private AuthTokenGenerator serviceAuthGenerator;
+    @Mock
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
     @Captor
     private ArgumentCaptor<SendMessageRequest> sendMessageRequestCaptor;
     @InjectMocks
     private CancellationCaseEventHandler handlerService;
-    @Mock
-    private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
@@ -80,11 +76,6 @@ class CancellationCaseEventHandlerTest {
     @Test
     void should_evaluate_the_dmn_table_and_return_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
-
-        lenient().when(objectMapper.convertValue(eventInformation.getAdditionalData(), Map.class))
-            .thenReturn(Collections.emptyMap());
-
         List<CancellationEvaluateResponse> results = List.of(new CancellationEvaluateResponse(
             dmnStringValue("Cancel"),
             null, null,
@@ -92,92 +83,29 @@ class CancellationCaseEventHandlerTest {
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isSameAs(results);
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
-
-    }
-
-    @Test
-    void should_evaluate_the_dmn_table_and_return_results_when_additional_data_provided() {
-
-        Map<String, Object> dataMap = Map.of(
-            "lastModifiedDirection", Map.of("dateDue", "2021-04-06"),
-            "appealType", "protection"
-        );
-
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequestWithAdditionalData(dataMap);
-
-        lenient().when(objectMapper.convertValue(eventInformation.getAdditionalData(), Map.class)).thenReturn(dataMap);
-
-
-        List<CancellationEvaluateResponse> results = List.of(new CancellationEvaluateResponse(
-            dmnStringValue("Cancel"),
-            null, null,
-            null,
-            null
-        ));
-
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(results));
-
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
-
-        assertThat(actualResponse).isSameAs(results);
-
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
     @Test
     void should_evaluate_the_dmn_table_and_return_empty_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
-
-        lenient().when(objectMapper.convertValue(eventInformation.getAdditionalData(), Map.class))
-            .thenReturn(Collections.emptyMap());
-
-
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(Collections.emptyList()));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class)))
+            .thenReturn(Collections.emptyList());
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isEmpty();
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
@@ -195,7 +123,7 @@ class CancellationCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result1, result2);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(2))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -223,7 +151,7 @@ class CancellationCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -244,7 +172,7 @@ class CancellationCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages will be created but they are identical hence only sending once.
         verify(workflowApiClient, times(1))
@@ -263,7 +191,7 @@ class CancellationCaseEventHandlerTest {
 
         List<InitiateEvaluateResponse> results = List.of(invalidInstanceResults);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(0))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), any());
@@ -278,7 +206,7 @@ class CancellationCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(warningResult);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(0))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), any());
@@ -293,7 +221,7 @@ class CancellationCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -304,28 +232,6 @@ class CancellationCaseEventHandlerTest {
             .containsEntry("cancellationProcess", dmnStringValue("CASE_EVENT_CANCELLATION"));
     }
 
-    private EvaluateDmnRequest buildEvaluateDmnRequest() {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue("some event id"),
-            "state", dmnStringValue("some post state"),
-            "fromState", dmnStringValue("some previous state"),
-            "additionalData", dmnMapValue(Collections.emptyMap())
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
-    private EvaluateDmnRequest buildEvaluateDmnRequestWithAdditionalData(Map<String, Object> dataMap) {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue("some event id"),
-            "state", dmnStringValue("some post state"),
-            "fromState", dmnStringValue("some previous state"),
-            "additionalData", dmnMapValue(dataMap)
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
     private void assertSendMessageRequest(
         SendMessageRequest sendMessageRequest,
         String caseReference,
@@ -20,12 +20,13 @@ import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.WarningValues;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.DueDateService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.IdempotencyKeyGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.dates.IsoDateFormatter;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnEvaluationService;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -65,6 +66,8 @@ class InitiationCaseEventHandlerBackwardsCompatibilityTest {
     @Mock
     private WorkflowApiClient workflowApiClient;
     @Mock
+    private DmnEvaluationService dmnEvaluationService;
+    @Mock
     private AuthTokenGenerator serviceAuthGenerator;
     @Mock
     private IdempotencyKeyGenerator idempotencyKeyGenerator;
@@ -120,17 +123,15 @@ class InitiationCaseEventHandlerBackwardsCompatibilityTest {
         EvaluateDmnRequest requestParameters =
             buildInitiateTaskDmnRequest(directionDueDate, appealType);
 
-        Mockito.when(workflowApiClient.evaluateInitiationDmn(
-            SERVICE_AUTH_TOKEN,
+        Mockito.when(dmnEvaluationService.evaluateInitiationDmn(
             TASK_INITIATION_DMN_TABLE,
             TENANT_ID,
             requestParameters
-        )).thenReturn(new EvaluateDmnResponse<>(Collections.emptyList()));
+        )).thenReturn(Collections.emptyList());
 
-        handlerService.evaluateDmn(eventInformation);
+        handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
-        verify(workflowApiClient, times(1)).evaluateInitiationDmn(
-            SERVICE_AUTH_TOKEN,
+        verify(dmnEvaluationService, times(1)).evaluateInitiationDmn(
             TASK_INITIATION_DMN_TABLE,
             TENANT_ID,
             requestParameters
@@ -180,8 +181,8 @@ class InitiationCaseEventHandlerBackwardsCompatibilityTest {
         when(dueDateService.calculateDueDate(zonedDateTime, 0))
             .thenReturn(zonedDateTimeAt4Pm);
 
-        handlerService.handle(results, getEventInformation(eventInstanceId,
-            handleDateTimeScenario.inputDate));
+        handlerService.handle(results, new EventProcessingContext(getEventInformation(eventInstanceId,
+            handleDateTimeScenario.inputDate)));
 
         verify(workflowApiClient, Mockito.times(2))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -243,7 +244,8 @@ class InitiationCaseEventHandlerBackwardsCompatibilityTest {
         when(dueDateService.calculateDueDate(expectedDelayUntil, 2))
             .thenReturn(expectedDueDate);
 
-        handlerService.handle(results, getEventInformation(eventInstanceId, "2020-12-08T15:53:36.530377"));
+        handlerService.handle(results, new EventProcessingContext(
+            getEventInformation(eventInstanceId, "2020-12-08T15:53:36.530377")));
 
         verify(workflowApiClient, Mockito.times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -263,7 +265,8 @@ class InitiationCaseEventHandlerBackwardsCompatibilityTest {
     void handleWhenInitiationResponseIsEmpty() {
         List<InitiateEvaluateResponse> results = Collections.emptyList();
 
-        handlerService.handle(results, getEventInformation(eventInstanceId, "2020-03-29T10:53:36.530377"));
+        handlerService.handle(results, new EventProcessingContext(
+            getEventInformation(eventInstanceId, "2020-03-29T10:53:36.530377")));
 
         verify(workflowApiClient, times(0)).sendMessage(eq(SERVICE_AUTH_TOKEN), any());
     }
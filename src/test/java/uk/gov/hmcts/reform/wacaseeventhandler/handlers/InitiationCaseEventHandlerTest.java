@@ -23,12 +23,13 @@ import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.WarningValues;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.DueDateService;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.IdempotencyKeyGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.dates.IsoDateFormatter;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnEvaluationService;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -69,6 +70,8 @@ class InitiationCaseEventHandlerTest {
     @Mock
     private WorkflowApiClient workflowApiClient;
     @Mock
+    private DmnEvaluationService dmnEvaluationService;
+    @Mock
     private AuthTokenGenerator serviceAuthGenerator;
     @Mock
     private IdempotencyKeyGenerator idempotencyKeyGenerator;
@@ -122,17 +125,15 @@ class InitiationCaseEventHandlerTest {
         EvaluateDmnRequest requestParameters =
             buildInitiateTaskDmnRequest(directionDueDate, appealType);
 
-        lenient().when(workflowApiClient.evaluateInitiationDmn(
-            SERVICE_AUTH_TOKEN,
+        lenient().when(dmnEvaluationService.evaluateInitiationDmn(
             TASK_INITIATION_DMN_TABLE,
             TENANT_ID,
             requestParameters
-        )).thenReturn(new EvaluateDmnResponse<>(Collections.emptyList()));
+        )).thenReturn(Collections.emptyList());
 
-        handlerService.evaluateDmn(eventInformation);
+        handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
-        verify(workflowApiClient, times(1)).evaluateInitiationDmn(
-            SERVICE_AUTH_TOKEN,
+        verify(dmnEvaluationService, times(1)).evaluateInitiationDmn(
             TASK_INITIATION_DMN_TABLE,
             TENANT_ID,
             requestParameters
@@ -192,8 +193,8 @@ class InitiationCaseEventHandlerTest {
         when(dueDateService.calculateDueDate(zonedDateTime, 0))
             .thenReturn(zonedDateTimeAt4Pm);
 
-        handlerService.handle(results, getEventInformation(eventInstanceId,
-            handleDateTimeScenario.inputDate));
+        handlerService.handle(results, new EventProcessingContext(getEventInformation(eventInstanceId,
+            handleDateTimeScenario.inputDate)));
 
         verify(workflowApiClient, Mockito.times(2))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -255,7 +256,8 @@ class InitiationCaseEventHandlerTest {
         when(dueDateService.calculateDueDate(expectedDelayUntil, 2))
             .thenReturn(expectedDueDate);
 
-        handlerService.handle(results, getEventInformation(eventInstanceId, "2020-12-08T15:53:36.530377"));
+        handlerService.handle(results, new EventProcessingContext(
+            getEventInformation(eventInstanceId, "2020-12-08T15:53:36.530377")));
 
         verify(workflowApiClient, Mockito.times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -307,7 +309,8 @@ class InitiationCaseEventHandlerTest {
         when(dueDateService.calculateDueDate(expectedDelayUntil, 2))
             .thenReturn(expectedDueDate);
 
-        handlerService.handle(results, getEventInformation(eventInstanceId, "2020-12-08T15:53:36.530377"));
+        handlerService.handle(results, new EventProcessingContext(
+            getEventInformation(eventInstanceId, "2020-12-08T15:53:36.530377")));
 
         verify(workflowApiClient, Mockito.times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -344,7 +347,8 @@ class InitiationCaseEventHandlerTest {
     void handleWhenInitiationResponseIsEmpty() {
         List<InitiateEvaluateResponse> results = Collections.emptyList();
 
-        handlerService.handle(results, getEventInformation(eventInstanceId, "2020-03-29T10:53:36.530377"));
+        handlerService.handle(results, new EventProcessingContext(
+            getEventInformation(eventInstanceId, "2020-03-29T10:53:36.530377")));
 
         verify(workflowApiClient, times(0)).sendMessage(eq(SERVICE_AUTH_TOKEN), any());
     }
@@ -355,14 +359,13 @@ class InitiationCaseEventHandlerTest {
         Map<String, Object> dataMap = mapAppealType();
 
         lenient().when(objectMapper.convertValue(eventInformation.getAdditionalData(), Map.class)).thenReturn(dataMap);
-        lenient().when(workflowApiClient.evaluateInitiationDmn(
-            org.mockito.ArgumentMatchers.anyString(),
+        lenient().when(dmnEvaluationService.evaluateInitiationDmn(
             org.mockito.ArgumentMatchers.eq(TASK_INITIATION_DMN_TABLE),
             org.mockito.ArgumentMatchers.eq(TENANT_ID),
             org.mockito.ArgumentMatchers.any(EvaluateDmnRequest.class)
-        )).thenReturn(new EvaluateDmnResponse<>(Collections.emptyList()));
+        )).thenReturn(Collections.emptyList());
 
-        handlerService.evaluateDmn(eventInformation);
+        handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(output.getOut()).doesNotContain("EvaluateDmnRequest :");
         assertThat(output.getOut()).doesNotContain("additionalData");
@@ -11,20 +11,17 @@ import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.TaskManagementApiClient;
-import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.TaskOperationRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -42,19 +39,17 @@ import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmn
 @ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
 class ReconfigurationCaseEventHandlerTest {
 
-    public static final String TENANT_ID = "ia";
-    private static final String TASK_CANCELLATION_DMN_TABLE = "wa-task-cancellation-ia-asylum";
     private static final String SERVICE_AUTH_TOKEN = "s2s token";
     public static final String RECONFIGURATION_EVENT_INFORMATION_LOG = "ReconfigurationCaseEventHandler eventInformation:EventInformation";
     public static final String SEND_RECONFIGURATION_REQUEST_LOG = "sendReconfigurationRequest request:CancellationEvaluateResponse";
     public static final String RECONFIGURATION_COMPLETED_LOG = "Reconfiguration completed caseReference:some case reference";
     private EventInformation eventInformation;
     @Mock
-    private WorkflowApiClient workflowApiClient;
-    @Mock
     private TaskManagementApiClient taskManagementApiClient;
     @Mock
     private AuthTokenGenerator serviceAuthGenerator;
+    @Mock
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
     @InjectMocks
     private ReconfigurationCaseEventHandler handlerService;
 
@@ -76,8 +71,6 @@ class ReconfigurationCaseEventHandlerTest {
     @Test
     void should_evaluate_the_dmn_table_and_return_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
-
         List<CancellationEvaluateResponse> results = List.of(new CancellationEvaluateResponse(
             dmnStringValue("Reconfigure"),
             null, null,
@@ -85,25 +78,16 @@ class ReconfigurationCaseEventHandlerTest {
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isSameAs(results);
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(1)).performOperation(
             anyString(),
@@ -113,7 +97,6 @@ class ReconfigurationCaseEventHandlerTest {
 
     @Test
     void should_evaluate_the_dmn_table_and_return_results_for_reconfigure_action_with_null_fields() {
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateUpdateDmnRequest();
         EventInformation eventInfo = EventInformation.builder()
             .eventId("ANY_EVENT")
             .newStateId("")
@@ -131,18 +114,14 @@ class ReconfigurationCaseEventHandlerTest {
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInfo);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInfo));
 
         assertThat(actualResponse).isSameAs(results);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(1)).performOperation(
             anyString(),
@@ -153,7 +132,6 @@ class ReconfigurationCaseEventHandlerTest {
     @Test
     void should_evaluate_the_dmn_table_and_return_results_for_reconfigure_action_with_nonnull_warning_text() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateUpdateDmnRequest();
         EventInformation eventInfo = EventInformation.builder()
             .eventId("ANY_EVENT")
             .newStateId("")
@@ -171,18 +149,14 @@ class ReconfigurationCaseEventHandlerTest {
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInfo);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInfo));
 
         assertThat(actualResponse).isSameAs(results);
 
-        handlerService.handle(actualResponse, eventInformation);
+        handlerService.handle(actualResponse, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(1)).performOperation(
             anyString(),
@@ -192,7 +166,6 @@ class ReconfigurationCaseEventHandlerTest {
 
     @Test
     void should_evaluate_the_dmn_table_and_return_results_for_reconfigure_action_with_nonnull_warning_code(CapturedOutput output) {
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateUpdateDmnRequest();
         EventInformation eventInfo = EventInformation.builder()
             .eventId("ANY_EVENT")
             .newStateId("")
@@ -210,18 +183,14 @@ class ReconfigurationCaseEventHandlerTest {
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInfo);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInfo));
 
         assertThat(actualResponse).isSameAs(results);
 
-        handlerService.handle(actualResponse, eventInformation);
+        handlerService.handle(actualResponse, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(1)).performOperation(
             anyString(),
@@ -232,7 +201,6 @@ class ReconfigurationCaseEventHandlerTest {
 
     @Test
     void should_evaluate_the_dmn_table_and_return_results_for_reconfigure_action_with_nonnull_process_category(CapturedOutput output) {
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateUpdateDmnRequest();
         EventInformation eventInfo = EventInformation.builder()
             .eventId("ANY_EVENT")
             .newStateId("")
@@ -250,25 +218,16 @@ class ReconfigurationCaseEventHandlerTest {
             dmnStringValue("processCategory")
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInfo);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInfo));
 
         assertThat(actualResponse).isSameAs(results);
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
-        handlerService.handle(actualResponse, eventInformation);
+        handlerService.handle(actualResponse, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(1)).performOperation(
             anyString(),
@@ -280,7 +239,6 @@ class ReconfigurationCaseEventHandlerTest {
     @Test
     void should_evaluate_the_dmn_table_and_return_results_for_reconfigure_action_with_blank_warning_text(CapturedOutput output) {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateUpdateDmnRequest();
         EventInformation eventInfo = EventInformation.builder()
             .eventId("ANY_EVENT")
             .newStateId("")
@@ -299,18 +257,14 @@ class ReconfigurationCaseEventHandlerTest {
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInfo);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInfo));
 
         assertThat(actualResponse).isSameAs(results);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(1)).performOperation(
             anyString(),
@@ -321,7 +275,6 @@ class ReconfigurationCaseEventHandlerTest {
 
     @Test
     void should_evaluate_the_dmn_table_and_return_results_for_reconfigure_action_with_blank_warning_code() {
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateUpdateDmnRequest();
         EventInformation eventInfo = EventInformation.builder()
             .eventId("ANY_EVENT")
             .newStateId("")
@@ -339,18 +292,14 @@ class ReconfigurationCaseEventHandlerTest {
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInfo);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInfo));
 
         assertThat(actualResponse).isSameAs(results);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(1)).performOperation(
             anyString(),
@@ -360,7 +309,6 @@ class ReconfigurationCaseEventHandlerTest {
 
     @Test
     void should_evaluate_the_dmn_table_and_return_results_for_reconfigure_action_with_blank_process_category(CapturedOutput output) {
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateUpdateDmnRequest();
         EventInformation eventInfo = EventInformation.builder()
             .eventId("ANY_EVENT")
             .newStateId("")
@@ -378,18 +326,14 @@ class ReconfigurationCaseEventHandlerTest {
             dmnStringValue("")
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInfo);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInfo));
 
         assertThat(actualResponse).isSameAs(results);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(1)).performOperation(
             anyString(),
@@ -401,25 +345,15 @@ class ReconfigurationCaseEventHandlerTest {
     @Test
     void should_evaluate_the_dmn_table_and_return_empty_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
-
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse<>(Collections.emptyList()));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class)))
+            .thenReturn(Collections.emptyList());
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isEmpty();
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
@@ -436,7 +370,7 @@ class ReconfigurationCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result1, result2);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(2)).performOperation(
             anyString(),
@@ -452,7 +386,7 @@ class ReconfigurationCaseEventHandlerTest {
 
         List<InitiateEvaluateResponse> results = List.of(invalidInstanceResults);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(0)).performOperation(
             anyString(),
@@ -469,7 +403,7 @@ class ReconfigurationCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(warningResult);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(taskManagementApiClient, times(0)).performOperation(
             anyString(),
@@ -477,26 +411,6 @@ class ReconfigurationCaseEventHandlerTest {
         );
     }
 
-    private EvaluateDmnRequest buildEvaluateDmnRequest() {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue("ANY_EVENT"),
-            "state", dmnStringValue("some post state"),
-            "fromState", dmnStringValue("some previous state")
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
-    private EvaluateDmnRequest buildEvaluateUpdateDmnRequest() {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue("ANY_EVENT"),
-            "state", dmnStringValue(""),
-            "fromState", dmnStringValue("")
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
     private void assertConsoleOutputHasMessages(CapturedOutput output) {
         await().ignoreException(Exception.class)
             .pollInterval(100, MILLISECONDS)
@@ -12,13 +12,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -44,9 +44,7 @@ import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmn
 class WarningCaseEventHandlerBackwardsCompatibilityTest {
 
 
-    public static final String TENANT_ID = "ia";
     public static final String WARN_TASKS_MESSAGE_NAME = "warnProcess";
-    private static final String TASK_CANCELLATION_DMN_TABLE = "wa-task-cancellation-ia-asylum";
     private static final String SERVICE_AUTH_TOKEN = "s2s token";
     public static final String WARNING_LIST = "warningsToAdd";
     private EventInformation eventInformation;
@@ -54,6 +52,8 @@ class WarningCaseEventHandlerBackwardsCompatibilityTest {
     private WorkflowApiClient workflowApiClient;
     @Mock
     private AuthTokenGenerator serviceAuthGenerator;
+    @Mock
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
     @Captor
     private ArgumentCaptor<SendMessageRequest> sendMessageRequestCaptor;
     @InjectMocks
@@ -76,56 +76,35 @@ class WarningCaseEventHandlerBackwardsCompatibilityTest {
     @Test
     void should_evaluate_the_dmn_table_and_return_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
-
         List<CancellationEvaluateResponse> results = List.of(new CancellationEvaluateResponse(
             dmnStringValue("Warn"), null, null,
             null,
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isSameAs(results);
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
     @Test
     void should_evaluate_the_dmn_table_and_return_empty_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class)))
+            .thenReturn(Collections.emptyList());
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(Collections.emptyList()));
-
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isEmpty();
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
@@ -147,7 +126,7 @@ class WarningCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(result1, result2);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages for each result should be sent
         verify(workflowApiClient, times(4))
@@ -190,7 +169,7 @@ class WarningCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages for each result should be sent
         verify(workflowApiClient, times(2))
@@ -219,7 +198,7 @@ class WarningCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages will be created but they are identical hence only sending once.
         verify(workflowApiClient, times(1))
@@ -240,7 +219,7 @@ class WarningCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages will be created but they are identical hence only sending once.
         verify(workflowApiClient, times(1))
@@ -259,7 +238,7 @@ class WarningCaseEventHandlerBackwardsCompatibilityTest {
 
         List<InitiateEvaluateResponse> results = List.of(invalidInstanceResults);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(0))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), any());
@@ -274,22 +253,12 @@ class WarningCaseEventHandlerBackwardsCompatibilityTest {
 
         List<CancellationEvaluateResponse> results = List.of(warningResult);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(0))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), any());
     }
 
-    private EvaluateDmnRequest buildEvaluateDmnRequest() {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue("some event id"),
-            "state", dmnStringValue("some post state"),
-            "fromState", dmnStringValue("some previous state")
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
     private void assertSendMessageRequestOldFormat(
         SendMessageRequest sendMessageRequest,
         String caseReference,
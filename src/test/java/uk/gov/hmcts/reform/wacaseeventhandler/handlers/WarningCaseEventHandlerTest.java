@@ -14,13 +14,13 @@ import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.Warning;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.WarningValues;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.SendMessageRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -47,9 +47,7 @@ import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmn
 class WarningCaseEventHandlerTest {
 
 
-    public static final String TENANT_ID = "ia";
     public static final String WARN_TASKS_MESSAGE_NAME = "warnProcess";
-    private static final String TASK_CANCELLATION_DMN_TABLE = "wa-task-cancellation-ia-asylum";
     private static final String SERVICE_AUTH_TOKEN = "s2s token";
     public static final String WARNING_LIST = "warningsToAdd";
     private EventInformation eventInformation;
@@ -57,6 +55,8 @@ class WarningCaseEventHandlerTest {
     private WorkflowApiClient workflowApiClient;
     @Mock
     private AuthTokenGenerator serviceAuthGenerator;
+    @Mock
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
     @Captor
     private ArgumentCaptor<SendMessageRequest> sendMessageRequestCaptor;
     @InjectMocks
@@ -80,8 +80,6 @@ class WarningCaseEventHandlerTest {
     @Test
     void should_evaluate_the_dmn_table_and_return_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
-
         List<CancellationEvaluateResponse> results = List.of(new CancellationEvaluateResponse(
             dmnStringValue("Warn"), dmnStringValue("Code1"), dmnStringValue("Text1"),
             null,
@@ -92,48 +90,29 @@ class WarningCaseEventHandlerTest {
             null
         ));
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(results));
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class))).thenReturn(results);
 
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isSameAs(results);
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
     @Test
     void should_evaluate_the_dmn_table_and_return_empty_results() {
 
-        EvaluateDmnRequest evaluateDmnRequest = buildEvaluateDmnRequest();
+        when(cancellationDmnEvaluator.evaluate(any(EventProcessingContext.class)))
+            .thenReturn(Collections.emptyList());
 
-        when(workflowApiClient.evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        )).thenReturn(new EvaluateDmnResponse(Collections.emptyList()));
-
-        List<? extends EvaluateResponse> actualResponse = handlerService.evaluateDmn(eventInformation);
+        List<? extends EvaluateResponse> actualResponse =
+            handlerService.evaluateDmn(new EventProcessingContext(eventInformation));
 
         assertThat(actualResponse).isEmpty();
 
-        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
-            SERVICE_AUTH_TOKEN,
-            TASK_CANCELLATION_DMN_TABLE,
-            TENANT_ID,
-            evaluateDmnRequest
-        );
+        verify(cancellationDmnEvaluator, times(1)).evaluate(any(EventProcessingContext.class));
 
     }
 
@@ -155,7 +134,7 @@ class WarningCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result1, result2);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(2))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -193,7 +172,7 @@ class WarningCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result1, result2);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -224,7 +203,7 @@ class WarningCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result1, result2);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(2))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -254,7 +233,7 @@ class WarningCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         // Because of backwards compatibility 2 messages will be created but they are identical hence only sending once.
         verify(workflowApiClient, times(1))
@@ -277,7 +256,7 @@ class WarningCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -299,7 +278,7 @@ class WarningCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -321,7 +300,7 @@ class WarningCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(result);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(1))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), sendMessageRequestCaptor.capture());
@@ -339,7 +318,7 @@ class WarningCaseEventHandlerTest {
 
         List<InitiateEvaluateResponse> results = List.of(invalidInstanceResults);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(0))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), any());
@@ -354,22 +333,12 @@ class WarningCaseEventHandlerTest {
 
         List<CancellationEvaluateResponse> results = List.of(warningResult);
 
-        handlerService.handle(results, eventInformation);
+        handlerService.handle(results, new EventProcessingContext(eventInformation));
 
         verify(workflowApiClient, times(0))
             .sendMessage(eq(SERVICE_AUTH_TOKEN), any());
     }
 
-    private EvaluateDmnRequest buildEvaluateDmnRequest() {
-        Map<String, DmnValue<?>> variables = Map.of(
-            "event", dmnStringValue("some event id"),
-            "state", dmnStringValue("some post state"),
-            "fromState", dmnStringValue("some previous state")
-        );
-
-        return new EvaluateDmnRequest(variables);
-    }
-
     private void assertSendMessageRequestWithWarnings(
         SendMessageRequest sendMessageRequest,
         String caseReference,
@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createCaseEventMessageEntity;
+
+@SpringBootTest
+@ActiveProfiles("db")
+class CaseEventMessageBatchRepositoryTest {
+
+    @Autowired
+    private CaseEventMessageBatchRepository caseEventMessageBatchRepository;
+
+    @Autowired
+    private CaseEventMessageRepository caseEventMessageRepository;
+
+    @Autowired
+    protected DataSource db;
+
+    @AfterEach
+    void clearDownData() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+
+        String truncateTablesQuery =
+            "START TRANSACTION;"
+                + "TRUNCATE TABLE WA_CASE_EVENT_MESSAGES CASCADE;"
+                + "COMMIT;";
+        jdbcTemplate.execute(truncateTablesQuery);
+
+        jdbcTemplate.execute("ALTER SEQUENCE WA_CASE_EVENT_MESSAGES_SEQUENCE_SEQ RESTART WITH 1");
+    }
+
+    @Test
+    void should_insert_batch_of_messages() {
+        CaseEventMessageEntity first = createCaseEventMessageEntity();
+        first.setJurisdictionId("IA");
+        first.setCaseTypeId("Asylum");
+        first.setEventId("submitAppeal");
+        first.setUserId("userId");
+        first.setDefinitionHash("definitionHash");
+        CaseEventMessageEntity second = createCaseEventMessageEntity();
+        second.setState(MessageState.UNPROCESSABLE);
+        second.setMessageProperties(null);
+        second.setEventTimestamp(null);
+        second.setHoldUntil(null);
+
+        assertEquals(2, caseEventMessageBatchRepository.upsertMessages(List.of(first, second)));
+
+        CaseEventMessageEntity storedFirst = findMessage(first.getMessageId());
+        assertEquals(first.getCaseId(), storedFirst.getCaseId());
+        assertEquals(MessageState.NEW, storedFirst.getState());
+        assertEquals(first.getMessageProperties(), storedFirst.getMessageProperties());
+        assertEquals(first.getMessageContent(), storedFirst.getMessageContent());
+        assertEquals(0, storedFirst.getDeliveryCount());
+        assertEquals("IA", storedFirst.getJurisdictionId());
+        assertEquals("Asylum", storedFirst.getCaseTypeId());
+        assertEquals("submitAppeal", storedFirst.getEventId());
+        assertEquals("userId", storedFirst.getUserId());
+        assertNull(storedFirst.getPreviousStateId());
+        assertEquals("definitionHash", storedFirst.getDefinitionHash());
+
+        CaseEventMessageEntity storedSecond = findMessage(second.getMessageId());
+        assertEquals(MessageState.UNPROCESSABLE, storedSecond.getState());
+        assertNull(storedSecond.getEventTimestamp());
+    }
+
+    @Test
+    void should_insert_compressed_message_content() {
+        CaseEventMessageEntity message = createCaseEventMessageEntity();
+        String messageContent = message.getMessageContent();
+        message.compressMessageContent();
+
+        caseEventMessageBatchRepository.upsertMessages(List.of(message));
+
+        CaseEventMessageEntity storedMessage = findMessage(message.getMessageId());
+        assertTrue(storedMessage.isMessageContentCompressed());
+        assertEquals(messageContent, storedMessage.getMessageContent());
+        assertEquals(0, new JdbcTemplate(db).queryForObject(
+            "select count(*) from wa_case_event_messages where message_content is not null", Integer.class));
+    }
+
+    @Test
+    void should_increment_delivery_count_of_messages_already_stored() {
+        CaseEventMessageEntity message = createCaseEventMessageEntity();
+        caseEventMessageBatchRepository.upsertMessages(List.of(message));
+
+        caseEventMessageBatchRepository.upsertMessages(List.of(message, createCaseEventMessageEntity()));
+
+        assertEquals(1, findMessage(message.getMessageId()).getDeliveryCount());
+    }
+
+    @Test
+    void should_count_redeliveries_within_the_batch() {
+        CaseEventMessageEntity message = createCaseEventMessageEntity();
+
+        caseEventMessageBatchRepository.upsertMessages(List.of(message, message, message));
+        assertEquals(2, findMessage(message.getMessageId()).getDeliveryCount());
+
+        caseEventMessageBatchRepository.upsertMessages(List.of(message, message));
+        assertEquals(4, findMessage(message.getMessageId()).getDeliveryCount());
+    }
+
+    @Test
+    void should_store_concurrent_batches_spanning_the_same_cases_without_deadlock() throws Exception {
+        List<String> caseIds = IntStream.range(0, 20).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> batches = new ArrayList<>();
+            for (int batch = 0; batch < 40; batch++) {
+                List<String> batchCaseIds = new ArrayList<>(caseIds);
+                Collections.shuffle(batchCaseIds, new Random(batch));
+                batches.add(executor.submit(
+                    () -> caseEventMessageBatchRepository.upsertMessages(messagesOfCases(batchCaseIds))));
+            }
+            for (Future<Integer> batch : batches) {
+                assertEquals(caseIds.size(), batch.get(30, SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+        assertEquals(800, jdbcTemplate.queryForObject(
+            "select count(*) from wa_case_event_messages", Integer.class));
+        assertEquals(20, jdbcTemplate.queryForObject(
+            "select count(*) from wa_case_event_message_heads", Integer.class));
+    }
+
+    @Test
+    void should_not_store_anything_for_empty_batch() {
+        assertEquals(0, caseEventMessageBatchRepository.upsertMessages(List.of()));
+    }
+
+    private static List<CaseEventMessageEntity> messagesOfCases(List<String> caseIds) {
+        return caseIds.stream()
+            .map(caseId -> {
+                CaseEventMessageEntity message = createCaseEventMessageEntity();
+                message.setCaseId(caseId);
+                return message;
+            })
+            .toList();
+    }
+
+    private CaseEventMessageEntity findMessage(String messageId) {
+        return caseEventMessageRepository.findByMessageId(singletonList(messageId)).get(0);
+    }
+}
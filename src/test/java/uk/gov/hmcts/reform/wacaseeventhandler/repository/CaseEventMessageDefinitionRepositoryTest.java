@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+
+import java.util.Map;
+import java.util.Optional;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createCaseEventMessageEntity;
+
+@SpringBootTest
+@ActiveProfiles("db")
+class CaseEventMessageDefinitionRepositoryTest {
+
+    @Autowired
+    private CaseEventMessageDefinitionRepository caseEventMessageDefinitionRepository;
+
+    @Autowired
+    private CaseEventMessageRepository caseEventMessageRepository;
+
+    @Autowired
+    protected DataSource db;
+
+    @AfterEach
+    void clearDownData() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+        jdbcTemplate.execute("TRUNCATE TABLE WA_CASE_EVENT_MESSAGES CASCADE");
+        jdbcTemplate.execute("TRUNCATE TABLE WA_CASE_EVENT_MESSAGE_DEFINITIONS");
+    }
+
+    @Test
+    void should_store_each_definition_once() {
+        caseEventMessageDefinitionRepository.saveDefinitions(Map.of("firstHash", "{\"first\":{}}"));
+        caseEventMessageDefinitionRepository.saveDefinitions(Map.of(
+            "firstHash", "{\"first\":{}}",
+            "secondHash", "{\"second\":{}}"
+        ));
+
+        assertEquals(2, new JdbcTemplate(db).queryForObject(
+            "select count(*) from wa_case_event_message_definitions", Integer.class));
+        assertEquals(Optional.of("{\"first\":{}}"), caseEventMessageDefinitionRepository.findDefinition("firstHash"));
+        assertEquals(Optional.of("{\"second\":{}}"), caseEventMessageDefinitionRepository.findDefinition("secondHash"));
+    }
+
+    @Test
+    void should_remove_only_definitions_no_message_references() {
+        caseEventMessageDefinitionRepository.saveDefinitions(Map.of(
+            "referencedHash", "{\"referenced\":{}}",
+            "unreferencedHash", "{\"unreferenced\":{}}"
+        ));
+        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+        caseEventMessageEntity.setDefinitionHash("referencedHash");
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        assertEquals(1, caseEventMessageDefinitionRepository.removeUnreferencedDefinitions(10));
+
+        assertEquals(Optional.of("{\"referenced\":{}}"),
+                     caseEventMessageDefinitionRepository.findDefinition("referencedHash"));
+        assertEquals(Optional.empty(), caseEventMessageDefinitionRepository.findDefinition("unreferencedHash"));
+    }
+
+    @Test
+    void should_not_find_unknown_definition() {
+        caseEventMessageDefinitionRepository.saveDefinitions(Map.of());
+
+        assertEquals(Optional.empty(), caseEventMessageDefinitionRepository.findDefinition("unknownHash"));
+    }
+}
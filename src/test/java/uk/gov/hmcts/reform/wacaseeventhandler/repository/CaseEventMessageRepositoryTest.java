@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.IntStream;
 import javax.sql.DataSource;
@@ -27,7 +28,6 @@ import static java.lang.Long.valueOf;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createCaseEventMessageEntity;
 
@@ -67,23 +67,6 @@ class CaseEventMessageRepositoryTest {
         jdbcTemplate.execute("ALTER SEQUENCE WA_CASE_EVENT_MESSAGES_SEQUENCE_SEQ RESTART WITH 1");
     }
 
-    @Test
-    void should_return_null_case_event_message_when_table_is_empty() {
-        final CaseEventMessageEntity nextAvailableMessageReadyToProcess =
-                caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-        assertNull(nextAvailableMessageReadyToProcess);
-    }
-
-    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
-            scripts = {"classpath:sql/insert_case_event_messages.sql"})
-    @Test
-    void should_return_case_event_message_with_message_id() {
-        final CaseEventMessageEntity caseEventMessageEntity =
-                caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-        assertNotNull(caseEventMessageEntity);
-        assertEquals("MessageId_bc8299fc-5d31-45c7-b847-c2622014a85a", caseEventMessageEntity.getMessageId());
-    }
-
     @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
         scripts = {"classpath:sql/insert_case_event_messages_for_received_messages_check.sql"})
     @Test
@@ -104,70 +87,6 @@ class CaseEventMessageRepositoryTest {
         assertEquals(0, numberOfMessagesReceived);
     }
 
-    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
-            scripts = {"classpath:sql/insert_case_event_messages.sql"})
-    @Test
-    void should_return_null_case_event_message_when_no_matching_messages_match_query_criteria() {
-
-        final List<CaseEventMessageEntity> caseEventMessageEntities = caseEventMessageRepository.findByMessageId(
-            singletonList("MessageId_bc8299fc-5d31-45c7-b847-c2622014a85a"));
-        assertEquals(1, caseEventMessageEntities.size());
-
-        final CaseEventMessageEntity caseEventMessageEntity1 = caseEventMessageEntities.get(0);
-        assertEquals(MessageState.READY, caseEventMessageEntity1.getState());
-        caseEventMessageEntity1.setState(MessageState.PROCESSED);
-        caseEventMessageRepository.save(caseEventMessageEntity1);
-
-        final CaseEventMessageEntity caseEventMessageEntity =
-                caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-        assertNull(caseEventMessageEntity);
-    }
-
-    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
-            scripts = {"classpath:sql/insert_case_event_messages.sql"})
-    @Test
-    @DisplayName("Should not return any messages when current timestamp is before the hold_until property ")
-    void should_return_null_case_event_message_when_no_matching_messages_match_hold_until_query_criteria() {
-
-        final List<CaseEventMessageEntity> caseEventMessageEntities = caseEventMessageRepository.findByMessageId(
-            singletonList("MessageId_bc8299fc-5d31-45c7-b847-c2622014a85a"));
-        assertEquals(1, caseEventMessageEntities.size());
-
-        final CaseEventMessageEntity caseEventMessageEntity1 = caseEventMessageEntities.get(0);
-        assertEquals(MessageState.READY, caseEventMessageEntity1.getState());
-        caseEventMessageEntity1.setHoldUntil(LocalDateTime.now().plusDays(2));
-        caseEventMessageRepository.save(caseEventMessageEntity1);
-
-        final CaseEventMessageEntity caseEventMessageEntity =
-                caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-        assertNull(caseEventMessageEntity);
-    }
-
-    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
-            scripts = {"classpath:sql/insert_case_event_messages.sql"})
-    @Test
-    @DisplayName("Should return message when current timestamp is after the hold_until property")
-    void should_return_case_event_message_when_messages_match_hold_until_query_criteria() {
-
-        final List<CaseEventMessageEntity> caseEventMessageEntities = caseEventMessageRepository.findByMessageId(
-            singletonList(MESSAGE_ID));
-        assertEquals(1, caseEventMessageEntities.size());
-
-        final CaseEventMessageEntity caseEventMessageEntity1 = caseEventMessageEntities.get(0);
-        assertEquals(MessageState.NEW, caseEventMessageEntity1.getState());
-        caseEventMessageEntity1.setState(MessageState.READY);
-        caseEventMessageEntity1.setCaseId("293e1db4-dfd7-433d-902c-39470386a32c");
-
-        final LocalDateTime minuteAgoFromCurrentTimestamp = LocalDateTime.now().minusMinutes(1);
-        caseEventMessageEntity1.setHoldUntil(minuteAgoFromCurrentTimestamp);
-        caseEventMessageRepository.save(caseEventMessageEntity1);
-
-        final CaseEventMessageEntity caseEventMessageEntity =
-                caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-        assertNotNull(caseEventMessageEntity);
-        assertEquals(MESSAGE_ID, caseEventMessageEntity.getMessageId());
-    }
-
     @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
             scripts = {"classpath:sql/insert_case_event_messages.sql"})
     @Test
@@ -266,49 +185,6 @@ class CaseEventMessageRepositoryTest {
         assertEquals(0, rowsAffected);
     }
 
-    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
-            scripts = {"classpath:sql/insert_case_event_messages_from_dlq.sql"})
-    @Test
-    void should_select_dlq_message_where_other_processed_or_ready_messages_exist_with_timestamp_later_than_30mins() {
-        final CaseEventMessageEntity retrievedCaseEventMessageEntity =
-                caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-
-        assertNotNull(retrievedCaseEventMessageEntity);
-        assertEquals("MessageId_bc8299fc-5d31-45c7-b847-c2622014a85a", retrievedCaseEventMessageEntity.getMessageId());
-    }
-
-    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
-            scripts = {"classpath:sql/insert_case_event_messages_from_dlq.sql"})
-    @Test
-    void should_return_null_where_other_processed_or_ready_messages_exist_with_timestamp_earlier_than_30mins() {
-        final List<CaseEventMessageEntity> caseEventMessageEntities =
-            caseEventMessageRepository.findByMessageId(singletonList("MessageId_37f7a172-79e6-11ec-90d6-0242ac120003"));
-
-        assertEquals(1, caseEventMessageEntities.size());
-        final CaseEventMessageEntity caseEventMessageEntity = caseEventMessageEntities.get(0);
-
-        final LocalDateTime eventTimestamp = caseEventMessageEntity.getEventTimestamp();
-        caseEventMessageEntity.setEventTimestamp(eventTimestamp.minusHours(3).minusMinutes(40));
-        caseEventMessageRepository.save(caseEventMessageEntity);
-
-        final CaseEventMessageEntity retrievedCaseEventMessageEntity =
-                caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-
-        assertNull(retrievedCaseEventMessageEntity);
-    }
-
-    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
-            scripts = {"classpath:sql/insert_case_event_messages_from_dlq.sql"})
-    @Test
-    void should_return_null_where_no_messages_from_dlq_with_same_case_id_exist() {
-        changeCaseIdAndSetFromDlq("MessageId_6cecf982-6b9e-4cc3-a8f5-d04b1385c258", "unknownCase");
-        changeCaseIdAndSetFromDlq("MessageId_37f7a172-79e6-11ec-90d6-0242ac120003", "unknownCase1");
-        final CaseEventMessageEntity retrievedCaseEventMessageEntity =
-                caseEventMessageRepository.getNextAvailableMessageReadyToProcess();
-
-        assertNull(retrievedCaseEventMessageEntity);
-    }
-
     @Test
     void should_insert_case_message() {
         CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
@@ -343,18 +219,6 @@ class CaseEventMessageRepositoryTest {
         assertEquals(2, byMessageId.get(0).getSequence());
     }
 
-    private void changeCaseIdAndSetFromDlq(String caseEventMessageId, String newCaseIdValue) {
-        final List<CaseEventMessageEntity> caseEventMessageEntities =
-                caseEventMessageRepository.findByMessageId(singletonList(caseEventMessageId));
-
-        assertEquals(1, caseEventMessageEntities.size());
-        final CaseEventMessageEntity caseEventMessageEntity = caseEventMessageEntities.get(0);
-
-        caseEventMessageEntity.setCaseId(newCaseIdValue);
-        caseEventMessageEntity.setFromDlq(true);
-        caseEventMessageRepository.save(caseEventMessageEntity);
-    }
-
     @Test
     @DisplayName("Should select all message with NEW state, in 'sequence' order")
     @Transactional
@@ -380,4 +244,31 @@ class CaseEventMessageRepositoryTest {
                         .map(CaseEventMessageEntity::getSequence)
                         .toList());
     }
+
+    @Test
+    void should_promote_new_messages_to_ready_oldest_first_up_to_limit() {
+        List<CaseEventMessageEntity> newMessages = IntStream.range(0, 5)
+                .mapToObj(num -> createCaseEventMessageEntity())
+                .toList();
+        CaseEventMessageEntity unprocessableMessage = createCaseEventMessageEntity();
+        unprocessableMessage.setState(MessageState.UNPROCESSABLE);
+        caseEventMessageRepository.saveAll(newMessages);
+        caseEventMessageRepository.save(unprocessableMessage);
+
+        List<String> readyMessageIds = transactionTemplate.execute(
+            status -> caseEventMessageRepository.promoteNewMessagesToReady(3));
+
+        assertEquals(newMessages.subList(0, 3).stream().map(CaseEventMessageEntity::getMessageId).sorted().toList(),
+                readyMessageIds.stream().sorted().toList());
+        assertEquals(2, caseEventMessageRepository.getNumberOfMessagesInNewState());
+        List<MessageState> statesOldestFirst = caseEventMessageRepository
+                .findByMessageId(newMessages.stream().map(CaseEventMessageEntity::getMessageId).toList()).stream()
+                .sorted(Comparator.comparing(CaseEventMessageEntity::getSequence))
+                .map(CaseEventMessageEntity::getState)
+                .toList();
+        assertEquals(List.of(MessageState.READY, MessageState.READY, MessageState.READY, MessageState.NEW,
+                        MessageState.NEW), statesOldestFirst);
+        assertEquals(MessageState.UNPROCESSABLE, caseEventMessageRepository
+                .findByMessageId(singletonList(unprocessableMessage.getMessageId())).get(0).getState());
+    }
 }
@@ -0,0 +1,335 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createCaseEventMessageEntity;
+
+@SpringBootTest
+@ActiveProfiles("db")
+class ClaimedMessageRepositoryTest {
+
+    @Autowired
+    private ClaimedMessageRepository claimedMessageRepository;
+
+    @Autowired
+    private CaseEventMessageRepository caseEventMessageRepository;
+
+    @Autowired
+    protected DataSource db;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private static final String MESSAGE_ID = "MessageId_30915063-ec4b-4272-933d-91087b486195";
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void clearDownData() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+
+        String truncateTablesQuery =
+            "START TRANSACTION;"
+                + "TRUNCATE TABLE WA_CASE_EVENT_MESSAGES CASCADE;"
+                + "COMMIT;";
+        jdbcTemplate.execute(truncateTablesQuery);
+
+        jdbcTemplate.execute("ALTER SEQUENCE WA_CASE_EVENT_MESSAGES_SEQUENCE_SEQ RESTART WITH 1");
+    }
+
+    @Test
+    void should_claim_message_columns_needed_for_processing() {
+        LocalDateTime holdUntil = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MICROS);
+        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+        caseEventMessageEntity.setState(MessageState.READY);
+        caseEventMessageEntity.setRetryCount(2);
+        caseEventMessageEntity.setHoldUntil(holdUntil);
+        caseEventMessageEntity.setEventTimestamp(holdUntil.minusMinutes(1));
+        caseEventMessageEntity.setJurisdictionId("IA");
+        caseEventMessageEntity.setCaseTypeId("Asylum");
+        caseEventMessageEntity.setEventId("submitAppeal");
+        caseEventMessageEntity.setEventInstanceId("eventInstanceId");
+        caseEventMessageEntity.setNewStateId("appealSubmitted");
+        caseEventMessageEntity.setUserId("userId");
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        List<ClaimedMessage> claimedMessages = claimNextMessages(10);
+
+        assertEquals(List.of(new ClaimedMessage(caseEventMessageEntity.getMessageId(),
+                                                caseEventMessageEntity.getCaseId(),
+                                                MessageState.READY,
+                                                2,
+                                                holdUntil,
+                                                caseEventMessageEntity.getMessageContent(),
+                                                holdUntil.minusMinutes(1),
+                                                new EventColumns("IA", "Asylum", "submitAppeal", "eventInstanceId",
+                                                                 null, "appealSubmitted", "userId"))),
+                     claimedMessages);
+    }
+
+    @Test
+    void should_claim_compressed_message_content() {
+        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+        String messageContent = caseEventMessageEntity.getMessageContent();
+        caseEventMessageEntity.setState(MessageState.READY);
+        caseEventMessageEntity.setHoldUntil(null);
+        caseEventMessageEntity.compressMessageContent();
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        List<ClaimedMessage> claimedMessages = claimNextMessages(10);
+
+        assertEquals(messageContent, claimedMessages.get(0).messageContent());
+    }
+
+    @Test
+    void should_not_claim_message_again_while_it_is_leased() {
+        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+        caseEventMessageEntity.setState(MessageState.READY);
+        caseEventMessageEntity.setHoldUntil(null);
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        assertEquals(1, claimNextMessages(10).size());
+        assertEquals(0, claimNextMessages(10).size());
+    }
+
+    @Test
+    void should_claim_head_message_of_each_case_in_event_timestamp_order() {
+        IntStream.range(0, 3).forEach(caseIndex -> IntStream.range(0, 2).forEach(eventIndex -> {
+            CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+            caseEventMessageEntity.setMessageId("messageId_" + caseIndex + "_" + eventIndex);
+            caseEventMessageEntity.setCaseId("caseId_" + caseIndex);
+            caseEventMessageEntity.setEventTimestamp(
+                LocalDateTime.now().minusMinutes(10L * (3 - caseIndex) - eventIndex));
+            caseEventMessageEntity.setState(MessageState.READY);
+            caseEventMessageEntity.setHoldUntil(null);
+            caseEventMessageRepository.save(caseEventMessageEntity);
+        }));
+
+        List<ClaimedMessage> claimedMessages = claimNextMessages(10);
+
+        assertEquals(List.of("messageId_0_0", "messageId_1_0", "messageId_2_0"),
+                     claimedMessages.stream().map(ClaimedMessage::messageId).toList());
+        assertNull(claimedMessages.get(0).holdUntil());
+    }
+
+    @Test
+    void should_not_claim_message_when_table_is_empty() {
+        assertNull(claimNextMessage());
+    }
+
+    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            scripts = {"classpath:sql/insert_case_event_messages.sql"})
+    @Test
+    void should_claim_case_event_message_with_message_id() {
+        final ClaimedMessage claimedMessage = claimNextMessage();
+        assertNotNull(claimedMessage);
+        assertEquals("MessageId_bc8299fc-5d31-45c7-b847-c2622014a85a", claimedMessage.messageId());
+    }
+
+    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            scripts = {"classpath:sql/insert_case_event_messages.sql"})
+    @Test
+    void should_claim_message_again_when_lease_is_released_by_retry_details_update() {
+        final List<ClaimedMessage> claimedMessages = claimNextMessages(10);
+        assertEquals(1, claimedMessages.size());
+        final String messageId = claimedMessages.get(0).messageId();
+
+        transactionTemplate.execute(status -> caseEventMessageRepository.updateMessageWithRetryDetails(
+            1, LocalDateTime.now().minusMinutes(1), messageId));
+
+        final List<ClaimedMessage> reclaimedMessages = claimNextMessages(10);
+        assertEquals(1, reclaimedMessages.size());
+        assertEquals(messageId, reclaimedMessages.get(0).messageId());
+        assertEquals(1, reclaimedMessages.get(0).retryCount());
+    }
+
+    @Test
+    void should_claim_head_message_of_each_case_up_to_the_limit() {
+        IntStream.range(0, 3).forEach(caseIndex -> IntStream.range(0, 2).forEach(eventIndex -> {
+            CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+            caseEventMessageEntity.setMessageId("messageId_" + caseIndex + "_" + eventIndex);
+            caseEventMessageEntity.setCaseId("caseId_" + caseIndex);
+            caseEventMessageEntity.setEventTimestamp(LocalDateTime.now().minusMinutes(10 - eventIndex));
+            caseEventMessageEntity.setState(MessageState.READY);
+            caseEventMessageRepository.save(caseEventMessageEntity);
+        }));
+
+        final List<ClaimedMessage> limitedClaim = claimNextMessages(2);
+        assertEquals(2, limitedClaim.size());
+
+        final List<ClaimedMessage> remainingClaim = claimNextMessages(10);
+        assertEquals(1, remainingClaim.size());
+
+        List<String> claimedMessageIds = new ArrayList<>();
+        limitedClaim.forEach(msg -> claimedMessageIds.add(msg.messageId()));
+        remainingClaim.forEach(msg -> claimedMessageIds.add(msg.messageId()));
+        assertEquals(List.of("messageId_0_0", "messageId_1_0", "messageId_2_0"),
+                     claimedMessageIds.stream().sorted().toList());
+    }
+
+    @Test
+    void should_claim_next_message_of_case_once_head_message_is_processed() {
+        IntStream.range(0, 2).forEach(eventIndex -> {
+            CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+            caseEventMessageEntity.setMessageId("messageId_" + eventIndex);
+            caseEventMessageEntity.setCaseId("caseId");
+            caseEventMessageEntity.setEventTimestamp(LocalDateTime.now().minusMinutes(10 - eventIndex));
+            caseEventMessageEntity.setState(MessageState.READY);
+            caseEventMessageRepository.save(caseEventMessageEntity);
+        });
+
+        final List<ClaimedMessage> headClaim = claimNextMessages(10);
+        assertEquals(1, headClaim.size());
+        assertEquals("messageId_0", headClaim.get(0).messageId());
+
+        transactionTemplate.execute(status -> caseEventMessageRepository.updateMessageState(
+            MessageState.PROCESSED, List.of("messageId_0")));
+
+        final List<ClaimedMessage> nextClaim = claimNextMessages(10);
+        assertEquals(1, nextClaim.size());
+        assertEquals("messageId_1", nextClaim.get(0).messageId());
+    }
+
+    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            scripts = {"classpath:sql/insert_case_event_messages.sql"})
+    @Test
+    void should_not_claim_message_when_no_messages_match_query_criteria() {
+        final List<CaseEventMessageEntity> caseEventMessageEntities = caseEventMessageRepository.findByMessageId(
+            singletonList("MessageId_bc8299fc-5d31-45c7-b847-c2622014a85a"));
+        assertEquals(1, caseEventMessageEntities.size());
+
+        final CaseEventMessageEntity caseEventMessageEntity = caseEventMessageEntities.get(0);
+        assertEquals(MessageState.READY, caseEventMessageEntity.getState());
+        caseEventMessageEntity.setState(MessageState.PROCESSED);
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        assertNull(claimNextMessage());
+    }
+
+    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            scripts = {"classpath:sql/insert_case_event_messages.sql"})
+    @Test
+    @DisplayName("Should not claim any messages when current timestamp is before the hold_until property")
+    void should_not_claim_message_when_no_messages_match_hold_until_query_criteria() {
+        final List<CaseEventMessageEntity> caseEventMessageEntities = caseEventMessageRepository.findByMessageId(
+            singletonList("MessageId_bc8299fc-5d31-45c7-b847-c2622014a85a"));
+        assertEquals(1, caseEventMessageEntities.size());
+
+        final CaseEventMessageEntity caseEventMessageEntity = caseEventMessageEntities.get(0);
+        assertEquals(MessageState.READY, caseEventMessageEntity.getState());
+        caseEventMessageEntity.setHoldUntil(LocalDateTime.now().plusDays(2));
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        assertNull(claimNextMessage());
+    }
+
+    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            scripts = {"classpath:sql/insert_case_event_messages.sql"})
+    @Test
+    @DisplayName("Should claim message when current timestamp is after the hold_until property")
+    void should_claim_message_when_messages_match_hold_until_query_criteria() {
+        final List<CaseEventMessageEntity> caseEventMessageEntities = caseEventMessageRepository.findByMessageId(
+            singletonList(MESSAGE_ID));
+        assertEquals(1, caseEventMessageEntities.size());
+
+        final CaseEventMessageEntity caseEventMessageEntity = caseEventMessageEntities.get(0);
+        assertEquals(MessageState.NEW, caseEventMessageEntity.getState());
+        caseEventMessageEntity.setState(MessageState.READY);
+        caseEventMessageEntity.setCaseId("293e1db4-dfd7-433d-902c-39470386a32c");
+        caseEventMessageEntity.setHoldUntil(LocalDateTime.now().minusMinutes(1));
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        final ClaimedMessage claimedMessage = claimNextMessage();
+        assertNotNull(claimedMessage);
+        assertEquals(MESSAGE_ID, claimedMessage.messageId());
+    }
+
+    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            scripts = {"classpath:sql/insert_case_event_messages_from_dlq.sql"})
+    @Test
+    void should_claim_dlq_message_where_other_processed_or_ready_messages_exist_with_timestamp_later_than_30mins() {
+        final ClaimedMessage claimedMessage = claimNextMessage();
+
+        assertNotNull(claimedMessage);
+        assertEquals("MessageId_bc8299fc-5d31-45c7-b847-c2622014a85a", claimedMessage.messageId());
+    }
+
+    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            scripts = {"classpath:sql/insert_case_event_messages_from_dlq.sql"})
+    @Test
+    void should_not_claim_where_other_processed_or_ready_messages_exist_with_timestamp_earlier_than_30mins() {
+        final List<CaseEventMessageEntity> caseEventMessageEntities =
+            caseEventMessageRepository.findByMessageId(singletonList("MessageId_37f7a172-79e6-11ec-90d6-0242ac120003"));
+
+        assertEquals(1, caseEventMessageEntities.size());
+        final CaseEventMessageEntity caseEventMessageEntity = caseEventMessageEntities.get(0);
+
+        final LocalDateTime eventTimestamp = caseEventMessageEntity.getEventTimestamp();
+        caseEventMessageEntity.setEventTimestamp(eventTimestamp.minusHours(3).minusMinutes(40));
+        caseEventMessageRepository.save(caseEventMessageEntity);
+
+        assertNull(claimNextMessage());
+    }
+
+    @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+            scripts = {"classpath:sql/insert_case_event_messages_from_dlq.sql"})
+    @Test
+    void should_not_claim_where_no_messages_from_dlq_with_same_case_id_exist() {
+        changeCaseIdAndSetFromDlq("MessageId_6cecf982-6b9e-4cc3-a8f5-d04b1385c258", "unknownCase");
+        changeCaseIdAndSetFromDlq("MessageId_37f7a172-79e6-11ec-90d6-0242ac120003", "unknownCase1");
+
+        assertNull(claimNextMessage());
+    }
+
+    private void changeCaseIdAndSetFromDlq(String caseEventMessageId, String newCaseIdValue) {
+        final List<CaseEventMessageEntity> caseEventMessageEntities =
+                caseEventMessageRepository.findByMessageId(singletonList(caseEventMessageId));
+
+        assertEquals(1, caseEventMessageEntities.size());
+        final CaseEventMessageEntity caseEventMessageEntity = caseEventMessageEntities.get(0);
+
+        caseEventMessageEntity.setCaseId(newCaseIdValue);
+        caseEventMessageEntity.setFromDlq(true);
+        caseEventMessageRepository.save(caseEventMessageEntity);
+    }
+
+    private ClaimedMessage claimNextMessage() {
+        List<ClaimedMessage> claimedMessages = claimNextMessages(1);
+        return claimedMessages.isEmpty() ? null : claimedMessages.get(0);
+    }
+
+    private List<ClaimedMessage> claimNextMessages(int limit) {
+        return transactionTemplate.execute(status ->
+            claimedMessageRepository.claimNextMessagesReadyToProcess(limit, 300));
+    }
+}
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates.HolidayRefresher;
+
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("db")
+class HolidayDateRepositoryTest {
+
+    private static final LocalDate BOXING_DAY = LocalDate.of(2026, 12, 28);
+    private static final LocalDate CHRISTMAS_DAY = LocalDate.of(2026, 12, 25);
+    private static final LocalDate NEW_YEARS_DAY = LocalDate.of(2027, 1, 1);
+
+    @Autowired
+    private HolidayDateRepository holidayDateRepository;
+
+    @Autowired
+    protected DataSource db;
+
+    // keeps the refresh from gov.uk from storing holiday dates while the tests run
+    @MockBean
+    private HolidayRefresher holidayRefresher;
+
+    @AfterEach
+    void clearDownData() {
+        new JdbcTemplate(db).execute("TRUNCATE TABLE WA_HOLIDAY_DATES");
+    }
+
+    @Test
+    void should_find_stored_holiday_dates_in_order() {
+        holidayDateRepository.replaceHolidayDates(List.of(BOXING_DAY, CHRISTMAS_DAY, CHRISTMAS_DAY));
+
+        assertEquals(List.of(CHRISTMAS_DAY, BOXING_DAY), holidayDateRepository.findHolidayDates());
+    }
+
+    @Test
+    void should_replace_stored_holiday_dates_as_a_whole() {
+        holidayDateRepository.replaceHolidayDates(List.of(CHRISTMAS_DAY, BOXING_DAY));
+        holidayDateRepository.replaceHolidayDates(List.of(CHRISTMAS_DAY, NEW_YEARS_DAY));
+
+        assertEquals(List.of(CHRISTMAS_DAY, NEW_YEARS_DAY), holidayDateRepository.findHolidayDates());
+    }
+
+    @Test
+    void should_find_no_holiday_dates_when_none_are_stored() {
+        assertEquals(List.of(), holidayDateRepository.findHolidayDates());
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.MessageContentCompressionRepository.CompressedBatch;
+
+import java.util.List;
+import javax.sql.DataSource;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createCaseEventMessageEntity;
+
+@SpringBootTest
+@ActiveProfiles("db")
+class MessageContentCompressionRepositoryTest {
+
+    @Autowired
+    private MessageContentCompressionRepository messageContentCompressionRepository;
+
+    @Autowired
+    private CaseEventMessageRepository caseEventMessageRepository;
+
+    @Autowired
+    protected DataSource db;
+
+    @AfterEach
+    void clearDownData() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(db);
+
+        String truncateTablesQuery =
+            "START TRANSACTION;"
+                + "TRUNCATE TABLE WA_CASE_EVENT_MESSAGES CASCADE;"
+                + "COMMIT;";
+        jdbcTemplate.execute(truncateTablesQuery);
+
+        jdbcTemplate.execute("ALTER SEQUENCE WA_CASE_EVENT_MESSAGES_SEQUENCE_SEQ RESTART WITH 1");
+    }
+
+    @Test
+    void should_compress_message_content_of_messages_no_longer_processed_in_batches() {
+        CaseEventMessageEntity first = saveMessage(MessageState.PROCESSED);
+        CaseEventMessageEntity second = saveMessage(MessageState.UNPROCESSABLE);
+        CaseEventMessageEntity ready = saveMessage(MessageState.READY);
+
+        CompressedBatch firstBatch = messageContentCompressionRepository.compressMessageContent(0, 1);
+        assertEquals(1, firstBatch.messages());
+        assertEquals(first.getSequence(), firstBatch.lastSequence());
+        assertEquals(first.getMessageContent().getBytes(UTF_8).length, firstBatch.messageContentBytes());
+
+        CompressedBatch secondBatch =
+            messageContentCompressionRepository.compressMessageContent(firstBatch.lastSequence(), 1);
+        assertEquals(1, secondBatch.messages());
+        assertEquals(second.getSequence(), secondBatch.lastSequence());
+
+        CompressedBatch lastBatch =
+            messageContentCompressionRepository.compressMessageContent(secondBatch.lastSequence(), 1);
+        assertEquals(0, lastBatch.messages());
+        assertEquals(secondBatch.lastSequence(), lastBatch.lastSequence());
+
+        assertCompressed(first, true);
+        assertCompressed(second, true);
+        assertCompressed(ready, false);
+    }
+
+    private CaseEventMessageEntity saveMessage(MessageState state) {
+        CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
+        caseEventMessageEntity.setState(state);
+        return caseEventMessageRepository.save(caseEventMessageEntity);
+    }
+
+    private void assertCompressed(CaseEventMessageEntity message, boolean compressed) {
+        List<CaseEventMessageEntity> storedMessages =
+            caseEventMessageRepository.findByMessageId(singletonList(message.getMessageId()));
+        CaseEventMessageEntity storedMessage = storedMessages.get(0);
+        assertEquals(message.getMessageContent(), storedMessage.getMessageContent());
+        assertEquals(compressed, storedMessage.isMessageContentCompressed());
+    }
+}
@@ -8,21 +8,28 @@ import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ProblemMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class CaseEventMessageMapperTest {
     private static final LocalDateTime EVENT_TIME_STAMP = LocalDateTime.now();
     private static final LocalDateTime RECEIVED = LocalDateTime.now();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CaseEventMessageDefinitionRepository definitionRepository =
+        mock(CaseEventMessageDefinitionRepository.class);
     private CaseEventMessageMapper mapper;
 
     @BeforeEach
     void setUp() {
-        mapper = new CaseEventMessageMapper(objectMapper);
+        mapper = new CaseEventMessageMapper(objectMapper, new CaseEventMessageParser(objectMapper),
+                                            definitionRepository);
     }
 
     @Test
@@ -59,6 +66,33 @@ class CaseEventMessageMapperTest {
         assertEquals(entity.getRetryCount(), message.getRetryCount());
     }
 
+    @Test
+    void should_map_entity_with_its_externalised_definition() throws Exception {
+        CaseEventMessageEntity entity = new CaseEventMessageEntity();
+        entity.setMessageContent(
+            "{\"CaseId\":\"12345\",\"AdditionalData\":{\"Data\":{\"appealType\":\"protection\"}}}");
+        entity.setDefinitionHash("definitionHash");
+        when(definitionRepository.findDefinition("definitionHash"))
+            .thenReturn(Optional.of("{\"appealType\":{\"type\":\"FixedRadioList\"}}"));
+
+        CaseEventMessage message = mapper.mapToCaseEventMessage(entity);
+
+        assertEquals(objectMapper.readTree("{\"CaseId\":\"12345\",\"AdditionalData\":{"
+                                           + "\"Data\":{\"appealType\":\"protection\"},"
+                                           + "\"Definition\":{\"appealType\":{\"type\":\"FixedRadioList\"}}}}"),
+                     objectMapper.readTree(message.getMessageContent()));
+    }
+
+    @Test
+    void should_map_entity_content_as_stored_when_definition_is_missing() {
+        CaseEventMessageEntity entity = new CaseEventMessageEntity();
+        entity.setMessageContent("{\"CaseId\":\"12345\",\"AdditionalData\":{\"Data\":{}}}");
+        entity.setDefinitionHash("definitionHash");
+        when(definitionRepository.findDefinition("definitionHash")).thenReturn(Optional.empty());
+
+        assertEquals(entity.getMessageContent(), mapper.mapToCaseEventMessage(entity).getMessageContent());
+    }
+
     @Test
     void should_map_null_entity() {
         assertNull(mapper.mapToCaseEventMessage(null));
@@ -103,6 +137,17 @@ class CaseEventMessageMapperTest {
         assertNull(mapper.mapToProblemMessage(null));
     }
 
+    @Test
+    void should_use_stored_case_type_id_without_reading_messageContent() {
+        CaseEventMessageEntity entity = new CaseEventMessageEntity();
+        entity.setCaseTypeId("Asylum");
+        entity.setMessageContent("TestMessage");
+
+        String caseTypeId = mapper.mapToProblemMessage(entity).getCaseTypeId();
+
+        assertEquals("Asylum", caseTypeId);
+    }
+
     @Test
     void should_return_null_when_messageContent_is_null() {
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
@@ -0,0 +1,195 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser.ParsedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser.StrippedMessage;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CaseEventMessageParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final CaseEventMessageParser caseEventMessageParser = new CaseEventMessageParser(objectMapper);
+
+    @Test
+    void should_extract_fields_and_skip_additional_data() throws JsonProcessingException {
+        String message = """
+            {
+              "EventInstanceId": "some event instance Id",
+              "EventTimeStamp": "2022-01-04T12:41:16.162368",
+              "CaseId": "6761-0650-5813-1570",
+              "JurisdictionId": "IA",
+              "CaseTypeId": "Asylum",
+              "EventId": "submitAppeal",
+              "UserId": "some user Id",
+              "AdditionalData": {
+                "Data": {"lastModifiedDirection": {"uniqueId": "", "dateDue": ""}, "appealType": "protection"},
+                "Definition": null
+              },
+              "MessageProperties": {"property1": "test1", "property2": 2},
+              "HoldUntil": "2022-01-05T10:00:00"
+            }""";
+
+        ParsedMessage parsedMessage = caseEventMessageParser.parse(message);
+
+        assertEquals("6761-0650-5813-1570", parsedMessage.caseId());
+        assertEquals(LocalDateTime.of(2022, 1, 4, 12, 41, 16, 162_368_000), parsedMessage.eventTimestamp());
+        assertEquals(objectMapper.readTree("{\"property1\":\"test1\",\"property2\":\"2\"}"),
+                     parsedMessage.messageProperties());
+        assertEquals(LocalDateTime.of(2022, 1, 5, 10, 0), parsedMessage.holdUntil());
+        assertEquals(new EventColumns("IA", "Asylum", "submitAppeal", "some event instance Id", null, null,
+                                      "some user Id"),
+                     parsedMessage.eventColumns());
+    }
+
+    @Test
+    void should_read_additional_data_only() throws JsonProcessingException {
+        String message = """
+            {
+              "CaseId": "6761-0650-5813-1570",
+              "MessageProperties": {"property1": "test1"},
+              "AdditionalData": {
+                "Data": {"appealType": "protection"},
+                "Definition": null
+              },
+              "JurisdictionId": "IA"
+            }""";
+
+        AdditionalData additionalData = caseEventMessageParser.parseAdditionalData(message);
+
+        assertEquals(Map.of("appealType", "protection"), additionalData.getData());
+        assertNull(additionalData.getDefinition());
+    }
+
+    @Test
+    void should_parse_and_strip_definition_from_message_in_one_pass() throws JsonProcessingException {
+        String message = """
+            {
+              "CaseId": "6761-0650-5813-1570",
+              "EventTimeStamp": "2022-01-04T12:41:16.162368",
+              "AdditionalData": {
+                "Data": {"appealType": "protection"},
+                "Definition": {"appealType": {"type": "FixedRadioList", "typeDef": null}}
+              },
+              "MessageProperties": {"property1": "test1"},
+              "JurisdictionId": "IA",
+              "CaseTypeId": "Asylum"
+            }""";
+
+        StrippedMessage strippedMessage = caseEventMessageParser.parseAndStripDefinition(message);
+
+        assertEquals(caseEventMessageParser.parse(message), strippedMessage.parsedMessage());
+        assertEquals(objectMapper.readTree(
+                         "{\"CaseId\":\"6761-0650-5813-1570\","
+                         + "\"EventTimeStamp\":\"2022-01-04T12:41:16.162368\","
+                         + "\"AdditionalData\":{\"Data\":{\"appealType\":\"protection\"}},"
+                         + "\"MessageProperties\":{\"property1\":\"test1\"},"
+                         + "\"JurisdictionId\":\"IA\",\"CaseTypeId\":\"Asylum\"}"),
+                     objectMapper.readTree(strippedMessage.messageContent()));
+        assertEquals("{\"appealType\":{\"type\":\"FixedRadioList\",\"typeDef\":null}}", strippedMessage.definition());
+        assertEquals(64, strippedMessage.definitionHash().length());
+        String otherMessage = message.replace("protection", "refusalOfHumanRights");
+        assertEquals(strippedMessage.definitionHash(),
+                     caseEventMessageParser.parseAndStripDefinition(otherMessage).definitionHash());
+    }
+
+    @Test
+    void should_restore_stripped_definition() throws JsonProcessingException {
+        String message = """
+            {
+              "CaseId": "6761-0650-5813-1570",
+              "AdditionalData": {
+                "Data": {"appealType": "protection"},
+                "Definition": {"appealType": {"type": "FixedRadioList", "typeDef": null}}
+              },
+              "JurisdictionId": "IA",
+              "CaseTypeId": "Asylum"
+            }""";
+        StrippedMessage strippedMessage = caseEventMessageParser.parseAndStripDefinition(message);
+
+        String restoredMessage = caseEventMessageParser.restoreDefinition(
+            strippedMessage.messageContent(), strippedMessage.definition());
+
+        assertEquals(objectMapper.readTree(message), objectMapper.readTree(restoredMessage));
+    }
+
+    @Test
+    void should_not_restore_definition_of_message_without_additional_data() throws JsonProcessingException {
+        String message = "{\"CaseId\":\"123\",\"AdditionalData\":null}";
+
+        assertEquals(message, caseEventMessageParser.restoreDefinition(message, "{\"appealType\":{}}"));
+    }
+
+    @Test
+    void should_keep_message_without_definition() throws JsonProcessingException {
+        String message = "{\"CaseId\":\"123\",\"JurisdictionId\":\"IA\",\"CaseTypeId\":\"Asylum\","
+            + "\"AdditionalData\":{\"Data\":{},\"Definition\":null}}";
+
+        assertEquals(new StrippedMessage(caseEventMessageParser.parse(message), message, null, null),
+                     caseEventMessageParser.parseAndStripDefinition(message));
+    }
+
+    @Test
+    void should_return_no_additional_data_when_absent() throws JsonProcessingException {
+        assertNull(caseEventMessageParser.parseAdditionalData("{\"CaseId\":\"123\",\"AdditionalData\":null}"));
+        assertNull(caseEventMessageParser.parseAdditionalData("{\"CaseId\":\"123\"}"));
+        assertThrows(JsonProcessingException.class, () -> caseEventMessageParser.parseAdditionalData("TestMessage"));
+    }
+
+    @Test
+    void should_read_event_timestamp_written_as_array() throws JsonProcessingException {
+        String message = "{\"EventTimeStamp\":[2022,1,4,12,41,16,162368000],\"CaseId\":\"6761-0650-5813-1570\","
+                         + "\"JurisdictionId\":\"ia\",\"CaseTypeId\":\"asylum\"}";
+
+        ParsedMessage parsedMessage = caseEventMessageParser.parse(message);
+
+        assertEquals(LocalDateTime.of(2022, 1, 4, 12, 41, 16, 162_368_000), parsedMessage.eventTimestamp());
+        assertEquals(NullNode.getInstance(), parsedMessage.messageProperties());
+        assertNull(parsedMessage.holdUntil());
+    }
+
+    @Test
+    void should_leave_missing_case_id_and_event_timestamp_empty() throws JsonProcessingException {
+        ParsedMessage parsedMessage =
+            caseEventMessageParser.parse("{\"JurisdictionId\":\"ia\",\"CaseTypeId\":\"asylum\",\"CaseId\":null}");
+
+        assertNull(parsedMessage.caseId());
+        assertNull(parsedMessage.eventTimestamp());
+    }
+
+    @Test
+    void should_reject_message_without_jurisdiction_or_case_type() {
+        assertThrows(JsonProcessingException.class,
+            () -> caseEventMessageParser.parse("{\"CaseId\":\"123\",\"CaseTypeId\":\"asylum\"}"));
+        assertThrows(JsonProcessingException.class,
+            () -> caseEventMessageParser.parse("{\"CaseId\":\"123\",\"JurisdictionId\":\"ia\"}"));
+    }
+
+    @Test
+    void should_reject_message_that_is_not_a_json_object() {
+        assertThrows(JsonProcessingException.class, () -> caseEventMessageParser.parse("TestMessage"));
+        assertThrows(JsonProcessingException.class, () -> caseEventMessageParser.parse("[]"));
+        assertThrows(JsonProcessingException.class, () -> caseEventMessageParser.parse("{\"CaseId\":"));
+    }
+
+    @Test
+    void should_reject_message_with_invalid_field_values() {
+        assertThrows(JsonProcessingException.class, () -> caseEventMessageParser.parse(
+            "{\"CaseId\":{\"id\":\"123\"},\"JurisdictionId\":\"ia\",\"CaseTypeId\":\"asylum\"}"));
+        assertThrows(JsonProcessingException.class, () -> caseEventMessageParser.parse(
+            "{\"EventTimeStamp\":\"yesterday\",\"JurisdictionId\":\"ia\",\"CaseTypeId\":\"asylum\"}"));
+        assertThrows(JsonProcessingException.class, () -> caseEventMessageParser.parse(
+            "{\"MessageProperties\":{\"nested\":{}},\"JurisdictionId\":\"ia\",\"CaseTypeId\":\"asylum\"}"));
+    }
+}
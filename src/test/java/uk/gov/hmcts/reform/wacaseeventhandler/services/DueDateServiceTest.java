@@ -9,18 +9,18 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates.HolidayService;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.when;
 
 @SuppressWarnings("PMD.JUnitAssertionsShouldIncludeMessage")
 class DueDateServiceTest {
@@ -30,9 +30,7 @@ class DueDateServiceTest {
 
     @BeforeEach
     void setUp() {
-        holidayService = mock(HolidayService.class);
-        when(holidayService.isWeekend(any(ZonedDateTime.class))).thenCallRealMethod();
-        underTest = new DueDateService(holidayService);
+        withHolidays();
     }
 
     @Test
@@ -90,8 +88,7 @@ class DueDateServiceTest {
 
     @Test
     void calculateDueDateWhichFallsOnAHoliday() {
-        when(holidayService.isHoliday(ZonedDateTime.of(2020, 9, 3, 16, 0, 0, 0, ZoneId.systemDefault())))
-            .thenReturn(true);
+        withHolidays(LocalDate.of(2020, 9, 3));
         checkWorkingDays(ZonedDateTime.of(2020, 9, 1, 16, 0, 0, 0, ZoneId.systemDefault()), 2,
             ZonedDateTime.of(2020, 9, 4, 16, 0, 0, 0, ZoneId.systemDefault())
         );
@@ -99,8 +96,7 @@ class DueDateServiceTest {
 
     @Test
     void calculateDueDateWhichStraddlesAHoliday() {
-        when(holidayService.isHoliday(ZonedDateTime.of(2020, 9, 1, 16, 0, 0, 0, ZoneId.systemDefault()).plusDays(1)))
-            .thenReturn(true);
+        withHolidays(LocalDate.of(2020, 9, 2));
         checkWorkingDays(ZonedDateTime.of(2020, 9, 1, 16, 0, 0, 0, ZoneId.systemDefault()), 2,
             ZonedDateTime.of(2020, 9, 4, 16, 0, 0, 0, ZoneId.systemDefault())
         );
@@ -157,22 +153,40 @@ class DueDateServiceTest {
     }
 
     @Test
-    void should_return_event_date_when_add_working_days_for_delay_duration_is_0() throws Exception {
-        ZonedDateTime eventDate = ZonedDateTime.of(2022, 7, 1, 9, 0, 0, 0, ZoneId.systemDefault());
-
-        var method = DueDateService.class.getDeclaredMethod(
-            "addWorkingDaysForDelayDuration",
-            ZonedDateTime.class,
-            int.class
-        );
-        method.setAccessible(true);
+    void should_not_call_holiday_service_when_working_days_allowed_is_0() {
+        ZonedDateTime delayUntil = ZonedDateTime.of(2022, 7, 2, 9, 0, 0, 0, ZoneId.systemDefault());
 
-        ZonedDateTime actual = (ZonedDateTime) method.invoke(underTest, eventDate, 0);
+        ZonedDateTime actual = underTest.calculateDueDate(delayUntil, 0);
 
-        assertEquals(eventDate, actual);
+        assertEquals(ZonedDateTime.of(2022, 7, 2, 16, 0, 0, 0, ZoneId.systemDefault()), actual);
         verifyNoInteractions(holidayService);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20, 60, 250, 365})
+    void should_add_working_days_like_stepping_one_day_at_a_time(int workingDaysAllowed) {
+        withHolidays(
+            LocalDate.of(2022, 8, 29),
+            LocalDate.of(2022, 12, 26),
+            LocalDate.of(2022, 12, 27),
+            LocalDate.of(2023, 1, 2),
+            LocalDate.of(2023, 4, 7),
+            LocalDate.of(2023, 4, 10)
+        );
+        ZonedDateTime delayUntil = ZonedDateTime.of(2022, 8, 25, 9, 0, 0, 0, ZoneId.systemDefault());
+
+        ZonedDateTime expected = delayUntil;
+        int remaining = workingDaysAllowed;
+        while (remaining > 0) {
+            expected = expected.plusDays(1);
+            if (!holidayService.isWeekend(expected) && !holidayService.isHoliday(expected)) {
+                remaining--;
+            }
+        }
+
+        assertEquals(expected.withHour(16), underTest.calculateDueDate(delayUntil, workingDaysAllowed));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 2, 3})
     void should_return_next_working_day_when_event_date_is_friday_and_has_delay_duration(int delayDuration) {
@@ -193,8 +207,7 @@ class DueDateServiceTest {
     void should_return_next_working_day_when_event_date_plus_delay_duration_matches_holiday(int delayDuration) {
         ZonedDateTime eventDate = ZonedDateTime.of(2022, 8, 26, 9, 0, 0, 0, ZoneId.systemDefault());
 
-        when(holidayService.isHoliday(eventDate.plusDays(3)))
-            .thenReturn(true);
+        withHolidays(eventDate.plusDays(3).toLocalDate());
 
         ZonedDateTime expectedDelayUntilDate = ZonedDateTime.of(2022, 8, 30, 16, 0, 0, 0, ZoneId.systemDefault())
             .plusDays(delayDuration - 1L);
@@ -208,9 +221,7 @@ class DueDateServiceTest {
     void should_skip_weekend_and_holiday_when_calculating_delay_duration() {
         ZonedDateTime eventDate = ZonedDateTime.of(2022, 8, 25, 9, 0, 0, 0, ZoneId.systemDefault());
 
-        when(holidayService.isHoliday(any(ZonedDateTime.class))).thenReturn(false);
-        when(holidayService.isHoliday(ZonedDateTime.of(2022, 8, 29, 9, 0, 0, 0, ZoneId.systemDefault())))
-            .thenReturn(true);
+        withHolidays(LocalDate.of(2022, 8, 29));
 
         ZonedDateTime expectedDelayUntilDate = ZonedDateTime.of(2022, 8, 31, 16, 0, 0, 0, ZoneId.systemDefault());
 
@@ -219,6 +230,11 @@ class DueDateServiceTest {
         assertEquals(expectedDelayUntilDate, actualDelayUntilDate);
     }
 
+    private void withHolidays(LocalDate... holidays) {
+        holidayService = spy(new HolidayService(List.of(holidays)));
+        underTest = new DueDateService(holidayService);
+    }
+
     private void checkWorkingDays(ZonedDateTime startDay, int leadTimeDays, ZonedDateTime expectedDueDate) {
         ZonedDateTime calculatedDueDate = underTest.calculateDueDate(startDay, leadTimeDays);
 
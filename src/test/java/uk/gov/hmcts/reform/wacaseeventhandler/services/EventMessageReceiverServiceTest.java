@@ -18,14 +18,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformationMetadata;
-import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformationRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ReceivedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 import uk.gov.hmcts.reform.wacaseeventhandler.exceptions.CaseEventMessageDuplicateMessageIdException;
 import uk.gov.hmcts.reform.wacaseeventhandler.exceptions.CaseEventMessageNotFoundException;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageBatchRepository;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser.ParsedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser.StrippedMessage;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -45,6 +49,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -70,14 +75,24 @@ class EventMessageReceiverServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private CaseEventMessageParser caseEventMessageParser;
+
     @Mock
     private JsonProcessingException jsonProcessingException;
 
     @Mock
     private CaseEventMessageRepository caseEventMessageRepository;
 
+    @Mock
+    private CaseEventMessageBatchRepository caseEventMessageBatchRepository;
+
+    @Mock
+    private CaseEventMessageDefinitionRepository caseEventMessageDefinitionRepository;
+
     @Spy
-    private CaseEventMessageMapper caseEventMessageMapper = new CaseEventMessageMapper(objectMapper);
+    private CaseEventMessageMapper caseEventMessageMapper = new CaseEventMessageMapper(
+        objectMapper, caseEventMessageParser, caseEventMessageDefinitionRepository);
 
     @Captor
     private ArgumentCaptor<CaseEventMessageEntity> caseEventMessageEntityCaptor;
@@ -94,17 +109,19 @@ class EventMessageReceiverServiceTest {
 
         logger.addAppender(listAppender);
 
-        eventMessageReceiverService = new EventMessageReceiverService(objectMapper,
+        eventMessageReceiverService = new EventMessageReceiverService(caseEventMessageParser,
             caseEventMessageRepository,
-            caseEventMessageMapper);
+            caseEventMessageMapper,
+            caseEventMessageBatchRepository,
+            caseEventMessageDefinitionRepository,
+            false,
+            false);
     }
 
     @Test
     void should_handle_message_when_valid_message_received() throws JsonProcessingException {
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformation());
-        mockMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformation()));
 
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.save(any())).thenReturn(entity);
@@ -116,11 +133,68 @@ class EventMessageReceiverServiceTest {
 
         assertFalse(caseEventMessageEntityCaptor.getValue().getFromDlq());
         assertEquals(MessageState.NEW, caseEventMessageEntityCaptor.getValue().getState());
+        assertEquals(getMessagesPropertyAsJson(), caseEventMessageEntityCaptor.getValue().getMessageProperties());
+        assertEquals(JURISDICTION, caseEventMessageEntityCaptor.getValue().getJurisdictionId());
+        assertEquals(CASE_TYPE_ID, caseEventMessageEntityCaptor.getValue().getCaseTypeId());
+        assertEquals(USER_ID, caseEventMessageEntityCaptor.getValue().getUserId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_store_message_content_compressed_when_compression_enabled() throws JsonProcessingException {
+        eventMessageReceiverService = new EventMessageReceiverService(caseEventMessageParser,
+            caseEventMessageRepository,
+            caseEventMessageMapper,
+            caseEventMessageBatchRepository,
+            caseEventMessageDefinitionRepository,
+            true,
+            false);
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformation()));
+
+        eventMessageReceiverService.handleCcdCaseEventAsbMessages(List.of(
+            new ReceivedMessage(MESSAGE_ID, SESSION_ID, MESSAGE)
+        ));
+
+        ArgumentCaptor<List<CaseEventMessageEntity>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(caseEventMessageBatchRepository).upsertMessages(batchCaptor.capture());
+
+        CaseEventMessageEntity messageEntity = batchCaptor.getValue().get(0);
+        assertTrue(messageEntity.isMessageContentCompressed());
+        assertEquals(MESSAGE, messageEntity.getMessageContent());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_store_definition_once_apart_from_messages_when_externalised() throws JsonProcessingException {
+        eventMessageReceiverService = new EventMessageReceiverService(caseEventMessageParser,
+            caseEventMessageRepository,
+            caseEventMessageMapper,
+            caseEventMessageBatchRepository,
+            caseEventMessageDefinitionRepository,
+            false,
+            true);
+        when(caseEventMessageParser.parseAndStripDefinition(MESSAGE)).thenReturn(new StrippedMessage(
+            parsedMessage(getEventInformation()), "strippedMessage", "definitionHash", "definition"));
+
+        eventMessageReceiverService.handleCcdCaseEventAsbMessages(List.of(
+            new ReceivedMessage(MESSAGE_ID, SESSION_ID, MESSAGE),
+            new ReceivedMessage("otherMessageId", SESSION_ID, MESSAGE)
+        ));
+
+        verify(caseEventMessageParser, never()).parse(MESSAGE);
+        verify(caseEventMessageDefinitionRepository).saveDefinitions(Map.of("definitionHash", "definition"));
+        ArgumentCaptor<List<CaseEventMessageEntity>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(caseEventMessageBatchRepository).upsertMessages(batchCaptor.capture());
+
+        batchCaptor.getValue().forEach(messageEntity -> {
+            assertEquals("strippedMessage", messageEntity.getMessageContent());
+            assertEquals("definitionHash", messageEntity.getDefinitionHash());
+        });
     }
 
     @Test
     void should_handle_message_event_information_when_parsing_failed() throws JsonProcessingException {
-        when(objectMapper.readValue(MESSAGE, EventInformation.class)).thenThrow(jsonProcessingException);
+        when(caseEventMessageParser.parse(MESSAGE)).thenThrow(jsonProcessingException);
 
         eventMessageReceiverService.handleAsbMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
 
@@ -134,9 +208,7 @@ class EventMessageReceiverServiceTest {
     @Test
     void handle_message_event_message_properties_parsing_failed() throws JsonProcessingException {
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformation());
-        mockParsingExceptionWhenRetrievingMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE)).thenThrow(jsonProcessingException);
 
         eventMessageReceiverService.handleAsbMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
 
@@ -150,13 +222,11 @@ class EventMessageReceiverServiceTest {
     @Test
     void should_handle_message_when_invalid_message_received() throws JsonProcessingException {
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(EventInformation.builder()
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(EventInformation.builder()
                 .userId(USER_ID)
                 .jurisdictionId(JURISDICTION)
                 .caseTypeId(CASE_TYPE_ID)
-                .build());
-        mockMessageProperties();
+                .build()));
 
         eventMessageReceiverService.handleAsbMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
 
@@ -165,14 +235,51 @@ class EventMessageReceiverServiceTest {
         assertEquals(MessageState.UNPROCESSABLE, caseEventMessageEntityCaptor.getValue().getState());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_store_batch_of_messages_with_single_upsert() throws JsonProcessingException {
+        when(caseEventMessageParser.parse(MESSAGE))
+            .thenReturn(parsedMessage(getEventInformation()))
+            .thenThrow(jsonProcessingException);
+
+        eventMessageReceiverService.handleCcdCaseEventAsbMessages(List.of(
+            new ReceivedMessage(MESSAGE_ID, SESSION_ID, MESSAGE),
+            new ReceivedMessage("otherMessageId", SESSION_ID, MESSAGE)
+        ));
+
+        ArgumentCaptor<List<CaseEventMessageEntity>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(caseEventMessageBatchRepository).upsertMessages(batchCaptor.capture());
+        verifyNoInteractions(caseEventMessageRepository);
+
+        List<CaseEventMessageEntity> batch = batchCaptor.getValue();
+        assertEquals(2, batch.size());
+        assertEquals(MESSAGE_ID, batch.get(0).getMessageId());
+        assertEquals(MessageState.NEW, batch.get(0).getState());
+        assertFalse(batch.get(0).getFromDlq());
+        assertEquals("otherMessageId", batch.get(1).getMessageId());
+        assertEquals(MessageState.UNPROCESSABLE, batch.get(1).getState());
+        assertEquals(SESSION_ID, batch.get(1).getCaseId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_store_batch_of_dlq_messages_with_single_upsert() throws JsonProcessingException {
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformation()));
+
+        eventMessageReceiverService.handleDlqMessages(List.of(new ReceivedMessage(MESSAGE_ID, SESSION_ID, MESSAGE)));
+
+        ArgumentCaptor<List<CaseEventMessageEntity>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(caseEventMessageBatchRepository).upsertMessages(batchCaptor.capture());
+        assertTrue(batchCaptor.getValue().get(0).getFromDlq());
+        assertEquals(MessageState.NEW, batchCaptor.getValue().get(0).getState());
+    }
+
     @Test
     void should_upsert_valid_dlq_message() throws JsonProcessingException {
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.findByMessageId(singletonList(MESSAGE_ID))).thenReturn(List.of(entity));
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformation());
-        mockMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformation()));
 
         CaseEventMessage result = eventMessageReceiverService.upsertMessage(MESSAGE_ID, SESSION_ID, MESSAGE, true);
 
@@ -191,9 +298,8 @@ class EventMessageReceiverServiceTest {
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.findByMessageId(singletonList(MESSAGE_ID))).thenReturn(List.of(entity));
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformationWithMissingEventTimeStamp());
-        mockMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE))
+            .thenReturn(parsedMessage(getEventInformationWithMissingEventTimeStamp()));
 
         CaseEventMessage result = eventMessageReceiverService.upsertMessage(MESSAGE_ID, SESSION_ID, MESSAGE, true);
 
@@ -213,9 +319,7 @@ class EventMessageReceiverServiceTest {
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.findByMessageId(singletonList(MESSAGE_ID))).thenReturn(List.of(entity));
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformationWithMissingCaseId());
-        mockMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformationWithMissingCaseId()));
 
         CaseEventMessage result = eventMessageReceiverService.upsertMessage(MESSAGE_ID, SESSION_ID, MESSAGE, true);
 
@@ -232,9 +336,7 @@ class EventMessageReceiverServiceTest {
 
     @Test
     void should_upsert_invalid_dlq_message_with_missing_messageId() throws JsonProcessingException {
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformation());
-        mockMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformation()));
 
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.save(any())).thenReturn(entity);
@@ -251,9 +353,7 @@ class EventMessageReceiverServiceTest {
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.findByMessageId(singletonList(MESSAGE_ID))).thenReturn(List.of(entity));
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformation());
-        mockMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformation()));
 
         CaseEventMessage result = eventMessageReceiverService.upsertMessage(MESSAGE_ID, SESSION_ID, MESSAGE, null);
 
@@ -273,8 +373,7 @@ class EventMessageReceiverServiceTest {
 
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.findByMessageId(singletonList(MESSAGE_ID))).thenReturn(List.of(entity));
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenThrow(jsonProcessingException);
+        when(caseEventMessageParser.parse(MESSAGE)).thenThrow(jsonProcessingException);
 
         CaseEventMessage result = eventMessageReceiverService.upsertMessage(MESSAGE_ID, SESSION_ID, MESSAGE, false);
 
@@ -298,9 +397,7 @@ class EventMessageReceiverServiceTest {
     void should_upsert_valid_dlq_message_when_no_message_id_present() throws JsonProcessingException {
         when(caseEventMessageRepository.findByMessageId(singletonList(MESSAGE_ID))).thenReturn(List.of());
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformation());
-        mockMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformation()));
 
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.save(any())).thenReturn(entity);
@@ -316,8 +413,7 @@ class EventMessageReceiverServiceTest {
     @Test
     void should_handle_invalid_message_deserialization() throws JsonProcessingException {
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenThrow(jsonProcessingException);
+        when(caseEventMessageParser.parse(MESSAGE)).thenThrow(jsonProcessingException);
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         when(caseEventMessageRepository.save(any())).thenReturn(entity);
         eventMessageReceiverService.handleAsbMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
@@ -332,8 +428,7 @@ class EventMessageReceiverServiceTest {
     @Test
     void should_handle_message_when_message_parsing_fails() throws JsonProcessingException {
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenThrow(jsonProcessingException);
+        when(caseEventMessageParser.parse(MESSAGE)).thenThrow(jsonProcessingException);
 
         eventMessageReceiverService.handleAsbMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
 
@@ -349,16 +444,14 @@ class EventMessageReceiverServiceTest {
     @Test
     void should_handle_message_when_data_integrity_violation_occurs() throws JsonProcessingException {
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(EventInformation.builder()
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(EventInformation.builder()
                 .userId(USER_ID)
                 .jurisdictionId(JURISDICTION)
                 .caseTypeId(CASE_TYPE_ID)
-                .build());
+                .build()));
 
         doThrow(new DataIntegrityViolationException("Exception message"))
             .when(caseEventMessageRepository).save(any(CaseEventMessageEntity.class));
-        mockMessageProperties();
 
         final CaseEventMessageDuplicateMessageIdException caseEventMessageDuplicateMessageIdException =
             assertThrows(CaseEventMessageDuplicateMessageIdException.class,
@@ -376,15 +469,13 @@ class EventMessageReceiverServiceTest {
     void should_handle_dlq_message_when_feature_flag_enabled_and_valid_message_received()
         throws JsonProcessingException {
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(EventInformation.builder()
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(EventInformation.builder()
                 .userId(USER_ID)
                 .jurisdictionId(JURISDICTION)
                 .caseTypeId(CASE_TYPE_ID)
                 .caseId("CASEID")
                 .eventTimeStamp(LocalDateTime.now())
-                .build());
-        mockMessageProperties();
+                .build()));
 
         eventMessageReceiverService.handleDlqMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
 
@@ -397,14 +488,12 @@ class EventMessageReceiverServiceTest {
     void should_handle_dlq_case_event_asb_message_when_feature_flag_enabled_and_invalid_message_received()
         throws JsonProcessingException {
 
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(EventInformation
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(EventInformation
                 .builder()
                 .userId(USER_ID)
                 .jurisdictionId(JURISDICTION)
                 .caseTypeId("CASEID")
-                .build());
-        mockMessageProperties();
+                .build()));
         eventMessageReceiverService.handleDlqMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
 
         verify(caseEventMessageRepository).findByMessageId(singletonList(MESSAGE_ID));
@@ -418,24 +507,21 @@ class EventMessageReceiverServiceTest {
         final NullPointerException nullPointerException = assertThrows(NullPointerException.class, () ->
             eventMessageReceiverService.handleDlqMessage(MESSAGE_ID, SESSION_ID, MESSAGE_WITHOUT_USER));
 
-        assertThat(nullPointerException.getMessage(), containsString("because \"eventInformation\" is null"));
+        assertThat(nullPointerException.getMessage(), containsString("because \"parsedMessage\" is null"));
         verifyNoInteractions(caseEventMessageRepository);
     }
 
     @Test
     void should_handle_ccd_case_event_asb_message_when_feature_flag_enabled_and_valid_message_received()
         throws JsonProcessingException {
-
-        mockMessageProperties();
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(EventInformation
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(EventInformation
                 .builder()
                 .userId(USER_ID)
                 .jurisdictionId(JURISDICTION)
                 .caseTypeId("CASEID")
                 .caseId("CASEID")
                 .eventTimeStamp(LocalDateTime.now())
-                .build());
+                .build()));
 
         eventMessageReceiverService.handleCcdCaseEventAsbMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
 
@@ -447,15 +533,12 @@ class EventMessageReceiverServiceTest {
     @Test
     void should_handle_ccd_case_event_asb_message_when_feature_flag_enabled_and_invalid_message_received()
         throws JsonProcessingException {
-
-        mockMessageProperties();
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(EventInformation
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(EventInformation
                 .builder()
                 .userId(USER_ID)
                 .jurisdictionId(JURISDICTION)
                 .caseTypeId("CASEID")
-                .build());
+                .build()));
 
         eventMessageReceiverService.handleCcdCaseEventAsbMessage(MESSAGE_ID, SESSION_ID, MESSAGE);
 
@@ -472,17 +555,14 @@ class EventMessageReceiverServiceTest {
         entity.setMessageId(MESSAGE_ID);
         entity.setDeliveryCount(1);
         entity.setState(MessageState.READY);
-
-        mockMessageProperties();
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(EventInformation
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(EventInformation
                 .builder()
                 .userId(USER_ID)
                 .jurisdictionId(JURISDICTION)
                 .caseTypeId("CASEID")
                 .caseId("CASEID")
                 .eventTimeStamp(LocalDateTime.now())
-                .build());
+                .build()));
 
         when(caseEventMessageRepository.findByMessageId(singletonList(MESSAGE_ID))).thenReturn(List.of(entity));
 
@@ -502,17 +582,14 @@ class EventMessageReceiverServiceTest {
         entity.setDeliveryCount(1);
         entity.setState(MessageState.READY);
         entity.setMessageContent("Existing_Message");
-
-        mockMessageProperties();
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(EventInformation
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(EventInformation
                 .builder()
                 .userId(USER_ID)
                 .jurisdictionId(JURISDICTION)
                 .caseTypeId("CASEID")
                 .caseId("CASEID")
                 .eventTimeStamp(LocalDateTime.now())
-                .build());
+                .build()));
 
         when(caseEventMessageRepository.findByMessageId(singletonList(MESSAGE_ID))).thenReturn(List.of(entity));
 
@@ -529,7 +606,7 @@ class EventMessageReceiverServiceTest {
         final NullPointerException nullPointerException = assertThrows(NullPointerException.class, () ->
             eventMessageReceiverService.handleCcdCaseEventAsbMessage(MESSAGE_ID, SESSION_ID, MESSAGE_WITHOUT_USER));
 
-        assertThat(nullPointerException.getMessage(), containsString("because \"eventInformation\" is null"));
+        assertThat(nullPointerException.getMessage(), containsString("because \"parsedMessage\" is null"));
         verifyNoInteractions(caseEventMessageRepository);
     }
 
@@ -606,9 +683,7 @@ class EventMessageReceiverServiceTest {
     @Test
     void should_update_delivery_count_when_saving_message_with_message_id_already_in_db()
         throws JsonProcessingException {
-        when(objectMapper.readValue(MESSAGE, EventInformation.class))
-            .thenReturn(getEventInformation());
-        mockMessageProperties();
+        when(caseEventMessageParser.parse(MESSAGE)).thenReturn(parsedMessage(getEventInformation()));
 
         CaseEventMessageEntity entity = new CaseEventMessageEntity();
         entity.setDeliveryCount(0);
@@ -653,27 +728,22 @@ class EventMessageReceiverServiceTest {
             + "NewStateId: some new state Id}";
     }
 
-    private void mockMessageProperties() throws JsonProcessingException {
-        Map<String, String> messageProperties = Map.of(
-            "messageProperty1", "value1",
-            "messageProperty2", "value2"
-        );
-        when(objectMapper.readValue(MESSAGE, EventInformationRequest.class))
-            .thenReturn(new EventInformationRequest(null,
-                new EventInformationMetadata(messageProperties, null)));
-        when(objectMapper.writeValueAsString(messageProperties)).thenReturn("jsonMessageProperties");
-        when(objectMapper.readTree("jsonMessageProperties")).thenReturn(getMessagesPropertyAsJson());
-    }
-
-    private void mockParsingExceptionWhenRetrievingMessageProperties() throws JsonProcessingException {
-        Map<String, String> messageProperties = Map.of(
-            "messageProperty1", "value1",
-            "messageProperty2", "value2"
+    private ParsedMessage parsedMessage(EventInformation eventInformation) throws JsonProcessingException {
+        return new ParsedMessage(
+            eventInformation.getCaseId(),
+            eventInformation.getEventTimeStamp(),
+            getMessagesPropertyAsJson(),
+            null,
+            new EventColumns(
+                eventInformation.getJurisdictionId(),
+                eventInformation.getCaseTypeId(),
+                eventInformation.getEventId(),
+                eventInformation.getEventInstanceId(),
+                eventInformation.getPreviousStateId(),
+                eventInformation.getNewStateId(),
+                eventInformation.getUserId()
+            )
         );
-        when(objectMapper.readValue(MESSAGE, EventInformationRequest.class))
-            .thenReturn(new EventInformationRequest(null,
-                new EventInformationMetadata(messageProperties, null)));
-        when(objectMapper.writeValueAsString(messageProperties)).thenThrow(jsonProcessingException);
     }
 
     private JsonNode getMessagesPropertyAsJson() throws JsonProcessingException {
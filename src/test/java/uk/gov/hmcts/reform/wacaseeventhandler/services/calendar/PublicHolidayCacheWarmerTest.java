@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.calendar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.wacaseeventhandler.exceptions.CalendarResourceNotFoundException;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicHolidayCacheWarmerTest {
+
+    private static final String FIRST_CALENDAR = "https://www.gov.uk/bank-holidays/england-and-wales.json";
+    private static final String SECOND_CALENDAR = "https://www.gov.uk/bank-holidays/scotland.json";
+
+    @Mock
+    private PublicHolidayService publicHolidayService;
+
+    @Test
+    void should_load_every_calendar_even_when_one_cannot_be_loaded() {
+        when(publicHolidayService.getPublicHolidays(FIRST_CALENDAR))
+            .thenThrow(new CalendarResourceNotFoundException("Could not find calendar resource", null));
+
+        new PublicHolidayCacheWarmer(publicHolidayService, List.of(FIRST_CALENDAR, " " + SECOND_CALENDAR)).warmUp();
+
+        verify(publicHolidayService).getPublicHolidays(SECOND_CALENDAR);
+    }
+
+    @Test
+    void should_not_load_anything_without_calendars() {
+        new PublicHolidayCacheWarmer(publicHolidayService, List.of("")).warmUp();
+
+        verifyNoInteractions(publicHolidayService);
+    }
+}
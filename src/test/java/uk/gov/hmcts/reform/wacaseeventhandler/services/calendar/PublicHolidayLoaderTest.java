@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.calendar;
+
+import com.google.common.testing.FakeTicker;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.calendar.BankHolidays;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicHolidayLoaderTest {
+
+    private static final String CALENDAR_URI = "https://www.gov.uk/bank-holidays/england-and-wales.json";
+
+    @Mock
+    private Decoder feignDecoder;
+
+    @Mock
+    private Encoder feignEncoder;
+
+    @Mock
+    private CalendarUriValidator calendarUriValidator;
+
+    private final FakeTicker ticker = new FakeTicker();
+    private final BankHolidays cachedCalendar = BankHolidays.builder().events(List.of()).build();
+    private SimpleMeterRegistry meterRegistry;
+    private PublicHolidayLoader publicHolidayLoader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publicHolidayLoader = spy(new PublicHolidayLoader(
+            feignDecoder,
+            feignEncoder,
+            calendarUriValidator,
+            ticker::read,
+            meterRegistry
+        ));
+        lenient().when(calendarUriValidator.validateCalendarUri(CALENDAR_URI)).thenReturn(CALENDAR_URI);
+    }
+
+    @Test
+    void should_count_successful_refresh_and_reset_staleness() {
+        doReturn(cachedCalendar).when(publicHolidayLoader).retrieve(CALENDAR_URI);
+        publicHolidayLoader.load(CALENDAR_URI);
+        ticker.advance(25, TimeUnit.HOURS);
+        assertEquals(TimeUnit.HOURS.toSeconds(25), staleness());
+
+        BankHolidays refreshedCalendar = BankHolidays.builder().events(List.of()).build();
+        doReturn(refreshedCalendar).when(publicHolidayLoader).retrieve(CALENDAR_URI);
+
+        assertSame(refreshedCalendar, publicHolidayLoader.reload(CALENDAR_URI, cachedCalendar));
+        assertEquals(1, refreshes("success"));
+        assertEquals(0, staleness());
+    }
+
+    @Test
+    void should_count_failed_refresh_and_keep_growing_staleness() {
+        doReturn(cachedCalendar).when(publicHolidayLoader).retrieve(CALENDAR_URI);
+        publicHolidayLoader.load(CALENDAR_URI);
+        ticker.advance(25, TimeUnit.HOURS);
+        doThrow(new IllegalStateException("gov.uk unavailable")).when(publicHolidayLoader).retrieve(CALENDAR_URI);
+
+        assertThrows(IllegalStateException.class, () -> publicHolidayLoader.reload(CALENDAR_URI, cachedCalendar));
+        assertEquals(1, refreshes("failure"));
+        assertEquals(TimeUnit.HOURS.toSeconds(25), staleness());
+    }
+
+    @Test
+    void should_report_no_staleness_before_any_calendar_is_loaded() {
+        when(calendarUriValidator.validateCalendarUri(CALENDAR_URI))
+            .thenThrow(new IllegalStateException("invalid calendar"));
+
+        assertThrows(IllegalStateException.class, () -> publicHolidayLoader.load(CALENDAR_URI));
+        assertEquals(0, staleness());
+    }
+
+    private double staleness() {
+        return meterRegistry.get(PublicHolidayLoader.STALENESS_GAUGE).gauge().value();
+    }
+
+    private double refreshes(String outcome) {
+        return meterRegistry.get(PublicHolidayLoader.REFRESH_COUNTER)
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkingDayCalendarTest {
+
+    private static final List<String> WEEKEND = List.of("SATURDAY", "SUNDAY");
+    private static final LocalDate GOOD_FRIDAY = LocalDate.of(2026, 4, 3);
+    private static final LocalDate EASTER_MONDAY = LocalDate.of(2026, 4, 6);
+    private static final LocalDate CHRISTMAS_DAY = LocalDate.of(2026, 12, 25);
+    private static final LocalDate BOXING_DAY_SUBSTITUTE = LocalDate.of(2026, 12, 28);
+
+    private final WorkingDayCalendar calendar = WorkingDayCalendar.compile(
+        Set.of(GOOD_FRIDAY, EASTER_MONDAY, CHRISTMAS_DAY, BOXING_DAY_SUBSTITUTE),
+        WEEKEND
+    );
+
+    @Test
+    void should_tell_public_holidays_and_weekends_from_working_days() {
+        assertFalse(calendar.isWorkingDay(GOOD_FRIDAY));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2026, 4, 4)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2026, 4, 7)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2020, 1, 4)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2020, 1, 6)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2030, 1, 5)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2030, 1, 7)));
+    }
+
+    @Test
+    void should_step_over_public_holidays_and_weekends() {
+        assertEquals(LocalDate.of(2026, 4, 7), calendar.getNextWorkingDay(LocalDate.of(2026, 4, 2)));
+        assertEquals(LocalDate.of(2026, 4, 2), calendar.getPreviousWorkingDay(LocalDate.of(2026, 4, 7)));
+        assertEquals(LocalDate.of(2026, 12, 29), calendar.getNextWorkingDay(LocalDate.of(2026, 12, 24)));
+    }
+
+    @Test
+    void should_add_working_days_across_the_range_of_public_holidays() {
+        assertEquals(LocalDate.of(2026, 4, 2), calendar.addWorkingDays(LocalDate.of(2026, 4, 2), 0));
+        assertEquals(LocalDate.of(2026, 4, 9), calendar.addWorkingDays(LocalDate.of(2026, 4, 2), 3));
+        assertEquals(LocalDate.of(2026, 3, 31), calendar.addWorkingDays(LocalDate.of(2026, 4, 7), -3));
+        assertEquals(LocalDate.of(2027, 1, 6), calendar.addWorkingDays(LocalDate.of(2026, 1, 2), 259));
+        assertEquals(LocalDate.of(2026, 1, 2), calendar.addWorkingDays(LocalDate.of(2027, 1, 6), -259));
+    }
+
+    @Test
+    void should_add_working_days_like_stepping_one_day_at_a_time() {
+        Random random = new Random(20_261_018L);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        Set<LocalDate> publicHolidays = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            publicHolidays.add(start.plusDays(random.nextInt(1000)));
+        }
+        List<String> nonWorkingDaysOfWeek = List.of("FRIDAY", "SUNDAY");
+        WorkingDayCalendar randomCalendar = WorkingDayCalendar.compile(publicHolidays, nonWorkingDaysOfWeek);
+
+        for (int i = 0; i < 500; i++) {
+            LocalDate date = start.plusDays(random.nextInt(1400) - 200L);
+            int workingDays = random.nextInt(401) - 200;
+
+            assertEquals(
+                stepWorkingDays(date, workingDays, publicHolidays, nonWorkingDaysOfWeek),
+                randomCalendar.addWorkingDays(date, workingDays),
+                () -> "adding " + workingDays + " working days to " + date
+            );
+        }
+    }
+
+    @Test
+    void should_treat_every_day_as_working_day_without_holidays_or_non_working_days() {
+        WorkingDayCalendar everyDay = WorkingDayCalendar.compile(Set.of(), List.of());
+
+        assertTrue(everyDay.isWorkingDay(LocalDate.of(2026, 10, 18)));
+        assertEquals(LocalDate.of(2026, 10, 28), everyDay.addWorkingDays(LocalDate.of(2026, 10, 18), 10));
+    }
+
+    @Test
+    void should_fail_to_add_working_days_when_no_day_of_the_week_is_a_working_day() {
+        WorkingDayCalendar noWorkingDays = WorkingDayCalendar.compile(
+            Set.of(),
+            List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY")
+        );
+
+        assertThrows(IllegalStateException.class, () -> noWorkingDays.getNextWorkingDay(LocalDate.of(2026, 10, 18)));
+    }
+
+    private static LocalDate stepWorkingDays(LocalDate date,
+                                             int workingDays,
+                                             Set<LocalDate> publicHolidays,
+                                             List<String> nonWorkingDaysOfWeek) {
+        LocalDate stepped = date;
+        int step = workingDays < 0 ? -1 : 1;
+        int remaining = Math.abs(workingDays);
+        while (remaining > 0) {
+            stepped = stepped.plusDays(step);
+            DayOfWeek dayOfWeek = stepped.getDayOfWeek();
+            if (!publicHolidays.contains(stepped) && !nonWorkingDaysOfWeek.contains(dayOfWeek.toString())) {
+                remaining--;
+            }
+        }
+        return stepped;
+    }
+}
@@ -16,6 +16,8 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -142,6 +144,27 @@ class WorkingDayIndicatorTest {
 
         assertEquals(NEXT_WORKING_DAY_AFTER_BANK_HOLIDAY, nextWorkingDay);
     }
+
+    @Test
+    void shouldCompileCalendarOnceForSamePublicHolidays() {
+        when(publicHolidaysCollection.getPublicHolidays(List.of(URI))).thenReturn(Set.of(BANK_HOLIDAY));
+
+        WorkingDayCalendar calendar = service.getCalendar(List.of(URI), List.of("SATURDAY", "SUNDAY"));
+
+        assertSame(calendar, service.getCalendar(List.of(URI), List.of("SATURDAY", "SUNDAY")));
+        assertNotSame(calendar, service.getCalendar(List.of(URI), List.of("SUNDAY")));
+    }
+
+    @Test
+    void shouldCompileCalendarAgainWhenPublicHolidaysAreReloaded() {
+        when(publicHolidaysCollection.getPublicHolidays(List.of(URI)))
+            .thenReturn(Set.of(BANK_HOLIDAY), Set.of(MONDAY));
+
+        assertFalse(service.isWorkingDay(BANK_HOLIDAY, List.of(URI), List.of("SATURDAY", "SUNDAY")));
+
+        assertTrue(service.isWorkingDay(BANK_HOLIDAY, List.of(URI), List.of("SATURDAY", "SUNDAY")));
+        assertFalse(service.isWorkingDay(MONDAY, List.of(URI), List.of("SATURDAY", "SUNDAY")));
+    }
 }
 
 
@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.ccd;
+
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.handlers.CancellationCaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.handlers.InitiationCaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.handlers.ReconfigurationCaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.handlers.WarningCaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
+
+@ExtendWith(MockitoExtension.class)
+class CaseEventHandlerPipelineTest {
+
+    @Mock
+    private CancellationCaseEventHandler cancellationHandler;
+
+    @Mock
+    private WarningCaseEventHandler warningHandler;
+
+    @Mock
+    private ReconfigurationCaseEventHandler reconfigurationHandler;
+
+    @Mock
+    private InitiationCaseEventHandler initiationHandler;
+
+    @Mock
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
+
+    private final EventInformation eventInformation = EventInformation.builder()
+        .eventInstanceId("some event instance Id")
+        .caseId("some case id")
+        .jurisdictionId("IA")
+        .caseTypeId("Asylum")
+        .eventId("requestRespondentEvidence")
+        .build();
+
+    private final EventProcessingContext context = new EventProcessingContext(eventInformation);
+
+    private final List<CancellationEvaluateResponse> cancellationResults = List.of(
+        CancellationEvaluateResponse.builder().action(dmnStringValue("Cancel")).build());
+
+    private final List<InitiateEvaluateResponse> initiationResults = List.of(
+        InitiateEvaluateResponse.builder().taskId(dmnStringValue("processApplication")).build());
+
+    private CaseEventHandlerPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new CaseEventHandlerPipeline(
+            List.of(cancellationHandler, warningHandler, reconfigurationHandler, initiationHandler),
+            cancellationDmnEvaluator
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void should_evaluate_shared_cancellation_table_once_for_all_cancellation_table_handlers() {
+        when(cancellationDmnEvaluator.evaluate(context)).thenReturn(cancellationResults);
+        doReturn(initiationResults).when(initiationHandler).evaluateDmn(context);
+
+        pipeline.process(context);
+
+        verify(cancellationDmnEvaluator, times(1)).evaluate(context);
+        verify(cancellationHandler, never()).evaluateDmn(any(EventProcessingContext.class));
+        verify(warningHandler, never()).evaluateDmn(any(EventProcessingContext.class));
+        verify(reconfigurationHandler, never()).evaluateDmn(any(EventProcessingContext.class));
+        verify(cancellationHandler).handle(eq(cancellationResults), eq(context));
+        verify(warningHandler).handle(eq(cancellationResults), eq(context));
+        verify(reconfigurationHandler).handle(eq(cancellationResults), eq(context));
+        verify(initiationHandler).handle(eq(initiationResults), eq(context));
+    }
+
+    @Test
+    void should_handle_results_in_handler_order_when_evaluations_complete_out_of_order() {
+        CountDownLatch initiationEvaluated = new CountDownLatch(1);
+        when(cancellationDmnEvaluator.evaluate(context)).thenAnswer(invocation -> {
+            // the cancellation table only answers once the initiation table has been evaluated,
+            // which can only happen if both evaluations are in flight at the same time
+            assertTrue(initiationEvaluated.await(5, SECONDS));
+            return cancellationResults;
+        });
+        doAnswer(invocation -> {
+            initiationEvaluated.countDown();
+            return initiationResults;
+        }).when(initiationHandler).evaluateDmn(context);
+
+        pipeline.process(context);
+
+        InOrder inOrder = inOrder(cancellationHandler, warningHandler, reconfigurationHandler, initiationHandler);
+        inOrder.verify(cancellationHandler).handle(anyList(), eq(context));
+        inOrder.verify(warningHandler).handle(anyList(), eq(context));
+        inOrder.verify(reconfigurationHandler).handle(anyList(), eq(context));
+        inOrder.verify(initiationHandler).handle(anyList(), eq(context));
+    }
+
+    @Test
+    void should_not_handle_when_evaluation_returns_no_results() {
+        when(cancellationDmnEvaluator.evaluate(context)).thenReturn(Collections.emptyList());
+        doReturn(initiationResults).when(initiationHandler).evaluateDmn(context);
+
+        pipeline.process(context);
+
+        verify(cancellationHandler, never()).handle(anyList(), any(EventProcessingContext.class));
+        verify(warningHandler, never()).handle(anyList(), any(EventProcessingContext.class));
+        verify(reconfigurationHandler, never()).handle(anyList(), any(EventProcessingContext.class));
+        verify(initiationHandler).handle(eq(initiationResults), eq(context));
+    }
+
+    @Test
+    void should_rethrow_evaluation_failure_without_wrapping_it() {
+        FeignException.BadRequest badRequest = new FeignException.BadRequest(
+            "Error Message",
+            mock(Request.class),
+            new byte[]{},
+            Collections.emptyMap()
+        );
+        when(cancellationDmnEvaluator.evaluate(context)).thenThrow(badRequest);
+        // the initiation evaluation runs concurrently and may not have started when the failure is rethrown
+        lenient().doReturn(initiationResults).when(initiationHandler).evaluateDmn(context);
+
+        FeignException.BadRequest thrown = assertThrows(
+            FeignException.BadRequest.class,
+            () -> pipeline.process(context)
+        );
+
+        assertSame(badRequest, thrown);
+        verify(initiationHandler, never()).handle(anyList(), any(EventProcessingContext.class));
+    }
+}
@@ -2,34 +2,63 @@ package uk.gov.hmcts.reform.wacaseeventhandler.services.ccd;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.EventColumns;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+import uk.gov.hmcts.reform.wacaseeventhandler.handlers.CancellationCaseEventHandler;
 import uk.gov.hmcts.reform.wacaseeventhandler.handlers.CaseEventHandler;
 import uk.gov.hmcts.reform.wacaseeventhandler.handlers.InitiationCaseEventHandler;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.CancellationDmnEvaluator;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnEvaluationService;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dmn.DmnTableCatalog;
 
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.wacaseeventhandler.util.TestFixtures.createCaseEventMessage;
 
@@ -40,9 +69,16 @@ class CcdEventProcessorTest {
     @Mock
     private InitiationCaseEventHandler initiationTaskHandler;
 
+    @Mock
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
+
     @Mock
     private ObjectMapper mapper;
 
+    private final CaseEventMessageParser caseEventMessageParser = new CaseEventMessageParser(new ObjectMapper());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private CcdEventProcessor processor;
 
     @Test
@@ -51,10 +87,12 @@ class CcdEventProcessorTest {
         EvaluateDmnResponse<InitiateEvaluateResponse> dmnResponse =
             new EvaluateDmnResponse<>(List.of(InitiateEvaluateResponse.builder().build()));
 
-        doReturn(dmnResponse.getResults()).when(initiationTaskHandler).evaluateDmn(any(EventInformation.class));
+        doReturn(dmnResponse.getResults()).when(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
 
         List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
-        processor = new CcdEventProcessor(handlerServices, mapper);
+        processor = new CcdEventProcessor(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator), mapper, caseEventMessageParser,
+            new MessageProcessingMetrics(meterRegistry));
 
         String incomingMessage = asJsonString(buildEventInformation());
         when(mapper.readValue(incomingMessage, EventInformation.class))
@@ -65,8 +103,8 @@ class CcdEventProcessorTest {
         verify(mapper, Mockito.times(1))
             .readValue(incomingMessage, EventInformation.class);
 
-        verify(initiationTaskHandler).evaluateDmn(any(EventInformation.class));
-        verify(initiationTaskHandler).handle(anyList(), any(EventInformation.class));
+        verify(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
+        verify(initiationTaskHandler).handle(anyList(), any(EventProcessingContext.class));
     }
 
     @Test
@@ -76,10 +114,12 @@ class CcdEventProcessorTest {
         EvaluateDmnResponse<InitiateEvaluateResponse> dmnResponse =
                 new EvaluateDmnResponse<>(List.of(InitiateEvaluateResponse.builder().build()));
 
-        doReturn(dmnResponse.getResults()).when(initiationTaskHandler).evaluateDmn(any(EventInformation.class));
+        doReturn(dmnResponse.getResults()).when(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
 
         List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
-        processor = new CcdEventProcessor(handlerServices, mapper);
+        processor = new CcdEventProcessor(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator), mapper, caseEventMessageParser,
+            new MessageProcessingMetrics(meterRegistry));
 
         EventInformation eventInformation = buildEventInformation();
         String incomingMessage = asJsonString(eventInformation);
@@ -93,15 +133,142 @@ class CcdEventProcessorTest {
         verify(mapper, Mockito.times(1))
                 .readValue(incomingMessage, EventInformation.class);
 
-        verify(initiationTaskHandler).evaluateDmn(any(EventInformation.class));
-        verify(initiationTaskHandler).handle(anyList(), any(EventInformation.class));
+        verify(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
+        verify(initiationTaskHandler).handle(anyList(), any(EventProcessingContext.class));
+    }
+
+    @Test
+    void given_claimed_message_without_event_columns_then_message_content_is_parsed()
+            throws JsonProcessingException {
+
+        EvaluateDmnResponse<InitiateEvaluateResponse> dmnResponse =
+                new EvaluateDmnResponse<>(List.of(InitiateEvaluateResponse.builder().build()));
+
+        doReturn(dmnResponse.getResults()).when(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
+
+        List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
+        processor = new CcdEventProcessor(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator), mapper, caseEventMessageParser,
+            new MessageProcessingMetrics(meterRegistry));
+
+        EventInformation eventInformation = buildEventInformation();
+        String incomingMessage = asJsonString(eventInformation);
+        ClaimedMessage claimedMessage = new ClaimedMessage("messageId", eventInformation.getCaseId(),
+                                                           MessageState.READY, 0, null, incomingMessage,
+                                                           eventInformation.getEventTimeStamp(), null);
+
+        when(mapper.readValue(incomingMessage, EventInformation.class))
+                .thenReturn(eventInformation);
+
+        processor.processMessage(claimedMessage);
+
+        verify(mapper, Mockito.times(1))
+                .readValue(incomingMessage, EventInformation.class);
+
+        verify(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
+        verify(initiationTaskHandler).handle(anyList(), any(EventProcessingContext.class));
+        assertEquals(1, stageCount("parse", "success"));
+        assertEquals(1, stageCount("dmn.evaluate", "success"));
+    }
+
+    @Test
+    void given_claimed_message_with_event_columns_then_additional_data_is_only_read_when_needed()
+            throws JsonProcessingException {
+
+        EvaluateDmnResponse<InitiateEvaluateResponse> dmnResponse =
+                new EvaluateDmnResponse<>(List.of(InitiateEvaluateResponse.builder().build()));
+
+        doReturn(dmnResponse.getResults()).when(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
+
+        List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
+        processor = new CcdEventProcessor(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator), mapper, caseEventMessageParser,
+            new MessageProcessingMetrics(meterRegistry));
+
+        EventInformation eventInformation = buildEventInformation(true, true);
+        String messageContent = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+            .writeValueAsString(eventInformation);
+        ClaimedMessage claimedMessage = new ClaimedMessage(
+            "messageId", eventInformation.getCaseId(), MessageState.READY, 0, null, messageContent,
+            eventInformation.getEventTimeStamp(),
+            new EventColumns("IA", "Asylum", eventInformation.getEventId(), eventInformation.getEventInstanceId(),
+                             eventInformation.getPreviousStateId(), eventInformation.getNewStateId(),
+                             eventInformation.getUserId()));
+
+        processor.processMessage(claimedMessage);
+
+        ArgumentCaptor<EventProcessingContext> contextCaptor = ArgumentCaptor.forClass(EventProcessingContext.class);
+        verify(initiationTaskHandler).evaluateDmn(contextCaptor.capture());
+        verify(initiationTaskHandler).handle(anyList(), any(EventProcessingContext.class));
+        verifyNoInteractions(mapper);
+
+        EventInformation processedEventInformation = contextCaptor.getValue().getEventInformation();
+        assertFalse(processedEventInformation.hasReadAdditionalData());
+        assertEquals(eventInformation, processedEventInformation);
+        assertTrue(processedEventInformation.hasReadAdditionalData());
+    }
+
+    @Test
+    void given_claimed_message_with_unreadable_additional_data_then_json_processing_exception_is_thrown() {
+        List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
+        processor = new CcdEventProcessor(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator), mapper, caseEventMessageParser,
+            new MessageProcessingMetrics(meterRegistry));
+
+        doAnswer(invocation -> invocation.getArgument(0, EventProcessingContext.class)
+            .getEventInformation().getAdditionalData())
+            .when(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
+
+        ClaimedMessage claimedMessage = new ClaimedMessage(
+            "messageId", "caseId", MessageState.READY, 0, null, "{\"AdditionalData\":\"not an object\"}",
+            ZonedDateTime.now().toLocalDateTime(),
+            new EventColumns("IA", "Asylum", "eventId", "eventInstanceId", null, null, "userId"));
+
+        assertThrows(JsonProcessingException.class, () -> processor.processMessage(claimedMessage));
+        assertEquals(1, stageCount("parse", "failure"));
+    }
+
+    @Test
+    void given_cancellation_table_is_not_found_then_message_is_processed_without_handling()
+            throws JsonProcessingException {
+        AuthTokenGenerator serviceAuthGenerator = mock(AuthTokenGenerator.class);
+        WorkflowApiClient workflowApiClient = mock(WorkflowApiClient.class);
+        DmnTableCatalog dmnTableCatalog = mock(DmnTableCatalog.class);
+        CancellationCaseEventHandler cancellationHandler = mock(CancellationCaseEventHandler.class);
+        when(serviceAuthGenerator.generate()).thenReturn("s2s token");
+        when(dmnTableCatalog.isDeployed(anyString(), eq("IA"))).thenReturn(true);
+        when(workflowApiClient.evaluateCancellationDmn(anyString(), anyString(), eq("IA"),
+                                                       any(EvaluateDmnRequest.class)))
+            .thenThrow(new FeignException.NotFound(
+                "Not found", mock(Request.class), new byte[]{}, Collections.emptyMap()));
+
+        DmnEvaluationService dmnEvaluationService = new DmnEvaluationService(
+            serviceAuthGenerator, workflowApiClient, Optional.of(dmnTableCatalog), Optional.empty(), Optional.empty());
+        processor = new CcdEventProcessor(
+            new CaseEventHandlerPipeline(
+                List.of(cancellationHandler),
+                new CancellationDmnEvaluator(dmnEvaluationService, new ObjectMapper())),
+            mapper, caseEventMessageParser, new MessageProcessingMetrics(meterRegistry));
+
+        ClaimedMessage claimedMessage = new ClaimedMessage(
+            "messageId", "caseId", MessageState.READY, 0, null, "{}",
+            ZonedDateTime.now().toLocalDateTime(),
+            new EventColumns("IA", "Asylum", "eventId", "eventInstanceId", null, null, "userId"));
+
+        assertDoesNotThrow(() -> processor.processMessage(claimedMessage));
+
+        verify(dmnTableCatalog).markNotDeployed(anyString(), eq("IA"));
+        verify(cancellationHandler, never()).handle(anyList(), any(EventProcessingContext.class));
     }
 
     @Test
     void given_evaluateDmn_returns_nothing_then_caseEventHandler_does_not_handle() throws JsonProcessingException {
         List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
 
-        processor = new CcdEventProcessor(handlerServices, mapper);
+        processor = new CcdEventProcessor(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator), mapper, caseEventMessageParser,
+            new MessageProcessingMetrics(meterRegistry));
 
         String incomingMessage = asJsonString(buildEventInformation());
         when(mapper.readValue(incomingMessage, EventInformation.class))
@@ -111,13 +278,15 @@ class CcdEventProcessorTest {
 
         verify(mapper, Mockito.times(1))
             .readValue(incomingMessage, EventInformation.class);
-        verify(initiationTaskHandler).evaluateDmn(any(EventInformation.class));
+        verify(initiationTaskHandler).evaluateDmn(any(EventProcessingContext.class));
     }
 
     @Test
     void test_EventInformation_logging(CapturedOutput output) throws JsonProcessingException {
         List<CaseEventHandler> handlerServices = List.of(initiationTaskHandler);
-        processor = new CcdEventProcessor(handlerServices, mapper);
+        processor = new CcdEventProcessor(
+            new CaseEventHandlerPipeline(handlerServices, cancellationDmnEvaluator), mapper, caseEventMessageParser,
+            new MessageProcessingMetrics(meterRegistry));
 
         String incomingMessage = asJsonString(buildEventInformation(true, true));
         when(mapper.readValue(incomingMessage, EventInformation.class))
@@ -139,6 +308,16 @@ class CcdEventProcessorTest {
             });
     }
 
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get(MessageProcessingMetrics.STAGE_TIMER)
+            .tag("stage", stage)
+            .tag("jurisdiction", "ia")
+            .tag("case.type", "asylum")
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+
     public String asJsonString(final Object obj) throws JsonProcessingException {
         return new ObjectMapper().writeValueAsString(obj);
     }
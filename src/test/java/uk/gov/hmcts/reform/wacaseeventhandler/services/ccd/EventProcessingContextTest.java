@@ -0,0 +1,129 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.ccd;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.dates.IsoDateFormatter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnAndMessageNames.TASK_CANCELLATION;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnAndMessageNames.TASK_INITIATION;
+
+@ExtendWith(MockitoExtension.class)
+class EventProcessingContextTest {
+
+    private static final String SERVICE_AUTH_TOKEN = "s2s token";
+
+    @Mock
+    private AuthTokenGenerator serviceAuthGenerator;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private IsoDateFormatter isoDateFormatter;
+
+    private final EventInformation eventInformation = EventInformation.builder()
+        .eventInstanceId("some event instance Id")
+        .eventTimeStamp(LocalDateTime.of(2020, 3, 29, 10, 53, 36))
+        .caseId("some case id")
+        .jurisdictionId("IA")
+        .caseTypeId("Asylum")
+        .eventId("submitAppeal")
+        .additionalData(new AdditionalData(Map.of("appealType", "protection"), null))
+        .build();
+
+    private final EventProcessingContext context = new EventProcessingContext(eventInformation);
+
+    @Test
+    void should_work_out_table_key_once_per_table() {
+        assertEquals("wa-task-initiation-ia-asylum", context.getTableKey(TASK_INITIATION));
+        assertEquals("wa-task-initiation-ia-asylum", context.getTableKey(TASK_INITIATION));
+        assertEquals("wa-task-cancellation-ia-asylum", context.getTableKey(TASK_CANCELLATION));
+    }
+
+    @Test
+    void should_convert_additional_data_once() {
+        Map<String, Object> additionalData = context.getAdditionalData(objectMapper);
+
+        assertEquals(new ObjectMapper().convertValue(eventInformation.getAdditionalData(), Map.class), additionalData);
+        assertSame(additionalData, context.getAdditionalData(objectMapper));
+        verify(objectMapper, times(1)).convertValue(any(AdditionalData.class), eq(Map.class));
+    }
+
+    @Test
+    void should_remember_event_without_additional_data() {
+        EventProcessingContext contextWithoutAdditionalData = new EventProcessingContext(
+            EventInformation.builder().jurisdictionId("IA").caseTypeId("Asylum").build());
+
+        assertNull(contextWithoutAdditionalData.getAdditionalData(objectMapper));
+        assertNull(contextWithoutAdditionalData.getAdditionalData(objectMapper));
+    }
+
+    @Test
+    void should_work_out_dates_once() {
+        ZonedDateTime zonedEventTimeStamp = context.getZonedEventTimeStamp(isoDateFormatter);
+
+        assertEquals(ZoneId.of("Europe/London"), zonedEventTimeStamp.getZone());
+        assertEquals(zonedEventTimeStamp, context.getZonedEventTimeStamp(isoDateFormatter));
+        verify(isoDateFormatter, times(1)).formatToZone(eventInformation.getEventTimeStamp());
+
+        String today = context.getToday();
+        assertEquals(LocalDate.now().format(ISO_LOCAL_DATE), today);
+        assertSame(today, context.getToday());
+    }
+
+    @Test
+    void should_generate_service_token_once_when_handlers_ask_concurrently() throws Exception {
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+
+        List<Callable<String>> handlers = IntStream.range(0, 8)
+            .<Callable<String>>mapToObj(handler -> () -> context.getServiceAuthorisation(serviceAuthGenerator))
+            .toList();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (Future<String> token : executor.invokeAll(handlers)) {
+                assertEquals(SERVICE_AUTH_TOKEN, token.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(serviceAuthGenerator, times(1)).generate();
+    }
+
+    @Test
+    void should_be_equal_to_context_of_same_event() {
+        EventProcessingContext sameEventContext = new EventProcessingContext(eventInformation);
+        context.getTableKey(TASK_INITIATION);
+
+        assertEquals(sameEventContext, context);
+        assertEquals(sameEventContext.hashCode(), context.hashCode());
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.ccd;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.MessageProcessingMetrics.Stage;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageProcessingMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageProcessingMetrics messageProcessingMetrics = new MessageProcessingMetrics(meterRegistry);
+
+    @Test
+    void should_time_stage_with_its_outcome() {
+        assertEquals("result", messageProcessingMetrics.time(
+            Stage.DMN_EVALUATE, "handler", "IA", "Asylum", () -> "result"));
+        assertThrows(IllegalStateException.class, () -> messageProcessingMetrics.time(
+            Stage.DMN_EVALUATE, "handler", "IA", "Asylum", () -> {
+                throw new IllegalStateException("DMN unavailable");
+            }));
+
+        assertEquals(1, stageTimer("dmn.evaluate", "handler", "ia", "asylum", "success").count());
+        assertEquals(1, stageTimer("dmn.evaluate", "handler", "ia", "asylum", "failure").count());
+    }
+
+    @Test
+    void should_publish_latency_histogram_for_processing_only() {
+        messageProcessingMetrics.recordStage(Stage.PARSE, MessageProcessingMetrics.NONE, "IA", "Asylum", true, 5_000);
+        messageProcessingMetrics.recordProcessing("IA", "Asylum", 5_000);
+
+        assertEquals(0, stageTimer("parse", "none", "ia", "asylum", "success").takeSnapshot().histogramCounts().length);
+        assertTrue(meterRegistry.get(MessageProcessingMetrics.PROCESSING_TIMER).timer()
+                       .takeSnapshot().histogramCounts().length > 0);
+    }
+
+    @Test
+    void should_tag_jurisdiction_and_case_type_in_lower_case() {
+        messageProcessingMetrics.recordStage(Stage.PARSE, MessageProcessingMetrics.NONE, "IA", "Asylum", true, 5_000);
+        messageProcessingMetrics.recordStage(Stage.PARSE, MessageProcessingMetrics.NONE, "ia", "asylum", true, 5_000);
+
+        assertEquals(2, stageTimer("parse", "none", "ia", "asylum", "success").count());
+        assertEquals(1, meterRegistry.get(MessageProcessingMetrics.STAGE_TIMER).timers().size());
+    }
+
+    @Test
+    void should_tag_unknown_jurisdiction_and_case_type() {
+        messageProcessingMetrics.recordProcessing(null, null, 5_000);
+        messageProcessingMetrics.recordOutcome(null, null, null);
+
+        assertEquals(1, meterRegistry.get(MessageProcessingMetrics.PROCESSING_TIMER)
+            .tag("jurisdiction", "unknown").tag("case.type", "unknown").timer().count());
+        assertEquals(1, meterRegistry.get(MessageProcessingMetrics.OUTCOME_COUNTER)
+            .tag("jurisdiction", "unknown").tag("outcome", "retry").counter().count());
+    }
+
+    @Test
+    void should_count_outcome_of_new_message_state() {
+        messageProcessingMetrics.recordOutcome("IA", "Asylum", MessageState.PROCESSED);
+        messageProcessingMetrics.recordOutcome("IA", "Asylum", MessageState.PROCESSED);
+        messageProcessingMetrics.recordOutcome("IA", "Asylum", MessageState.UNPROCESSABLE);
+        messageProcessingMetrics.recordClaimed(2);
+
+        assertEquals(2, meterRegistry.get(MessageProcessingMetrics.OUTCOME_COUNTER)
+            .tag("outcome", "processed").counter().count());
+        assertEquals(1, meterRegistry.get(MessageProcessingMetrics.OUTCOME_COUNTER)
+            .tag("outcome", "unprocessable").counter().count());
+        assertEquals(2, meterRegistry.get(MessageProcessingMetrics.CLAIMED_COUNTER).counter().count());
+    }
+
+    @Test
+    void should_time_handler_calls_with_event_tags() {
+        EventProcessingContext context = new EventProcessingContext(
+            EventInformation.builder().jurisdictionId("IA").caseTypeId("Asylum").build(),
+            messageProcessingMetrics
+        );
+
+        assertEquals(List.of(), context.timed(Stage.DMN_EVALUATE, this, List::of));
+        context.runTimed(Stage.SEND_MESSAGE, this, () -> { });
+
+        assertEquals(1, stageTimer("dmn.evaluate", "MessageProcessingMetricsTest", "ia", "asylum", "success").count());
+        assertEquals(1, stageTimer("send.message", "MessageProcessingMetricsTest", "ia", "asylum", "success").count());
+    }
+
+    private Timer stageTimer(String stage, String handler, String jurisdiction, String caseType, String outcome) {
+        return meterRegistry.get(MessageProcessingMetrics.STAGE_TIMER)
+            .tag("stage", stage)
+            .tag("handler", handler)
+            .tag("jurisdiction", jurisdiction)
+            .tag("case.type", caseType)
+            .tag("outcome", outcome)
+            .timer();
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.AdditionalData;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.ccd.EventProcessingContext;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnMapValue;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
+
+@ExtendWith(MockitoExtension.class)
+class CancellationDmnEvaluatorTest {
+
+    @Mock
+    private DmnEvaluationService dmnEvaluationService;
+    @Mock
+    private ObjectMapper objectMapper;
+    @InjectMocks
+    private CancellationDmnEvaluator cancellationDmnEvaluator;
+
+    private EventInformation eventInformation;
+
+    @BeforeEach
+    void setUp() {
+        eventInformation = EventInformation.builder()
+            .eventId("some event id")
+            .newStateId("some post state")
+            .previousStateId("some previous state")
+            .jurisdictionId("ia")
+            .caseTypeId("asylum")
+            .caseId("some case reference")
+            .eventTimeStamp(LocalDateTime.now())
+            .additionalData(new AdditionalData(Collections.emptyMap(), Collections.emptyMap()))
+            .build();
+    }
+
+    @Test
+    void should_evaluate_cancellation_table_with_the_variables_of_all_cancellation_table_handlers() {
+        Map<String, Object> dataMap = Map.of("appealType", "protection");
+        when(objectMapper.convertValue(eventInformation.getAdditionalData(), Map.class)).thenReturn(dataMap);
+
+        Map<String, DmnValue<?>> variables = Map.of(
+            "event", dmnStringValue("some event id"),
+            "state", dmnStringValue("some post state"),
+            "fromState", dmnStringValue("some previous state"),
+            "additionalData", dmnMapValue(dataMap)
+        );
+        List<CancellationEvaluateResponse> results = List.of(CancellationEvaluateResponse.builder()
+            .action(dmnStringValue("Warn"))
+            .build());
+        when(dmnEvaluationService.evaluateCancellationDmn(
+            "wa-task-cancellation-ia-asylum",
+            "ia",
+            new EvaluateDmnRequest(variables)
+        )).thenReturn(results);
+
+        assertThat(cancellationDmnEvaluator.evaluate(new EventProcessingContext(eventInformation))).isSameAs(results);
+    }
+}
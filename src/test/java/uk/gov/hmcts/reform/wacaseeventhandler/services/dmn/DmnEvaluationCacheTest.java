@@ -0,0 +1,154 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
+
+class DmnEvaluationCacheTest {
+
+    private static final String TENANT_ID = "ia";
+    private static final String ASYLUM_TABLE_KEY = "wa-task-cancellation-ia-asylum";
+    private static final String BAIL_TABLE_KEY = "wa-task-cancellation-ia-bail";
+    private static final long MAXIMUM_SIZE = 2;
+    private static final long TIME_TO_LIVE_SECONDS = 600;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final List<CancellationEvaluateResponse> results = List.of(
+        CancellationEvaluateResponse.builder().action(dmnStringValue("Cancel")).build());
+    private final Supplier<List<CancellationEvaluateResponse>> evaluation = () -> {
+        evaluations.incrementAndGet();
+        return results;
+    };
+
+    private SimpleMeterRegistry meterRegistry;
+    private DmnEvaluationCache dmnEvaluationCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dmnEvaluationCache = new DmnEvaluationCache(
+            new ObjectMapper(),
+            meterRegistry,
+            nanoTime::get,
+            MAXIMUM_SIZE,
+            TIME_TO_LIVE_SECONDS
+        );
+    }
+
+    @Test
+    void should_evaluate_once_and_record_hits_and_misses() {
+        EvaluateDmnRequest request = request("removeAppealFromOnline");
+
+        assertThat(dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request, evaluation)).isEqualTo(results);
+        assertThat(dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request, evaluation)).isEqualTo(results);
+
+        assertThat(evaluations).hasValue(1);
+        assertThat(cacheGets("hit")).isEqualTo(1);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void should_use_same_entry_regardless_of_variables_order() {
+        Map<String, DmnValue<?>> variables = new LinkedHashMap<>();
+        variables.put("event", dmnStringValue("removeAppealFromOnline"));
+        variables.put("state", dmnStringValue("appealSubmitted"));
+        Map<String, DmnValue<?>> reorderedVariables = new LinkedHashMap<>();
+        reorderedVariables.put("state", dmnStringValue("appealSubmitted"));
+        reorderedVariables.put("event", dmnStringValue("removeAppealFromOnline"));
+
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, new EvaluateDmnRequest(variables), evaluation);
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, new EvaluateDmnRequest(reorderedVariables), evaluation);
+
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    void should_evaluate_again_for_different_variables() {
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request("removeAppealFromOnline"), evaluation);
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request("submitAppeal"), evaluation);
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void should_invalidate_entries_of_the_table_only() {
+        EvaluateDmnRequest request = request("removeAppealFromOnline");
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request, evaluation);
+        dmnEvaluationCache.get(BAIL_TABLE_KEY, TENANT_ID, request, evaluation);
+
+        dmnEvaluationCache.invalidate(ASYLUM_TABLE_KEY);
+
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request, evaluation);
+        dmnEvaluationCache.get(BAIL_TABLE_KEY, TENANT_ID, request, evaluation);
+        assertThat(evaluations).hasValue(3);
+    }
+
+    @Test
+    void should_invalidate_all_entries() {
+        EvaluateDmnRequest request = request("removeAppealFromOnline");
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request, evaluation);
+        dmnEvaluationCache.get(BAIL_TABLE_KEY, TENANT_ID, request, evaluation);
+
+        dmnEvaluationCache.invalidateAll();
+
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request, evaluation);
+        dmnEvaluationCache.get(BAIL_TABLE_KEY, TENANT_ID, request, evaluation);
+        assertThat(evaluations).hasValue(4);
+    }
+
+    @Test
+    void should_evaluate_again_once_entry_has_expired() {
+        EvaluateDmnRequest request = request("removeAppealFromOnline");
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request, evaluation);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(TIME_TO_LIVE_SECONDS + 1));
+
+        dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request, evaluation);
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void should_not_grow_beyond_maximum_size() {
+        List.of("removeAppealFromOnline", "submitAppeal", "endAppeal", "recordOutOfTimeDecision")
+            .forEach(event -> dmnEvaluationCache.get(ASYLUM_TABLE_KEY, TENANT_ID, request(event), evaluation));
+
+        await().atMost(5, SECONDS).until(() -> cacheSize() <= MAXIMUM_SIZE);
+    }
+
+    private static EvaluateDmnRequest request(String event) {
+        return new EvaluateDmnRequest(Map.of("event", dmnStringValue(event)));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", DmnEvaluationCache.CACHE_NAME)
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private double cacheSize() {
+        return meterRegistry.get("cache.size")
+            .tag("cache", DmnEvaluationCache.CACHE_NAME)
+            .gauge()
+            .value();
+    }
+}
@@ -0,0 +1,186 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.EvaluateDmnResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.InitiateEvaluateResponse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
+
+@ExtendWith(MockitoExtension.class)
+class DmnEvaluationServiceTest {
+
+    private static final String SERVICE_AUTH_TOKEN = "s2s token";
+    private static final String CANCELLATION_TABLE_KEY = "wa-task-cancellation-ia-asylum";
+    private static final String INITIATION_TABLE_KEY = "wa-task-initiation-ia-asylum";
+    private static final String TENANT_ID = "ia";
+
+    @Mock
+    private AuthTokenGenerator serviceAuthGenerator;
+    @Mock
+    private WorkflowApiClient workflowApiClient;
+    @Mock
+    private EmbeddedDmnEngine embeddedDmnEngine;
+    @Mock
+    private DmnTableCatalog dmnTableCatalog;
+
+    private final EvaluateDmnRequest evaluateDmnRequest =
+        new EvaluateDmnRequest(Map.of("event", dmnStringValue("removeAppealFromOnline")));
+
+    private final List<CancellationEvaluateResponse> cancellationResults = List.of(
+        CancellationEvaluateResponse.builder().action(dmnStringValue("Cancel")).build());
+
+    private final List<InitiateEvaluateResponse> initiationResults = List.of(
+        InitiateEvaluateResponse.builder().taskId(dmnStringValue("processApplication")).build());
+
+    @Test
+    void should_evaluate_remotely_when_embedded_engine_is_disabled() {
+        DmnEvaluationService dmnEvaluationService = dmnEvaluationService(Optional.empty(), Optional.empty());
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+        when(workflowApiClient.evaluateInitiationDmn(
+            SERVICE_AUTH_TOKEN, INITIATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .thenReturn(new EvaluateDmnResponse<>(initiationResults));
+
+        assertThat(dmnEvaluationService.evaluateInitiationDmn(INITIATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isSameAs(initiationResults);
+    }
+
+    @Test
+    void should_evaluate_locally_when_embedded_engine_can_evaluate_the_table() {
+        DmnEvaluationService dmnEvaluationService =
+            dmnEvaluationService(Optional.empty(), Optional.of(embeddedDmnEngine));
+        when(embeddedDmnEngine.evaluate(
+            CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest, CancellationEvaluateResponse.class))
+            .thenReturn(Optional.of(cancellationResults));
+
+        assertThat(dmnEvaluationService.evaluateCancellationDmn(CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isSameAs(cancellationResults);
+        verify(workflowApiClient, never()).evaluateCancellationDmn(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void should_fall_back_to_remote_evaluation_when_embedded_engine_cannot_evaluate_the_table() {
+        DmnEvaluationService dmnEvaluationService =
+            dmnEvaluationService(Optional.empty(), Optional.of(embeddedDmnEngine));
+        when(embeddedDmnEngine.evaluate(
+            CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest, CancellationEvaluateResponse.class))
+            .thenReturn(Optional.empty());
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+        when(workflowApiClient.evaluateCancellationDmn(
+            SERVICE_AUTH_TOKEN, CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .thenReturn(new EvaluateDmnResponse<>(cancellationResults));
+
+        assertThat(dmnEvaluationService.evaluateCancellationDmn(CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isSameAs(cancellationResults);
+    }
+
+    @Test
+    void should_skip_evaluation_of_table_that_is_not_deployed_for_the_tenant() {
+        DmnEvaluationService dmnEvaluationService =
+            dmnEvaluationService(Optional.of(dmnTableCatalog), Optional.of(embeddedDmnEngine));
+        when(dmnTableCatalog.isDeployed(INITIATION_TABLE_KEY, TENANT_ID)).thenReturn(false);
+
+        assertThat(dmnEvaluationService.evaluateInitiationDmn(INITIATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isEmpty();
+        verifyNoInteractions(embeddedDmnEngine, workflowApiClient);
+    }
+
+    @Test
+    void should_evaluate_table_that_is_deployed_for_the_tenant() {
+        DmnEvaluationService dmnEvaluationService =
+            dmnEvaluationService(Optional.of(dmnTableCatalog), Optional.empty());
+        when(dmnTableCatalog.isDeployed(INITIATION_TABLE_KEY, TENANT_ID)).thenReturn(true);
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+        when(workflowApiClient.evaluateInitiationDmn(
+            SERVICE_AUTH_TOKEN, INITIATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .thenReturn(new EvaluateDmnResponse<>(initiationResults));
+
+        assertThat(dmnEvaluationService.evaluateInitiationDmn(INITIATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isSameAs(initiationResults);
+    }
+
+    @Test
+    void should_forget_table_and_return_no_results_when_remote_evaluation_does_not_find_it() {
+        DmnEvaluationService dmnEvaluationService =
+            dmnEvaluationService(Optional.of(dmnTableCatalog), Optional.empty());
+        when(dmnTableCatalog.isDeployed(CANCELLATION_TABLE_KEY, TENANT_ID)).thenReturn(true);
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+        when(workflowApiClient.evaluateCancellationDmn(
+            SERVICE_AUTH_TOKEN, CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .thenThrow(notFound());
+
+        assertThat(dmnEvaluationService.evaluateCancellationDmn(CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isEmpty();
+        verify(dmnTableCatalog).markNotDeployed(CANCELLATION_TABLE_KEY, TENANT_ID);
+    }
+
+    @Test
+    void should_rethrow_not_found_when_table_catalogue_is_disabled() {
+        DmnEvaluationService dmnEvaluationService = dmnEvaluationService(Optional.empty(), Optional.empty());
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+        FeignException.NotFound notFound = notFound();
+        when(workflowApiClient.evaluateInitiationDmn(
+            SERVICE_AUTH_TOKEN, INITIATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .thenThrow(notFound);
+
+        assertThatThrownBy(() -> dmnEvaluationService.evaluateInitiationDmn(
+            INITIATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isSameAs(notFound);
+    }
+
+    @Test
+    void should_answer_repeated_cancellation_evaluations_from_the_cache() {
+        DmnEvaluationCache dmnEvaluationCache = new DmnEvaluationCache(
+            new ObjectMapper(), new SimpleMeterRegistry(), Ticker.systemTicker(), 100, 600);
+        DmnEvaluationService dmnEvaluationService = new DmnEvaluationService(
+            serviceAuthGenerator, workflowApiClient, Optional.empty(), Optional.empty(),
+            Optional.of(dmnEvaluationCache));
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+        when(workflowApiClient.evaluateCancellationDmn(
+            SERVICE_AUTH_TOKEN, CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .thenReturn(new EvaluateDmnResponse<>(cancellationResults));
+
+        assertThat(dmnEvaluationService.evaluateCancellationDmn(CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isEqualTo(cancellationResults);
+        assertThat(dmnEvaluationService.evaluateCancellationDmn(CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest))
+            .isEqualTo(cancellationResults);
+
+        verify(workflowApiClient, times(1)).evaluateCancellationDmn(
+            SERVICE_AUTH_TOKEN, CANCELLATION_TABLE_KEY, TENANT_ID, evaluateDmnRequest);
+    }
+
+    private static FeignException.NotFound notFound() {
+        return new FeignException.NotFound("Not found", mock(Request.class), new byte[]{}, Collections.emptyMap());
+    }
+
+    private DmnEvaluationService dmnEvaluationService(Optional<DmnTableCatalog> catalog,
+                                                      Optional<EmbeddedDmnEngine> engine) {
+        return new DmnEvaluationService(serviceAuthGenerator, workflowApiClient, catalog, engine, Optional.empty());
+    }
+}
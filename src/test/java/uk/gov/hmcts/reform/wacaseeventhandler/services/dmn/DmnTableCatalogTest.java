@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.DecisionDefinition;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DmnTableCatalogTest {
+
+    private static final String SERVICE_AUTH_TOKEN = "s2s token";
+    private static final String TENANT_ID = "ia";
+    private static final String CANCELLATION_TABLE_KEY = "wa-task-cancellation-ia-asylum";
+    private static final String INITIATION_TABLE_KEY = "wa-task-initiation-ia-asylum";
+    private static final long REFRESH_INTERVAL_SECONDS = 600;
+
+    @Mock
+    private AuthTokenGenerator serviceAuthGenerator;
+    @Mock
+    private WorkflowApiClient workflowApiClient;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private DmnTableCatalog dmnTableCatalog;
+
+    @BeforeEach
+    void setUp() {
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+        dmnTableCatalog = new DmnTableCatalog(
+            serviceAuthGenerator,
+            workflowApiClient,
+            nanoTime::get,
+            REFRESH_INTERVAL_SECONDS
+        );
+    }
+
+    @Test
+    void should_know_which_tables_are_deployed_for_the_tenant() {
+        when(workflowApiClient.getDecisionDefinitions(SERVICE_AUTH_TOKEN, TENANT_ID, true))
+            .thenReturn(List.of(decisionDefinition(CANCELLATION_TABLE_KEY)));
+
+        assertThat(dmnTableCatalog.isDeployed(CANCELLATION_TABLE_KEY, TENANT_ID)).isTrue();
+        assertThat(dmnTableCatalog.isDeployed(INITIATION_TABLE_KEY, TENANT_ID)).isFalse();
+        assertThat(dmnTableCatalog.isDeployed("wa-task-initiation-ia-bail", TENANT_ID)).isFalse();
+
+        verify(workflowApiClient, times(1)).getDecisionDefinitions(SERVICE_AUTH_TOKEN, TENANT_ID, true);
+    }
+
+    @Test
+    void should_pick_up_newly_deployed_tables_once_refresh_interval_has_passed() {
+        when(workflowApiClient.getDecisionDefinitions(SERVICE_AUTH_TOKEN, TENANT_ID, true))
+            .thenReturn(
+                List.of(decisionDefinition(CANCELLATION_TABLE_KEY)),
+                List.of(decisionDefinition(CANCELLATION_TABLE_KEY), decisionDefinition(INITIATION_TABLE_KEY))
+            );
+
+        assertThat(dmnTableCatalog.isDeployed(INITIATION_TABLE_KEY, TENANT_ID)).isFalse();
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(REFRESH_INTERVAL_SECONDS + 1));
+
+        await().atMost(5, SECONDS).until(() -> dmnTableCatalog.isDeployed(INITIATION_TABLE_KEY, TENANT_ID));
+    }
+
+    @Test
+    void should_forget_table_that_is_no_longer_deployed() {
+        when(workflowApiClient.getDecisionDefinitions(SERVICE_AUTH_TOKEN, TENANT_ID, true))
+            .thenReturn(List.of(decisionDefinition(CANCELLATION_TABLE_KEY)));
+
+        dmnTableCatalog.markNotDeployed(CANCELLATION_TABLE_KEY, TENANT_ID);
+
+        assertThat(dmnTableCatalog.isDeployed(CANCELLATION_TABLE_KEY, TENANT_ID)).isFalse();
+    }
+
+    @Test
+    void should_assume_every_table_is_deployed_when_catalogue_cannot_be_loaded() {
+        when(workflowApiClient.getDecisionDefinitions(SERVICE_AUTH_TOKEN, TENANT_ID, true))
+            .thenThrow(new FeignException.ServiceUnavailable(
+                "Service unavailable",
+                mock(Request.class),
+                new byte[]{},
+                Collections.emptyMap()
+            ));
+
+        assertThat(dmnTableCatalog.isDeployed(CANCELLATION_TABLE_KEY, TENANT_ID)).isTrue();
+        assertThat(dmnTableCatalog.isDeployed(INITIATION_TABLE_KEY, TENANT_ID)).isTrue();
+
+        verify(workflowApiClient, times(1)).getDecisionDefinitions(SERVICE_AUTH_TOKEN, TENANT_ID, true);
+    }
+
+    private static DecisionDefinition decisionDefinition(String key) {
+        return new DecisionDefinition(key + ":1", key, 1, TENANT_ID);
+    }
+}
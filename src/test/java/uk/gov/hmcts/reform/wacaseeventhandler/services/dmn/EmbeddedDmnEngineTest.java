@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.dmn;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.wacaseeventhandler.clients.WorkflowApiClient;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.request.EvaluateDmnRequest;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.CancellationEvaluateResponse;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.DecisionDefinition;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.response.DecisionDefinitionXml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.wacaseeventhandler.domain.camunda.DmnValue.dmnStringValue;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddedDmnEngineTest {
+
+    private static final String SERVICE_AUTH_TOKEN = "s2s token";
+    private static final String TABLE_KEY = "wa-task-cancellation-ia-asylum";
+    private static final String TENANT_ID = "ia";
+    private static final long VERSION_CHECK_INTERVAL_SECONDS = 300;
+
+    @Mock
+    private AuthTokenGenerator serviceAuthGenerator;
+    @Mock
+    private WorkflowApiClient workflowApiClient;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private EmbeddedDmnEngine embeddedDmnEngine;
+
+    @BeforeEach
+    void setUp() {
+        when(serviceAuthGenerator.generate()).thenReturn(SERVICE_AUTH_TOKEN);
+        embeddedDmnEngine = new EmbeddedDmnEngine(
+            serviceAuthGenerator,
+            workflowApiClient,
+            new ObjectMapper(),
+            nanoTime::get,
+            VERSION_CHECK_INTERVAL_SECONDS
+        );
+    }
+
+    @Test
+    void should_evaluate_downloaded_definition_locally() throws IOException {
+        when(workflowApiClient.getDecisionDefinitionXml(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID))
+            .thenReturn(new DecisionDefinitionXml("definition-1", readDmn("wa-task-cancellation-ia-asylum-v1.dmn")));
+
+        Optional<List<CancellationEvaluateResponse>> results = evaluate("removeAppealFromOnline", "anyState");
+
+        assertThat(results).contains(List.of(CancellationEvaluateResponse.builder()
+            .action(dmnStringValue("Cancel"))
+            .processCategories(dmnStringValue("caseProgression"))
+            .build()));
+    }
+
+    @Test
+    void should_return_no_results_when_no_rule_matches() throws IOException {
+        when(workflowApiClient.getDecisionDefinitionXml(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID))
+            .thenReturn(new DecisionDefinitionXml("definition-1", readDmn("wa-task-cancellation-ia-asylum-v1.dmn")));
+
+        assertThat(evaluate("makeAnApplication", "listing")).contains(Collections.emptyList());
+    }
+
+    @Test
+    void should_download_definition_once_per_table_and_tenant() throws IOException {
+        when(workflowApiClient.getDecisionDefinitionXml(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID))
+            .thenReturn(new DecisionDefinitionXml("definition-1", readDmn("wa-task-cancellation-ia-asylum-v1.dmn")));
+
+        evaluate("removeAppealFromOnline", "anyState");
+        evaluate("makeAnApplication", "appealSubmitted");
+
+        verify(workflowApiClient, times(1)).getDecisionDefinitionXml(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID);
+    }
+
+    @Test
+    void should_deploy_new_version_once_version_check_interval_has_passed() throws IOException {
+        when(workflowApiClient.getDecisionDefinitionXml(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID))
+            .thenReturn(
+                new DecisionDefinitionXml("definition-1", readDmn("wa-task-cancellation-ia-asylum-v1.dmn")),
+                new DecisionDefinitionXml("definition-2", readDmn("wa-task-cancellation-ia-asylum-v2.dmn"))
+            );
+        when(workflowApiClient.getDecisionDefinition(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID))
+            .thenReturn(new DecisionDefinition("definition-2", TABLE_KEY, 2, TENANT_ID));
+
+        assertThat(actionOf(evaluate("removeAppealFromOnline", "anyState"))).isEqualTo("Cancel");
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(VERSION_CHECK_INTERVAL_SECONDS + 1));
+
+        await().atMost(5, SECONDS).untilAsserted(() -> assertThat(
+            actionOf(evaluate("removeAppealFromOnline", "anyState"))).isEqualTo("Reconfigure"));
+    }
+
+    @Test
+    void should_keep_deployed_definition_when_version_has_not_changed() throws IOException {
+        when(workflowApiClient.getDecisionDefinitionXml(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID))
+            .thenReturn(new DecisionDefinitionXml("definition-1", readDmn("wa-task-cancellation-ia-asylum-v1.dmn")));
+        when(workflowApiClient.getDecisionDefinition(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID))
+            .thenReturn(new DecisionDefinition("definition-1", TABLE_KEY, 1, TENANT_ID));
+
+        evaluate("removeAppealFromOnline", "anyState");
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(VERSION_CHECK_INTERVAL_SECONDS + 1));
+        evaluate("removeAppealFromOnline", "anyState");
+
+        await().atMost(5, SECONDS).untilAsserted(() -> verify(workflowApiClient)
+            .getDecisionDefinition(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID));
+        verify(workflowApiClient, times(1)).getDecisionDefinitionXml(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID);
+    }
+
+    @Test
+    void should_return_empty_when_definition_cannot_be_downloaded() {
+        when(workflowApiClient.getDecisionDefinitionXml(SERVICE_AUTH_TOKEN, TABLE_KEY, TENANT_ID))
+            .thenThrow(new FeignException.ServiceUnavailable(
+                "Service unavailable",
+                mock(Request.class),
+                new byte[]{},
+                Collections.emptyMap()
+            ));
+
+        assertThat(evaluate("removeAppealFromOnline", "anyState")).isEmpty();
+    }
+
+    private Optional<List<CancellationEvaluateResponse>> evaluate(String event, String state) {
+        Map<String, DmnValue<?>> variables = Map.of(
+            "event", dmnStringValue(event),
+            "state", dmnStringValue(state)
+        );
+        return embeddedDmnEngine.evaluate(
+            TABLE_KEY,
+            TENANT_ID,
+            new EvaluateDmnRequest(variables),
+            CancellationEvaluateResponse.class
+        );
+    }
+
+    private static String actionOf(Optional<List<CancellationEvaluateResponse>> results) {
+        return results.orElseThrow().get(0).getAction().getValue();
+    }
+
+    private String readDmn(String fileName) throws IOException {
+        try (InputStream dmn = getClass().getResourceAsStream("/dmn/" + fileName)) {
+            return new String(dmn.readAllBytes(), UTF_8);
+        }
+    }
+}
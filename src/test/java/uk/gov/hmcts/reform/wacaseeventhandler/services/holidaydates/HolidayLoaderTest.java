@@ -1,27 +1,118 @@
 package uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.HolidayDateRepository;
 
 import java.time.LocalDate;
 import java.util.List;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("PMD.JUnitAssertionsShouldIncludeMessage")
 class HolidayLoaderTest {
+
+    private static final LocalDate CHRISTMAS_DAY_2026 = LocalDate.of(2026, 12, 25);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private GovUkHolidayDatesClient govUkHolidayDatesClient;
+    private HolidayDateRepository holidayDateRepository;
+    private HolidayLoader holidayLoader;
+
+    @BeforeEach
+    void setUp() {
+        govUkHolidayDatesClient = mock(GovUkHolidayDatesClient.class);
+        holidayDateRepository = mock(HolidayDateRepository.class);
+        holidayLoader = new HolidayLoader(
+            govUkHolidayDatesClient,
+            holidayDateRepository,
+            objectMapper,
+            new ClassPathResource("holidays/bank-holidays-20261018.json")
+        );
+    }
+
     @Test
     void loadData() {
-        GovUkHolidayDatesClient govUkHolidayDatesClient = mock(GovUkHolidayDatesClient.class);
+        LocalDate holiday = LocalDate.now();
+        when(holidayDateRepository.findHolidayDates()).thenReturn(singletonList(holiday));
+
+        List<LocalDate> holidays = holidayLoader.loadHolidays();
+
+        assertThat(holidays, is(singletonList(holiday)));
+        verifyNoInteractions(govUkHolidayDatesClient);
+    }
+
+    @Test
+    void loadSnapshotWhenNoHolidaysAreStored() {
+        when(holidayDateRepository.findHolidayDates()).thenReturn(List.of());
+
+        List<LocalDate> holidays = holidayLoader.loadHolidays();
+
+        assertThat(holidays, hasItem(CHRISTMAS_DAY_2026));
+        verifyNoInteractions(govUkHolidayDatesClient);
+    }
+
+    @Test
+    void loadSnapshotWhenStoredHolidaysCannotBeRead() {
+        when(holidayDateRepository.findHolidayDates())
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+
+        List<LocalDate> holidays = holidayLoader.loadHolidays();
+
+        assertThat(holidays, hasItem(CHRISTMAS_DAY_2026));
+        verifyNoInteractions(govUkHolidayDatesClient);
+    }
+
+    @Test
+    void failToLoadUnreadableSnapshot() {
+        when(holidayDateRepository.findHolidayDates()).thenReturn(List.of());
+        HolidayLoader loaderWithBrokenSnapshot = new HolidayLoader(
+            govUkHolidayDatesClient,
+            holidayDateRepository,
+            objectMapper,
+            new ByteArrayResource("not json".getBytes(UTF_8))
+        );
+
+        assertThrows(IllegalStateException.class, loaderWithBrokenSnapshot::loadHolidays);
+    }
+
+    @Test
+    void fetchAndStoreHolidays() {
         LocalDate holiday = LocalDate.now();
         when(govUkHolidayDatesClient.getHolidayDates()).thenReturn(
             new UkHolidayDates(new CountryHolidayDates(singletonList(new HolidayDate(holiday))))
         );
-        List<LocalDate> holidays = new HolidayLoader(govUkHolidayDatesClient).loadHolidays();
+
+        List<LocalDate> holidays = holidayLoader.fetchHolidays();
 
         assertThat(holidays, is(singletonList(holiday)));
+        verify(holidayDateRepository).replaceHolidayDates(singletonList(holiday));
+    }
+
+    @Test
+    void doNotStoreEmptyFetch() {
+        when(govUkHolidayDatesClient.getHolidayDates()).thenReturn(
+            new UkHolidayDates(new CountryHolidayDates(List.of()))
+        );
+
+        assertThrows(IllegalStateException.class, holidayLoader::fetchHolidays);
+        verify(holidayDateRepository, never()).replaceHolidayDates(any());
     }
 }
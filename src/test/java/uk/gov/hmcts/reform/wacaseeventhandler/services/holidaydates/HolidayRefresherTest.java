@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.holidaydates;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayRefresherTest {
+
+    private static final LocalDate SNAPSHOT_HOLIDAY = LocalDate.of(2026, 12, 25);
+    private static final LocalDate FETCHED_HOLIDAY = LocalDate.of(2026, 12, 29);
+
+    @Mock
+    private HolidayLoader holidayLoader;
+
+    private final HolidayService holidayService = new HolidayService(List.of(SNAPSHOT_HOLIDAY));
+
+    @Test
+    void should_replace_holidays_with_fetched_holidays() {
+        when(holidayLoader.fetchHolidays()).thenReturn(List.of(SNAPSHOT_HOLIDAY, FETCHED_HOLIDAY));
+
+        new HolidayRefresher(holidayLoader, holidayService, 24).refresh();
+
+        assertTrue(holidayService.isHoliday(FETCHED_HOLIDAY));
+        assertTrue(holidayService.isHoliday(SNAPSHOT_HOLIDAY));
+    }
+
+    @Test
+    void should_keep_current_holidays_when_fetch_fails() {
+        when(holidayLoader.fetchHolidays()).thenThrow(new IllegalStateException("gov.uk unavailable"));
+
+        new HolidayRefresher(holidayLoader, holidayService, 24).refresh();
+
+        assertTrue(holidayService.isHoliday(SNAPSHOT_HOLIDAY));
+        assertFalse(holidayService.isHoliday(FETCHED_HOLIDAY));
+    }
+}
@@ -10,6 +10,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -92,4 +93,13 @@ class HolidayServiceTest {
 
         assertFalse(holidayService.isWeekend(fridaySeptemberNinth));
     }
+
+    @Test
+    void testAddWorkingDaysSkipsWeekendsAndHolidays() {
+        LocalDate thursdayAprilFourteenth = LocalDate.of(2022, Month.APRIL, 14);
+
+        assertEquals(LocalDate.of(2022, Month.APRIL, 18), holidayService.addWorkingDays(thursdayAprilFourteenth, 1));
+        assertEquals(LocalDate.of(2022, Month.APRIL, 28), holidayService.addWorkingDays(thursdayAprilFourteenth, 9));
+        assertEquals(thursdayAprilFourteenth, holidayService.addWorkingDays(thursdayAprilFourteenth, 0));
+    }
 }
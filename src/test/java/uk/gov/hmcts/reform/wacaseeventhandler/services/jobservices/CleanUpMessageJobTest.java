@@ -11,6 +11,7 @@ import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.reform.wacaseeventhandler.config.job.CleanUpJobConfiguration;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.jobs.JobName;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 
 import java.util.List;
@@ -33,6 +34,8 @@ class CleanUpMessageJobTest {
 
     @Mock
     private CaseEventMessageRepository caseEventMessageRepository;
+    @Mock
+    private CaseEventMessageDefinitionRepository caseEventMessageDefinitionRepository;
     @Spy
     private CleanUpJobConfiguration cleanUpJobConfiguration;
 
@@ -43,6 +46,7 @@ class CleanUpMessageJobTest {
 
         cleanUpMessageJob = new CleanUpMessageJob(
             caseEventMessageRepository,
+            caseEventMessageDefinitionRepository,
             cleanUpJobConfiguration
         );
 
@@ -82,6 +86,7 @@ class CleanUpMessageJobTest {
                 any(),
                 any()
             );
+        verify(caseEventMessageDefinitionRepository).removeUnreferencedDefinitions(5);
 
         String expectedLogMessage = "CleanUpJobConfiguration(environment=PROD, deleteLimit=5, startedDaysBefore=90, "
                                     + "stateForProd=[PROCESSED], stateForNonProd=[PROCESSED])";
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.wacaseeventhandler.services.jobservices;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.wacaseeventhandler.config.job.CompressMessageContentJobConfiguration;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.jobs.JobName;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.MessageContentCompressionRepository;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.MessageContentCompressionRepository.CompressedBatch;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompressMessageContentJobTest {
+
+    @Mock
+    private MessageContentCompressionRepository messageContentCompressionRepository;
+
+    private CompressMessageContentJob compressMessageContentJob;
+
+    @BeforeEach
+    void setUp() {
+        CompressMessageContentJobConfiguration compressMessageContentJobConfiguration =
+            new CompressMessageContentJobConfiguration();
+        compressMessageContentJobConfiguration.setBatchSize(2);
+        compressMessageContentJobConfiguration.setBatchLimit(3);
+
+        compressMessageContentJob = new CompressMessageContentJob(
+            messageContentCompressionRepository,
+            compressMessageContentJobConfiguration
+        );
+    }
+
+    @Test
+    void should_be_able_to_run_compress_message_content_job() {
+        assertTrue(compressMessageContentJob.canRun(JobName.COMPRESS_MESSAGE_CONTENT));
+    }
+
+    @Test
+    void should_not_be_able_to_run_compress_message_content_job_for_other_job_types() {
+        assertFalse(compressMessageContentJob.canRun(JobName.CLEAN_UP_MESSAGES));
+    }
+
+    @Test
+    void should_compress_batches_until_nothing_is_left() {
+        when(messageContentCompressionRepository.compressMessageContent(0, 2))
+            .thenReturn(new CompressedBatch(2, 7, 4000, 500));
+        when(messageContentCompressionRepository.compressMessageContent(7, 2))
+            .thenReturn(new CompressedBatch(0, 7, 0, 0));
+
+        assertEquals(emptyList(), compressMessageContentJob.run());
+
+        verify(messageContentCompressionRepository, times(2)).compressMessageContent(anyLong(), anyInt());
+    }
+
+    @Test
+    void should_stop_at_batch_limit() {
+        when(messageContentCompressionRepository.compressMessageContent(anyLong(), anyInt()))
+            .thenReturn(new CompressedBatch(2, 7, 4000, 500))
+            .thenReturn(new CompressedBatch(2, 9, 4000, 500))
+            .thenReturn(new CompressedBatch(2, 11, 4000, 500));
+
+        compressMessageContentJob.run();
+
+        verify(messageContentCompressionRepository).compressMessageContent(0, 2);
+        verify(messageContentCompressionRepository).compressMessageContent(7, 2);
+        verify(messageContentCompressionRepository).compressMessageContent(9, 2);
+        verify(messageContentCompressionRepository, times(3)).compressMessageContent(anyLong(), anyInt());
+    }
+}
@@ -15,8 +15,10 @@ import org.springframework.boot.test.system.OutputCaptureExtension;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.jobs.JobName;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
+import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageDefinitionRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.repository.CaseEventMessageRepository;
 import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageMapper;
+import uk.gov.hmcts.reform.wacaseeventhandler.services.CaseEventMessageParser;
 
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +26,7 @@ import java.util.List;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({MockitoExtension.class})
@@ -38,7 +41,8 @@ class FindProblemMessageJobTest {
     private ObjectMapper objectMapper = new ObjectMapper();
 
     @Spy
-    private CaseEventMessageMapper caseEventMessageMapper = new CaseEventMessageMapper(objectMapper);
+    private CaseEventMessageMapper caseEventMessageMapper = new CaseEventMessageMapper(
+        objectMapper, mock(CaseEventMessageParser.class), mock(CaseEventMessageDefinitionRepository.class));
     private final Logger logger = (Logger) LoggerFactory.getLogger(FindProblemMessageJob.class);
 
     @BeforeEach
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.ccd.message.EventInformation;
 import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.CaseEventMessage;
+import uk.gov.hmcts.reform.wacaseeventhandler.domain.model.ClaimedMessage;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.CaseEventMessageEntity;
 import uk.gov.hmcts.reform.wacaseeventhandler.entity.MessageState;
 
@@ -50,6 +51,15 @@ public final class TestFixtures {
                 NullNode.getInstance(), messageContent, LocalDateTime.now(), 0, LocalDateTime.now(), retryCount);
     }
 
+    public static ClaimedMessage createClaimedMessage() {
+        return createClaimedMessage(0);
+    }
+
+    public static ClaimedMessage createClaimedMessage(int retryCount) {
+        return new ClaimedMessage(MESSAGE_ID, "caseId", MessageState.READY, retryCount, LocalDateTime.now(),
+                                  "messageContent", LocalDateTime.now(), null);
+    }
+
     public static CaseEventMessageEntity createCaseEventMessageEntity(String userId) {
         final CaseEventMessageEntity caseEventMessageEntity = createCaseEventMessageEntity();
         caseEventMessageEntity.setMessageContent(String.format("{\"UserId\": \"%s\"}", userId));